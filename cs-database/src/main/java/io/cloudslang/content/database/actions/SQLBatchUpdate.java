@@ -0,0 +1,221 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.actions;
+
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.database.services.SQLBatchUpdateService;
+import io.cloudslang.content.database.services.SQLBatchUpdateService.BatchUpdate;
+import io.cloudslang.content.database.utils.BatchRowReader;
+import io.cloudslang.content.database.utils.SQLInputs;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.BooleanValues.FALSE;
+import static io.cloudslang.content.constants.OtherValues.COMMA_DELIMITER;
+import static io.cloudslang.content.constants.OutputNames.*;
+import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.database.constants.DBDefaultValues.*;
+import static io.cloudslang.content.database.constants.DBInputNames.*;
+import static io.cloudslang.content.database.constants.DBOtherValues.*;
+import static io.cloudslang.content.database.constants.DBOutputNames.*;
+import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
+import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlBatchUpdateInputs;
+import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
+import static io.cloudslang.content.utils.NumberUtilities.toInteger;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Runs one parameterized statement for every row of a data source, in batches with periodic commits.
+ */
+public class SQLBatchUpdate {
+
+    /**
+     * @param dbServerName              The hostname or ip address of the database server.
+     * @param dbType                    The type of database to connect to
+     *                                  Valid values: Oracle, MSSQL, Sybase, Netcool, DB2, PostgreSQL and Custom.
+     *                                  Default value: Oracle
+     * @param username                  The username to use when connecting to the server.
+     * @param password                  The password to use when connecting to the server.
+     * @param instance                  The name instance of MSSQL Server. Leave it blank for default instance.
+     *                                  Example: MSSQLSERVER
+     * @param dbPort                    The port to connect to.
+     *                                  Valid values: Oracle: 1521, MSSQL: 1433, Sybase: 5000, Netcool: 4100, DB2: 50000, PostgreSQL: 5432.
+     * @param databaseName              The name of the database to connect to.
+     * @param authenticationType        The type of authentication used to access the database (applicable only to MSSQL type).
+     *                                  Default: sql
+     *                                  Values: sql, windows
+     * @param dbClass                   The classname of the JDBC driver to use.
+     *                                  Examples: "oracle.jdbc.driver.OracleDriver", "org.postgresql.Driver"
+     * @param dbURL                     The url required to load up the driver and make your connection.
+     *                                  Examples: "jdbc:oracle:drivertype:@database", "jdbc:postgresql://host:port/database"
+     * @param command                   The parameterized SQL statement to execute for every row, with one ? for every value of the row.
+     *                                  Example: "INSERT INTO ci (id, name, type) VALUES (?, ?, ?)"
+     * @param trustAllRoots             Specifies whether to enable weak security over SSL/TSL. A certificate is trusted even if no trusted certification authority issued it.
+     *                                  Default value: false
+     *                                  Valid values: true, false
+     *                                  Note: If trustAllRoots is set to 'false', a trustStore and a trustStorePassword must be provided.
+     * @param trustStore                The pathname of the Java TrustStore file. This contains certificates from other parties that you expect to communicate with,
+     *                                  or from Certificate Authorities that you trust to identify other parties.
+     *                                  If the trustAllRoots input is set to 'true' this input is ignored.
+     * @param trustStorePassword        The password associated with the trustStore file.
+     * @param authLibraryPath           The path to the folder where sqljdbc_auth.dll is located. This path must be provided when using windows authentication.
+     *                                  Note: The sqljdbc_auth.dll can be found inside the sqljdbc driver. The driver can be downloaded from https://www.microsoft.com/en-us/download/details.aspx?id=11774.
+     *                                  The downloaded jar should be extracted and the library can be found in the 'auth' folder.
+     *                                  The path provided should be the path to the folder where the sqljdbc_auth.dll library is located, not the path to the file itself.
+     * @param timeout                   Seconds to wait before timing out the SQL command execution. When the default value is used, there
+     *                                  is no limit on the amount of time allowed for a running command to complete.
+     *                                  Default values: 0
+     * @param databasePoolingProperties Properties for database pooling configuration. Pooling is disabled by default.
+     *                                  Default: db.pooling.enable=false
+     *                                  Example: db.pooling.enable=true
+     * @param rows                      The rows of values to bind to the statement: a JSON array of arrays or rows separated by
+     *                                  rowDelimiter with values separated by colDelimiter. Empty values and JSON nulls are bound as NULL.
+     *                                  Example: [[1, "host1", "server"], [2, "host2", null]]
+     * @param rowsFileName              The path of a JSON file with an array of arrays or of a CSV file with one row per line.
+     *                                  The file is read as the rows are sent. Only one of rows and rowsFileName can be specified.
+     * @param colDelimiter              The delimiter between the values of a row. It must be a single character for rowsFileName.
+     *                                  Default value: comma (,)
+     * @param rowDelimiter              The delimiter between the rows of the rows input.
+     *                                  Default value: \n
+     * @param batchSize                 The number of rows sent to the database in one batch.
+     *                                  Default value: 1000
+     * @param commitInterval            The number of batches after which the transaction is committed. When a batch fails only
+     *                                  the rows after the last commit are rolled back.
+     *                                  Default value: 10
+     * @return The total number of updated rows in updateCount, the number of rows read in rowCount, the updated rows of
+     * every batch in batchUpdateCounts (comma separated) and the throughput in rowsPerSecond. The rows which the driver
+     * executed without reporting how many rows they updated are counted in noInfoCount and not in updateCount.
+     */
+    @Action(name = "SQL Batch Update",
+            outputs = {
+                    @Output(RETURN_CODE),
+                    @Output(RETURN_RESULT),
+                    @Output(EXCEPTION),
+                    @Output(UPDATE_COUNT),
+                    @Output(ROW_COUNT),
+                    @Output(BATCH_UPDATE_COUNTS),
+                    @Output(NO_INFO_COUNT),
+                    @Output(ROWS_PER_SECOND)
+            },
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = RETURN_CODE, value = SUCCESS,
+                            matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = ResponseNames.FAILURE, field = RETURN_CODE, value = FAILURE,
+                            matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR, isOnFail = true)
+            })
+    public Map<String, String> execute(@Param(value = DB_SERVER_NAME, required = true) String dbServerName,
+                                       @Param(value = DB_TYPE) String dbType,
+                                       @Param(value = USERNAME) String username,
+                                       @Param(value = PASSWORD, encrypted = true) String password,
+                                       @Param(value = INSTANCE) String instance,
+                                       @Param(value = DB_PORT) String dbPort,
+                                       @Param(value = DATABASE_NAME, required = true) String databaseName,
+                                       @Param(value = AUTHENTICATION_TYPE) String authenticationType,
+                                       @Param(value = DB_CLASS) String dbClass,
+                                       @Param(value = DB_URL) String dbURL,
+                                       @Param(value = COMMAND, required = true) String command,
+                                       @Param(value = TRUST_ALL_ROOTS) String trustAllRoots,
+                                       @Param(value = TRUST_STORE) String trustStore,
+                                       @Param(value = TRUST_STORE_PASSWORD) String trustStorePassword,
+                                       @Param(value = AUTH_LIBRARY_PATH) String authLibraryPath,
+                                       @Param(value = TIMEOUT) String timeout,
+                                       @Param(value = DATABASE_POOLING_PROPERTIES) String databasePoolingProperties,
+                                       @Param(value = ROWS) String rows,
+                                       @Param(value = ROWS_FILE_NAME) String rowsFileName,
+                                       @Param(value = COL_DELIMITER) String colDelimiter,
+                                       @Param(value = ROW_DELIMITER) String rowDelimiter,
+                                       @Param(value = BATCH_SIZE) String batchSize,
+                                       @Param(value = COMMIT_INTERVAL) String commitInterval) {
+
+        dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
+        username = defaultIfEmpty(username, EMPTY);
+        password = defaultIfEmpty(password, EMPTY);
+        instance = defaultIfEmpty(instance, EMPTY);
+        authenticationType = defaultIfEmpty(authenticationType, AUTH_SQL);
+        trustAllRoots = defaultIfEmpty(trustAllRoots, FALSE);
+        trustStore = defaultIfEmpty(trustStore, EMPTY);
+        trustStorePassword = defaultIfEmpty(trustStorePassword, EMPTY);
+        timeout = defaultIfEmpty(timeout, DEFAULT_TIMEOUT);
+        colDelimiter = defaultIfEmpty(colDelimiter, COMMA_DELIMITER);
+        rowDelimiter = defaultIfEmpty(rowDelimiter, NEW_LINE);
+        batchSize = defaultIfEmpty(batchSize, DEFAULT_BATCH_SIZE);
+        commitInterval = defaultIfEmpty(commitInterval, DEFAULT_COMMIT_INTERVAL);
+
+        final List<String> preInputsValidation = validateSqlBatchUpdateInputs(dbServerName, dbType, username, password, instance,
+                dbPort, databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
+                timeout, authLibraryPath, rows, rowsFileName, colDelimiter, batchSize, commitInterval);
+
+        if (!preInputsValidation.isEmpty()) {
+            return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
+        }
+        dbType = getDbType(dbType);
+
+        final SQLInputs sqlInputs = SQLInputs.builder()
+                .dbServer(dbServerName)
+                .dbType(dbType)
+                .username(username)
+                .password(password)
+                .instance(instance)
+                .dbPort(getOrDefaultDBPort(dbPort, dbType))
+                .dbName(defaultIfEmpty(databaseName, EMPTY))
+                .authenticationType(authenticationType)
+                .dbClass(getOrDefaultDBClass(dbClass, dbType))
+                .dbUrl(defaultIfEmpty(dbURL, EMPTY))
+                .sqlCommand(command)
+                .trustAllRoots(toBoolean(trustAllRoots))
+                .trustStore(trustStore)
+                .trustStorePassword(trustStorePassword)
+                .authLibraryPath(authLibraryPath)
+                .timeout(toInteger(timeout))
+                .databasePoolingProperties(getOrDefaultDBPoolingProperties(databasePoolingProperties, EMPTY))
+                .colDelimiter(colDelimiter)
+                .rowDelimiter(rowDelimiter)
+                .isNetcool(checkIsNetcool(dbType))
+                .build();
+
+        try {
+            final BatchRowReader rowReader = isEmpty(rowsFileName) ? BatchRowReader.fromString(rows, colDelimiter, rowDelimiter)
+                    : BatchRowReader.fromFile(rowsFileName, colDelimiter.charAt(0));
+            final BatchUpdate batchUpdate = SQLBatchUpdateService.executeBatchUpdate(sqlInputs, rowReader,
+                    toInteger(batchSize), toInteger(commitInterval));
+            final Map<String, String> result = getSuccessResultsMap("Command completed successfully");
+            result.put(UPDATE_COUNT, String.valueOf(batchUpdate.getUpdateCount()));
+            result.put(ROW_COUNT, String.valueOf(batchUpdate.getRowCount()));
+            result.put(BATCH_UPDATE_COUNTS, StringUtils.join(batchUpdate.getBatchUpdateCounts(), COMMA_DELIMITER));
+            result.put(NO_INFO_COUNT, String.valueOf(batchUpdate.getNoInfoCount()));
+            result.put(ROWS_PER_SECOND, String.valueOf(batchUpdate.getRowsPerSecond()));
+            return result;
+        } catch (Exception e) {
+            return getFailureResultsMap(e);
+        }
+    }
+}
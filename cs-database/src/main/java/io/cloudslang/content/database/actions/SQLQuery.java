@@ -27,6 +27,7 @@ import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
 import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.database.constants.DBReturnCodes;
+import io.cloudslang.content.database.services.SQLQueryCursor;
 import io.cloudslang.content.database.services.SQLQueryService;
 import io.cloudslang.content.database.utils.SQLInputs;
 import io.cloudslang.content.database.utils.SQLSessionResource;
@@ -36,6 +37,7 @@ import org.apache.commons.lang3.StringUtils;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
 import static io.cloudslang.content.constants.BooleanValues.TRUE;
@@ -49,6 +51,7 @@ import static io.cloudslang.content.database.constants.DBResponseNames.HAS_MORE;
 import static io.cloudslang.content.database.constants.DBResponseNames.NO_MORE;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.*;
 import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryInputs;
+import static io.cloudslang.content.database.utils.SQLInputsValidator.validateSqlQueryStreamingInputs;
 import static io.cloudslang.content.database.utils.SQLUtils.getRowsFromGlobalSessionMap;
 import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
 import static io.cloudslang.content.utils.NumberUtilities.toInteger;
@@ -112,6 +115,17 @@ public class SQLQuery {
      * @param ignoreCase                If set to true the inputs' letters case will be ignored and converted to lowercase.
      *                                  Valid values: true, false
      *                                  Default value: true
+     * @param streaming                 If set to true the rows are read through a cursor kept open between the calls with the same key,
+     *                                  fetchSize rows at a time, instead of loading the whole result set in memory on the first call.
+     *                                  The rowsLeft output is then the number of rows already fetched and not yet returned,
+     *                                  at most fetchSize, and it is 0 only when there are no more rows.
+     *                                  Valid values: true, false
+     *                                  Default value: false
+     * @param fetchSize                 The number of rows read from the database at a time when streaming is true.
+     *                                  Note: MySQL only fetches the rows in pages when the dbURL contains useCursorFetch=true.
+     *                                  Default value: 1000
+     * @param cursorTimeout             Seconds after which a cursor that was not read from is closed and its connection released.
+     *                                  Default value: 600
      * @return It contains the data of one row, separated by the "delimiter".
      */
     @Action(name = "SQL Query",
@@ -150,6 +164,9 @@ public class SQLQuery {
                                        @Param(value = RESULT_SET_TYPE) String resultSetType,
                                        @Param(value = RESULT_SET_CONCURRENCY) String resultSetConcurrency,
                                        @Param(value = IGNORE_CASE) String ignoreCase,
+                                       @Param(value = STREAMING) String streaming,
+                                       @Param(value = FETCH_SIZE) String fetchSize,
+                                       @Param(value = CURSOR_TIMEOUT) String cursorTimeout,
                                        @Param(value = GLOBAL_SESSION_OBJECT) GlobalSessionObject<Map<String, Object>> globalSessionObject) {
 
         dbType = defaultIfEmpty(dbType, ORACLE_DB_TYPE);
@@ -164,10 +181,14 @@ public class SQLQuery {
         resultSetType = defaultIfEmpty(resultSetType, TYPE_SCROLL_INSENSITIVE);
         resultSetConcurrency = defaultIfEmpty(resultSetConcurrency, CONCUR_READ_ONLY);
         ignoreCase = defaultIfEmpty(ignoreCase, TRUE);
+        streaming = defaultIfEmpty(streaming, FALSE);
+        fetchSize = defaultIfEmpty(fetchSize, DEFAULT_FETCH_SIZE);
+        cursorTimeout = defaultIfEmpty(cursorTimeout, DEFAULT_CURSOR_TIMEOUT);
 
         final List<String> preInputsValidation = validateSqlQueryInputs(dbServerName, dbType, username, password, instance, dbPort,
                 databaseName, authenticationType, command, trustAllRoots, trustStore, trustStorePassword,
                 timeout, resultSetType, resultSetConcurrency, ignoreCase, authLibraryPath);
+        preInputsValidation.addAll(validateSqlQueryStreamingInputs(streaming, fetchSize, cursorTimeout));
 
         if (!preInputsValidation.isEmpty()) {
             return getFailureResultsMap(StringUtils.join(preInputsValidation, NEW_LINE));
@@ -200,6 +221,7 @@ public class SQLQuery {
                 .resultSetConcurrency(getResultSetConcurrency(resultSetConcurrency))
                 .ignoreCase(ignoreCaseBool)
                 .isNetcool(checkIsNetcool(dbType))
+                .fetchSize(toInteger(fetchSize))
                 .build();
 
 
@@ -210,6 +232,10 @@ public class SQLQuery {
 
             final Map<String, Object> globalMap = globalSessionObject.get();
 
+            if (toBoolean(streaming)) {
+                return executeStreaming(sqlInputs, aKey, globalSessionObject, TimeUnit.SECONDS.toMillis(toInteger(cursorTimeout)));
+            }
+
             if (globalMap.containsKey(aKey)) {
                 sqlInputs.setLRows(getRowsFromGlobalSessionMap(globalSessionObject, aKey));
             } else {
@@ -244,4 +270,49 @@ public class SQLQuery {
             return failureMap;
         }
     }
+
+    private Map<String, String> executeStreaming(final SQLInputs sqlInputs, final String aKey,
+                                                 final GlobalSessionObject<Map<String, Object>> globalSessionObject,
+                                                 final long cursorTimeoutMillis) throws Exception {
+        final Map<String, Object> globalMap = globalSessionObject.get();
+        SQLQueryCursor.closeExpiredCursors(globalMap);
+
+        SQLQueryCursor cursor;
+        final Object value = globalMap.get(aKey);
+        if (value instanceof SQLQueryCursor) {
+            cursor = (SQLQueryCursor) value;
+        } else if (value == null && globalMap.containsKey(aKey)) {
+            cursor = null;
+        } else {
+            cursor = SQLQueryService.openSqlQueryCursor(sqlInputs, cursorTimeoutMillis);
+            globalMap.put(aKey, cursor);
+            globalSessionObject.setResource(new SQLSessionResource(globalMap));
+        }
+
+        final String row;
+        try {
+            row = cursor == null ? null : cursor.nextRow();
+        } catch (Exception e) {
+            globalMap.remove(aKey);
+            throw e;
+        }
+
+        Map<String, String> result = new HashMap<>();
+        if (row != null) {
+            result = getSuccessResultsMap(row);
+            result.put(COLUMN_NAMES, cursor.getStrColumns());
+            result.put(ROWS_LEFT, String.valueOf(cursor.getRowsLeft()));
+        } else {
+            if (cursor != null) {
+                cursor.close();
+            }
+            result.put(SQL_QUERY, sqlInputs.getSqlCommand());
+            result.put(RETURN_RESULT, NO_MORE);
+            result.put(ROWS_LEFT, ZERO);
+            result.put(RETURN_CODE, DBReturnCodes.NO_MORE);
+
+            globalMap.put(aKey, null);
+        }
+        return result;
+    }
 }
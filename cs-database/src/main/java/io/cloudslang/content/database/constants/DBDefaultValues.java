@@ -24,4 +24,8 @@ public class DBDefaultValues {
     public static final String AUTH_SQL = "Sql";
     public static final String DEFAULT_TIMEOUT = "120";
     public static final String NEW_LINE = "\n";
+    public static final String DEFAULT_FETCH_SIZE = "1000";
+    public static final String DEFAULT_CURSOR_TIMEOUT = "600";
+    public static final String DEFAULT_BATCH_SIZE = "1000";
+    public static final String DEFAULT_COMMIT_INTERVAL = "10";
 }
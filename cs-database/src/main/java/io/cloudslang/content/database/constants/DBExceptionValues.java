@@ -44,5 +44,15 @@ public class DBExceptionValues extends ExceptionValues {
     public static final String INVALID_DB_SERVER_NAME = "dbServerName can't be empty";
     public static final String INVALID_COMMANDS_EXCLUSIVITY = "Only one of the sqlCommands and scriptFileName can be specified";
     public static final String INVALID_AUTHENTICATION_TYPE_FOR_MS_SQL = "Invalid authentication type for MS SQL : ";
+    public static final String INVALID_STREAMING = "streaming must be 'true' or 'false'";
+    public static final String INVALID_FETCH_SIZE = "fetchSize has to be an integer greater than zero!";
+    public static final String INVALID_CURSOR_TIMEOUT = "cursorTimeout has to be an integer greater than zero!";
+    public static final String INVALID_FILE_PATH = "filePath input is empty.";
+    public static final String INVALID_FORMAT = "The value \"%s\" is an invalid value for format input. Valid values: csv, tsv, jsonl.";
+    public static final String INVALID_GZIP = "gzip must be 'true' or 'false'";
+    public static final String INVALID_ROWS_EXCLUSIVITY = "Exactly one of the rows and rowsFileName inputs must be specified";
+    public static final String INVALID_BATCH_SIZE = "batchSize has to be an integer greater than zero!";
+    public static final String INVALID_COMMIT_INTERVAL = "commitInterval has to be an integer greater than zero!";
+    public static final String INVALID_FILE_COL_DELIMITER = "colDelimiter must be a single character when reading the rows from rowsFileName";
     public static final String NO_SQL_COMMAND = "No SQL command to be executed.";
 }
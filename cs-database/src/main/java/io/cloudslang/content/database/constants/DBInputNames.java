@@ -50,6 +50,16 @@ public class DBInputNames extends InputNames {
     public static final String SCRIPT_FILE_NAME = "scriptFileName";
     public static final String GLOBAL_SESSION_OBJECT = "globalSessionObject";
     public static final String SQL_COMMANDS = "sqlCommands";
+    public static final String STREAMING = "streaming";
+    public static final String FETCH_SIZE = "fetchSize";
+    public static final String CURSOR_TIMEOUT = "cursorTimeout";
+    public static final String FILE_PATH = "filePath";
+    public static final String FORMAT = "format";
+    public static final String GZIP = "gzip";
+    public static final String ROWS = "rows";
+    public static final String ROWS_FILE_NAME = "rowsFileName";
+    public static final String BATCH_SIZE = "batchSize";
+    public static final String COMMIT_INTERVAL = "commitInterval";
 
 
     public static final String MS_DELIMITER = "Delimiter";
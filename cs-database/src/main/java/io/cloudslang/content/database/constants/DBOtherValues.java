@@ -68,4 +68,8 @@ public class DBOtherValues {
     public static final String KEY_CLOB_NAMES = "%s - CLOBNames";
     public static final String KEY_SKIP = "%s - Skip";
 
+    public static final String CSV_FORMAT = "csv";
+    public static final String TSV_FORMAT = "tsv";
+    public static final String JSONL_FORMAT = "jsonl";
+
 }
@@ -28,4 +28,9 @@ public class DBOutputNames extends OutputNames {
     public static final String OUTPUT_TEXT = "outputText";
     public static final String COLUMN_NAMES = "columnNames";
     public static final String SQL_QUERY = "sqlQuery";
+    public static final String ROW_COUNT = "rowCount";
+    public static final String BYTE_COUNT = "byteCount";
+    public static final String BATCH_UPDATE_COUNTS = "batchUpdateCounts";
+    public static final String ROWS_PER_SECOND = "rowsPerSecond";
+    public static final String NO_INFO_COUNT = "noInfoCount";
 }
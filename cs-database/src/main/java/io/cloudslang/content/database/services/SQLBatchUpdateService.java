@@ -0,0 +1,191 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services;
+
+import io.cloudslang.content.database.utils.BatchRowReader;
+import io.cloudslang.content.database.utils.SQLInputs;
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.Connection;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs one parameterized statement for every row of a data source. The statement is prepared once, the rows are sent
+ * in batches of batchSize and the transaction is committed every commitInterval batches.
+ */
+public class SQLBatchUpdateService {
+
+    public static BatchUpdate executeBatchUpdate(@NotNull final SQLInputs sqlInputs, @NotNull final BatchRowReader rowReader,
+                                                 final int batchSize, final int commitInterval) throws Exception {
+        final long start = System.currentTimeMillis();
+        final BatchUpdate batchUpdate = new BatchUpdate();
+        ConnectionService connectionService = new ConnectionService();
+        try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
+
+            try {
+                connection.setReadOnly(false);
+            } catch (Exception e) {
+            } // not all drivers support this
+
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (final PreparedStatement statement = connection.prepareStatement(sqlInputs.getSqlCommand())) {
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                final int[] parameterTypes = getParameterTypes(statement);
+
+                int rowsInBatch = 0;
+                int batchesSinceCommit = 0;
+                List<String> row;
+                while ((row = rowReader.nextRow()) != null) {
+                    bindRow(statement, parameterTypes, row, batchUpdate.rowCount + 1);
+                    statement.addBatch();
+                    batchUpdate.rowCount++;
+                    if (++rowsInBatch == batchSize) {
+                        executeBatch(statement, batchUpdate);
+                        rowsInBatch = 0;
+                        if (++batchesSinceCommit == commitInterval) {
+                            connection.commit();
+                            batchUpdate.committedRowCount = batchUpdate.rowCount;
+                            batchesSinceCommit = 0;
+                        }
+                    }
+                }
+                if (rowsInBatch > 0) {
+                    executeBatch(statement, batchUpdate);
+                }
+                connection.commit();
+                batchUpdate.committedRowCount = batchUpdate.rowCount;
+            } catch (Exception e) {
+                try {
+                    connection.rollback();
+                } catch (SQLException ignored) {
+                }
+                throw new SQLException(String.format("The batch update failed after %d rows were committed: %s",
+                        batchUpdate.committedRowCount, e.getMessage()), e);
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } finally {
+            rowReader.close();
+        }
+        batchUpdate.elapsedMillis = System.currentTimeMillis() - start;
+        return batchUpdate;
+    }
+
+    /**
+     * The parameter types let the driver convert the string values to the column types. When the driver does not
+     * describe the parameters the values are sent as strings.
+     */
+    private static int[] getParameterTypes(final PreparedStatement statement) {
+        try {
+            final ParameterMetaData parameterMetaData = statement.getParameterMetaData();
+            final int[] parameterTypes = new int[parameterMetaData.getParameterCount()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                try {
+                    parameterTypes[i] = parameterMetaData.getParameterType(i + 1);
+                } catch (SQLException e) {
+                    parameterTypes[i] = Types.VARCHAR;
+                }
+            }
+            return parameterTypes;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static void bindRow(final PreparedStatement statement, final int[] parameterTypes, final List<String> row,
+                                final long rowNumber) throws SQLException {
+        if (parameterTypes != null && parameterTypes.length != row.size()) {
+            throw new SQLException(String.format("Row %d has %d values but the statement has %d parameters.",
+                    rowNumber, row.size(), parameterTypes.length));
+        }
+        for (int i = 0; i < row.size(); i++) {
+            final int type = parameterTypes == null ? Types.VARCHAR : parameterTypes[i];
+            final String value = row.get(i);
+            if (value == null) {
+                statement.setNull(i + 1, type);
+            } else if (isStringType(type)) {
+                statement.setString(i + 1, value);
+            } else {
+                statement.setObject(i + 1, value, type);
+            }
+        }
+    }
+
+    private static boolean isStringType(final int type) {
+        return type == Types.VARCHAR || type == Types.CHAR || type == Types.LONGVARCHAR || type == Types.NVARCHAR
+                || type == Types.NCHAR || type == Types.LONGNVARCHAR || type == Types.CLOB || type == Types.NCLOB
+                || type == Types.NULL;
+    }
+
+    /**
+     * Some drivers only report that a row was executed, with {@link Statement#SUCCESS_NO_INFO}. Those rows are counted
+     * separately, as the number of rows they updated is unknown.
+     */
+    private static void executeBatch(final PreparedStatement statement, final BatchUpdate batchUpdate) throws SQLException {
+        int updateCount = 0;
+        for (int count : statement.executeBatch()) {
+            if (count >= 0) {
+                updateCount += count;
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                batchUpdate.noInfoCount++;
+            }
+        }
+        batchUpdate.batchUpdateCounts.add(updateCount);
+        batchUpdate.updateCount += updateCount;
+    }
+
+    public static class BatchUpdate {
+        private final List<Integer> batchUpdateCounts = new ArrayList<>();
+        private long rowCount;
+        private long committedRowCount;
+        private long updateCount;
+        private long noInfoCount;
+        private long elapsedMillis;
+
+        public List<Integer> getBatchUpdateCounts() {
+            return batchUpdateCounts;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        public long getUpdateCount() {
+            return updateCount;
+        }
+
+        public long getNoInfoCount() {
+            return noInfoCount;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public long getRowsPerSecond() {
+            return rowCount * 1000 / Math.max(1, elapsedMillis);
+        }
+    }
+}
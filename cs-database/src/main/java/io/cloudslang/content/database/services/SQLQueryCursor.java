@@ -0,0 +1,189 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services;
+
+import io.cloudslang.content.database.utils.SQLInputs;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An open query whose rows are read one page at a time. Only the current page is kept in memory and reading a row
+ * just moves an index over it. The statement and the connection are released as soon as the last page is read, when
+ * the cursor is closed or when it was not used for longer than its timeout.
+ */
+public class SQLQueryCursor implements Closeable {
+
+    private final Connection connection;
+    private final Statement statement;
+    private final ResultSet results;
+    private final SQLInputs sqlInputs;
+    private final int iNumCols;
+    private final int fetchSize;
+    private final long timeoutMillis;
+    private final String strColumns;
+
+    private final List<String> page;
+    private int pageIndex;
+    private boolean exhausted;
+    private boolean closed;
+    private volatile long lastAccess;
+
+    SQLQueryCursor(@NotNull final Connection connection, @NotNull final Statement statement, @NotNull final ResultSet results,
+                   @NotNull final SQLInputs sqlInputs, final long timeoutMillis) throws SQLException {
+        this.connection = connection;
+        this.statement = statement;
+        this.results = results;
+        this.sqlInputs = sqlInputs;
+        this.iNumCols = results.getMetaData().getColumnCount();
+        this.fetchSize = Math.max(1, sqlInputs.getFetchSize());
+        this.timeoutMillis = timeoutMillis;
+        this.strColumns = sqlInputs.getStrColumns();
+        this.page = new ArrayList<>(fetchSize);
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    /**
+     * @return the next row or null if there are no more rows, in which case the cursor is already closed.
+     */
+    @Nullable
+    public synchronized String nextRow() throws SQLException {
+        lastAccess = System.currentTimeMillis();
+        if (pageIndex == page.size()) {
+            fetchPage();
+        }
+        if (pageIndex == page.size()) {
+            return null;
+        }
+        return page.get(pageIndex++);
+    }
+
+    /**
+     * The next page is fetched when the current one was fully read, so the result is only 0 when there are no more rows.
+     *
+     * @return the number of rows already read from the database and not yet returned by nextRow.
+     */
+    public synchronized int getRowsLeft() throws SQLException {
+        if (pageIndex == page.size()) {
+            fetchPage();
+        }
+        return page.size() - pageIndex;
+    }
+
+    @NotNull
+    public String getStrColumns() {
+        return strColumns;
+    }
+
+    public boolean isExpired(final long now) {
+        return now - lastAccess > timeoutMillis;
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public synchronized void close() {
+        page.clear();
+        pageIndex = 0;
+        exhausted = true;
+        release();
+    }
+
+    /**
+     * Closes and removes from the session map all the cursors that were not used for longer than their timeout.
+     */
+    public static void closeExpiredCursors(@NotNull final Map<String, Object> globalMap) {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<String, Object>> iterator = globalMap.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Object value = iterator.next().getValue();
+            if (value instanceof SQLQueryCursor && ((SQLQueryCursor) value).isExpired(now)) {
+                ((SQLQueryCursor) value).close();
+                iterator.remove();
+            }
+        }
+    }
+
+    private void fetchPage() throws SQLException {
+        page.clear();
+        pageIndex = 0;
+        if (exhausted) {
+            return;
+        }
+        try {
+            while (page.size() < fetchSize && results.next()) {
+                page.add(SQLQueryService.getRow(results, iNumCols, sqlInputs));
+            }
+        } catch (SQLException e) {
+            close();
+            throw e;
+        }
+        if (page.size() < fetchSize) {
+            //the last page was read, the rows left are in memory so the connection can go back
+            exhausted = true;
+            release();
+        }
+    }
+
+    private void release() {
+        if (!closed) {
+            closed = true;
+            closeQuietly(connection, statement, results);
+        }
+    }
+
+    static void closeQuietly(@Nullable final Connection connection, @Nullable final Statement statement, @Nullable final ResultSet results) {
+        if (results != null) {
+            try {
+                results.close();
+            } catch (SQLException ignored) {
+            }
+        }
+        if (statement != null) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+        if (connection != null) {
+            try {
+                //the query only read data, end the transaction opened for the cursor
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                    connection.setAutoCommit(true);
+                }
+            } catch (SQLException ignored) {
+            }
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+}
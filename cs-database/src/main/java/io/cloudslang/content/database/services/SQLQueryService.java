@@ -25,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.sql.Statement;
 
 /**
@@ -44,34 +45,75 @@ public class SQLQueryService {
             statement.setQueryTimeout(sqlInputs.getTimeout());
             final ResultSet results = statement.executeQuery(sqlInputs.getSqlCommand());
 
-            final ResultSetMetaData mtd = results.getMetaData();
+            final int iNumCols = results.getMetaData().getColumnCount();
+            sqlInputs.setStrColumns(getColumns(results, sqlInputs));
 
-            int iNumCols = mtd.getColumnCount();
+            while (results.next()) {
+                sqlInputs.getLRows().add(getRow(results, iNumCols, sqlInputs));
+            }
+        }
+    }
 
-            final StringBuilder strColumns = new StringBuilder(sqlInputs.getStrColumns());
+    /**
+     * Opens a forward only cursor over the results of the query. The rows are fetched from the database in pages of
+     * fetchSize rows as they are read, so the result set is never loaded in memory. The connection stays open until
+     * the cursor is exhausted or closed.
+     */
+    @NotNull
+    public static SQLQueryCursor openSqlQueryCursor(@NotNull final SQLInputs sqlInputs, final long cursorTimeoutMillis) throws Exception {
+        if (StringUtils.isEmpty(sqlInputs.getSqlCommand())) {
+            throw new Exception("command input is empty.");
+        }
+        ConnectionService connectionService = new ConnectionService();
+        final Connection connection = connectionService.setUpConnection(sqlInputs);
+        Statement statement = null;
+        try {
+            connection.setReadOnly(true);
+            //some drivers (e.g. PostgreSQL) only use a server side cursor inside a transaction
+            connection.setAutoCommit(false);
+            statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(sqlInputs.getFetchSize());
+            statement.setQueryTimeout(sqlInputs.getTimeout());
+            final ResultSet results = statement.executeQuery(sqlInputs.getSqlCommand());
 
-            for (int i = 1; i <= iNumCols; i++) {
-                if (i > 1) {
-                    strColumns.append(sqlInputs.getStrDelim());
-                }
-                strColumns.append(mtd.getColumnLabel(i));
+            sqlInputs.setStrColumns(getColumns(results, sqlInputs));
+            return new SQLQueryCursor(connection, statement, results, sqlInputs, cursorTimeoutMillis);
+        } catch (Exception e) {
+            SQLQueryCursor.closeQuietly(connection, statement, null);
+            throw e;
+        }
+    }
+
+    @NotNull
+    static String getColumns(@NotNull final ResultSet results, @NotNull final SQLInputs sqlInputs) throws SQLException {
+        final ResultSetMetaData mtd = results.getMetaData();
+
+        int iNumCols = mtd.getColumnCount();
+
+        final StringBuilder strColumns = new StringBuilder(sqlInputs.getStrColumns());
+
+        for (int i = 1; i <= iNumCols; i++) {
+            if (i > 1) {
+                strColumns.append(sqlInputs.getStrDelim());
             }
-            sqlInputs.setStrColumns(strColumns.toString());
+            strColumns.append(mtd.getColumnLabel(i));
+        }
+        return strColumns.toString();
+    }
 
-            while (results.next()) {
-                final StringBuilder strRowHolder = new StringBuilder();
-                for (int i = 1; i <= iNumCols; i++) {
-                    if (i > 1) strRowHolder.append(sqlInputs.getStrDelim());
-                    if (results.getString(i) != null) {
-                        String value = results.getString(i).trim();
-                        if (sqlInputs.isNetcool())
-                            value = SQLUtils.processNullTerminatedString(value);
-
-                        strRowHolder.append(value);
-                    }
-                }
-                sqlInputs.getLRows().add(strRowHolder.toString());
+    @NotNull
+    static String getRow(@NotNull final ResultSet results, final int iNumCols, @NotNull final SQLInputs sqlInputs) throws SQLException {
+        final StringBuilder strRowHolder = new StringBuilder();
+        for (int i = 1; i <= iNumCols; i++) {
+            if (i > 1) strRowHolder.append(sqlInputs.getStrDelim());
+            if (results.getString(i) != null) {
+                String value = results.getString(i).trim();
+                if (sqlInputs.isNetcool())
+                    value = SQLUtils.processNullTerminatedString(value);
+
+                strRowHolder.append(value);
             }
         }
+        return strRowHolder.toString();
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services;
+
+import io.cloudslang.content.database.utils.SQLInputs;
+import io.cloudslang.content.database.utils.SQLUtils;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.apache.commons.lang3.StringEscapeUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import static io.cloudslang.content.database.constants.DBOtherValues.JSONL_FORMAT;
+import static io.cloudslang.content.database.constants.DBOtherValues.TSV_FORMAT;
+
+/**
+ * Writes the result of a query to a file while it is read from the database, so only the current row is kept in
+ * memory. The rows are fetched fetchSize at a time.
+ */
+public class SQLQueryToFileService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String LINE_SEPARATOR = "\n";
+    private static final Pattern JSON_LITERAL = Pattern.compile("-?(0|[1-9]\\d*)(\\.\\d+)?([eE][+-]?\\d+)?|true|false");
+
+    public static QueryExport exportQueryToFile(@NotNull final SQLInputs sqlInputs, @NotNull final String filePath,
+                                                @NotNull final String format, final boolean gzip) throws Exception {
+        final File file = new File(filePath);
+        ConnectionService connectionService = new ConnectionService();
+        try (final Connection connection = connectionService.setUpConnection(sqlInputs)) {
+            connection.setReadOnly(true);
+            //some drivers (e.g. PostgreSQL) only use a server side cursor inside a transaction
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (final Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(sqlInputs.getFetchSize());
+                statement.setQueryTimeout(sqlInputs.getTimeout());
+                try (final ResultSet resultSet = statement.executeQuery(sqlInputs.getSqlCommand())) {
+                    return writeResultSet(resultSet, file, format, gzip, sqlInputs.isNetcool());
+                }
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    @NotNull
+    static QueryExport writeResultSet(@NotNull final ResultSet resultSet, @NotNull final File file, @NotNull final String format,
+                                      final boolean gzip, final boolean checkNullTermination) throws SQLException, IOException {
+        final CountingOutputStream fileStream = new CountingOutputStream(new FileOutputStream(file));
+        long rowCount = 0;
+        boolean completed = false;
+        try {
+            final OutputStream outputStream = gzip ? new GZIPOutputStream(fileStream, BUFFER_SIZE) : fileStream;
+            try (final Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+                final ResultSetMetaData metaData = resultSet.getMetaData();
+                final int nCols = metaData.getColumnCount();
+                final String[] labels = new String[nCols];
+                final boolean[] unquoted = new boolean[nCols];
+                for (int i = 0; i < nCols; i++) {
+                    labels[i] = metaData.getColumnLabel(i + 1);
+                    unquoted[i] = isNumberOrBoolean(metaData.getColumnType(i + 1));
+                }
+
+                if (JSONL_FORMAT.equals(format)) {
+                    while (resultSet.next()) {
+                        writeJsonRow(writer, resultSet, labels, unquoted, checkNullTermination);
+                        rowCount++;
+                    }
+                } else {
+                    final char delimiter = TSV_FORMAT.equals(format) ? '\t' : ',';
+                    writeDelimitedRow(writer, labels, delimiter);
+                    final String[] values = new String[nCols];
+                    while (resultSet.next()) {
+                        for (int i = 0; i < nCols; i++) {
+                            values[i] = getValue(resultSet, i + 1, checkNullTermination);
+                        }
+                        writeDelimitedRow(writer, values, delimiter);
+                        rowCount++;
+                    }
+                }
+            }
+            completed = true;
+        } finally {
+            fileStream.close();
+            if (!completed) {
+                //do not leave a truncated export behind
+                file.delete();
+            }
+        }
+        return new QueryExport(file.getAbsolutePath(), rowCount, fileStream.getByteCount());
+    }
+
+    private static void writeDelimitedRow(final Writer writer, final String[] values, final char delimiter) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(delimiter);
+            }
+            final String value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (needsQuotes(value, delimiter)) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static void writeJsonRow(final Writer writer, final ResultSet resultSet, final String[] labels, final boolean[] unquoted,
+                                     final boolean checkNullTermination) throws SQLException, IOException {
+        writer.write('{');
+        for (int i = 0; i < labels.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(StringEscapeUtils.escapeJson(labels[i]));
+            writer.write("\":");
+            final String value = getValue(resultSet, i + 1, checkNullTermination);
+            if (value == null) {
+                writer.write("null");
+            } else if (unquoted[i] && JSON_LITERAL.matcher(value).matches()) {
+                writer.write(value);
+            } else {
+                writer.write('"');
+                writer.write(StringEscapeUtils.escapeJson(value));
+                writer.write('"');
+            }
+        }
+        writer.write('}');
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static String getValue(final ResultSet resultSet, final int col, final boolean checkNullTermination) throws SQLException {
+        final String value = resultSet.getString(col);
+        if (value != null && checkNullTermination && !value.isEmpty()) {
+            return SQLUtils.processNullTerminatedString(value);
+        }
+        return value;
+    }
+
+    private static boolean needsQuotes(final String value, final char delimiter) {
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == delimiter || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNumberOrBoolean(final int sqlType) {
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+            case Types.BOOLEAN:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public static class QueryExport {
+        private final String filePath;
+        private final long rowCount;
+        private final long byteCount;
+
+        public QueryExport(final String filePath, final long rowCount, final long byteCount) {
+            this.filePath = filePath;
+            this.rowCount = rowCount;
+            this.byteCount = byteCount;
+        }
+
+        public String getFilePath() {
+            return filePath;
+        }
+
+        public long getRowCount() {
+            return rowCount;
+        }
+
+        public long getByteCount() {
+            return byteCount;
+        }
+    }
+}
@@ -25,7 +25,10 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.*;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static io.cloudslang.content.database.constants.DBOtherValues.MSSQL_DB_TYPE;
 import static io.cloudslang.content.database.utils.Constants.AUTH_WINDOWS;
@@ -77,26 +80,29 @@ public class DBConnectionManager {
     //singleton instance, make it protected so it can be mocked
     protected static volatile DBConnectionManager instance = null;
     //table to hole the providers, for now it only has c3p0 provider
-    protected Hashtable<String, PooledDataSourceProvider> providerTable = null;
+    protected volatile ConcurrentMap<String, PooledDataSourceProvider> providerTable = null;
     //dbms pool table, key = dbType + "." + dbUrl
     //the reason that keep the dbType is we might use this dbType to find what
     //datasource provider later if we have different kinds of datasource provider
     //right now we only have one provider c3p0. Other provider might be implemented
     //if it is necessary.
-    //the dbms pool table will have Hashtable dsTable which contians DataSources
+    //the dbms pool table will have the map dsTable which contians DataSources
     //the key for the dsTable is dbUrl + "." + username + "." + encryptedpassword
-    //hashtable is synchronized already
-    protected Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = null;
+    //both maps are concurrent, the lookups don't lock, only the creation of a
+    //datasource locks and only for its own dbms pool key
+    protected volatile ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = null;
+    //one lock per dbms pool key, guards the creation and the removal of the datasources of that dbms
+    private final ConcurrentMap<String, Object> dbmsPoolLocks = new ConcurrentHashMap<>();
     //properties that contain configurable connection pooling params
-    protected Properties dbPoolingProperties = null;
+    protected volatile Properties dbPoolingProperties = null;
     /**
      * if the pooling is enabled or not, default is false
      */
-    protected boolean isPoolingEnabled = false;
+    protected volatile boolean isPoolingEnabled = false;
     //datasource cleaner to clean the datasource with 0 connections.
-    private PooledDataSourceCleaner datasourceCleaner = null;
+    private volatile PooledDataSourceCleaner datasourceCleaner = null;
     //the thread that will run the cleaner runnable
-    private Thread cleanerThread = null;
+    private volatile Thread cleanerThread = null;
 
 
     /**
@@ -145,7 +151,11 @@ public class DBConnectionManager {
 
     private void createPoolTable() {
         if (dbmsPoolTable == null) {
-            dbmsPoolTable = new Hashtable<>();
+            synchronized (this) {
+                if (dbmsPoolTable == null) {
+                    dbmsPoolTable = new ConcurrentHashMap<>();
+                }
+            }
         }
     }
 
@@ -168,7 +178,7 @@ public class DBConnectionManager {
      * @return a Connection to db
      * @throws SQLException
      */
-    public synchronized Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
+    public Connection getConnection(DBType aDbType, String aAuthType, String aDbUrl, String aUsername, String aPassword, Properties properties)
             throws SQLException {
         if (isEmpty(aDbUrl)) {
             throw new SQLException("Failed to check out connection dbUrl is empty");
@@ -198,10 +208,7 @@ public class DBConnectionManager {
             //if the runnable has been shutdown when dbmspoolsize is 0
             //then need to resumbit to the thread and start it again
             if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN) {
-                //submit it to the thread to run
-                cleanerThread = new Thread(datasourceCleaner);
-                cleanerThread.setPriority(Thread.MIN_PRIORITY);
-                cleanerThread.start();
+                restartCleaner();
             }
             //will use pooled datasource provider
             return getPooledConnection(aDbType, aDbUrl, aUsername, aPassword);
@@ -213,83 +220,52 @@ public class DBConnectionManager {
      * clean any empty datasource and pool in the dbmsPool table.
      */
     public void cleanDataSources() {
-
-        Hashtable<String, List<String>> removedDsKeyTable = null;
-
-        //gather all the empty ds's key, can't remove item while iterate
-        Enumeration<String> allPoolKeys = dbmsPoolTable.keys();
-        while (allPoolKeys.hasMoreElements()) {
-            String dbPoolKey = allPoolKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbPoolKey);
-            Enumeration<String> allDsKeys = dsTable.keys();
-            while (allDsKeys.hasMoreElements()) {
-                String dsKey = allDsKeys.nextElement();
-                DataSource ds = dsTable.get(dsKey);
-
-                //c3p0 impl
-                if (ds != null && ds instanceof PooledDataSource) {
-                    PooledDataSource pDs = (PooledDataSource) ds;
-                    int conCount;
-                    try {
-                        conCount = pDs.getNumConnectionsAllUsers();
-                    } catch (SQLException e) {
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> dbmsPool : dbmsPoolTable.entrySet()) {
+            String dbPoolKey = dbmsPool.getKey();
+            PooledDataSourceProvider provider = this.getProvider(dbPoolKey);
+            //the datasources of the dbms are only removed while no other datasource is created for it
+            synchronized (getDbmsPoolLock(dbPoolKey)) {
+                ConcurrentMap<String, DataSource> dsTable = dbmsPool.getValue();
+                for (Map.Entry<String, DataSource> dsEntry : dsTable.entrySet()) {
+                    DataSource ds = dsEntry.getValue();
+
+                    //c3p0 impl
+                    if (ds instanceof PooledDataSource) {
+                        PooledDataSource pDs = (PooledDataSource) ds;
+                        int conCount;
+                        try {
+                            conCount = pDs.getNumConnectionsAllUsers();
+                        } catch (SQLException e) {
 //                  todo      logger.error
 //                                ("Failed to get total number of connections for datasource. dbmsPoolKey = "
 //                                        + dbPoolKey, e);
-                        continue;
-                    }
-                    //no connections
-                    if (conCount == 0) {
-                        List<String> removedList = null;
-                        if (removedDsKeyTable == null) {
-                            removedDsKeyTable = new Hashtable<>();
-                        } else {
-                            removedList = removedDsKeyTable.get(dbPoolKey);
+                            continue;
                         }
-
-                        if (removedList == null) {
-                            removedList = new ArrayList<>();
-                            removedList.add(dsKey);
-                            removedDsKeyTable.put(dbPoolKey, removedList);
-                        } else {
-                            removedList.add(dsKey);
-                        }
-                    }
-                }
-            }
-        }
-
-        //have empty ds
-        if (removedDsKeyTable != null && !removedDsKeyTable.isEmpty()) {
-            Enumeration<String> removedPoolKeys = removedDsKeyTable.keys();
-            while (removedPoolKeys.hasMoreElements()) {
-                String removedPoolKey = removedPoolKeys.nextElement();
-                PooledDataSourceProvider provider = this.getProvider(removedPoolKey);
-                List<String> removedDsList = removedDsKeyTable.get(removedPoolKey);
-                Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(removedPoolKey);
-                for (String dsKey : removedDsList) {
-                    DataSource removedDs = dsTable.remove(dsKey);
-                    try {
-                        provider.closePooledDataSource(removedDs);
-                    } catch (SQLException e) {
-                        //can't show the dsKey since it has encrypted password there
+                        //no connections
+                        if (conCount == 0 && dsTable.remove(dsEntry.getKey(), ds)) {
+                            try {
+                                provider.closePooledDataSource(ds);
+                            } catch (SQLException e) {
+                                //can't show the dsKey since it has encrypted password there
 //                  todo      logger.error("Failed to close datadsource in dmbs poolKey = "
-//                                + removedPoolKey, e);
-                        continue;
-                    }
+//                                + dbPoolKey, e);
+                                continue;
+                            }
 
-                    //tracing
+                            //tracing
 //                todo    if (logger.isDebugEnabled()) {
 //                        logger.debug("Removed one datasource in dbms poolKey = "
-//                                + removedPoolKey);
+//                                + dbPoolKey);
 //                    }
+                        }
+                    }
                 }
                 //don't have any ds for the pool key
                 if (dsTable.isEmpty()) {
-                    dbmsPoolTable.remove(removedPoolKey);
+                    dbmsPoolTable.remove(dbPoolKey, dsTable);
                     //tracing
 //              todo      if (logger.isDebugEnabled()) {
-//                        logger.debug("Removed dbms poolKey = " + removedPoolKey);
+//                        logger.debug("Removed dbms poolKey = " + dbPoolKey);
 //                    }
                 }
             }
@@ -311,11 +287,10 @@ public class DBConnectionManager {
         if (dbmsPoolTable == null) {
             return;
         }
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsKey = allDbmsKeys.nextElement();
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> dbmsPool : dbmsPoolTable.entrySet()) {
+            String dbmsKey = dbmsPool.getKey();
             PooledDataSourceProvider provider = this.getProvider(dbmsKey);
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
+            Map<String, DataSource> dsTable = dbmsPool.getValue();
             for (DataSource ds : dsTable.values()) {
                 try {
                     provider.closePooledDataSource(ds);
@@ -369,18 +344,53 @@ public class DBConnectionManager {
      */
     private void createCleaner() {
         if (cleanerThread == null) {
-            int interval = getPropIntValue
-                    (DB_DATASOURCE_CLEAN_INTERNAL_NAME,
-                            DB_DATASOURCE_CLEAN_INTERNAL_DEFAULT_VALUE);
-
+            synchronized (this) {
+                if (cleanerThread == null) {
+                    int interval = getPropIntValue
+                            (DB_DATASOURCE_CLEAN_INTERNAL_NAME,
+                                    DB_DATASOURCE_CLEAN_INTERNAL_DEFAULT_VALUE);
+
+
+                    //this runnable
+                    this.datasourceCleaner = new PooledDataSourceCleaner(this, interval);
+                    //submit it to the thread to run
+                    Thread thread = new Thread(datasourceCleaner);
+                    thread.setDaemon(true);
+                    thread.start();
+                    this.cleanerThread = thread;
+                }
+            }
+        }
+    }
 
-            //this runnable
-            this.datasourceCleaner = new PooledDataSourceCleaner(this, interval);
+    /**
+     * start again the pool cleaner which stopped itself when there were no pools left.
+     */
+    private synchronized void restartCleaner() {
+        if (datasourceCleaner.getState() == STATE_CLEANER.SHUTDOWN) {
             //submit it to the thread to run
-            this.cleanerThread = new Thread(datasourceCleaner);
-            this.cleanerThread.setDaemon(true);
-            this.cleanerThread.start();
+            cleanerThread = new Thread(datasourceCleaner);
+            cleanerThread.setPriority(Thread.MIN_PRIORITY);
+            cleanerThread.setDaemon(true);
+            datasourceCleaner.setRunning();
+            cleanerThread.start();
+        }
+    }
+
+    /**
+     * @param aDbmsPoolKey a key of the dbms pool table
+     * @return the lock that guards the creation and removal of the datasources of the dbms
+     */
+    private Object getDbmsPoolLock(String aDbmsPoolKey) {
+        Object lock = dbmsPoolLocks.get(aDbmsPoolKey);
+        if (lock == null) {
+            Object newLock = new Object();
+            lock = dbmsPoolLocks.putIfAbsent(aDbmsPoolKey, newLock);
+            if (lock == null) {
+                lock = newLock;
+            }
         }
+        return lock;
     }
 
     /**
@@ -419,60 +429,56 @@ public class DBConnectionManager {
      * @throws SQLException
      */
     protected Connection getPooledConnection(DBType aDbType, String aDbUrl, String aUsername, String aPassword) throws SQLException {
-        Connection retCon;
-
-        //key to hashtable of datasources for that dbms
+        //key to the table of datasources for that dbms
         String dbmsKey = aDbType + "." + aDbUrl;
 
+        String encryptedPass;
+        try {
+            encryptedPass = TripleDES.encryptPassword(aPassword);
+        } catch (Exception e) {
+            throw new SQLException
+                    ("Failed to encrypt password for key = " + dbmsKey, e);
+        }
+        String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
+
+        //each pool has pooled datasources, pool is based on dbUrl
+        //so we can control the total size of connection to dbms
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> poolTable = dbmsPoolTable;
+        Map<String, DataSource> dsTable = poolTable.get(dbmsKey);
+        DataSource ds = dsTable == null ? null : dsTable.get(dsTableKey);
+        if (ds != null) {
+            return ds.getConnection();
+        }
 
-        if (dbmsPoolTable.containsKey(dbmsKey)) {
-
-            //each pool has pooled datasources, pool is based on dbUrl
-            //so we can control the total size of connection to dbms
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsKey);
-
-            String encryptedPass;
-            try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException
-                        ("Failed to encrypt password for key = " + dbmsKey, e);
+        //only the callers of the same dbms wait for the datasource to be created,
+        //the connections of the other dbms are not blocked by a slow database
+        boolean isFirstDataSource;
+        synchronized (getDbmsPoolLock(dbmsKey)) {
+            ConcurrentMap<String, DataSource> lockedDsTable = poolTable.get(dbmsKey);
+            if (lockedDsTable == null) {
+                lockedDsTable = new ConcurrentHashMap<>();
+                poolTable.put(dbmsKey, lockedDsTable);
             }
-
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-
-            DataSource ds;
-            if (dsTable.containsKey(dsTableKey)) {
-
-                ds = dsTable.get(dsTableKey);
-                retCon = ds.getConnection();
+            ds = lockedDsTable.get(dsTableKey);
+            if (ds != null) {
+                isFirstDataSource = false;
+            } else if (lockedDsTable.isEmpty()) {
+                //just create, don't need to check, since we don't have any datasource for this dbms
+                isFirstDataSource = true;
+                ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
+                lockedDsTable.put(dsTableKey, ds);
             } else {
-
                 //need to check if it is ok to create another ds
-                ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, dsTable);
-                retCon = ds.getConnection();
-
-                dsTable.put(dsTableKey, ds);
+                isFirstDataSource = false;
+                ds = this.createDataSource(aDbType, aDbUrl, aUsername, aPassword, lockedDsTable);
+                lockedDsTable.put(dsTableKey, ds);
             }
-        } else//don't have dbmsKey, will create one for that dbtype.dburl
-        {
-
-            //just create, don't need to check, since we don't have this dbmsKey
-            PooledDataSource ds = (PooledDataSource) this.createDataSource(aDbType, aDbUrl, aUsername, aPassword);
-            retCon = getPooledConnection(ds, aUsername, aPassword);
-
-            Hashtable<String, DataSource> dsTable = new Hashtable<>();
-            String encryptedPass;
-            try {
-                encryptedPass = TripleDES.encryptPassword(aPassword);
-            } catch (Exception e) {
-                throw new SQLException("Failed to encrypt password for key = " + dbmsKey, e);
-            }
-            String dsTableKey = aDbUrl + "." + aUsername + "." + encryptedPass;
-            dsTable.put(dsTableKey, ds);
-            dbmsPoolTable.put(dbmsKey, dsTable);
         }
-        return retCon;
+
+        if (isFirstDataSource && ds instanceof PooledDataSource) {
+            return getPooledConnection((PooledDataSource) ds, aUsername, aPassword);
+        }
+        return ds.getConnection();
     }
 
     private Connection getPooledConnection(PooledDataSource ds, String aUsername, String aPassword) throws SQLException {
@@ -516,7 +522,7 @@ public class DBConnectionManager {
                                           String aDbUrl,
                                           String aUsername,
                                           String aPassword,
-                                          Hashtable<String, DataSource> aDsTable)
+                                          Map<String, DataSource> aDsTable)
             throws SQLException {
         DataSource retDatasource;
 
@@ -581,17 +587,19 @@ public class DBConnectionManager {
         PooledDataSourceProvider provider;
 
         if (providerTable == null) {
-
-            switch (aDbType) {
-                //only has one at the moment
-                default:
-                    provider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
+            synchronized (this) {
+                if (providerTable == null) {
+                    switch (aDbType) {
+                        //only has one at the moment
+                        default:
+                            provider = new C3P0PooledDataSourceProvider(dbPoolingProperties);
+                    }
+                    String name = provider.getProviderName();
+                    ConcurrentMap<String, PooledDataSourceProvider> newProviderTable = new ConcurrentHashMap<>();
+                    newProviderTable.put(name, provider);
+                    providerTable = newProviderTable;
+                }
             }
-            String name = provider.getProviderName();
-            providerTable = new Hashtable<>();
-            providerTable.put(name, provider);
-
-
         }
 
         String providerName;
@@ -631,7 +639,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -654,7 +662,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -676,7 +684,7 @@ public class DBConnectionManager {
         int retTotal = 0;
 
         String dbmsPoolKey = aDbType + "." + aDbUrl;
-        Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
+        Map<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
         PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
 
         if (dsTable != null) {
@@ -695,11 +703,9 @@ public class DBConnectionManager {
     public int getTotalConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
-            PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> dbmsPool : dbmsPoolTable.entrySet()) {
+            Map<String, DataSource> dsTable = dbmsPool.getValue();
+            PooledDataSourceProvider provider = this.getProvider(dbmsPool.getKey());
 
             if (dsTable != null) {
                 for (DataSource ds : dsTable.values()) {
@@ -717,11 +723,9 @@ public class DBConnectionManager {
     public int getTotalCheckedOutConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
-            PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> dbmsPool : dbmsPoolTable.entrySet()) {
+            Map<String, DataSource> dsTable = dbmsPool.getValue();
+            PooledDataSourceProvider provider = this.getProvider(dbmsPool.getKey());
 
             if (dsTable != null) {
                 for (DataSource ds : dsTable.values()) {
@@ -739,11 +743,9 @@ public class DBConnectionManager {
     public int getTotalCheckedInConnectionSize() throws SQLException {
         int retTotal = 0;
 
-        Enumeration<String> allDbmsKeys = dbmsPoolTable.keys();
-        while (allDbmsKeys.hasMoreElements()) {
-            String dbmsPoolKey = allDbmsKeys.nextElement();
-            Hashtable<String, DataSource> dsTable = dbmsPoolTable.get(dbmsPoolKey);
-            PooledDataSourceProvider provider = this.getProvider(dbmsPoolKey);
+        for (Map.Entry<String, ConcurrentMap<String, DataSource>> dbmsPool : dbmsPoolTable.entrySet()) {
+            Map<String, DataSource> dsTable = dbmsPool.getValue();
+            PooledDataSourceProvider provider = this.getProvider(dbmsPool.getKey());
             if (dsTable != null) {
                 for (DataSource ds : dsTable.values()) {
                     retTotal = retTotal + provider.getCheckedInConnectionNumber(ds);
@@ -30,7 +30,7 @@ public class PooledDataSourceCleaner implements Runnable {
 
     //DBConnectionPoolManager handle
     private DBConnectionManager manager = null;
-    private STATE_CLEANER state = STATE_CLEANER.SHUTDOWN;
+    private volatile STATE_CLEANER state = STATE_CLEANER.SHUTDOWN;
 
     /**
      * constructor
@@ -85,6 +85,13 @@ public class PooledDataSourceCleaner implements Runnable {
         this.manager = null;
     }
 
+    /**
+     * mark the runnable as running before it is submitted again, so it is not submitted twice
+     */
+    protected void setRunning() {
+        state = STATE_CLEANER.RUNNING;
+    }
+
     /**
      * @return the state of this runnable
      */
@@ -0,0 +1,277 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the rows of values bound to a parameterized statement one at a time, so a data file is never loaded in memory.
+ * A row is a JSON array of values or a line of delimited values. Empty delimited values and JSON nulls are read as null.
+ * The rows are read as JSON only when they start with an array of arrays or are an empty array, so a delimited first
+ * value which starts with [ is not mistaken for JSON.
+ */
+public abstract class BatchRowReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * @return the values of the next row or null when there are no more rows.
+     */
+    @Nullable
+    public abstract List<String> nextRow() throws IOException;
+
+    /**
+     * @param rows         a JSON array of arrays, or rows separated by rowDelimiter with values separated by colDelimiter.
+     * @param colDelimiter the delimiter between the values of a row.
+     * @param rowDelimiter the delimiter between rows.
+     */
+    @NotNull
+    public static BatchRowReader fromString(@NotNull final String rows, @NotNull final String colDelimiter, @NotNull final String rowDelimiter) {
+        try {
+            if (isJsonRows(new StringReader(rows))) {
+                return new JsonRowReader(new StringReader(rows));
+            }
+        } catch (IOException e) {
+            //a string reader does not fail
+        }
+        return new DelimitedRowReader(rows, colDelimiter, rowDelimiter);
+    }
+
+    /**
+     * @param fileName     a JSON file with an array of arrays, or a CSV file with one row per line. CSV values that contain
+     *                     the delimiter, quotes or new lines are enclosed in double quotes.
+     * @param colDelimiter the delimiter between the values of a CSV row.
+     */
+    @NotNull
+    public static BatchRowReader fromFile(@NotNull final String fileName, final char colDelimiter) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(fileName),
+                StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            reader.mark(BUFFER_SIZE);
+            final boolean json = isJsonRows(reader);
+            reader.reset();
+            if (json) {
+                return new JsonRowReader(reader);
+            }
+            return new CsvRowReader(reader, colDelimiter);
+        } catch (IOException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    private static class DelimitedRowReader extends BatchRowReader {
+        private final String rows;
+        private final String colDelimiter;
+        private final String rowDelimiter;
+        private int position;
+
+        DelimitedRowReader(final String rows, final String colDelimiter, final String rowDelimiter) {
+            this.rows = rows;
+            this.colDelimiter = colDelimiter;
+            this.rowDelimiter = rowDelimiter;
+        }
+
+        @Override
+        public List<String> nextRow() {
+            while (position < rows.length()) {
+                int end = rows.indexOf(rowDelimiter, position);
+                if (end == -1) {
+                    end = rows.length();
+                }
+                final String line = rows.substring(position, end);
+                position = end + rowDelimiter.length();
+                if (!line.trim().isEmpty()) {
+                    return splitLine(line);
+                }
+            }
+            return null;
+        }
+
+        private List<String> splitLine(final String line) {
+            final List<String> values = new ArrayList<>();
+            int start = 0;
+            int end;
+            while ((end = line.indexOf(colDelimiter, start)) != -1) {
+                values.add(emptyToNull(line.substring(start, end)));
+                start = end + colDelimiter.length();
+            }
+            values.add(emptyToNull(line.substring(start)));
+            return values;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static class CsvRowReader extends BatchRowReader {
+        private final Reader reader;
+        private final char delimiter;
+        private final StringBuilder value = new StringBuilder();
+        private int next = -2;
+
+        CsvRowReader(final Reader reader, final char delimiter) {
+            this.reader = reader;
+            this.delimiter = delimiter;
+        }
+
+        @Override
+        public List<String> nextRow() throws IOException {
+            int c = read();
+            //skip the empty lines
+            while (c == '\r' || c == '\n') {
+                c = read();
+            }
+            if (c == -1) {
+                return null;
+            }
+            final List<String> values = new ArrayList<>();
+            while (true) {
+                value.setLength(0);
+                boolean quoted = false;
+                if (c == '"') {
+                    quoted = true;
+                    c = readQuoted();
+                }
+                while (c != delimiter && c != '\n' && c != '\r' && c != -1) {
+                    value.append((char) c);
+                    c = read();
+                }
+                values.add(quoted ? value.toString() : emptyToNull(value.toString()));
+                if (c == delimiter) {
+                    c = read();
+                    continue;
+                }
+                if (c == '\r') {
+                    final int lf = read();
+                    if (lf != '\n') {
+                        next = lf;
+                    }
+                }
+                return values;
+            }
+        }
+
+        private int readQuoted() throws IOException {
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted value in the rows file.");
+                }
+                if (c == '"') {
+                    c = read();
+                    if (c != '"') {
+                        return c;
+                    }
+                }
+                value.append((char) c);
+            }
+        }
+
+        private int read() throws IOException {
+            if (next != -2) {
+                final int c = next;
+                next = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static class JsonRowReader extends BatchRowReader {
+        private final JsonReader reader;
+        private boolean started;
+
+        JsonRowReader(final Reader reader) {
+            this.reader = new JsonReader(reader);
+        }
+
+        @Override
+        public List<String> nextRow() throws IOException {
+            if (!started) {
+                reader.beginArray();
+                started = true;
+            }
+            if (!reader.hasNext()) {
+                return null;
+            }
+            final List<String> values = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                final JsonToken token = reader.peek();
+                if (token == JsonToken.NULL) {
+                    reader.nextNull();
+                    values.add(null);
+                } else if (token == JsonToken.BOOLEAN) {
+                    values.add(String.valueOf(reader.nextBoolean()));
+                } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                    values.add(reader.nextString());
+                } else {
+                    throw new IOException("The rows must be a JSON array of arrays of values, found " + token + " at " + reader.getPath());
+                }
+            }
+            reader.endArray();
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static boolean isJsonRows(final Reader reader) throws IOException {
+        if (nextNonWhitespace(reader) != '[') {
+            return false;
+        }
+        final int c = nextNonWhitespace(reader);
+        return c == '[' || c == ']';
+    }
+
+    private static int nextNonWhitespace(final Reader reader) throws IOException {
+        int c = reader.read();
+        while (c != -1 && Character.isWhitespace(c)) {
+            c = reader.read();
+        }
+        return c;
+    }
+
+    private static String emptyToNull(final String value) {
+        return value.isEmpty() ? null : value;
+    }
+}
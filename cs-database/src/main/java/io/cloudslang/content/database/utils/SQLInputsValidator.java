@@ -44,6 +44,7 @@ public class SQLInputsValidator {
 
     private static final List<String> NO_EMPTY_DATABASE = Arrays.asList(SYBASE_DB_TYPE, MSSQL_DB_TYPE, NETCOOL_DB_TYPE);
     private static final List<String> AUTH_TYPES = Arrays.asList(AUTH_WINDOWS, AUTH_SQL);
+    private static final List<String> EXPORT_FORMATS = Arrays.asList(CSV_FORMAT, TSV_FORMAT, JSONL_FORMAT);
 
     public static List<String> validateSqlCommandInputs(String dbServerName, String dbType, String username, String password, String instance, String dbPort,
                                                         String database, String authenticationType, String command, String trustAllRoots,
@@ -66,6 +67,55 @@ public class SQLInputsValidator {
         return validationList;
     }
 
+    public static List<String> validateSqlQueryStreamingInputs(String streaming, String fetchSize, String cursorTimeout) {
+        final List<String> validationList = new ArrayList<>();
+        if (!BooleanUtilities.isValid(streaming)) {
+            validationList.add(INVALID_STREAMING);
+        }
+        validatePositiveInt(fetchSize, INVALID_FETCH_SIZE, validationList);
+        validatePositiveInt(cursorTimeout, INVALID_CURSOR_TIMEOUT, validationList);
+        return validationList;
+    }
+
+    public static List<String> validateSqlQueryToFileInputs(String dbServerName, String dbType, String username, String password,
+                                                            String instance, String dbPort, String database, String authenticationType, String command,
+                                                            String trustAllRoots, String trustStore, String trustStorePassword,
+                                                            String timeout, String authLibraryPath, String filePath, String format,
+                                                            String gzip, String fetchSize) {
+        final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort,
+                database, authenticationType, trustAllRoots, trustStore, trustStorePassword, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, authLibraryPath);
+        validateNoneEmpty(command, INVALID_COMMAND, validationList);
+        validateTimeout(timeout, validationList);
+        validateNoneEmpty(filePath, INVALID_FILE_PATH, validationList);
+        if (!EXPORT_FORMATS.contains(format)) {
+            validationList.add(String.format(INVALID_FORMAT, format));
+        }
+        if (!BooleanUtilities.isValid(gzip)) {
+            validationList.add(INVALID_GZIP);
+        }
+        validatePositiveInt(fetchSize, INVALID_FETCH_SIZE, validationList);
+        return validationList;
+    }
+
+    public static List<String> validateSqlBatchUpdateInputs(String dbServerName, String dbType, String username, String password,
+                                                            String instance, String dbPort, String database, String authenticationType, String command,
+                                                            String trustAllRoots, String trustStore, String trustStorePassword,
+                                                            String timeout, String authLibraryPath, String rows, String rowsFileName,
+                                                            String colDelimiter, String batchSize, String commitInterval) {
+        final List<String> validationList = validateCommonSqlInputs(dbServerName, dbType, username, password, instance, dbPort,
+                database, authenticationType, trustAllRoots, trustStore, trustStorePassword, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY, authLibraryPath);
+        validateNoneEmpty(command, INVALID_COMMAND, validationList);
+        validateTimeout(timeout, validationList);
+        if (isEmpty(rows) == isEmpty(rowsFileName)) {
+            validationList.add(INVALID_ROWS_EXCLUSIVITY);
+        } else if (isNoneEmpty(rowsFileName) && colDelimiter.length() != 1) {
+            validationList.add(INVALID_FILE_COL_DELIMITER);
+        }
+        validatePositiveInt(batchSize, INVALID_BATCH_SIZE, validationList);
+        validatePositiveInt(commitInterval, INVALID_COMMIT_INTERVAL, validationList);
+        return validationList;
+    }
+
     public static List<String> validateSqlQueryAllRowsInputs(String dbServerName, String dbType, String username, String password,
                                                              String instance, String dbPort, String database, String authenticationType, String command,
                                                              String trustAllRoots, String trustStore, String trustStorePassword,
@@ -170,6 +220,12 @@ public class SQLInputsValidator {
         }
     }
 
+    private static void validatePositiveInt(final String value, final String exceptionMessage, final List<String> validationList) {
+        if (!NumberUtilities.isValidInt(value) || NumberUtilities.toInteger(value) <= 0) {
+            validationList.add(exceptionMessage);
+        }
+    }
+
     private static void validateInstance(final String instance, final String dbType, final List<String> validationList) {
         if (isNoneEmpty(instance) && !MSSQL_DB_TYPE.equalsIgnoreCase(dbType)) {
             validationList.add(INVALID_INSTANCE);
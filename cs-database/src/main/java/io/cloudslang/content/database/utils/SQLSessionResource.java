@@ -18,7 +18,9 @@
 package io.cloudslang.content.database.utils;
 
 import com.hp.oo.sdk.content.plugin.SessionResource;
+import org.apache.commons.io.IOUtils;
 
+import java.io.Closeable;
 import java.util.Map;
 
 /**
@@ -39,6 +41,14 @@ public class SQLSessionResource extends SessionResource<Map<String, Object>> {
 
     @Override
     public void release() {
+        if (sqlConnectionMap != null) {
+            //streaming queries keep their cursor (and its connection) in the map
+            for (final Object value : sqlConnectionMap.values()) {
+                if (value instanceof Closeable) {
+                    IOUtils.closeQuietly((Closeable) value);
+                }
+            }
+        }
         sqlConnectionMap = null;
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services;
+
+import io.cloudslang.content.database.services.SQLBatchUpdateService.BatchUpdate;
+import io.cloudslang.content.database.utils.BatchRowReader;
+import io.cloudslang.content.database.utils.InputsProcessor;
+import io.cloudslang.content.database.utils.SQLInputs;
+import org.h2.Driver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ConnectionService.class, SQLBatchUpdateService.class})
+public class SQLBatchUpdateServiceTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:batchUpdate;DB_CLOSE_DELAY=-1";
+    private static final String INSERT = "insert into ci (id, name, created) values (?, ?, ?)";
+
+    @Mock
+    private ConnectionService connectionServiceMock;
+
+    private SQLInputs sqlInputs;
+
+    @Before
+    public void setUp() throws Exception {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table ci (id int primary key, name varchar(50), created date)");
+        }
+        sqlInputs = SQLInputs.builder().build();
+        InputsProcessor.init(sqlInputs);
+        sqlInputs.setSqlCommand(INSERT);
+        PowerMockito.whenNew(ConnectionService.class).withNoArguments().thenReturn(connectionServiceMock);
+        when(connectionServiceMock.setUpConnection(sqlInputs)).thenAnswer(new Answer<Connection>() {
+            @Override
+            public Connection answer(InvocationOnMock invocation) throws Throwable {
+                return connect();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists ci");
+        }
+    }
+
+    @Test
+    public void executeBatchUpdate() throws Exception {
+        final BatchRowReader rowReader = BatchRowReader.fromString(
+                "1,host1,2019-01-01\n2,host2,\n3,,2019-01-03\n4,host4,2019-01-04\n5,host5,2019-01-05", ",", "\n");
+
+        final BatchUpdate batchUpdate = SQLBatchUpdateService.executeBatchUpdate(sqlInputs, rowReader, 2, 1);
+
+        assertEquals(5, batchUpdate.getRowCount());
+        assertEquals(5, batchUpdate.getUpdateCount());
+        assertEquals(Arrays.asList(2, 2, 1), batchUpdate.getBatchUpdateCounts());
+        assertEquals(5, count("select count(*) from ci"));
+        assertEquals(1, count("select count(*) from ci where created is null"));
+        assertEquals(1, count("select count(*) from ci where name is null"));
+    }
+
+    @Test
+    public void executeBatchUpdateSuccessNoInfo() throws Exception {
+        final Connection connectionMock = Mockito.mock(Connection.class);
+        final PreparedStatement statementMock = Mockito.mock(PreparedStatement.class);
+        when(connectionServiceMock.setUpConnection(sqlInputs)).thenReturn(connectionMock);
+        when(connectionMock.prepareStatement(INSERT)).thenReturn(statementMock);
+        when(statementMock.getParameterMetaData()).thenThrow(new SQLException("not supported"));
+        when(statementMock.executeBatch()).thenReturn(new int[]{1, Statement.SUCCESS_NO_INFO}, new int[]{Statement.SUCCESS_NO_INFO});
+        final BatchRowReader rowReader = BatchRowReader.fromString("1,a,\n2,b,\n3,c,", ",", "\n");
+
+        final BatchUpdate batchUpdate = SQLBatchUpdateService.executeBatchUpdate(sqlInputs, rowReader, 2, 1);
+
+        assertEquals(3, batchUpdate.getRowCount());
+        assertEquals(1, batchUpdate.getUpdateCount());
+        assertEquals(2, batchUpdate.getNoInfoCount());
+        assertEquals(Arrays.asList(1, 0), batchUpdate.getBatchUpdateCounts());
+    }
+
+    @Test
+    public void executeBatchUpdateRollsBackAfterLastCommit() throws Exception {
+        final BatchRowReader rowReader = BatchRowReader.fromString("[[1, \"a\", null], [2, \"b\", null], [3, \"c\", null], [3, \"d\", null]]", ",", "\n");
+
+        try {
+            SQLBatchUpdateService.executeBatchUpdate(sqlInputs, rowReader, 1, 2);
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("The batch update failed after 2 rows were committed"));
+        }
+        assertEquals(2, count("select count(*) from ci"));
+    }
+
+    @Test
+    public void executeBatchUpdateWrongValueCount() throws Exception {
+        final BatchRowReader rowReader = BatchRowReader.fromString("1,a,2019-01-01\n2,b", ",", "\n");
+
+        try {
+            SQLBatchUpdateService.executeBatchUpdate(sqlInputs, rowReader, 10, 10);
+            fail();
+        } catch (SQLException e) {
+            assertTrue(e.getMessage(), e.getMessage().endsWith("Row 2 has 2 values but the statement has 3 parameters."));
+        }
+        assertEquals(0, count("select count(*) from ci"));
+    }
+
+    private static int count(final String query) throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(query)) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return new Driver().connect(DB_URL, new Properties());
+    }
+}
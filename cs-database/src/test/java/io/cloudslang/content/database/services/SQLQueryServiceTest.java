@@ -37,12 +37,19 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 
 import static io.cloudslang.content.database.constants.DBOtherValues.*;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.getResultSetConcurrency;
 import static io.cloudslang.content.database.utils.SQLInputsUtils.getResultSetType;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -123,6 +130,47 @@ public class SQLQueryServiceTest {
         verify(statementMock, Mockito.times(1)).executeQuery(SQL_QUERY);
     }
 
+    @Test
+    public void testOpenSqlQueryCursor() throws Exception {
+        sqlInputs.setDbType(POSTGRES_DB_TYPE);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setTimeout(SQL_QUERY_TIMEOUT);
+        sqlInputs.setFetchSize(2);
+        when(resultSetMock.next()).thenReturn(true, true, true, false);
+        when(resultSetMock.getString(Matchers.any(Integer.class))).thenReturn("a", "a", "a", "a", "a", "a", "b", "b", "b", "b", "b", "b", "c", "c", "c", "c", "c", "c");
+
+        final SQLQueryCursor cursor = SQLQueryService.openSqlQueryCursor(sqlInputs, 60000);
+
+        assertEquals("defaulLabel,defaulLabel,defaulLabel", cursor.getStrColumns());
+        verify(connectionMock, Mockito.times(1)).setAutoCommit(false);
+        verify(statementMock, Mockito.times(1)).setFetchSize(2);
+        assertEquals("a,a,a", cursor.nextRow());
+        assertEquals(1, cursor.getRowsLeft());
+        assertEquals("b,b,b", cursor.nextRow());
+        assertFalse(cursor.isClosed());
+        assertEquals(1, cursor.getRowsLeft());
+        assertEquals("c,c,c", cursor.nextRow());
+        assertEquals(0, cursor.getRowsLeft());
+        assertTrue(cursor.isClosed());
+        assertNull(cursor.nextRow());
+        verify(resultSetMock, Mockito.times(4)).next();
+        verify(connectionMock, Mockito.times(1)).close();
+    }
+
+    @Test
+    public void testCloseExpiredCursors() throws Exception {
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        final Map<String, Object> globalMap = new HashMap<>();
+        globalMap.put("rows", new ArrayList<String>());
+        globalMap.put("cursor", SQLQueryService.openSqlQueryCursor(sqlInputs, -1));
+
+        SQLQueryCursor.closeExpiredCursors(globalMap);
+
+        assertEquals(Collections.singleton("rows"), globalMap.keySet());
+        verify(statementMock, Mockito.times(1)).close();
+        verify(connectionMock, Mockito.times(1)).close();
+    }
+
     @Test
     public void testExecuteSqlQueryNoCommand() throws Exception {
         expectedEx.expect(Exception.class);
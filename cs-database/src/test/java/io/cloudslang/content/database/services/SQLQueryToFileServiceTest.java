@@ -0,0 +1,165 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.services;
+
+import io.cloudslang.content.database.services.SQLQueryToFileService.QueryExport;
+import io.cloudslang.content.database.utils.InputsProcessor;
+import io.cloudslang.content.database.utils.SQLInputs;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.h2.Driver;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.zip.GZIPInputStream;
+
+import static io.cloudslang.content.database.constants.DBOtherValues.CSV_FORMAT;
+import static io.cloudslang.content.database.constants.DBOtherValues.JSONL_FORMAT;
+import static io.cloudslang.content.database.constants.DBOtherValues.TSV_FORMAT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ConnectionService.class, SQLQueryToFileService.class})
+public class SQLQueryToFileServiceTest {
+
+    private static final String DB_URL = "jdbc:h2:mem:queryToFile;DB_CLOSE_DELAY=-1";
+    private static final String SQL_QUERY = "select id, name, price from items order by id";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Mock
+    private ConnectionService connectionServiceMock;
+
+    private SQLInputs sqlInputs;
+
+    @Before
+    public void setUp() throws Exception {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("create table items (id int, name varchar(50), price decimal(10,2))");
+            statement.execute("insert into items values (1, 'plain', 1.50), (2, 'with, comma', null), (3, 'with \"quotes\"', 3)");
+        }
+        sqlInputs = SQLInputs.builder().build();
+        InputsProcessor.init(sqlInputs);
+        sqlInputs.setSqlCommand(SQL_QUERY);
+        sqlInputs.setFetchSize(2);
+        PowerMockito.whenNew(ConnectionService.class).withNoArguments().thenReturn(connectionServiceMock);
+        when(connectionServiceMock.setUpConnection(sqlInputs)).thenAnswer(new Answer<Connection>() {
+            @Override
+            public Connection answer(InvocationOnMock invocation) throws Throwable {
+                return connect();
+            }
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists items");
+        }
+    }
+
+    @Test
+    public void exportCsv() throws Exception {
+        final File file = folder.newFile("items.csv");
+
+        final QueryExport queryExport = SQLQueryToFileService.exportQueryToFile(sqlInputs, file.getPath(), CSV_FORMAT, false);
+
+        final String expected = "ID,NAME,PRICE\n1,plain,1.50\n2,\"with, comma\",\n3,\"with \"\"quotes\"\"\",3.00\n";
+        assertEquals(expected, FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+        assertEquals(3, queryExport.getRowCount());
+        assertEquals(file.length(), queryExport.getByteCount());
+        assertEquals(file.getAbsolutePath(), queryExport.getFilePath());
+    }
+
+    @Test
+    public void exportTsv() throws Exception {
+        final File file = folder.newFile("items.tsv");
+
+        SQLQueryToFileService.exportQueryToFile(sqlInputs, file.getPath(), TSV_FORMAT, false);
+
+        final String expected = "ID\tNAME\tPRICE\n1\tplain\t1.50\n2\twith, comma\t\n3\t\"with \"\"quotes\"\"\"\t3.00\n";
+        assertEquals(expected, FileUtils.readFileToString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void exportJsonLinesGzip() throws Exception {
+        final File file = folder.newFile("items.jsonl.gz");
+
+        final QueryExport queryExport = SQLQueryToFileService.exportQueryToFile(sqlInputs, file.getPath(), JSONL_FORMAT, true);
+
+        final String expected = "{\"ID\":1,\"NAME\":\"plain\",\"PRICE\":1.50}\n" +
+                "{\"ID\":2,\"NAME\":\"with, comma\",\"PRICE\":null}\n" +
+                "{\"ID\":3,\"NAME\":\"with \\\"quotes\\\"\",\"PRICE\":3.00}\n";
+        try (InputStream inputStream = new GZIPInputStream(new FileInputStream(file))) {
+            assertEquals(expected, IOUtils.toString(inputStream, StandardCharsets.UTF_8));
+        }
+        assertEquals(3, queryExport.getRowCount());
+        assertEquals(file.length(), queryExport.getByteCount());
+    }
+
+    @Test
+    public void writeResultSetFailureDeletesFile() throws Exception {
+        final File file = folder.newFile("failed.csv");
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("ID");
+        when(resultSet.next()).thenReturn(true).thenThrow(new SQLException("connection lost"));
+        when(resultSet.getString(1)).thenReturn("1");
+
+        try {
+            SQLQueryToFileService.writeResultSet(resultSet, file, CSV_FORMAT, false, false);
+            fail();
+        } catch (SQLException e) {
+            assertEquals("connection lost", e.getMessage());
+        }
+        assertFalse(file.exists());
+    }
+
+    private static Connection connect() throws SQLException {
+        return new Driver().connect(DB_URL, new Properties());
+    }
+}
@@ -27,6 +27,8 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
@@ -35,8 +37,16 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.Hashtable;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.any;
@@ -240,9 +250,9 @@ public class DBConnectionManagerTest {
     public void testCleanDataSources() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject1(dataSourceMock);
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = getDbmsPoolTableObject1(dataSourceMock);
 
-        Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTable = new ConcurrentHashMap<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
 
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
@@ -265,8 +275,8 @@ public class DBConnectionManagerTest {
     public void testShutDownDbmsPools() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject1(dataSourceMock);
-        Hashtable<String, PooledDataSourceProvider> providerTable = new Hashtable<>();
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject1(dataSourceMock);
+        ConcurrentMap<String, PooledDataSourceProvider> providerTable = new ConcurrentHashMap<>();
         PooledDataSourceProvider dataSourceProviderMock = mock(PooledDataSourceProvider.class);
         doNothing().when(dataSourceProviderMock).closePooledDataSource(any(DataSource.class));
         providerTable.put(C3P0PooledDataSourceProvider.C3P0_DATASOURCE_PROVIDER_NAME, dataSourceProviderMock);
@@ -331,7 +341,7 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject2(dataSourceMock, connMock);
 
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
@@ -350,7 +360,7 @@ public class DBConnectionManagerTest {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = getDbmsPoolTableObject2(dataSourceMock, connMock);
         dbcManagerSpy.dbmsPoolTable = dbmsPoolTable;
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenThrow(new Exception("encryption failed"));
@@ -371,9 +381,9 @@ public class DBConnectionManagerTest {
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         Connection connMock = mock(Connection.class);
         doReturn(connMock).when(dataSourceMock).getConnection();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject2(dataSourceMock, connMock);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject2(dataSourceMock, connMock);
         doReturn(dataSourceMock).when(dbcManagerSpy).createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class));
+                , anyString(), anyString(), anyString(), any(Map.class));
 
         PowerMockito.mockStatic(TripleDES.class);
         Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
@@ -381,7 +391,55 @@ public class DBConnectionManagerTest {
         assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
         verify(dataSourceMock, times(1)).getConnection();
         verify(dbcManagerSpy.createDataSource(any(DBType.class)
-                , anyString(), anyString(), anyString(), any(Hashtable.class)), times(1));
+                , anyString(), anyString(), anyString(), any(Map.class)), times(1));
+    }
+
+    /**
+     * Test method getPooledConnection(...) does not block the other dbms while a connection is checked out.
+     *
+     * @throws Exception
+     */
+    @Test
+    public void testGetPooledConnectionDoesNotBlockOtherDbms() throws Exception {
+        final DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
+        final PooledDataSource slowDataSourceMock = mock(PooledDataSource.class);
+        PooledDataSource dataSourceMock = mock(PooledDataSource.class);
+        Connection connMock = mock(Connection.class);
+        final CountDownLatch slowConnectionStarted = new CountDownLatch(1);
+        final CountDownLatch slowConnectionReleased = new CountDownLatch(1);
+        doAnswer(new Answer<Connection>() {
+            @Override
+            public Connection answer(InvocationOnMock invocation) throws Throwable {
+                slowConnectionStarted.countDown();
+                slowConnectionReleased.await(10, TimeUnit.SECONDS);
+                return mock(Connection.class);
+            }
+        }).when(slowDataSourceMock).getConnection();
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = getDbmsPoolTableObject2(dataSourceMock, connMock);
+        ConcurrentMap<String, DataSource> slowDsTable = new ConcurrentHashMap<>();
+        slowDsTable.put(DB_URL + "." + DHARMA_USER + "." + ENCRYPTED_PASS, slowDataSourceMock);
+        dbmsPoolTable.put(DBType.ORACLE + "." + DB_URL, slowDsTable);
+        dbcManagerSpy.dbmsPoolTable = dbmsPoolTable;
+        PowerMockito.mockStatic(TripleDES.class);
+        Mockito.when(TripleDES.encryptPassword(any(String.class))).thenReturn(ENCRYPTED_PASS);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Connection> slowConnection = executor.submit(new Callable<Connection>() {
+                @Override
+                public Connection call() throws Exception {
+                    return dbcManagerSpy.getPooledConnection(DBType.ORACLE, DB_URL, DHARMA_USER, DHARMA_PASSWORD);
+                }
+            });
+            assertTrue(slowConnectionStarted.await(10, TimeUnit.SECONDS));
+
+            assertEquals(connMock, dbcManagerSpy.getPooledConnection(DBType.MYSQL, DB_URL, DHARMA_USER, DHARMA_PASSWORD));
+            slowConnectionReleased.countDown();
+            assertNotNull(slowConnection.get(10, TimeUnit.SECONDS));
+        } finally {
+            slowConnectionReleased.countDown();
+            executor.shutdownNow();
+        }
     }
 
     /**
@@ -392,8 +450,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
@@ -411,8 +469,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -429,8 +487,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -447,8 +505,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         doReturn(10).when(providerMock).getAllConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
@@ -466,8 +524,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalCheckedOutConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -484,8 +542,8 @@ public class DBConnectionManagerTest {
     @Test
     public void testGetTotalCheckedInConnectionSize() throws SQLException {
         DBConnectionManager dbcManagerSpy = getDBConnectionManagerSpyWithPooling();
-        dbcManagerSpy.dbmsPoolTable = getHashTableObject3();
-        Hashtable<String, PooledDataSourceProvider> providerTableMock = mock(Hashtable.class);
+        dbcManagerSpy.dbmsPoolTable = getDbmsPoolTableObject3();
+        ConcurrentMap<String, PooledDataSourceProvider> providerTableMock = mock(ConcurrentMap.class);
         PooledDataSourceProvider providerMock = mock(PooledDataSourceProvider.class);
         setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(providerTableMock, providerMock);
         dbcManagerSpy.providerTable = providerTableMock;
@@ -501,7 +559,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void setUpPooledDataSourceProviderMockForCheckedInConnectionNumber(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         doReturn(10).when(providerMock).getCheckedInConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
     }
@@ -513,7 +571,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void setUpPooledDataSourceProviderMockForCheckedOutConnectionNumber(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         doReturn(10).when(providerMock).getCheckedOutConnectionNumber(any(DataSource.class));
         doReturn(providerMock).when(providerTableMock).get(anyString());
     }
@@ -525,7 +583,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObjects(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObjects(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getAllConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -537,7 +595,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObjects3(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObjects3(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getCheckedOutConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -549,7 +607,7 @@ public class DBConnectionManagerTest {
      * @param providerMock
      * @throws java.sql.SQLException
      */
-    private void verifyNumberOfInvocationsOnMockObject2(Hashtable<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
+    private void verifyNumberOfInvocationsOnMockObject2(ConcurrentMap<String, PooledDataSourceProvider> providerTableMock, PooledDataSourceProvider providerMock) throws SQLException {
         verify(providerMock, times(1)).getCheckedInConnectionNumber(any(DataSource.class));
         verify(providerTableMock, times(1)).get(anyString());
     }
@@ -569,32 +627,32 @@ public class DBConnectionManagerTest {
         return dbPoolingPropertiesMock;
     }
 
-    private Hashtable getHashTableObject1(PooledDataSource dataSourceMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getDbmsPoolTableObject1(PooledDataSource dataSourceMock) throws SQLException {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<String, ConcurrentMap<String, DataSource>>();
         String tableKey1 = "key1";
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentMap<String, DataSource> hashTable1 = new ConcurrentHashMap<String, DataSource>();
         doReturn(0).when(dataSourceMock).getNumConnectionsAllUsers();
         hashTable1.put(tableKey1, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject2(PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable = new Hashtable<>();
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getDbmsPoolTableObject2(PooledDataSource dataSourceMock, Connection connMock) throws SQLException {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable = new ConcurrentHashMap<>();
         String dsTableKey = DB_URL + "." + DHARMA_USER + "." + ENCRYPTED_PASS;
         String tableKey1 = DBType.MYSQL + "." + DB_URL;
-        Hashtable<String, DataSource> hashTable1 = new Hashtable<String, DataSource>();
+        ConcurrentMap<String, DataSource> hashTable1 = new ConcurrentHashMap<String, DataSource>();
         doReturn(connMock).when(dataSourceMock).getConnection();
         hashTable1.put(dsTableKey, dataSourceMock);
         dbmsPoolTable.put(tableKey1, hashTable1);
         return dbmsPoolTable;
     }
 
-    private Hashtable<String, Hashtable<String, DataSource>> getHashTableObject3() {
-        Hashtable<String, Hashtable<String, DataSource>> dbmsPoolTable
-                = new Hashtable<String, Hashtable<String, DataSource>>();
-        Hashtable<String, DataSource> hashTable = new Hashtable<String, DataSource>();
+    private ConcurrentMap<String, ConcurrentMap<String, DataSource>> getDbmsPoolTableObject3() {
+        ConcurrentMap<String, ConcurrentMap<String, DataSource>> dbmsPoolTable
+                = new ConcurrentHashMap<String, ConcurrentMap<String, DataSource>>();
+        ConcurrentMap<String, DataSource> hashTable = new ConcurrentHashMap<String, DataSource>();
         PooledDataSource dataSourceMock = mock(PooledDataSource.class);
         String dbmsPoolKey = DBType.MYSQL + "." + DB_URL;
         hashTable.put("key", dataSourceMock);
@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.database.utils;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchRowReaderTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void readDelimitedString() throws IOException {
+        final BatchRowReader rowReader = BatchRowReader.fromString("1|host1|server##2||##", "|", "##");
+
+        assertEquals(Arrays.asList(Arrays.asList("1", "host1", "server"), Arrays.asList("2", null, null)), readAll(rowReader));
+    }
+
+    @Test
+    public void readJsonString() throws IOException {
+        final BatchRowReader rowReader = BatchRowReader.fromString(" [[1, \"host1\", true], [2.5, null, \"a,b\"]]", ",", "\n");
+
+        assertEquals(Arrays.asList(Arrays.asList("1", "host1", "true"), Arrays.asList("2.5", null, "a,b")), readAll(rowReader));
+    }
+
+    @Test
+    public void readDelimitedStringStartingWithBracket() throws IOException {
+        final BatchRowReader rowReader = BatchRowReader.fromString("[a],b\n[c],d", ",", "\n");
+
+        assertEquals(Arrays.asList(Arrays.asList("[a]", "b"), Arrays.asList("[c]", "d")), readAll(rowReader));
+    }
+
+    @Test
+    public void readCsvFile() throws IOException {
+        final File file = folder.newFile("rows.csv");
+        FileUtils.writeStringToFile(file, "1,\"host, \"\"one\"\"\",\r\n\n2,\"\",\"multi\nline\"", StandardCharsets.UTF_8);
+
+        final BatchRowReader rowReader = BatchRowReader.fromFile(file.getPath(), ',');
+
+        assertEquals(Arrays.asList(Arrays.asList("1", "host, \"one\"", null), Arrays.asList("2", "", "multi\nline")), readAll(rowReader));
+    }
+
+    @Test
+    public void readJsonFile() throws IOException {
+        final File file = folder.newFile("rows.json");
+        FileUtils.writeStringToFile(file, "\n  [[\"a\", 1], [\"b\", 2]]", StandardCharsets.UTF_8);
+
+        final BatchRowReader rowReader = BatchRowReader.fromFile(file.getPath(), ',');
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "1"), Arrays.asList("b", "2")), readAll(rowReader));
+    }
+
+    @Test
+    public void readCsvFileStartingWithBracket() throws IOException {
+        final File file = folder.newFile("rows.csv");
+        FileUtils.writeStringToFile(file, "[1],a\n[2],b", StandardCharsets.UTF_8);
+
+        final BatchRowReader rowReader = BatchRowReader.fromFile(file.getPath(), ',');
+
+        assertEquals(Arrays.asList(Arrays.asList("[1]", "a"), Arrays.asList("[2]", "b")), readAll(rowReader));
+    }
+
+    @Test(expected = IOException.class)
+    public void readJsonNestedObject() throws IOException {
+        readAll(BatchRowReader.fromString("[[{\"a\": 1}]]", ",", "\n"));
+    }
+
+    private static List<List<String>> readAll(final BatchRowReader rowReader) throws IOException {
+        final List<List<String>> rows = new ArrayList<>();
+        try {
+            List<String> row;
+            while ((row = rowReader.nextRow()) != null) {
+                rows.add(row);
+            }
+        } finally {
+            rowReader.close();
+        }
+        return rows;
+    }
+}
@@ -222,6 +222,27 @@ public class HttpClientAction {
      * @param method                             The HTTP method used. This is a required input.
      * @param httpClientCookieSession            the session object that holds the cookies if the useCookies input is true.
      * @param httpClientPoolingConnectionManager the GlobalSessionObject that holds the http client pooling connection manager.
+     * @param binaryResponse                     If this is 'true' the response entity is copied as raw bytes, without decoding it using the
+     *                                           'responseCharacterSet'. When 'destinationFile' is specified the bytes are written directly in the file,
+     *                                           so binary payloads (archives, images) are saved unchanged. Otherwise 'returnResult' contains the
+     *                                           bytes encoded in base64. Default value: false. Valid values: true, false
+     * @param computeChecksum                    If this is 'true' the SHA-256 checksum of the response entity is computed while it is read.
+     *                                           It is only used when 'binaryResponse' is 'true'. Default value: false. Valid values: true, false
+     * @param maxResponseSize                    The maximum number of bytes of the response entity, before the base64 encoding, that can be kept in 'returnResult'.
+     *                                           It is only used when 'binaryResponse' is 'true' and 'destinationFile' is empty.
+     *                                           If the entity is larger, the operation fails. Default value: no limit.
+     * @param connectionsTimeToLive              The time, in seconds, after which a pooled connection is closed, no matter if it is used or not.
+     *                                           It is only used when the connection pool is created. A value of '0' means the connections do not expire.
+     *                                           Default value: 0
+     * @param connectionsIdleTimeout             The time, in seconds, after which an idle pooled connection is closed by the background connection evictor.
+     *                                           It is only used when the connection pool is created. A value of '0' means that
+     *                                           the idle connections are not closed. Default value: 0
+     * @param connectionsValidateAfterInactivity The time, in seconds, of inactivity after which a pooled connection is checked
+     *                                           before it is used again, so stale connections are not leased. Default value: 2
+     * @param compactCookies                     If this is 'true' the cookies are saved in the cookie session in a compact binary form
+     *                                           instead of the java serialization. The older versions of this operation cannot read
+     *                                           the compact form, so enable it only if they do not share the cookie session.
+     *                                           Default value: false
      * @return a map containing the output of the operation. Keys present in the map are:
      * <br><br><b>returnResult</b> - This will contain the response entity (unless 'destinationFile' is specified).
      * In case of an error this output will contain the error message.
@@ -247,6 +268,9 @@ public class HttpClientAction {
      * Request Timeout, Switching Protocols, Non Authoritative Information, Reset Content, Partial Content,
      * Gateway Timeout, Http Version Not Supported, Gone, Length Required, Requested Range Not Satisfiable, Expectation Failed
      * <p/>
+     * <br><br><b>totalBytes</b> - The number of bytes of the response entity. Only set when 'binaryResponse' is 'true'.
+     * <br><b>bytesPerSecond</b> - The rate, in bytes per second, at which the response entity was read. Only set when 'binaryResponse' is 'true'.
+     * <br><b>responseChecksum</b> - The hex encoded SHA-256 checksum of the response entity. Only set when 'computeChecksum' is 'true'.
      * <br><br><b>returnCode</b> - The returnCode of the operation: 0 for success, -1 for failure.
      */
     @Action(name = "Http Client",
@@ -257,6 +281,9 @@ public class HttpClientAction {
                     @Output(RESPONSE_HEADERS),
                     @Output(PROTOCOL_VERSION),
                     @Output(REASON_PHRASE),
+                    @Output(TOTAL_BYTES),
+                    @Output(BYTES_PER_SECOND),
+                    @Output(RESPONSE_CHECKSUM),
                     @Output(RETURN_CODE),
                     @Output(RETURN_RESULT)
             },
@@ -313,7 +340,14 @@ public class HttpClientAction {
             @Param(HttpClientInputs.CHUNKED_REQUEST_ENTITY) String chunkedRequestEntity,
             @Param(value = HttpClientInputs.METHOD, required = true) String method,
             @Param(HttpClientInputs.SESSION_COOKIES) SerializableSessionObject httpClientCookieSession,
-            @Param(HttpClientInputs.SESSION_CONNECTION_POOL) GlobalSessionObject httpClientPoolingConnectionManager) {
+            @Param(HttpClientInputs.SESSION_CONNECTION_POOL) GlobalSessionObject httpClientPoolingConnectionManager,
+            @Param(HttpClientInputs.BINARY_RESPONSE) String binaryResponse,
+            @Param(HttpClientInputs.COMPUTE_CHECKSUM) String computeChecksum,
+            @Param(HttpClientInputs.MAX_RESPONSE_SIZE) String maxResponseSize,
+            @Param(HttpClientInputs.CONNECTIONS_TIME_TO_LIVE) String connectionsTimeToLive,
+            @Param(HttpClientInputs.CONNECTIONS_IDLE_TIMEOUT) String connectionsIdleTimeout,
+            @Param(HttpClientInputs.CONNECTIONS_VALIDATE_AFTER_INACTIVITY) String connectionsValidateAfterInactivity,
+            @Param(HttpClientInputs.COMPACT_COOKIES) String compactCookies) {
 
         HttpClientInputs httpClientInputs = new HttpClientInputs();
         httpClientInputs.setUrl(url);
@@ -337,9 +371,13 @@ public class HttpClientAction {
         httpClientInputs.setConnectTimeout(connectTimeout);
         httpClientInputs.setSocketTimeout(socketTimeout);
         httpClientInputs.setUseCookies(useCookies);
+        httpClientInputs.setCompactCookies(compactCookies);
         httpClientInputs.setKeepAlive(keepAlive);
         httpClientInputs.setConnectionsMaxPerRoute(connectionsMaxPerRoot);
         httpClientInputs.setConnectionsMaxTotal(connectionsMaxTotal);
+        httpClientInputs.setConnectionsTimeToLive(connectionsTimeToLive);
+        httpClientInputs.setConnectionsIdleTimeout(connectionsIdleTimeout);
+        httpClientInputs.setConnectionsValidateAfterInactivity(connectionsValidateAfterInactivity);
         httpClientInputs.setHeaders(headers);
         httpClientInputs.setResponseCharacterSet(responseCharacterSet);
         httpClientInputs.setDestinationFile(destinationFile);
@@ -359,6 +397,9 @@ public class HttpClientAction {
         httpClientInputs.setMultipartFilesContentType(multipartFilesContentType);
         httpClientInputs.setMultipartValuesAreURLEncoded(multipartValuesAreURLEncoded);
         httpClientInputs.setChunkedRequestEntity(chunkedRequestEntity);
+        httpClientInputs.setBinaryResponse(binaryResponse);
+        httpClientInputs.setComputeChecksum(computeChecksum);
+        httpClientInputs.setMaxResponseSize(maxResponseSize);
         httpClientInputs.setMethod(method);
         httpClientInputs.setTlsVersion(tlsVersion);
         httpClientInputs.setAllowedCyphers(allowedCyphers);
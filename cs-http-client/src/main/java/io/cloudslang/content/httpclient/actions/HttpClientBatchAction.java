@@ -0,0 +1,138 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType;
+import com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.services.HttpClientBatchService;
+import io.cloudslang.content.httpclient.services.HttpClientService;
+
+import java.util.Map;
+
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ResponseNames.FAILURE;
+import static io.cloudslang.content.constants.ResponseNames.SUCCESS;
+import static io.cloudslang.content.httpclient.entities.Constants.CHANGEIT;
+import static io.cloudslang.content.httpclient.entities.Constants.DEFAULT_JAVA_KEYSTORE;
+import static io.cloudslang.content.httpclient.utils.Descriptions.Commons.EXCEPTION_DESC;
+import static io.cloudslang.content.httpclient.utils.Descriptions.Commons.RETURN_CODE_DESC;
+import static io.cloudslang.content.httpclient.utils.Descriptions.HttpClientBatch.*;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+
+public class HttpClientBatchAction {
+
+    @Action(name = "Http Client Batch", description = HTTP_CLIENT_BATCH_DESC,
+            outputs = {
+                    @Output(value = HttpClientService.EXCEPTION, description = EXCEPTION_DESC),
+                    @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
+                    @Output(value = RETURN_RESULT, description = RETURN_RESULT_DESC)
+            },
+            responses = {
+                    @Response(text = SUCCESS, field = RETURN_CODE, value = ReturnCodes.SUCCESS,
+                            matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.RESOLVED),
+                    @Response(text = FAILURE, field = RETURN_CODE, value = ReturnCodes.FAILURE,
+                            matchType = MatchType.COMPARE_EQUAL, responseType = ResponseType.ERROR)
+            }
+    )
+    public Map<String, String> execute(
+            @Param(value = HttpClientInputs.REQUESTS, required = true, description = REQUESTS_DESC) String requests,
+            @Param(value = HttpClientInputs.CONCURRENCY, description = CONCURRENCY_DESC) String concurrency,
+            @Param(value = HttpClientInputs.AUTH_TYPE, description = AUTH_TYPE_DESC) String authType,
+            @Param(value = HttpClientInputs.PREEMPTIVE_AUTH, description = PREEMPTIVE_AUTH_DESC) String preemptiveAuth,
+            @Param(value = HttpClientInputs.USERNAME, description = USERNAME_DESC) String username,
+            @Param(value = HttpClientInputs.PASSWORD, encrypted = true, description = PASSWORD_DESC) String password,
+            @Param(value = HttpClientInputs.PROXY_HOST, description = PROXY_HOST_DESC) String proxyHost,
+            @Param(value = HttpClientInputs.PROXY_PORT, description = PROXY_PORT_DESC) String proxyPort,
+            @Param(value = HttpClientInputs.PROXY_USERNAME, description = PROXY_USERNAME_DESC) String proxyUsername,
+            @Param(value = HttpClientInputs.PROXY_PASSWORD, encrypted = true, description = PROXY_PASSWORD_DESC) String proxyPassword,
+            @Param(value = HttpClientInputs.TLS_VERSION, description = TLS_VERSION_DESC) String tlsVersion,
+            @Param(value = HttpClientInputs.ALLOWED_CYPHERS, description = ALLOWED_CYPHERS_DESC) String allowedCyphers,
+            @Param(value = HttpClientInputs.TRUST_ALL_ROOTS, description = TRUST_ALL_ROOTS_DESC) String trustAllRoots,
+            @Param(value = HttpClientInputs.X509_HOSTNAME_VERIFIER, description = X509_HOSTNAME_VERIFIER_DESC) String x509HostnameVerifier,
+            @Param(value = HttpClientInputs.TRUST_KEYSTORE, description = TRUST_KEYSTORE_DESC) String trustKeystore,
+            @Param(value = HttpClientInputs.TRUST_PASSWORD, encrypted = true, description = TRUST_PASSWORD_DESC) String trustPassword,
+            @Param(value = HttpClientInputs.KEYSTORE, description = KEYSTORE_DESC) String keystore,
+            @Param(value = HttpClientInputs.KEYSTORE_PASSWORD, encrypted = true, description = KEYSTORE_PASSWORD_DESC) String keystorePassword,
+            @Param(value = HttpClientInputs.CONNECT_TIMEOUT, description = CONNECT_TIMEOUT_DESC) String connectTimeout,
+            @Param(value = HttpClientInputs.SOCKET_TIMEOUT, description = SOCKET_TIMEOUT_DESC) String socketTimeout,
+            @Param(value = HttpClientInputs.KEEP_ALIVE, description = KEEP_ALIVE_DESC) String keepAlive,
+            @Param(value = HttpClientInputs.CONNECTIONS_MAX_PER_ROUTE, description = CONNECTIONS_MAX_PER_ROUTE_DESC) String connectionsMaxPerRoute,
+            @Param(value = HttpClientInputs.CONNECTIONS_MAX_TOTAL, description = CONNECTIONS_MAX_TOTAL_DESC) String connectionsMaxTotal,
+            @Param(value = HttpClientInputs.CONNECTIONS_TIME_TO_LIVE, description = CONNECTIONS_TIME_TO_LIVE_DESC) String connectionsTimeToLive,
+            @Param(value = HttpClientInputs.CONNECTIONS_IDLE_TIMEOUT, description = CONNECTIONS_IDLE_TIMEOUT_DESC) String connectionsIdleTimeout,
+            @Param(value = HttpClientInputs.CONNECTIONS_VALIDATE_AFTER_INACTIVITY, description = CONNECTIONS_VALIDATE_AFTER_INACTIVITY_DESC) String connectionsValidateAfterInactivity,
+            @Param(value = HttpClientInputs.CONTENT_TYPE, description = CONTENT_TYPE_DESC) String contentType,
+            @Param(value = HttpClientInputs.REQUEST_CHARACTER_SET, description = REQUEST_CHARACTER_SET_DESC) String requestCharacterSet,
+            @Param(value = HttpClientInputs.RESPONSE_CHARACTER_SET, description = RESPONSE_CHARACTER_SET_DESC) String responseCharacterSet,
+            @Param(value = HttpClientInputs.FOLLOW_REDIRECTS, description = FOLLOW_REDIRECTS_DESC) String followRedirects,
+            @Param(value = HttpClientInputs.USE_COOKIES, description = USE_COOKIES_DESC) String useCookies,
+            @Param(value = HttpClientInputs.SESSION_COOKIES, description = SESSION_COOKIES_DESC) SerializableSessionObject httpClientCookieSession,
+            @Param(value = HttpClientInputs.SESSION_CONNECTION_POOL, description = SESSION_CONNECTION_POOL_DESC) GlobalSessionObject httpClientPoolingConnectionManager,
+            @Param(value = HttpClientInputs.COMPACT_COOKIES, description = COMPACT_COOKIES_DESC) String compactCookies) {
+
+        HttpClientInputs httpClientInputs = new HttpClientInputs();
+        httpClientInputs.setAuthType(authType);
+        httpClientInputs.setPreemptiveAuth(preemptiveAuth);
+        httpClientInputs.setUsername(username);
+        httpClientInputs.setPassword(password);
+        httpClientInputs.setProxyHost(proxyHost);
+        httpClientInputs.setProxyPort(proxyPort);
+        httpClientInputs.setProxyUsername(proxyUsername);
+        httpClientInputs.setProxyPassword(proxyPassword);
+        httpClientInputs.setTlsVersion(tlsVersion);
+        httpClientInputs.setAllowedCyphers(allowedCyphers);
+        httpClientInputs.setTrustAllRoots(trustAllRoots);
+        httpClientInputs.setX509HostnameVerifier(x509HostnameVerifier);
+        httpClientInputs.setTrustKeystore(defaultIfEmpty(trustKeystore, DEFAULT_JAVA_KEYSTORE));
+        httpClientInputs.setTrustPassword(defaultIfEmpty(trustPassword, CHANGEIT));
+        httpClientInputs.setKeystore(defaultIfEmpty(keystore, DEFAULT_JAVA_KEYSTORE));
+        httpClientInputs.setKeystorePassword(defaultIfEmpty(keystorePassword, CHANGEIT));
+        httpClientInputs.setConnectTimeout(connectTimeout);
+        httpClientInputs.setSocketTimeout(socketTimeout);
+        httpClientInputs.setKeepAlive(keepAlive);
+        httpClientInputs.setConnectionsMaxPerRoute(connectionsMaxPerRoute);
+        httpClientInputs.setConnectionsMaxTotal(connectionsMaxTotal);
+        httpClientInputs.setConnectionsTimeToLive(connectionsTimeToLive);
+        httpClientInputs.setConnectionsIdleTimeout(connectionsIdleTimeout);
+        httpClientInputs.setConnectionsValidateAfterInactivity(connectionsValidateAfterInactivity);
+        httpClientInputs.setContentType(contentType);
+        httpClientInputs.setRequestCharacterSet(requestCharacterSet);
+        httpClientInputs.setResponseCharacterSet(responseCharacterSet);
+        httpClientInputs.setFollowRedirects(followRedirects);
+        httpClientInputs.setUseCookies(useCookies);
+        httpClientInputs.setCookieStoreSessionObject(httpClientCookieSession);
+        httpClientInputs.setConnectionPoolSessionObject(httpClientPoolingConnectionManager);
+        httpClientInputs.setCompactCookies(compactCookies);
+
+        try {
+            return new HttpClientBatchService().execute(httpClientInputs, requests, concurrency);
+        } catch (Exception e) {
+            return getFailureResultsMap(e);
+        }
+    }
+}
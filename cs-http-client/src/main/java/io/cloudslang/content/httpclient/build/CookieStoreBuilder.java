@@ -20,11 +20,18 @@ package io.cloudslang.content.httpclient.build;
 import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.client.CookieStore;
-import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.cookie.Cookie;
 
 import java.io.*;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class CookieStoreBuilder {
+    //the byte arrays are compared by identity, an entry lives as long as the session object holds its value
+    private static final Map<byte[], SessionCookieStore> LIVE_COOKIE_STORES = Collections.synchronizedMap(
+            new WeakHashMap<byte[], SessionCookieStore>());
+
     private String useCookies = "true";
     private SerializableSessionObject cookieStoreSessionObject;
 
@@ -42,21 +49,75 @@ public class CookieStoreBuilder {
 
     public CookieStore buildCookieStore() {
         if (Boolean.parseBoolean(useCookies) && cookieStoreSessionObject != null) {
-            BasicCookieStore cookieStore;
-            if (cookieStoreSessionObject.getValue() == null) {
-                cookieStore = new BasicCookieStore();
-            } else {
-                try {
-                    cookieStore = (BasicCookieStore) deserialize((byte[]) cookieStoreSessionObject.getValue());
-                } catch (IOException | ClassNotFoundException e) {
-                    throw new RuntimeException(e.getMessage(), e);
-                }
+            Serializable value = cookieStoreSessionObject.getValue();
+            if (value == null) {
+                return new SessionCookieStore();
+            }
+            //the store built for the last saved value is reused as long as it has no unsaved changes
+            SessionCookieStore cookieStore = value instanceof byte[] ? LIVE_COOKIE_STORES.get(value) : null;
+            if (cookieStore == null || cookieStore.isDirty()) {
+                cookieStore = toCookieStore(value);
             }
             return cookieStore;
         }
         return null;
     }
 
+    public static void saveCookieStore(SerializableSessionObject cookieStoreSessionObject, CookieStore cookieStore) throws IOException {
+        saveCookieStore(cookieStoreSessionObject, cookieStore, false);
+    }
+
+    /**
+     * Saves the cookie store in the session object, unless it did not change since it was last saved in the same form.
+     *
+     * @param compact if this is true the cookies are saved in the compact form, that the older versions cannot read.
+     */
+    public static void saveCookieStore(SerializableSessionObject cookieStoreSessionObject, CookieStore cookieStore,
+                                       boolean compact) throws IOException {
+        if (cookieStore instanceof SessionCookieStore) {
+            SessionCookieStore sessionCookieStore = (SessionCookieStore) cookieStore;
+            Serializable value = cookieStoreSessionObject.getValue();
+            if (!sessionCookieStore.isDirty() && value instanceof byte[] && LIVE_COOKIE_STORES.get(value) == sessionCookieStore
+                    && CookieStoreCodec.isCompact((byte[]) value) == compact) {
+                return;
+            }
+            //the previous value no longer matches the store
+            if (value instanceof byte[]) {
+                LIVE_COOKIE_STORES.remove(value);
+            }
+            byte[] encoded = CookieStoreCodec.encode(sessionCookieStore, compact);
+            sessionCookieStore.setDirty(false);
+            LIVE_COOKIE_STORES.put(encoded, sessionCookieStore);
+            cookieStoreSessionObject.setValue(encoded);
+        } else {
+            cookieStoreSessionObject.setValue(CookieStoreCodec.encode(cookieStore, compact));
+        }
+    }
+
+    /**
+     * @return a new cookie store with the cookies from a cookie session object value.
+     */
+    public static SessionCookieStore toCookieStore(Serializable value) {
+        SessionCookieStore cookieStore;
+        if (value == null) {
+            cookieStore = new SessionCookieStore();
+        } else if (value instanceof CookieStore) {
+            cookieStore = new SessionCookieStore();
+            for (Cookie cookie : ((CookieStore) value).getCookies()) {
+                cookieStore.addCookie(cookie);
+            }
+            cookieStore.setDirty(false);
+        } else {
+            try {
+                cookieStore = CookieStoreCodec.decode((byte[]) value);
+            } catch (IOException | ClassNotFoundException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+            LIVE_COOKIE_STORES.put((byte[]) value, cookieStore);
+        }
+        return cookieStore;
+    }
+
     public static byte[] serialize(Object obj) throws IOException {
         ByteArrayOutputStream b = new ByteArrayOutputStream();
         ObjectOutputStream o = new ObjectOutputStream(b);
@@ -0,0 +1,211 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build;
+
+import org.apache.http.client.CookieStore;
+import org.apache.http.cookie.ClientCookie;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.impl.cookie.BasicClientCookie2;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Compact binary form of a cookie store, used instead of the java serialization of the whole BasicCookieStore
+ * when it is requested. The java serialization stays the default because the older versions can only read it,
+ * and they may share the cookie session. Both forms are read.
+ */
+public class CookieStoreCodec {
+    private static final short MAGIC = 0x4353;
+    private static final byte FORMAT_VERSION = 2;
+    private static final byte BASIC_COOKIE = 1;
+    private static final byte COOKIE2 = 2;
+    private static final short JAVA_SERIALIZATION_MAGIC = (short) 0xACED;
+    private static final String[] ATTRIBUTES = new String[]{ClientCookie.VERSION_ATTR, ClientCookie.PATH_ATTR,
+            ClientCookie.DOMAIN_ATTR, ClientCookie.MAX_AGE_ATTR, ClientCookie.SECURE_ATTR, ClientCookie.COMMENT_ATTR,
+            ClientCookie.EXPIRES_ATTR, ClientCookie.PORT_ATTR, ClientCookie.COMMENTURL_ATTR, ClientCookie.DISCARD_ATTR};
+
+    /**
+     * @param compact if this is false the cookies are saved as a java serialized BasicCookieStore, like the older versions do.
+     */
+    public static byte[] encode(CookieStore cookieStore, boolean compact) throws IOException {
+        List<Cookie> cookies = cookieStore.getCookies();
+        if (!compact) {
+            BasicCookieStore basicCookieStore = new BasicCookieStore();
+            basicCookieStore.addCookies(cookies.toArray(new Cookie[cookies.size()]));
+            return CookieStoreBuilder.serialize(basicCookieStore);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + cookies.size() * 128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeShort(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        out.writeInt(cookies.size());
+        for (Cookie cookie : cookies) {
+            boolean cookie2 = cookie instanceof BasicClientCookie2;
+            out.writeByte(cookie2 ? COOKIE2 : BASIC_COOKIE);
+            writeUTF8(out, cookie.getName());
+            writeString(out, cookie.getValue());
+            writeString(out, cookie.getDomain());
+            writeString(out, cookie.getPath());
+            writeString(out, cookie.getComment());
+            writeDate(out, cookie.getExpiryDate());
+            out.writeBoolean(cookie.isSecure());
+            out.writeInt(cookie.getVersion());
+            writeDate(out, cookie instanceof BasicClientCookie ? ((BasicClientCookie) cookie).getCreationDate() : null);
+            if (cookie2) {
+                writeString(out, cookie.getCommentURL());
+                int[] ports = cookie.getPorts();
+                out.writeInt(ports == null ? -1 : ports.length);
+                if (ports != null) {
+                    for (int port : ports) {
+                        out.writeInt(port);
+                    }
+                }
+                out.writeBoolean(cookie.getExpiryDate() != null && !cookie.isPersistent());
+            }
+            writeAttributes(out, cookie);
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    public static SessionCookieStore decode(byte[] value) throws IOException, ClassNotFoundException {
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        if (isJavaSerialization(value)) {
+            CookieStore serializedCookieStore = (CookieStore) CookieStoreBuilder.deserialize(value);
+            for (Cookie cookie : serializedCookieStore.getCookies()) {
+                cookieStore.addCookie(cookie);
+            }
+            cookieStore.setDirty(false);
+            return cookieStore;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(value));
+        if (in.readShort() != MAGIC || in.readByte() != FORMAT_VERSION) {
+            throw new IOException("Unknown cookie store format");
+        }
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            boolean cookie2 = in.readByte() == COOKIE2;
+            String name = readUTF8(in);
+            String cookieValue = readString(in);
+            BasicClientCookie cookie = cookie2 ? new BasicClientCookie2(name, cookieValue) : new BasicClientCookie(name, cookieValue);
+            cookie.setDomain(readString(in));
+            cookie.setPath(readString(in));
+            cookie.setComment(readString(in));
+            cookie.setExpiryDate(readDate(in));
+            cookie.setSecure(in.readBoolean());
+            cookie.setVersion(in.readInt());
+            cookie.setCreationDate(readDate(in));
+            if (cookie2) {
+                BasicClientCookie2 basicClientCookie2 = (BasicClientCookie2) cookie;
+                basicClientCookie2.setCommentURL(readString(in));
+                int portsLength = in.readInt();
+                if (portsLength >= 0) {
+                    int[] ports = new int[portsLength];
+                    for (int j = 0; j < portsLength; j++) {
+                        ports[j] = in.readInt();
+                    }
+                    basicClientCookie2.setPorts(ports);
+                }
+                basicClientCookie2.setDiscard(in.readBoolean());
+            }
+            int attributes = in.readInt();
+            for (int j = 0; j < attributes; j++) {
+                cookie.setAttribute(readUTF8(in), readString(in));
+            }
+            cookieStore.addCookie(cookie);
+        }
+        cookieStore.setDirty(false);
+        return cookieStore;
+    }
+
+    /**
+     * @return true if the value was saved in the compact form.
+     */
+    public static boolean isCompact(byte[] value) {
+        return value.length >= 2 && (short) (((value[0] & 0xFF) << 8) | (value[1] & 0xFF)) == MAGIC;
+    }
+
+    private static boolean isJavaSerialization(byte[] value) {
+        return value.length >= 2 && (short) (((value[0] & 0xFF) << 8) | (value[1] & 0xFF)) == JAVA_SERIALIZATION_MAGIC;
+    }
+
+    private static void writeAttributes(DataOutputStream out, Cookie cookie) throws IOException {
+        if (!(cookie instanceof ClientCookie)) {
+            out.writeInt(0);
+            return;
+        }
+        ClientCookie clientCookie = (ClientCookie) cookie;
+        int count = 0;
+        for (String attribute : ATTRIBUTES) {
+            if (clientCookie.containsAttribute(attribute)) {
+                count++;
+            }
+        }
+        out.writeInt(count);
+        for (String attribute : ATTRIBUTES) {
+            if (clientCookie.containsAttribute(attribute)) {
+                writeUTF8(out, attribute);
+                writeString(out, clientCookie.getAttribute(attribute));
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeUTF8(out, value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readUTF8(in) : null;
+    }
+
+    //unlike writeUTF, the length is an int so the values longer than 65535 bytes can be written
+    private static void writeUTF8(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readUTF8(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(DataOutputStream out, Date date) throws IOException {
+        out.writeLong(date == null ? Long.MIN_VALUE : date.getTime());
+    }
+
+    private static Date readDate(DataInputStream in) throws IOException {
+        long time = in.readLong();
+        return time == Long.MIN_VALUE ? null : new Date(time);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build;
+
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.client.BasicCookieStore;
+
+import java.util.Date;
+
+/**
+ * A cookie store that remembers if it was changed since it was last saved in the cookie session object.
+ */
+public class SessionCookieStore extends BasicCookieStore {
+    private static final long serialVersionUID = -2893812478317526731L;
+
+    private transient volatile boolean dirty;
+
+    @Override
+    public synchronized void addCookie(Cookie cookie) {
+        super.addCookie(cookie);
+        dirty = true;
+    }
+
+    @Override
+    public synchronized boolean clearExpired(Date date) {
+        boolean removed = super.clearExpired(date);
+        if (removed) {
+            dirty = true;
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized void clear() {
+        super.clear();
+        dirty = true;
+    }
+
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    public void setDirty(boolean dirty) {
+        this.dirty = dirty;
+    }
+}
@@ -30,13 +30,22 @@ import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class ConnectionManagerBuilder {
+    public static final long DEFAULT_TIME_TO_LIVE = 0;
+    public static final long DEFAULT_IDLE_TIMEOUT = 0;
+    public static final long DEFAULT_VALIDATE_AFTER_INACTIVITY = 2;
+
     private GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolHolder;
     private SSLConnectionSocketFactory sslsf;
     private String connectionManagerMapKey;
     private String defaultMaxPerRoute;
     private String totalMax;
+    private String timeToLive;
+    private String idleTimeout;
+    private String validateAfterInactivity;
+    private ConnectionPoolEvictor connectionPoolEvictor = ConnectionPoolEvictor.getInstance();
 
     public ConnectionManagerBuilder setConnectionPoolHolder(GlobalSessionObject connectionPoolHolder) {
         this.connectionPoolHolder = connectionPoolHolder;
@@ -58,6 +67,26 @@ public class ConnectionManagerBuilder {
         return this;
     }
 
+    public ConnectionManagerBuilder setTimeToLive(String timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    public ConnectionManagerBuilder setIdleTimeout(String idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    public ConnectionManagerBuilder setValidateAfterInactivity(String validateAfterInactivity) {
+        this.validateAfterInactivity = validateAfterInactivity;
+        return this;
+    }
+
+    public ConnectionManagerBuilder setConnectionPoolEvictor(ConnectionPoolEvictor connectionPoolEvictor) {
+        this.connectionPoolEvictor = connectionPoolEvictor;
+        return this;
+    }
+
     public ConnectionManagerBuilder setConnectionManagerMapKey(String... connectionManagerMapKeys) {
         this.connectionManagerMapKey = buildConnectionManagerMapKey(connectionManagerMapKeys);
         return this;
@@ -76,6 +105,9 @@ public class ConnectionManagerBuilder {
 
     public PoolingHttpClientConnectionManager buildConnectionManager() {
         if (connectionPoolHolder != null) {
+            final long timeToLiveSeconds = parseSeconds(timeToLive, DEFAULT_TIME_TO_LIVE, HttpClientInputs.CONNECTIONS_TIME_TO_LIVE);
+            final long idleTimeoutMillis = TimeUnit.SECONDS.toMillis(parseSeconds(idleTimeout, DEFAULT_IDLE_TIMEOUT,
+                    HttpClientInputs.CONNECTIONS_IDLE_TIMEOUT));
             PoolingHttpClientConnectionManager connManager = null;
             synchronized (connectionPoolHolder) {
                 Map<String, PoolingHttpClientConnectionManager> connectionManagerMap
@@ -102,7 +134,13 @@ public class ConnectionManagerBuilder {
                             .register("http", PlainConnectionSocketFactory.getSocketFactory())
                             .register("https", sslsf)
                             .build();
-                    connManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+                    //the time to live can only be set when the pool is created, 0 means the connections never expire
+                    connManager = new MonitoredConnectionManager(socketFactoryRegistry, timeToLiveSeconds, TimeUnit.SECONDS);
+                    //like the time to live, the idle timeout is the one of the call that created the pool. Only the pools
+                    //with expiring or idle connections to close are cleaned by the evictor
+                    if (timeToLiveSeconds > 0 || idleTimeoutMillis > 0) {
+                        connectionPoolEvictor.register(connManager, idleTimeoutMillis);
+                    }
 
                     connectionManagerMap.put(connectionManagerMapKey, connManager);
                 }
@@ -126,8 +164,26 @@ public class ConnectionManagerBuilder {
                             + "' input should be integer" + e.getMessage(), e);
                 }
             }
+            //the connections not used for this time are checked before they are leased again, the default is 2 seconds
+            connManager.setValidateAfterInactivity((int) TimeUnit.SECONDS.toMillis(parseSeconds(validateAfterInactivity,
+                    DEFAULT_VALIDATE_AFTER_INACTIVITY, HttpClientInputs.CONNECTIONS_VALIDATE_AFTER_INACTIVITY)));
             return connManager;
         }
         return null;
     }
+
+    private static long parseSeconds(String value, long defaultValue, String inputName) {
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+        try {
+            long seconds = Long.parseLong(value);
+            if (seconds < 0) {
+                throw new IllegalArgumentException("the '" + inputName + "' input should not be negative");
+            }
+            return seconds;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("the '" + inputName + "' input should be integer" + e.getMessage(), e);
+        }
+    }
 }
\ No newline at end of file
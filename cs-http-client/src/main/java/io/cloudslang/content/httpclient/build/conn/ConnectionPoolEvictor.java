@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background task that closes the expired connections and the connections idle for longer than the
+ * idle timeout of every registered connection pool. The pools are only weakly referenced, so a pool
+ * dropped together with its session object is not kept alive by the evictor.
+ */
+public class ConnectionPoolEvictor {
+    public static final long EVICTION_INTERVAL_MILLIS = 5000;
+
+    private static final ConnectionPoolEvictor INSTANCE = new ConnectionPoolEvictor(EVICTION_INTERVAL_MILLIS);
+
+    private final long evictionIntervalMillis;
+    private final Map<PoolingHttpClientConnectionManager, Long> idleTimeouts
+            = Collections.synchronizedMap(new WeakHashMap<PoolingHttpClientConnectionManager, Long>());
+    private ScheduledExecutorService scheduler;
+
+    public ConnectionPoolEvictor(long evictionIntervalMillis) {
+        this.evictionIntervalMillis = evictionIntervalMillis;
+    }
+
+    public static ConnectionPoolEvictor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @param idleTimeoutMillis the connections idle for longer than this are closed, 0 only closes the expired ones.
+     */
+    public void register(PoolingHttpClientConnectionManager connManager, long idleTimeoutMillis) {
+        idleTimeouts.put(connManager, idleTimeoutMillis);
+        synchronized (this) {
+            if (scheduler == null) {
+                scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, "http-client-connection-evictor");
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                });
+                scheduler.scheduleWithFixedDelay(new Runnable() {
+                    @Override
+                    public void run() {
+                        evict();
+                    }
+                }, evictionIntervalMillis, evictionIntervalMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    public void unregister(PoolingHttpClientConnectionManager connManager) {
+        idleTimeouts.remove(connManager);
+    }
+
+    public int size() {
+        return idleTimeouts.size();
+    }
+
+    public void evict() {
+        List<Map.Entry<PoolingHttpClientConnectionManager, Long>> pools;
+        synchronized (idleTimeouts) {
+            pools = new ArrayList<>(idleTimeouts.entrySet());
+        }
+        for (Map.Entry<PoolingHttpClientConnectionManager, Long> pool : pools) {
+            try {
+                pool.getKey().closeExpiredConnections();
+                if (pool.getValue() > 0) {
+                    pool.getKey().closeIdleConnections(pool.getValue(), TimeUnit.MILLISECONDS);
+                }
+            } catch (RuntimeException e) {
+                //a pool that was shut down cannot be cleaned anymore
+                idleTimeouts.remove(pool.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Keeps the fully built {@link CloseableHttpClient} instances of one connection pool, so that repeated calls with the
+ * same connection settings only rebuild the request specific parts (entity, headers, credentials, cookies).
+ * The cache belongs to the connection manager the clients share, so the clients are dropped together with their
+ * pool. When the cache is full the least recently used client is dropped.
+ */
+public class HttpClientCache {
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private final int maxSize;
+    private final LinkedHashMap<String, CloseableHttpClient> clients;
+
+    public HttpClientCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.clients = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Builds the cache key out of the inputs the client depends on. Passwords are only kept as a digest.
+     */
+    public static String buildClientKey(String connectionManagerKey, String tlsVersion, String allowedCyphers,
+                                        String keystorePassword, String trustPassword, String keepAlive) {
+        return ConnectionManagerBuilder.buildConnectionManagerMapKey(connectionManagerKey,
+                StringUtils.defaultString(tlsVersion),
+                StringUtils.defaultString(allowedCyphers),
+                DigestUtils.sha256Hex(StringUtils.defaultString(keystorePassword)),
+                DigestUtils.sha256Hex(StringUtils.defaultString(trustPassword)),
+                String.valueOf(StringUtils.isEmpty(keepAlive) || Boolean.parseBoolean(keepAlive)));
+    }
+
+    /**
+     * The client is built while the cache is locked, so the concurrent calls with the same key share one client.
+     *
+     * @return the cached client for the given key or the client built by httpClientBuilder if there is none.
+     */
+    public CloseableHttpClient get(String key, HttpClientBuilder httpClientBuilder) {
+        CloseableHttpClient evicted = null;
+        CloseableHttpClient client;
+        synchronized (clients) {
+            client = clients.get(key);
+            if (client == null) {
+                client = httpClientBuilder.build();
+                clients.put(key, client);
+                if (clients.size() > maxSize) {
+                    Iterator<CloseableHttpClient> iterator = clients.values().iterator();
+                    evicted = iterator.next();
+                    iterator.remove();
+                }
+            }
+        }
+        close(evicted);
+        return client;
+    }
+
+    public int size() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    // the clients are built with a shared connection manager, so closing them leaves the pool untouched
+    private static void close(CloseableHttpClient client) {
+        if (client != null) {
+            try {
+                client.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
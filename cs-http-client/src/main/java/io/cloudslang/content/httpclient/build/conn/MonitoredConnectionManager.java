@@ -0,0 +1,127 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pooling connection manager that records how long the callers waited to lease a connection, in total and
+ * per route, so the pool limits can be tuned from the connection pool statistics. It also keeps the clients
+ * built on top of it, which are released together with the pool.
+ */
+public class MonitoredConnectionManager extends PoolingHttpClientConnectionManager {
+    private final LeaseStats totalLeaseStats = new LeaseStats();
+    private final ConcurrentMap<HttpRoute, LeaseStats> routeLeaseStats = new ConcurrentHashMap<>();
+    private final HttpClientCache clientCache = new HttpClientCache(HttpClientCache.DEFAULT_MAX_SIZE);
+
+    public MonitoredConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, long timeToLive, TimeUnit tunit) {
+        super(socketFactoryRegistry, null, null, null, timeToLive, tunit);
+    }
+
+    @Override
+    public ConnectionRequest requestConnection(final HttpRoute route, Object state) {
+        final ConnectionRequest connectionRequest = super.requestConnection(route, state);
+        return new ConnectionRequest() {
+            @Override
+            public HttpClientConnection get(long timeout, TimeUnit tunit)
+                    throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                boolean leased = false;
+                try {
+                    HttpClientConnection connection = connectionRequest.get(timeout, tunit);
+                    leased = true;
+                    return connection;
+                } finally {
+                    long waitNanos = System.nanoTime() - start;
+                    totalLeaseStats.record(waitNanos, leased);
+                    getLeaseStats(route).record(waitNanos, leased);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return connectionRequest.cancel();
+            }
+        };
+    }
+
+    public HttpClientCache getClientCache() {
+        return clientCache;
+    }
+
+    public LeaseStats getTotalLeaseStats() {
+        return totalLeaseStats;
+    }
+
+    public LeaseStats getLeaseStats(HttpRoute route) {
+        LeaseStats leaseStats = routeLeaseStats.get(route);
+        if (leaseStats == null) {
+            LeaseStats newLeaseStats = new LeaseStats();
+            leaseStats = routeLeaseStats.putIfAbsent(route, newLeaseStats);
+            if (leaseStats == null) {
+                leaseStats = newLeaseStats;
+            }
+        }
+        return leaseStats;
+    }
+
+    public static class LeaseStats {
+        private final AtomicLong leases = new AtomicLong();
+        private final AtomicLong failedLeases = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+
+        void record(long waitNanos, boolean leased) {
+            (leased ? leases : failedLeases).incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+            long max = maxWaitNanos.get();
+            while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos)) {
+                max = maxWaitNanos.get();
+            }
+        }
+
+        public long getLeases() {
+            return leases.get();
+        }
+
+        /**
+         * @return the number of lease requests that timed out, were interrupted or cancelled.
+         */
+        public long getFailedLeases() {
+            return failedLeases.get();
+        }
+
+        public double getAverageWaitMillis() {
+            long requests = leases.get() + failedLeases.get();
+            return requests == 0 ? 0 : totalWaitNanos.get() / 1e6 / requests;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos.get() / 1e6;
+        }
+    }
+}
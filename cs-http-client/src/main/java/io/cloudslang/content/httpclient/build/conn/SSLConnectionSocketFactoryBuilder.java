@@ -23,6 +23,7 @@ import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
 import org.apache.http.conn.ssl.X509HostnameVerifier;
 
+import javax.net.ssl.SSLContext;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -71,6 +72,7 @@ public class SSLConnectionSocketFactoryBuilder {
     private String x509HostnameVerifierInputValue = "strict";
     private boolean flag = false;
     private boolean hasTLS2;
+    private SSLContextCache sslContextCache = SSLContextCache.getInstance();
 
     public static boolean checkEquality(String[] subArray, String[] largeArray) {
 
@@ -112,6 +114,8 @@ public class SSLConnectionSocketFactoryBuilder {
         SSLContextBuilder sslContextBuilder = SSLContexts.custom();
         String changeit = "changeit";
         String javaKeystore = System.getProperty("java.home") + "/lib/security/cacerts";
+        String sslContextKey;
+        SSLContext sslContext;
         if (!trustAllRoots) {
             boolean useClientCert = StringUtils.isNotEmpty(keystore);
             //validate SSL certificates sent by the server
@@ -134,34 +138,48 @@ public class SSLConnectionSocketFactoryBuilder {
             } else if (useTrustCert && !trustKeystore.startsWith("http")) {
                 trustKeystore = "file:" + trustKeystore;
             }
-            createTrustKeystore(sslContextBuilder, useTrustCert);
-            //todo client key authentication should not depend on 'trustAllRoots'
-            createKeystore(sslContextBuilder, useClientCert);
+            sslContextKey = SSLContextCache.buildSSLContextKey(false, useClientCert ? keystore : null, keystorePassword,
+                    useTrustCert ? trustKeystore : null, trustPassword);
+            sslContext = sslContextCache.get(sslContextKey);
+            if (sslContext == null) {
+                createTrustKeystore(sslContextBuilder, useTrustCert);
+                //todo client key authentication should not depend on 'trustAllRoots'
+                createKeystore(sslContextBuilder, useClientCert);
+            }
         } else {
-            try {
-                //need to override isTrusted() method to accept CA certs because the Apache HTTP Client ver.4.3 will only accepts self-signed certificates
-                KeyStore keyStore = createKeyStore(new URL("file:" + keystore), keystorePassword);
-                sslContextBuilder.loadKeyMaterial(keyStore, keystorePassword.toCharArray());
-
-                String internalJavaKeystoreUri = "file:" + javaKeystore;
-                KeyStore javaTrustStore = createKeyStore(new URL(internalJavaKeystoreUri), changeit);
-                sslContextBuilder.loadTrustMaterial(javaTrustStore, new TrustSelfSignedStrategy() {
-                    @Override
-                    public boolean isTrusted(X509Certificate[] chain, String authType)
-                            throws CertificateException {
-                        return true;
-                    }
-                });
-            } catch (Exception e) {
-                throw new IllegalArgumentException(e.getMessage() + ". " + TRUST_ALL_ROOTS_ERROR + trustAllRoots, e);
+            String internalJavaKeystoreUri = "file:" + javaKeystore;
+            sslContextKey = SSLContextCache.buildSSLContextKey(true, "file:" + keystore, keystorePassword,
+                    internalJavaKeystoreUri, changeit);
+            sslContext = sslContextCache.get(sslContextKey);
+            if (sslContext == null) {
+                try {
+                    //need to override isTrusted() method to accept CA certs because the Apache HTTP Client ver.4.3 will only accepts self-signed certificates
+                    KeyStore keyStore = createKeyStore(new URL("file:" + keystore), keystorePassword);
+                    sslContextBuilder.loadKeyMaterial(keyStore, keystorePassword.toCharArray());
+
+                    KeyStore javaTrustStore = createKeyStore(new URL(internalJavaKeystoreUri), changeit);
+                    sslContextBuilder.loadTrustMaterial(javaTrustStore, new TrustSelfSignedStrategy() {
+                        @Override
+                        public boolean isTrusted(X509Certificate[] chain, String authType)
+                                throws CertificateException {
+                            return true;
+                        }
+                    });
+                } catch (Exception e) {
+                    throw new IllegalArgumentException(e.getMessage() + ". " + TRUST_ALL_ROOTS_ERROR + trustAllRoots, e);
+                }
             }
         }
 
-        sslContextBuilder.useSSL();
-        sslContextBuilder.useTLS();
-
         SSLConnectionSocketFactory sslsf = null;
         try {
+            if (sslContext == null) {
+                sslContextBuilder.useSSL();
+                sslContextBuilder.useTLS();
+                sslContext = sslContextBuilder.build();
+                sslContextCache.put(sslContextKey, sslContext);
+            }
+
             String x509HostnameVerifierStr = x509HostnameVerifierInputValue.toLowerCase();
 
             X509HostnameVerifier x509HostnameVerifier;
@@ -196,15 +214,15 @@ public class SSLConnectionSocketFactoryBuilder {
 
                 if (flag) {
                     if (cypherArray != null) {
-                        sslsf = new SSLConnectionSocketFactory(sslContextBuilder.build(), ARRAY_TLSv12, cypherArray, x509HostnameVerifier);
+                        sslsf = new SSLConnectionSocketFactory(sslContext, ARRAY_TLSv12, cypherArray, x509HostnameVerifier);
                     } else {
-                        sslsf = new SSLConnectionSocketFactory(sslContextBuilder.build(), protocolArray, null, x509HostnameVerifier);
+                        sslsf = new SSLConnectionSocketFactory(sslContext, protocolArray, null, x509HostnameVerifier);
                     }
                 } else {
-                    sslsf = new SSLConnectionSocketFactory(sslContextBuilder.build(), protocolArray, null, x509HostnameVerifier);
+                    sslsf = new SSLConnectionSocketFactory(sslContext, protocolArray, null, x509HostnameVerifier);
                 }
             } else {
-                sslsf = new SSLConnectionSocketFactory(sslContextBuilder.build(), SUPPORTED_PROTOCOLS, null, x509HostnameVerifier);
+                sslsf = new SSLConnectionSocketFactory(sslContext, SUPPORTED_PROTOCOLS, null, x509HostnameVerifier);
             }
 
         } catch (Exception e) {
@@ -245,6 +263,11 @@ public class SSLConnectionSocketFactoryBuilder {
         }
     }
 
+    public SSLConnectionSocketFactoryBuilder setSslContextCache(SSLContextCache sslContextCache) {
+        this.sslContextCache = sslContextCache;
+        return this;
+    }
+
     public SSLConnectionSocketFactoryBuilder setTrustAllRoots(String trustAllRoots) {
         if (!StringUtils.isEmpty(trustAllRoots)) {
             this.trustAllRootsStr = trustAllRoots;
@@ -0,0 +1,115 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.net.ssl.SSLContext;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the SSLContexts built out of the keystore and trust keystore files, so the stores are not read and decrypted
+ * on every call and the TLS sessions cached by the SSLContext can be resumed.
+ * The key contains the last modification time and the size of the files, so a changed keystore gets a new entry
+ * and the stale one ages out of the cache.
+ */
+public class SSLContextCache {
+    public static final int DEFAULT_MAX_SIZE = 50;
+    private static final String FILE_PROTOCOL = "file:";
+
+    private static final SSLContextCache INSTANCE = new SSLContextCache(DEFAULT_MAX_SIZE);
+
+    private final Map<String, SSLContext> sslContexts;
+
+    public SSLContextCache(final int maxSize) {
+        this.sslContexts = new LinkedHashMap<String, SSLContext>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, SSLContext> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static SSLContextCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * @return the key of the SSLContext or null if one of the stores is not a local file, in which case
+     * the changes of the store can not be detected and the SSLContext should not be cached.
+     */
+    public static String buildSSLContextKey(boolean trustAllRoots, String keystoreUrl, String keystorePassword,
+                                            String trustKeystoreUrl, String trustPassword) {
+        String keystoreVersion = getFileVersion(keystoreUrl);
+        String trustKeystoreVersion = getFileVersion(trustKeystoreUrl);
+        if (keystoreVersion == null || trustKeystoreVersion == null) {
+            return null;
+        }
+        return ConnectionManagerBuilder.buildConnectionManagerMapKey(String.valueOf(trustAllRoots),
+                StringUtils.defaultString(keystoreUrl),
+                keystoreVersion,
+                DigestUtils.sha256Hex(StringUtils.defaultString(keystorePassword)),
+                StringUtils.defaultString(trustKeystoreUrl),
+                trustKeystoreVersion,
+                DigestUtils.sha256Hex(StringUtils.defaultString(trustPassword)));
+    }
+
+    private static String getFileVersion(String storeUrl) {
+        if (StringUtils.isEmpty(storeUrl)) {
+            return StringUtils.EMPTY;
+        }
+        if (!storeUrl.startsWith(FILE_PROTOCOL)) {
+            return null;
+        }
+        File storeFile = new File(storeUrl.substring(FILE_PROTOCOL.length()));
+        return storeFile.lastModified() + "-" + storeFile.length();
+    }
+
+    public SSLContext get(String key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (sslContexts) {
+            return sslContexts.get(key);
+        }
+    }
+
+    public void put(String key, SSLContext sslContext) {
+        if (key == null || sslContext == null) {
+            return;
+        }
+        synchronized (sslContexts) {
+            sslContexts.put(key, sslContext);
+        }
+    }
+
+    public int size() {
+        synchronized (sslContexts) {
+            return sslContexts.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (sslContexts) {
+            sslContexts.clear();
+        }
+    }
+}
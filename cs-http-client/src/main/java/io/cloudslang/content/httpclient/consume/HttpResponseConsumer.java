@@ -19,6 +19,8 @@ package io.cloudslang.content.httpclient.consume;
 
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
 import io.cloudslang.content.httpclient.services.HttpClientService;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.Consts;
@@ -28,7 +30,16 @@ import org.apache.http.NameValuePair;
 import org.apache.http.message.BasicHeaderValueParser;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Map;
 
 /**
@@ -37,9 +48,15 @@ import java.util.Map;
  * Date: 7/28/14
  */
 public class HttpResponseConsumer {
+    public static final int BINARY_BUFFER_SIZE = 64 * 1024;
+    public static final String CHECKSUM_ALGORITHM = "SHA-256";
+
     private HttpResponse httpResponse;
     private String responseCharacterSet;
     private String destinationFile;
+    private String binaryResponse;
+    private String computeChecksum;
+    private String maxResponseSize;
 
     public HttpResponseConsumer setHttpResponse(HttpResponse httpResponse) {
         this.httpResponse = httpResponse;
@@ -56,6 +73,21 @@ public class HttpResponseConsumer {
         return this;
     }
 
+    public HttpResponseConsumer setBinaryResponse(String binaryResponse) {
+        this.binaryResponse = binaryResponse;
+        return this;
+    }
+
+    public HttpResponseConsumer setComputeChecksum(String computeChecksum) {
+        this.computeChecksum = computeChecksum;
+        return this;
+    }
+
+    public HttpResponseConsumer setMaxResponseSize(String maxResponseSize) {
+        this.maxResponseSize = maxResponseSize;
+        return this;
+    }
+
     public void consume(Map<String, String> result) throws IOException {
         if (httpResponse.getEntity() != null) {
             if (responseCharacterSet == null || responseCharacterSet.isEmpty()) {
@@ -79,7 +111,9 @@ public class HttpResponseConsumer {
     }
 
     protected void consumeResponseContent(Map<String, String> result) throws IOException {
-        if (StringUtils.isEmpty(destinationFile)) {
+        if (Boolean.parseBoolean(binaryResponse)) {
+            consumeResponseBytes(result);
+        } else if (StringUtils.isEmpty(destinationFile)) {
             String document;
             try {
                 document = IOUtils.toString(httpResponse.getEntity().getContent(), responseCharacterSet);
@@ -121,6 +155,94 @@ public class HttpResponseConsumer {
         }
     }
 
+    /**
+     * Copies the entity as raw bytes, without decoding it, either in the destination file or in memory, in which case
+     * the returned result is the content encoded in base64.
+     * The checksum of the content is computed while it is copied.
+     */
+    private void consumeResponseBytes(Map<String, String> result) throws IOException {
+        MessageDigest digest = Boolean.parseBoolean(computeChecksum) ? createDigest() : null;
+        long startTime = System.nanoTime();
+        long totalBytes;
+        ReadableByteChannel source = Channels.newChannel(httpResponse.getEntity().getContent());
+        try {
+            if (StringUtils.isEmpty(destinationFile)) {
+                long maxSize = parseMaxResponseSize();
+                long contentLength = httpResponse.getEntity().getContentLength();
+                if (maxSize >= 0 && contentLength > maxSize) {
+                    throw new IllegalArgumentException(responseTooLargeMessage(maxSize));
+                }
+                ByteArrayOutputStream document = new ByteArrayOutputStream(contentLength > 0 && contentLength < Integer.MAX_VALUE ?
+                        (int) contentLength : BINARY_BUFFER_SIZE);
+                totalBytes = copy(source, Channels.newChannel(document), digest, maxSize, ByteBuffer.allocate(BINARY_BUFFER_SIZE));
+                //decoding the bytes with a character set would corrupt a binary payload
+                result.put(HttpClientService.RETURN_RESULT, Base64.encodeBase64String(document.toByteArray()));
+            } else {
+                FileChannel fileChannel = FileChannel.open(Paths.get(destinationFile), StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                try {
+                    totalBytes = copy(source, fileChannel, digest, -1, ByteBuffer.allocateDirect(BINARY_BUFFER_SIZE));
+                } finally {
+                    safeClose(fileChannel);
+                }
+            }
+        } finally {
+            safeClose(source);
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+
+        result.put(HttpClientService.TOTAL_BYTES, String.valueOf(totalBytes));
+        result.put(HttpClientService.BYTES_PER_SECOND, String.valueOf(totalBytes * 1_000_000_000L / elapsedNanos));
+        if (digest != null) {
+            result.put(HttpClientService.RESPONSE_CHECKSUM, Hex.encodeHexString(digest.digest()));
+        }
+    }
+
+    private long copy(ReadableByteChannel source, WritableByteChannel target, MessageDigest digest, long maxSize,
+                      ByteBuffer buffer) throws IOException {
+        long totalBytes = 0;
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            totalBytes += buffer.remaining();
+            if (maxSize >= 0 && totalBytes > maxSize) {
+                throw new IllegalArgumentException(responseTooLargeMessage(maxSize));
+            }
+            if (digest != null) {
+                digest.update(buffer.duplicate());
+            }
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            buffer.clear();
+        }
+        return totalBytes;
+    }
+
+    private long parseMaxResponseSize() {
+        if (StringUtils.isEmpty(maxResponseSize)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(maxResponseSize);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("the '" + HttpClientInputs.MAX_RESPONSE_SIZE
+                    + "' input should be integer" + e.getMessage(), e);
+        }
+    }
+
+    private static String responseTooLargeMessage(long maxSize) {
+        return "The response entity is larger than the '" + HttpClientInputs.MAX_RESPONSE_SIZE + "' of " + maxSize
+                + " bytes. Use the '" + HttpClientInputs.DESTINATION_FILE + "' input to save it on disk.";
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
     private void safeClose(Closeable closeable) {
         if (closeable != null) {
             try {
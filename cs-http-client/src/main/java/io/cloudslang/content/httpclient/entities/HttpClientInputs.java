@@ -62,6 +62,9 @@ public class HttpClientInputs {
     public static final String KEEP_ALIVE = "keepAlive";
     public static final String CONNECTIONS_MAX_PER_ROUTE = "connectionsMaxPerRoute";
     public static final String CONNECTIONS_MAX_TOTAL = "connectionsMaxTotal";
+    public static final String CONNECTIONS_TIME_TO_LIVE = "connectionsTimeToLive";
+    public static final String CONNECTIONS_IDLE_TIMEOUT = "connectionsIdleTimeout";
+    public static final String CONNECTIONS_VALIDATE_AFTER_INACTIVITY = "connectionsValidateAfterInactivity";
     public static final String HEADERS = "headers";
     public static final String RESPONSE_CHARACTER_SET = "responseCharacterSet";
     public static final String DESTINATION_FILE = "destinationFile";
@@ -71,6 +74,12 @@ public class HttpClientInputs {
     public static final String MULTIPART_FILES_CONTENT_TYPE = "multipartFilesContentType";
     public static final String MULTIPART_VALUES_ARE_URLENCODED = "multipartValuesAreURLEncoded";
     public static final String CHUNKED_REQUEST_ENTITY = "chunkedRequestEntity";
+    public static final String BINARY_RESPONSE = "binaryResponse";
+    public static final String COMPUTE_CHECKSUM = "computeChecksum";
+    public static final String MAX_RESPONSE_SIZE = "maxResponseSize";
+    public static final String COMPACT_COOKIES = "compactCookies";
+    public static final String REQUESTS = "requests";
+    public static final String CONCURRENCY = "concurrency";
 
     public final static String SESSION_CONNECTION_POOL = "httpClientPoolingConnectionManager";
     public final static String SESSION_COOKIES = "httpClientCookieSession";
@@ -99,6 +108,9 @@ public class HttpClientInputs {
     private String keepAlive;
     private String connectionsMaxPerRoute;
     private String connectionsMaxTotal;
+    private String connectionsTimeToLive;
+    private String connectionsIdleTimeout;
+    private String connectionsValidateAfterInactivity;
     private String headers;
     private String responseCharacterSet;
     private String destinationFile;
@@ -117,6 +129,10 @@ public class HttpClientInputs {
     private String multipartBodiesContentType;
     private String multipartFilesContentType;
     private String chunkedRequestEntity;
+    private String binaryResponse;
+    private String computeChecksum;
+    private String maxResponseSize;
+    private String compactCookies;
     private String method;
     private String tlsVersion;
     private String allowedCyphers;
@@ -333,6 +349,30 @@ public class HttpClientInputs {
         this.connectionsMaxTotal = connectionsMaxTotal;
     }
 
+    public String getConnectionsTimeToLive() {
+        return connectionsTimeToLive;
+    }
+
+    public void setConnectionsTimeToLive(String connectionsTimeToLive) {
+        this.connectionsTimeToLive = connectionsTimeToLive;
+    }
+
+    public String getConnectionsIdleTimeout() {
+        return connectionsIdleTimeout;
+    }
+
+    public void setConnectionsIdleTimeout(String connectionsIdleTimeout) {
+        this.connectionsIdleTimeout = connectionsIdleTimeout;
+    }
+
+    public String getConnectionsValidateAfterInactivity() {
+        return connectionsValidateAfterInactivity;
+    }
+
+    public void setConnectionsValidateAfterInactivity(String connectionsValidateAfterInactivity) {
+        this.connectionsValidateAfterInactivity = connectionsValidateAfterInactivity;
+    }
+
     public String getHeaders() {
         return headers;
     }
@@ -485,6 +525,38 @@ public class HttpClientInputs {
         this.chunkedRequestEntity = chunkedRequestEntity;
     }
 
+    public String getBinaryResponse() {
+        return binaryResponse;
+    }
+
+    public void setBinaryResponse(String binaryResponse) {
+        this.binaryResponse = binaryResponse;
+    }
+
+    public String getComputeChecksum() {
+        return computeChecksum;
+    }
+
+    public void setComputeChecksum(String computeChecksum) {
+        this.computeChecksum = computeChecksum;
+    }
+
+    public String getMaxResponseSize() {
+        return maxResponseSize;
+    }
+
+    public void setMaxResponseSize(String maxResponseSize) {
+        this.maxResponseSize = maxResponseSize;
+    }
+
+    public String getCompactCookies() {
+        return compactCookies;
+    }
+
+    public void setCompactCookies(String compactCookies) {
+        this.compactCookies = compactCookies;
+    }
+
     public SerializableSessionObject getCookieStoreSessionObject() {
         return cookieStoreSessionObject;
     }
@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.httpclient.services;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.httpclient.build.conn.MonitoredConnectionManager;
+import io.cloudslang.content.httpclient.build.conn.MonitoredConnectionManager.LeaseStats;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_RESULT;
+import static io.cloudslang.content.httpclient.services.HttpClientService.SUCCESS;
+
+/**
+ * Reports the usage of the connection pools kept in the connection pool session object: the leased, available
+ * and pending connections of every pool and route and, for the pools created by this version, the lease wait times.
+ */
+public class ConnectionPoolStatsService {
+    public static final String POOL_KEY = "poolKey";
+    public static final String ROUTE = "route";
+    public static final String ROUTES = "routes";
+    public static final String MAX_TOTAL = "maxTotal";
+    public static final String DEFAULT_MAX_PER_ROUTE = "defaultMaxPerRoute";
+    public static final String MAX = "max";
+    public static final String LEASED = "leased";
+    public static final String AVAILABLE = "available";
+    public static final String PENDING = "pending";
+    public static final String LEASES = "leases";
+    public static final String FAILED_LEASES = "failedLeases";
+    public static final String AVERAGE_LEASE_WAIT_MILLIS = "averageLeaseWaitMillis";
+    public static final String MAX_LEASE_WAIT_MILLIS = "maxLeaseWaitMillis";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public Map<String, String> execute(GlobalSessionObject<Map<String, PoolingHttpClientConnectionManager>> connectionPoolHolder) {
+        Map<String, PoolingHttpClientConnectionManager> connectionManagers = new TreeMap<>();
+        if (connectionPoolHolder != null) {
+            synchronized (connectionPoolHolder) {
+                Map<String, PoolingHttpClientConnectionManager> connectionManagerMap = connectionPoolHolder.get();
+                if (connectionManagerMap != null) {
+                    connectionManagers.putAll(connectionManagerMap);
+                }
+            }
+        }
+
+        ArrayNode pools = OBJECT_MAPPER.createArrayNode();
+        for (Map.Entry<String, PoolingHttpClientConnectionManager> connectionManager : connectionManagers.entrySet()) {
+            pools.add(buildPoolStats(connectionManager.getKey(), connectionManager.getValue()));
+        }
+
+        Map<String, String> result = new HashMap<>();
+        try {
+            result.put(RETURN_RESULT, OBJECT_MAPPER.writeValueAsString(pools));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+        result.put(RETURN_CODE, SUCCESS);
+        return result;
+    }
+
+    private ObjectNode buildPoolStats(String poolKey, PoolingHttpClientConnectionManager connManager) {
+        ObjectNode pool = OBJECT_MAPPER.createObjectNode();
+        pool.put(POOL_KEY, poolKey);
+        pool.put(MAX_TOTAL, connManager.getMaxTotal());
+        pool.put(DEFAULT_MAX_PER_ROUTE, connManager.getDefaultMaxPerRoute());
+        putPoolStats(pool, connManager.getTotalStats());
+        MonitoredConnectionManager monitoredConnManager = connManager instanceof MonitoredConnectionManager
+                ? (MonitoredConnectionManager) connManager : null;
+        if (monitoredConnManager != null) {
+            putLeaseStats(pool, monitoredConnManager.getTotalLeaseStats());
+        }
+
+        ArrayNode routes = pool.putArray(ROUTES);
+        List<HttpRoute> httpRoutes = new ArrayList<>(connManager.getRoutes());
+        for (HttpRoute httpRoute : httpRoutes) {
+            ObjectNode route = routes.addObject();
+            route.put(ROUTE, httpRoute.toString());
+            PoolStats routeStats = connManager.getStats(httpRoute);
+            route.put(MAX, routeStats.getMax());
+            putPoolStats(route, routeStats);
+            if (monitoredConnManager != null) {
+                putLeaseStats(route, monitoredConnManager.getLeaseStats(httpRoute));
+            }
+        }
+        return pool;
+    }
+
+    private static void putPoolStats(ObjectNode node, PoolStats poolStats) {
+        node.put(LEASED, poolStats.getLeased());
+        node.put(AVAILABLE, poolStats.getAvailable());
+        node.put(PENDING, poolStats.getPending());
+    }
+
+    private static void putLeaseStats(ObjectNode node, LeaseStats leaseStats) {
+        node.put(LEASES, leaseStats.getLeases());
+        node.put(FAILED_LEASES, leaseStats.getFailedLeases());
+        node.put(AVERAGE_LEASE_WAIT_MILLIS, leaseStats.getAverageWaitMillis());
+        node.put(MAX_LEASE_WAIT_MILLIS, leaseStats.getMaxWaitMillis());
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.services;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
+import io.cloudslang.content.httpclient.build.CookieStoreBuilder;
+import io.cloudslang.content.httpclient.build.SessionCookieStore;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.entities.HttpRequestSpec;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.cloudslang.content.httpclient.services.HttpClientService.EXCEPTION;
+import static io.cloudslang.content.httpclient.services.HttpClientService.REASON_PHRASE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RESPONSE_HEADERS;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_RESULT;
+import static io.cloudslang.content.httpclient.services.HttpClientService.STATUS_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.SUCCESS;
+
+/**
+ * Runs a list of requests concurrently. All the requests share the inputs of the batch (authentication, TLS,
+ * proxy, timeouts) and the pooled connection manager, only the url, method, body and headers differ.
+ */
+public class HttpClientBatchService {
+    public static final int DEFAULT_CONCURRENCY = 10;
+    public static final String FAILURE = "-1";
+    public static final String INDEX = "index";
+    public static final String URL = "url";
+    public static final String METHOD = "method";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    public Map<String, String> execute(final HttpClientInputs batchInputs, String requests, String concurrency) {
+        List<HttpRequestSpec> requestSpecs = parseRequests(requests);
+        int threads = Math.min(parseConcurrency(concurrency), requestSpecs.size());
+
+        //all the requests must go through the same connection pool. A pool created for the batch must allow all the
+        //requests at once, the limits of a pool shared with other operations are only changed by the inputs
+        final GlobalSessionObject connectionPool;
+        final String connectionsMaxPerRoute;
+        final String connectionsMaxTotal;
+        final boolean ownConnectionPool = batchInputs.getConnectionPoolSessionObject() == null;
+        if (ownConnectionPool) {
+            connectionPool = new GlobalSessionObject();
+            connectionsMaxPerRoute = StringUtils.defaultIfEmpty(batchInputs.getConnectionsMaxPerRoute(), String.valueOf(threads));
+            connectionsMaxTotal = StringUtils.defaultIfEmpty(batchInputs.getConnectionsMaxTotal(), String.valueOf(Math.max(20, threads)));
+        } else {
+            connectionPool = batchInputs.getConnectionPoolSessionObject();
+            connectionsMaxPerRoute = batchInputs.getConnectionsMaxPerRoute();
+            connectionsMaxTotal = batchInputs.getConnectionsMaxTotal();
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<HttpClientInputs> requestInputs = new ArrayList<>();
+            List<Future<Map<String, String>>> futures = new ArrayList<>();
+            for (final HttpRequestSpec requestSpec : requestSpecs) {
+                final HttpClientInputs inputs = buildRequestInputs(batchInputs, requestSpec);
+                inputs.setConnectionPoolSessionObject(connectionPool);
+                inputs.setConnectionsMaxPerRoute(connectionsMaxPerRoute);
+                inputs.setConnectionsMaxTotal(connectionsMaxTotal);
+                requestInputs.add(inputs);
+                futures.add(executorService.submit(new Callable<Map<String, String>>() {
+                    @Override
+                    public Map<String, String> call() {
+                        return new HttpClientService().execute(inputs);
+                    }
+                }));
+            }
+
+            ArrayNode results = OBJECT_MAPPER.createArrayNode();
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(buildResult(i, requestSpecs.get(i), getResult(futures.get(i))));
+            }
+            mergeCookies(batchInputs, requestInputs);
+
+            Map<String, String> result = new HashMap<>();
+            result.put(RETURN_RESULT, OBJECT_MAPPER.writeValueAsString(results));
+            result.put(RETURN_CODE, SUCCESS);
+            return result;
+        } catch (IOException e) {
+            throw new RuntimeException(e.getMessage(), e);
+        } finally {
+            executorService.shutdownNow();
+            if (ownConnectionPool) {
+                shutdownConnectionManagers(connectionPool);
+            }
+        }
+    }
+
+    //the pool created for the batch is not used by anyone else once the requests completed
+    private static void shutdownConnectionManagers(GlobalSessionObject connectionPool) {
+        Object connectionManagers = connectionPool.get();
+        if (connectionManagers instanceof Map) {
+            for (Object connManager : ((Map<?, ?>) connectionManagers).values()) {
+                ((PoolingHttpClientConnectionManager) connManager).shutdown();
+            }
+        }
+    }
+
+    /**
+     * Saves in the cookie session of the batch the cookies set by the responses, like running the requests one by one
+     * would. The cookies of the batch are kept unless a response removed them, then the cookies added or changed by
+     * the responses are applied in the order of the requests.
+     */
+    private static void mergeCookies(HttpClientInputs batchInputs, List<HttpClientInputs> requestInputs) throws IOException {
+        SerializableSessionObject cookieStoreSessionObject = batchInputs.getCookieStoreSessionObject();
+        if (cookieStoreSessionObject == null || !Boolean.parseBoolean(StringUtils.defaultIfEmpty(batchInputs.getUseCookies(), "true"))) {
+            return;
+        }
+        List<Cookie> batchCookies = CookieStoreBuilder.toCookieStore(cookieStoreSessionObject.getValue()).getCookies();
+        List<List<Cookie>> requestCookies = new ArrayList<>();
+        for (HttpClientInputs inputs : requestInputs) {
+            requestCookies.add(CookieStoreBuilder.toCookieStore(inputs.getCookieStoreSessionObject().getValue()).getCookies());
+        }
+
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        for (Cookie cookie : batchCookies) {
+            boolean kept = true;
+            for (List<Cookie> cookies : requestCookies) {
+                kept &= findCookie(cookies, cookie) != null;
+            }
+            if (kept) {
+                cookieStore.addCookie(cookie);
+            }
+        }
+        for (List<Cookie> cookies : requestCookies) {
+            for (Cookie cookie : cookies) {
+                Cookie batchCookie = findCookie(batchCookies, cookie);
+                if (batchCookie == null || !StringUtils.equals(batchCookie.getValue(), cookie.getValue())
+                        || !Objects.equals(batchCookie.getExpiryDate(), cookie.getExpiryDate())) {
+                    cookieStore.addCookie(cookie);
+                }
+            }
+        }
+        CookieStoreBuilder.saveCookieStore(cookieStoreSessionObject, cookieStore, Boolean.parseBoolean(batchInputs.getCompactCookies()));
+    }
+
+    //the cookies with the same name, domain and path replace each other
+    private static Cookie findCookie(List<Cookie> cookies, Cookie cookie) {
+        for (Cookie candidate : cookies) {
+            if (StringUtils.equals(candidate.getName(), cookie.getName())
+                    && StringUtils.equalsIgnoreCase(candidate.getDomain(), cookie.getDomain())
+                    && StringUtils.equals(StringUtils.defaultIfEmpty(candidate.getPath(), "/"), StringUtils.defaultIfEmpty(cookie.getPath(), "/"))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, String> getResult(Future<Map<String, String>> future) {
+        Throwable cause;
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            cause = e.getCause() != null ? e.getCause() : e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = e;
+        }
+        Map<String, String> result = new HashMap<>();
+        result.put(RETURN_CODE, FAILURE);
+        result.put(EXCEPTION, String.valueOf(cause.getMessage()));
+        return result;
+    }
+
+    private ObjectNode buildResult(int index, HttpRequestSpec requestSpec, Map<String, String> response) {
+        ObjectNode result = OBJECT_MAPPER.createObjectNode();
+        result.put(INDEX, index);
+        result.put(URL, requestSpec.getUrl());
+        result.put(METHOD, requestSpec.getMethod());
+        result.put(RETURN_CODE, response.get(RETURN_CODE));
+        if (SUCCESS.equals(response.get(RETURN_CODE))) {
+            result.put(STATUS_CODE, response.get(STATUS_CODE));
+            result.put(REASON_PHRASE, response.get(REASON_PHRASE));
+            result.put(RESPONSE_HEADERS, response.get(RESPONSE_HEADERS));
+            result.put(RETURN_RESULT, response.get(RETURN_RESULT));
+        } else {
+            result.put(EXCEPTION, response.get(EXCEPTION));
+        }
+        return result;
+    }
+
+    protected HttpClientInputs buildRequestInputs(HttpClientInputs batchInputs, HttpRequestSpec requestSpec) {
+        HttpClientInputs inputs = new HttpClientInputs();
+        inputs.setUrl(requestSpec.getUrl());
+        inputs.setMethod(requestSpec.getMethod());
+        inputs.setBody(requestSpec.getBody());
+        inputs.setHeaders(requestSpec.getHeaders());
+
+        inputs.setAuthType(batchInputs.getAuthType());
+        inputs.setPreemptiveAuth(batchInputs.getPreemptiveAuth());
+        inputs.setUsername(batchInputs.getUsername());
+        inputs.setPassword(batchInputs.getPassword());
+        inputs.setKerberosConfFile(batchInputs.getKerberosConfFile());
+        inputs.setKerberosLoginConfFile(batchInputs.getKerberosLoginConfFile());
+        inputs.setKerberosSkipPortCheck(batchInputs.getKerberosSkipPortCheck());
+        inputs.setProxyHost(batchInputs.getProxyHost());
+        inputs.setProxyPort(batchInputs.getProxyPort());
+        inputs.setProxyUsername(batchInputs.getProxyUsername());
+        inputs.setProxyPassword(batchInputs.getProxyPassword());
+        inputs.setTrustAllRoots(batchInputs.getTrustAllRoots());
+        inputs.setX509HostnameVerifier(batchInputs.getX509HostnameVerifier());
+        inputs.setTrustKeystore(batchInputs.getTrustKeystore());
+        inputs.setTrustPassword(batchInputs.getTrustPassword());
+        inputs.setKeystore(batchInputs.getKeystore());
+        inputs.setKeystorePassword(batchInputs.getKeystorePassword());
+        inputs.setTlsVersion(batchInputs.getTlsVersion());
+        inputs.setAllowedCyphers(batchInputs.getAllowedCyphers());
+        inputs.setConnectTimeout(batchInputs.getConnectTimeout());
+        inputs.setSocketTimeout(batchInputs.getSocketTimeout());
+        inputs.setKeepAlive(batchInputs.getKeepAlive());
+        inputs.setConnectionsMaxPerRoute(batchInputs.getConnectionsMaxPerRoute());
+        inputs.setConnectionsMaxTotal(batchInputs.getConnectionsMaxTotal());
+        inputs.setConnectionsTimeToLive(batchInputs.getConnectionsTimeToLive());
+        inputs.setConnectionsIdleTimeout(batchInputs.getConnectionsIdleTimeout());
+        inputs.setConnectionsValidateAfterInactivity(batchInputs.getConnectionsValidateAfterInactivity());
+        inputs.setFollowRedirects(batchInputs.getFollowRedirects());
+        inputs.setContentType(batchInputs.getContentType());
+        inputs.setRequestCharacterSet(batchInputs.getRequestCharacterSet());
+        inputs.setResponseCharacterSet(batchInputs.getResponseCharacterSet());
+
+        //the requests run at the same time, each one starts from the cookies of the batch in its own session object.
+        //It holds a copy of the saved bytes, like the cookie session of a single request, so the cookie store decoded
+        //from them is not shared by the requests
+        inputs.setUseCookies(batchInputs.getUseCookies());
+        inputs.setCompactCookies(batchInputs.getCompactCookies());
+        SerializableSessionObject cookieStoreSessionObject = new SerializableSessionObject();
+        if (batchInputs.getCookieStoreSessionObject() != null && batchInputs.getCookieStoreSessionObject().getValue() != null) {
+            Serializable value = batchInputs.getCookieStoreSessionObject().getValue();
+            try {
+                cookieStoreSessionObject.setValue(value instanceof byte[] ? ((byte[]) value).clone() : CookieStoreBuilder.serialize(value));
+            } catch (IOException e) {
+                throw new RuntimeException(e.getMessage(), e);
+            }
+        }
+        inputs.setCookieStoreSessionObject(cookieStoreSessionObject);
+        return inputs;
+    }
+
+    private static List<HttpRequestSpec> parseRequests(String requests) {
+        List<HttpRequestSpec> requestSpecs;
+        try {
+            requestSpecs = OBJECT_MAPPER.readValue(requests, new TypeReference<List<HttpRequestSpec>>() {
+            });
+        } catch (IOException e) {
+            throw new IllegalArgumentException("the '" + HttpClientInputs.REQUESTS
+                    + "' input should be a JSON array of requests. " + e.getMessage(), e);
+        }
+        if (requestSpecs == null || requestSpecs.isEmpty()) {
+            throw new IllegalArgumentException("the '" + HttpClientInputs.REQUESTS + "' input should contain at least one request");
+        }
+        for (HttpRequestSpec requestSpec : requestSpecs) {
+            if (StringUtils.isEmpty(requestSpec.getUrl()) || StringUtils.isEmpty(requestSpec.getMethod())) {
+                throw new IllegalArgumentException("every request from the '" + HttpClientInputs.REQUESTS
+                        + "' input should have an 'url' and a 'method'");
+            }
+        }
+        return requestSpecs;
+    }
+
+    private static int parseConcurrency(String concurrency) {
+        if (StringUtils.isEmpty(concurrency)) {
+            return DEFAULT_CONCURRENCY;
+        }
+        try {
+            int threads = Integer.parseInt(concurrency);
+            if (threads < 1) {
+                throw new IllegalArgumentException("the '" + HttpClientInputs.CONCURRENCY + "' input should be greater than 0");
+            }
+            return threads;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("the '" + HttpClientInputs.CONCURRENCY
+                    + "' input should be integer" + e.getMessage(), e);
+        }
+    }
+}
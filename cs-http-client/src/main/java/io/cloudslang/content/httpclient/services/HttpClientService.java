@@ -26,6 +26,8 @@ import io.cloudslang.content.httpclient.build.auth.AuthSchemeProviderLookupBuild
 import io.cloudslang.content.httpclient.build.auth.AuthTypes;
 import io.cloudslang.content.httpclient.build.auth.CredentialsProviderBuilder;
 import io.cloudslang.content.httpclient.build.conn.ConnectionManagerBuilder;
+import io.cloudslang.content.httpclient.build.conn.HttpClientCache;
+import io.cloudslang.content.httpclient.build.conn.MonitoredConnectionManager;
 import io.cloudslang.content.httpclient.build.conn.SSLConnectionSocketFactoryBuilder;
 import io.cloudslang.content.httpclient.consume.FinalLocationConsumer;
 import io.cloudslang.content.httpclient.consume.HeadersConsumer;
@@ -74,6 +76,9 @@ public class HttpClientService {
     public static final String RESPONSE_HEADERS = "responseHeaders";
     public static final String PROTOCOL_VERSION = "protocolVersion";
     public static final String REASON_PHRASE = "reasonPhrase";
+    public static final String TOTAL_BYTES = "totalBytes";
+    public static final String BYTES_PER_SECOND = "bytesPerSecond";
+    public static final String RESPONSE_CHECKSUM = "responseChecksum";
 
     private CookieStoreBuilder cookieStoreBuilder;
     private AuthSchemeProviderLookupBuilder authSchemeProviderLookupBuilder;
@@ -104,10 +109,14 @@ public class HttpClientService {
         Map<String, String> result = parseResponse(httpResponse,
                 httpClientInputs.getResponseCharacterSet(),
                 httpClientInputs.getDestinationFile(),
+                httpClientInputs.getBinaryResponse(),
+                httpClientInputs.getComputeChecksum(),
+                httpClientInputs.getMaxResponseSize(),
                 httpComponents.getUri(),
                 httpComponents.getHttpClientContext(),
                 httpComponents.getCookieStore(),
-                httpClientInputs.getCookieStoreSessionObject());
+                httpClientInputs.getCookieStoreSessionObject(),
+                httpClientInputs.getCompactCookies());
 
         checkKeepAlive(httpComponents.getHttpRequestBase(),
                 httpComponents.getConnManager(),
@@ -178,8 +187,6 @@ public class HttpClientService {
                 .buildRequestConfig();
         httpRequestBase.setConfig(requestConfig);
 
-        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
-
         AuthTypes authTypes = new AuthTypes(httpClientInputs.getAuthType());
 
         CredentialsProvider credentialsProvider = credentialsProviderBuilder
@@ -193,7 +200,6 @@ public class HttpClientService {
                 .setProxyHost(httpClientInputs.getProxyHost())
                 .setProxyPort(httpClientInputs.getProxyPort())
                 .buildCredentialsProvider();
-        httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
 
         Lookup<AuthSchemeProvider> authSchemeLookup = authSchemeProviderLookupBuilder
                 .setAuthTypes(authTypes)
@@ -205,7 +211,6 @@ public class HttpClientService {
                 .setUsername(httpClientInputs.getUsername())
                 .setPassword(httpClientInputs.getPassword())
                 .buildAuthSchemeProviderLookup();
-        httpClientBuilder.setDefaultAuthSchemeRegistry(authSchemeLookup);
 
         httpRequestBase.setHeaders(theHeaders.toArray(new Header[theHeaders.size()]));
 
@@ -213,9 +218,6 @@ public class HttpClientService {
                 .setUseCookies(httpClientInputs.getUseCookies())
                 .setCookieStoreSessionObject(httpClientInputs.getCookieStoreSessionObject())
                 .buildCookieStore();
-        if (cookieStore != null) {
-            httpClientBuilder.setDefaultCookieStore(cookieStore);
-        }
 
         SSLConnectionSocketFactory sslConnectionSocketFactory = sslConnectionSocketFactoryBuilder
                 .setTrustAllRoots(httpClientInputs.getTrustAllRoots())
@@ -238,9 +240,22 @@ public class HttpClientService {
                 .setSslsf(sslConnectionSocketFactory)
                 .setDefaultMaxPerRoute(httpClientInputs.getConnectionsMaxPerRoute())
                 .setTotalMax(httpClientInputs.getConnectionsMaxTotal())
+                .setTimeToLive(httpClientInputs.getConnectionsTimeToLive())
+                .setIdleTimeout(httpClientInputs.getConnectionsIdleTimeout())
+                .setValidateAfterInactivity(httpClientInputs.getConnectionsValidateAfterInactivity())
                 .buildConnectionManager();
 
+        String clientKey = HttpClientCache.buildClientKey(connectionKey,
+                httpClientInputs.getTlsVersion(),
+                httpClientInputs.getAllowedCyphers(),
+                httpClientInputs.getKeystorePassword(),
+                httpClientInputs.getTrustPassword(),
+                httpClientInputs.getKeepAlive());
+        //the builder is cheap to configure, it is kept in the components even when the client comes from the cache
+        HttpClientBuilder httpClientBuilder = HttpClientBuilder.create();
         httpClientBuilder.setConnectionManager(connManager);
+        //the pool belongs to the connection pool session object, closing a cached client must not shut it down
+        httpClientBuilder.setConnectionManagerShared(true);
 
         if (StringUtils.isEmpty(httpClientInputs.getKeepAlive()) || Boolean.parseBoolean(httpClientInputs.getKeepAlive())) {
             httpClientBuilder.setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE);
@@ -250,12 +265,19 @@ public class HttpClientService {
 
         httpClientBuilder.setRetryHandler(new DefaultHttpRequestRetryHandler(0, false));
 
-        CloseableHttpClient closeableHttpClient = httpClientBuilder.build();
+        //the clients are cached in the pool they share, so they are released together with it
+        CloseableHttpClient closeableHttpClient;
+        if (connManager instanceof MonitoredConnectionManager) {
+            closeableHttpClient = ((MonitoredConnectionManager) connManager).getClientCache().get(clientKey, httpClientBuilder);
+        } else {
+            closeableHttpClient = httpClientBuilder.build();
+        }
 
         HttpClientContext context = contextBuilder
                 .setAuthSchemeLookup(authSchemeLookup)
                 .setAuthTypes(authTypes)
                 .setCredentialsProvider(credentialsProvider)
+                .setCookieStore(cookieStore)
                 .setUri(uri)
                 .setPreemptiveAuth(httpClientInputs.getPreemptiveAuth()).build();
 
@@ -289,6 +311,22 @@ public class HttpClientService {
                                              HttpClientContext httpClientContext,
                                              CookieStore cookieStore,
                                              SerializableSessionObject cookieStoreSessionObject
+    ) {
+        return parseResponse(httpResponse, responseCharacterSet, destinationFile, null, null, null,
+                uri, httpClientContext, cookieStore, cookieStoreSessionObject, null);
+    }
+
+    public Map<String, String> parseResponse(CloseableHttpResponse httpResponse,
+                                             String responseCharacterSet,
+                                             String destinationFile,
+                                             String binaryResponse,
+                                             String computeChecksum,
+                                             String maxResponseSize,
+                                             URI uri,
+                                             HttpClientContext httpClientContext,
+                                             CookieStore cookieStore,
+                                             SerializableSessionObject cookieStoreSessionObject,
+                                             String compactCookies
     ) {
         Map<String, String> result = new HashMap<>();
 
@@ -297,6 +335,9 @@ public class HttpClientService {
                     .setHttpResponse(httpResponse)
                     .setResponseCharacterSet(responseCharacterSet)
                     .setDestinationFile(destinationFile)
+                    .setBinaryResponse(binaryResponse)
+                    .setComputeChecksum(computeChecksum)
+                    .setMaxResponseSize(maxResponseSize)
                     .consume(result);
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -312,8 +353,8 @@ public class HttpClientService {
 
         if (cookieStore != null) {
             try {
-                cookieStoreSessionObject.setValue(
-                        CookieStoreBuilder.serialize(cookieStore));
+                CookieStoreBuilder.saveCookieStore(cookieStoreSessionObject, cookieStore,
+                        Boolean.parseBoolean(compactCookies));
             } catch (IOException e) {
                 throw new RuntimeException(e.getMessage(), e);
             }
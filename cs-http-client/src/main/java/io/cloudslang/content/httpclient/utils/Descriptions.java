@@ -28,6 +28,52 @@ public class Descriptions {
         public static final String RETURN_RESULT_DESC = "The percent-decoded 'url'. In case of an error this output will contain the error message.";
     }
 
+    public static class HttpClientBatch {
+        public static final String HTTP_CLIENT_BATCH_DESC = "This operation executes a list of http requests concurrently. All the requests share the authentication, proxy, TLS, timeout and connection pool inputs, only the url, method, body and headers differ.";
+        public static final String REQUESTS_DESC = "A JSON array with the requests to execute. Each request is an object with the 'url' and 'method' properties and optionally the 'body' and 'headers' properties. The headers are separated by new line (CRLF) like in the 'headers' input of the Http Client operation." +
+                "\nExample: [{\"url\":\"https://host/api/items/1\",\"method\":\"GET\"},{\"url\":\"https://host/api/items\",\"method\":\"POST\",\"body\":\"{}\",\"headers\":\"Accept:application/json\"}]";
+        public static final String CONCURRENCY_DESC = "The maximum number of requests executed at the same time. Default value: 10";
+        public static final String CONNECTIONS_MAX_PER_ROUTE_DESC = "The maximum limit of connections on a per route basis. Default value: the 'concurrency' value when the batch uses its own connection pool, otherwise the current limit of the connection pool.";
+        public static final String CONNECTIONS_MAX_TOTAL_DESC = "The maximum limit of connections in total. Default value: the greater of 20 and the 'concurrency' value when the batch uses its own connection pool, otherwise the current limit of the connection pool.";
+        public static final String CONNECTIONS_TIME_TO_LIVE_DESC = "The time, in seconds, after which a pooled connection is closed, no matter if it is used or not. It is only used when the connection pool is created. A value of '0' means the connections do not expire. Default value: 0";
+        public static final String CONNECTIONS_IDLE_TIMEOUT_DESC = "The time, in seconds, after which an idle pooled connection is closed by the background connection evictor. It is only used when the connection pool is created. A value of '0' means that the idle connections are not closed. Default value: 0";
+        public static final String CONNECTIONS_VALIDATE_AFTER_INACTIVITY_DESC = "The time, in seconds, of inactivity after which a pooled connection is checked before it is used again. Default value: 2";
+        public static final String RETURN_RESULT_DESC = "A JSON array with one object per request, in the order of the 'requests' input. Each object contains the 'index', 'url', 'method' and 'returnCode' of the request and either the 'statusCode', 'reasonPhrase', 'responseHeaders' and 'returnResult' of the response or the 'exception' if the request failed. In case of an error this output will contain the error message.";
+        public static final String AUTH_TYPE_DESC = "The type of authentication used for all the requests. Default value: basic. Valid values: basic, digest, ntlm, kerberos, any, anonymous, \"\" or a list of valid values separated by comma.";
+        public static final String PREEMPTIVE_AUTH_DESC = "If this field is 'true' authentication info will be sent in the first request. Default value: true. Valid values: true, false";
+        public static final String USERNAME_DESC = "The user name used for authentication.";
+        public static final String PASSWORD_DESC = "The password used for authentication.";
+        public static final String PROXY_HOST_DESC = "The proxy server used to access the web site.";
+        public static final String PROXY_PORT_DESC = "The proxy server port. Default value: 8080";
+        public static final String PROXY_USERNAME_DESC = "The user name used when connecting to the proxy.";
+        public static final String PROXY_PASSWORD_DESC = "The proxy server password associated with the proxyUsername input value.";
+        public static final String TLS_VERSION_DESC = "The TLS versions allowed, separated by comma. Valid values: SSLv3, TLSv1, TLSv1.1, TLSv1.2";
+        public static final String ALLOWED_CYPHERS_DESC = "A list of ciphers to use, separated by comma. It is only used with TLSv1.2.";
+        public static final String TRUST_ALL_ROOTS_DESC = "Specifies whether to enable weak security over SSL. Default value: false. Valid values: true, false";
+        public static final String X509_HOSTNAME_VERIFIER_DESC = "Specifies the way the server hostname must match a domain name in the subject's Common Name (CN) or subjectAltName field of the X.509 certificate. Default value: strict. Valid values: strict, browser_compatible, allow_all";
+        public static final String TRUST_KEYSTORE_DESC = "The pathname of the Java TrustStore file. Default value: <OO_Home>/java/lib/security/cacerts";
+        public static final String TRUST_PASSWORD_DESC = "The password associated with the TrustStore file. Default value: changeit";
+        public static final String KEYSTORE_DESC = "The pathname of the Java KeyStore file used for client certificate authentication. Default value: <OO_Home>/java/lib/security/cacerts";
+        public static final String KEYSTORE_PASSWORD_DESC = "The password associated with the KeyStore file. Default value: changeit";
+        public static final String CONNECT_TIMEOUT_DESC = "The time to wait for a connection to be established, in seconds. A timeout value of '0' represents an infinite timeout. Default value: 0";
+        public static final String SOCKET_TIMEOUT_DESC = "The timeout for waiting for data, in seconds. A timeout value of '0' represents an infinite timeout. Default value: 0";
+        public static final String KEEP_ALIVE_DESC = "Specifies whether to create a shared connection that will be used in subsequent calls. Default value: true. Valid values: true, false";
+        public static final String CONTENT_TYPE_DESC = "The content type used for the bodies of the requests. Default value: text/plain";
+        public static final String REQUEST_CHARACTER_SET_DESC = "The character encoding used for the bodies of the requests. Default value: ISO-8859-1";
+        public static final String RESPONSE_CHARACTER_SET_DESC = "The character encoding used for the responses. If it is empty, the charset from the 'Content-Type' response header is used. Default value: ISO-8859-1";
+        public static final String FOLLOW_REDIRECTS_DESC = "Specifies whether the HTTP client automatically follows redirects. Default value: true. Valid values: true, false";
+        public static final String USE_COOKIES_DESC = "Specifies whether to send the cookies of the cookie session with the requests. The cookies received by the requests are saved in the cookie session after the batch completes, in the order of the requests. Default value: true. Valid values: true, false";
+        public static final String SESSION_COOKIES_DESC = "The session object that holds the cookies if the useCookies input is true.";
+        public static final String SESSION_CONNECTION_POOL_DESC = "The GlobalSessionObject that holds the http client pooling connection manager.";
+        public static final String COMPACT_COOKIES_DESC = "Specifies whether to save the cookies in the cookie session in a compact binary form instead of the java serialization. The older versions of the http client operations cannot read the compact form, so enable it only if they do not share the cookie session. Default value: false. Valid values: true, false";
+    }
+
+    public static class ConnectionPoolStats {
+        public static final String CONNECTION_POOL_STATS_DESC = "This operation returns the usage of the connection pools held in the connection pool session object, so the 'connectionsMaxPerRoute' and 'connectionsMaxTotal' inputs can be tuned.";
+        public static final String SESSION_CONNECTION_POOL_DESC = "The GlobalSessionObject that holds the http client pooling connection managers.";
+        public static final String RETURN_RESULT_DESC = "A JSON array with one object per connection pool. Each object contains the 'poolKey', the 'maxTotal' and 'defaultMaxPerRoute' limits, the 'leased', 'available' and 'pending' connection counts, the 'leases', 'failedLeases', 'averageLeaseWaitMillis' and 'maxLeaseWaitMillis' lease statistics and a 'routes' array with the same counts and statistics for every route. In case of an error this output will contain the error message.";
+    }
+
     public static class Commons {
         public static final String URL_DESC = "Any text like query or form values. Adding a whole URL will not work.";
         public static final String CHARACTER_SET_DESC = "The character encoding used for URL encoding. Leave this UTF-8, like the standard recommends and because the inputs are stored as UTF-8.";
@@ -0,0 +1,71 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.cloudslang.content.httpclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.httpclient.build.conn.ConnectionManagerBuilder;
+import io.cloudslang.content.httpclient.services.ConnectionPoolStatsService;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConnectionPoolStatsServiceTest {
+
+    @Test
+    public void executeReportsLeasedConnections() throws Exception {
+        GlobalSessionObject connectionPoolHolder = new GlobalSessionObject();
+        PoolingHttpClientConnectionManager connManager = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(SSLConnectionSocketFactory.getSocketFactory())
+                .setConnectionPoolHolder(connectionPoolHolder)
+                .buildConnectionManager();
+        HttpRoute route = new HttpRoute(new HttpHost("localhost", 8080));
+        HttpClientConnection connection = connManager.requestConnection(route, null).get(1, TimeUnit.SECONDS);
+
+        Map<String, String> result = new ConnectionPoolStatsService().execute(connectionPoolHolder);
+
+        assertEquals("0", result.get("returnCode"));
+        JsonNode pools = new ObjectMapper().readTree(result.get("returnResult"));
+        assertEquals(1, pools.size());
+        JsonNode pool = pools.get(0);
+        assertEquals("key1:key2", pool.get("poolKey").asText());
+        assertEquals(1, pool.get("leased").asInt());
+        assertEquals(0, pool.get("pending").asInt());
+        assertEquals(1, pool.get("leases").asLong());
+        JsonNode routeStats = pool.get("routes").get(0);
+        assertEquals(1, routeStats.get("leased").asInt());
+        assertEquals(1, routeStats.get("leases").asLong());
+
+        connManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+        connManager.shutdown();
+    }
+
+    @Test
+    public void executeWithoutConnectionPools() throws Exception {
+        Map<String, String> result = new ConnectionPoolStatsService().execute(new GlobalSessionObject());
+
+        assertEquals("[]", result.get("returnResult"));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.cloudslang.content.httpclient.build.CookieStoreBuilder;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.entities.HttpRequestSpec;
+import io.cloudslang.content.httpclient.services.HttpClientBatchService;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpHost;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HttpClientBatchServiceTest {
+
+    private HttpServer server;
+    private String baseUrl;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                String requestBody = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+                byte[] response = (exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath() + " " + requestBody)
+                        .getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=UTF-8");
+                if (exchange.getRequestURI().getPath().startsWith("/cookie/")) {
+                    String name = exchange.getRequestURI().getPath().substring("/cookie/".length());
+                    exchange.getResponseHeaders().add("Set-Cookie", name + "=value-" + name + "; Path=/");
+                }
+                exchange.sendResponseHeaders(200, response.length);
+                OutputStream responseBody = exchange.getResponseBody();
+                responseBody.write(response);
+                responseBody.close();
+            }
+        });
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void executeKeepsRequestOrder() throws IOException {
+        StringBuilder requests = new StringBuilder("[");
+        for (int i = 0; i < 8; i++) {
+            requests.append(i == 0 ? "" : ",")
+                    .append("{\"url\":\"").append(baseUrl).append("/items/").append(i)
+                    .append("\",\"method\":\"POST\",\"body\":\"body").append(i).append("\"}");
+        }
+        requests.append("]");
+
+        Map<String, String> result = new HttpClientBatchService().execute(new HttpClientInputs(), requests.toString(), "3");
+
+        assertEquals("0", result.get("returnCode"));
+        JsonNode responses = new ObjectMapper().readTree(result.get("returnResult"));
+        assertEquals(8, responses.size());
+        for (int i = 0; i < 8; i++) {
+            JsonNode response = responses.get(i);
+            assertEquals(i, response.get("index").asInt());
+            assertEquals("0", response.get("returnCode").asText());
+            assertEquals("200", response.get("statusCode").asText());
+            assertEquals("POST /items/" + i + " body" + i, response.get("returnResult").asText());
+        }
+    }
+
+    @Test
+    public void executeReportsFailedRequests() throws IOException {
+        String requests = "[{\"url\":\"" + baseUrl + "/ok\",\"method\":\"GET\"},{\"url\":\"" + baseUrl + "/ok\",\"method\":\"NOT_A_METHOD\"}]";
+
+        Map<String, String> result = new HttpClientBatchService().execute(new HttpClientInputs(), requests, null);
+
+        JsonNode responses = new ObjectMapper().readTree(result.get("returnResult"));
+        assertEquals("0", responses.get(0).get("returnCode").asText());
+        assertEquals("-1", responses.get(1).get("returnCode").asText());
+    }
+
+    @Test
+    public void executeSavesResponseCookies() throws IOException {
+        String requests = "[{\"url\":\"" + baseUrl + "/cookie/first\",\"method\":\"GET\"},{\"url\":\"" + baseUrl + "/cookie/second\",\"method\":\"GET\"}]";
+        HttpClientInputs batchInputs = new HttpClientInputs();
+        SerializableSessionObject cookieSession = new SerializableSessionObject();
+        batchInputs.setCookieStoreSessionObject(cookieSession);
+
+        new HttpClientBatchService().execute(batchInputs, requests, "2");
+
+        List<String> cookies = new ArrayList<>();
+        for (Cookie cookie : CookieStoreBuilder.toCookieStore(cookieSession.getValue()).getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        Collections.sort(cookies);
+        assertEquals(Arrays.asList("first=value-first", "second=value-second"), cookies);
+    }
+
+    @Test
+    public void executeKeepsConnectionLimitsOfInputs() {
+        String requests = "[{\"url\":\"" + baseUrl + "/ok\",\"method\":\"GET\"},{\"url\":\"" + baseUrl + "/ok\",\"method\":\"GET\"}]";
+        HttpClientInputs batchInputs = new HttpClientInputs();
+        batchInputs.setConnectionPoolSessionObject(new GlobalSessionObject());
+
+        new HttpClientBatchService().execute(batchInputs, requests, "2");
+
+        assertNull(batchInputs.getConnectionsMaxPerRoute());
+        assertNull(batchInputs.getConnectionsMaxTotal());
+    }
+
+    @Test
+    public void executeGivesRequestsCopyOfSerializedCookies() throws IOException {
+        RecordingBatchService batchService = new RecordingBatchService();
+        HttpClientInputs batchInputs = new HttpClientInputs();
+        SerializableSessionObject cookieSession = new SerializableSessionObject();
+        byte[] cookies = CookieStoreBuilder.serialize(new BasicCookieStore());
+        cookieSession.setValue(cookies);
+        batchInputs.setCookieStoreSessionObject(cookieSession);
+        batchInputs.setUseCookies("false");
+
+        batchService.execute(batchInputs, "[{\"url\":\"" + baseUrl + "/ok\",\"method\":\"GET\"}]", "1");
+
+        Object requestCookies = batchService.requestInputs.get(0).getCookieStoreSessionObject().getValue();
+        assertTrue(requestCookies instanceof byte[]);
+        assertNotSame(cookies, requestCookies);
+        assertArrayEquals(cookies, (byte[]) requestCookies);
+    }
+
+    @Test
+    public void executeShutsDownOwnConnectionPool() {
+        RecordingBatchService batchService = new RecordingBatchService();
+
+        batchService.execute(new HttpClientInputs(), "[{\"url\":\"" + baseUrl + "/ok\",\"method\":\"GET\"}]", "1");
+
+        Map<?, ?> connManagers = (Map<?, ?>) batchService.requestInputs.get(0).getConnectionPoolSessionObject().get();
+        assertFalse(connManagers.isEmpty());
+        for (Object connManager : connManagers.values()) {
+            try {
+                ((PoolingHttpClientConnectionManager) connManager).requestConnection(new HttpRoute(new HttpHost("127.0.0.1")), null);
+                fail();
+            } catch (IllegalStateException e) {
+                assertEquals("Connection pool shut down", e.getMessage());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void executeWithoutMethod() {
+        new HttpClientBatchService().execute(new HttpClientInputs(), "[{\"url\":\"" + baseUrl + "\"}]", null);
+    }
+
+    private static class RecordingBatchService extends HttpClientBatchService {
+        private final List<HttpClientInputs> requestInputs = new ArrayList<>();
+
+        @Override
+        protected HttpClientInputs buildRequestInputs(HttpClientInputs batchInputs, HttpRequestSpec requestSpec) {
+            HttpClientInputs inputs = super.buildRequestInputs(batchInputs, requestSpec);
+            requestInputs.add(inputs);
+            return inputs;
+        }
+    }
+}
@@ -70,6 +70,13 @@ public class HttpClientServiceTest {
     @Mock
     private String destinationFile;
     @Mock
+    private String binaryResponse;
+    @Mock
+    private String computeChecksum;
+    @Mock
+    private String maxResponseSize;
+    private String compactCookies = "true";
+    @Mock
     private URI uri;
     @Mock
     private Map<String, String> result;
@@ -88,7 +95,8 @@ public class HttpClientServiceTest {
         PowerMockito.doReturn(httpComponents).when(httpClientService, "buildHttpComponents", httpClientInputs);
         PowerMockito.doReturn(httpResponse).when(httpClientService, "execute", closeableHttpClient, httpRequestBase, httpClientContext);
         PowerMockito.doReturn(result).when(httpClientService, "parseResponse", httpResponse, responseCharacterSet, destinationFile,
-                uri, httpClientContext, cookieStore, serializableSessionObject);
+                binaryResponse, computeChecksum, maxResponseSize, uri, httpClientContext, cookieStore, serializableSessionObject,
+                compactCookies);
 
         PowerMockito.when(httpComponents.getHttpRequestBase()).thenReturn(httpRequestBase);
         PowerMockito.when(httpComponents.getCloseableHttpClient()).thenReturn(closeableHttpClient);
@@ -99,6 +107,10 @@ public class HttpClientServiceTest {
 
         PowerMockito.when(httpClientInputs.getResponseCharacterSet()).thenReturn(responseCharacterSet);
         PowerMockito.when(httpClientInputs.getDestinationFile()).thenReturn(destinationFile);
+        PowerMockito.when(httpClientInputs.getBinaryResponse()).thenReturn(binaryResponse);
+        PowerMockito.when(httpClientInputs.getComputeChecksum()).thenReturn(computeChecksum);
+        PowerMockito.when(httpClientInputs.getMaxResponseSize()).thenReturn(maxResponseSize);
+        PowerMockito.when(httpClientInputs.getCompactCookies()).thenReturn(compactCookies);
         PowerMockito.when(httpClientInputs.getCookieStoreSessionObject()).thenReturn(serializableSessionObject);
     }
 
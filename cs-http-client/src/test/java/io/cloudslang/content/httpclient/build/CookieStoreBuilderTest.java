@@ -20,14 +20,18 @@ package io.cloudslang.content.httpclient.build;
 import com.hp.oo.sdk.content.plugin.SerializableSessionObject;
 import org.apache.http.client.CookieStore;
 import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.cookie.BasicClientCookie;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.Serializable;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertNull;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 /**
  * User: Adina Tusa
@@ -86,4 +90,41 @@ public class CookieStoreBuilderTest {
 
         assertNull(cookieStore);
     }
+
+    @Test
+    public void buildCookieStoreReusesSavedStore() throws IOException {
+        SerializableSessionObject sessionObjectHolder = new SerializableSessionObject();
+        CookieStore cookieStore = cookieStoreBuilder
+                .setCookieStoreSessionObject(sessionObjectHolder)
+                .buildCookieStore();
+        cookieStore.addCookie(new BasicClientCookie("name", "value"));
+        CookieStoreBuilder.saveCookieStore(sessionObjectHolder, cookieStore);
+        Serializable savedValue = sessionObjectHolder.getValue();
+
+        CookieStore reusedCookieStore = new CookieStoreBuilder()
+                .setCookieStoreSessionObject(sessionObjectHolder)
+                .buildCookieStore();
+        CookieStoreBuilder.saveCookieStore(sessionObjectHolder, reusedCookieStore);
+
+        assertSame(cookieStore, reusedCookieStore);
+        assertSame(savedValue, sessionObjectHolder.getValue());
+    }
+
+    @Test
+    public void buildCookieStoreAfterChange() throws IOException {
+        SerializableSessionObject sessionObjectHolder = new SerializableSessionObject();
+        CookieStore cookieStore = cookieStoreBuilder
+                .setCookieStoreSessionObject(sessionObjectHolder)
+                .buildCookieStore();
+        CookieStoreBuilder.saveCookieStore(sessionObjectHolder, cookieStore);
+        Serializable savedValue = sessionObjectHolder.getValue();
+
+        cookieStore.addCookie(new BasicClientCookie("name", "value"));
+        CookieStoreBuilder.saveCookieStore(sessionObjectHolder, cookieStore);
+
+        assertNotSame(savedValue, sessionObjectHolder.getValue());
+        CookieStore decodedCookieStore = CookieStoreBuilder.toCookieStore(sessionObjectHolder.getValue());
+        assertEquals(1, decodedCookieStore.getCookies().size());
+        assertEquals("value", decodedCookieStore.getCookies().get(0).getValue());
+    }
 }
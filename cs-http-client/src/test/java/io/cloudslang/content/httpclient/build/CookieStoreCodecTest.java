@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build;
+
+import org.apache.http.cookie.ClientCookie;
+import org.apache.http.cookie.Cookie;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.cookie.BasicClientCookie;
+import org.apache.http.impl.cookie.BasicClientCookie2;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CookieStoreCodecTest {
+
+    @Test
+    public void encodeDecode() throws Exception {
+        Date expiryDate = new Date(System.currentTimeMillis() + 3600000);
+        BasicClientCookie cookie = new BasicClientCookie("session", "abc");
+        cookie.setDomain("example.com");
+        cookie.setPath("/");
+        cookie.setExpiryDate(expiryDate);
+        cookie.setSecure(true);
+        cookie.setAttribute(ClientCookie.DOMAIN_ATTR, "example.com");
+        BasicClientCookie2 cookie2 = new BasicClientCookie2("tracking", null);
+        cookie2.setDomain("example.com");
+        cookie2.setPorts(new int[]{80, 8080});
+        cookie2.setVersion(1);
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        cookieStore.addCookie(cookie);
+        cookieStore.addCookie(cookie2);
+
+        byte[] encoded = CookieStoreCodec.encode(cookieStore, true);
+        SessionCookieStore decoded = CookieStoreCodec.decode(encoded);
+
+        assertTrue(CookieStoreCodec.isCompact(encoded));
+        assertFalse(decoded.isDirty());
+        List<Cookie> cookies = decoded.getCookies();
+        assertEquals(2, cookies.size());
+        Cookie decodedCookie = cookies.get(0);
+        assertEquals("session", decodedCookie.getName());
+        assertEquals("abc", decodedCookie.getValue());
+        assertEquals("example.com", decodedCookie.getDomain());
+        assertEquals("/", decodedCookie.getPath());
+        assertEquals(expiryDate, decodedCookie.getExpiryDate());
+        assertTrue(decodedCookie.isSecure());
+        assertTrue(((ClientCookie) decodedCookie).containsAttribute(ClientCookie.DOMAIN_ATTR));
+        Cookie decodedCookie2 = cookies.get(1);
+        assertTrue(decodedCookie2 instanceof BasicClientCookie2);
+        assertEquals(null, decodedCookie2.getValue());
+        assertEquals(1, decodedCookie2.getVersion());
+        assertArrayEquals(new int[]{80, 8080}, decodedCookie2.getPorts());
+    }
+
+    @Test
+    public void encodeLargeValue() throws Exception {
+        char[] chars = new char[70000];
+        Arrays.fill(chars, '\u00e9');
+        String value = new String(chars);
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        cookieStore.addCookie(new BasicClientCookie("large", value));
+
+        SessionCookieStore decoded = CookieStoreCodec.decode(CookieStoreCodec.encode(cookieStore, true));
+
+        assertEquals(value, decoded.getCookies().get(0).getValue());
+    }
+
+    @Test
+    public void encodeJavaSerializationByDefault() throws Exception {
+        SessionCookieStore cookieStore = new SessionCookieStore();
+        cookieStore.addCookie(new BasicClientCookie("name", "value"));
+
+        byte[] encoded = CookieStoreCodec.encode(cookieStore, false);
+
+        assertFalse(CookieStoreCodec.isCompact(encoded));
+        //the older versions deserialize the value as a BasicCookieStore
+        Object deserialized = CookieStoreBuilder.deserialize(encoded);
+        assertEquals(BasicCookieStore.class, deserialized.getClass());
+        assertEquals("value", ((BasicCookieStore) deserialized).getCookies().get(0).getValue());
+    }
+
+    @Test
+    public void decodeJavaSerialization() throws Exception {
+        BasicCookieStore cookieStore = new BasicCookieStore();
+        cookieStore.addCookie(new BasicClientCookie("name", "value"));
+
+        SessionCookieStore decoded = CookieStoreCodec.decode(CookieStoreBuilder.serialize(cookieStore));
+
+        assertEquals(1, decoded.getCookies().size());
+        assertEquals("value", decoded.getCookies().get(0).getValue());
+    }
+}
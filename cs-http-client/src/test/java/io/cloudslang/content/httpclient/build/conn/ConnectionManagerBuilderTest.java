@@ -30,6 +30,11 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static junit.framework.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * User: Adina Tusa
@@ -83,4 +88,67 @@ public class ConnectionManagerBuilderTest {
                 .buildConnectionManager();
         assertEquals(connectionManagerMock, connectionManager);
     }
+
+    @Test
+    public void buildConnectionManagerRegistersInEvictor() {
+        ConnectionPoolEvictor connectionPoolEvictor = new ConnectionPoolEvictor(ConnectionPoolEvictor.EVICTION_INTERVAL_MILLIS);
+        PoolingHttpClientConnectionManager connectionManager = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(new GlobalSessionObject())
+                .setTimeToLive("300")
+                .setIdleTimeout("30")
+                .setValidateAfterInactivity("5")
+                .setConnectionPoolEvictor(connectionPoolEvictor)
+                .buildConnectionManager();
+        assertTrue(connectionManager instanceof MonitoredConnectionManager);
+        assertEquals(5000, connectionManager.getValidateAfterInactivity());
+        assertEquals(1, connectionPoolEvictor.size());
+        connectionPoolEvictor.evict();
+    }
+
+    @Test
+    public void buildConnectionManagerDefaultsDoNotRegisterInEvictor() {
+        ConnectionPoolEvictor connectionPoolEvictor = new ConnectionPoolEvictor(ConnectionPoolEvictor.EVICTION_INTERVAL_MILLIS);
+        new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(new GlobalSessionObject())
+                .setConnectionPoolEvictor(connectionPoolEvictor)
+                .buildConnectionManager();
+        assertEquals(0, connectionPoolEvictor.size());
+    }
+
+    @Test
+    public void buildConnectionManagerRegistersInEvictorOnlyOnCreation() {
+        ConnectionPoolEvictor connectionPoolEvictor = mock(ConnectionPoolEvictor.class);
+        GlobalSessionObject holder = new GlobalSessionObject();
+        PoolingHttpClientConnectionManager first = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder)
+                .setIdleTimeout("30")
+                .setConnectionPoolEvictor(connectionPoolEvictor)
+                .buildConnectionManager();
+        PoolingHttpClientConnectionManager second = new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(holder)
+                .setIdleTimeout("10")
+                .setConnectionPoolEvictor(connectionPoolEvictor)
+                .buildConnectionManager();
+        assertSame(first, second);
+        verify(connectionPoolEvictor, times(1)).register(any(PoolingHttpClientConnectionManager.class), anyLong());
+        verify(connectionPoolEvictor).register(first, 30000L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void buildConnectionManagerInvalidIdleTimeout() {
+        new ConnectionManagerBuilder()
+                .setConnectionManagerMapKey("key1", "key2")
+                .setSslsf(sslConnectionSocketFactoryMock)
+                .setConnectionPoolHolder(new GlobalSessionObject())
+                .setIdleTimeout("-1")
+                .buildConnectionManager();
+    }
 }
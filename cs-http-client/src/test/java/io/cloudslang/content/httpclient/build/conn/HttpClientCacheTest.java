@@ -0,0 +1,113 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class HttpClientCacheTest {
+
+    @Mock
+    private CloseableHttpClient clientMock;
+    @Mock
+    private CloseableHttpClient otherClientMock;
+    @Mock
+    private HttpClientBuilder httpClientBuilderMock;
+
+    @Test
+    public void getReturnsCachedClient() throws IOException {
+        when(httpClientBuilderMock.build()).thenReturn(clientMock, otherClientMock);
+        HttpClientCache cache = new HttpClientCache(10);
+        assertSame(clientMock, cache.get("key", httpClientBuilderMock));
+        assertSame(clientMock, cache.get("key", httpClientBuilderMock));
+        assertEquals(1, cache.size());
+        verify(httpClientBuilderMock, times(1)).build();
+        verify(clientMock, never()).close();
+    }
+
+    @Test
+    public void getEvictsLeastRecentlyUsed() throws IOException {
+        when(httpClientBuilderMock.build()).thenReturn(clientMock, otherClientMock);
+        HttpClientCache cache = new HttpClientCache(1);
+        cache.get("key1", httpClientBuilderMock);
+        assertSame(otherClientMock, cache.get("key2", httpClientBuilderMock));
+        assertEquals(1, cache.size());
+        verify(clientMock).close();
+    }
+
+    @Test
+    public void getBuildsOneClientForConcurrentCalls() throws Exception {
+        when(httpClientBuilderMock.build()).thenAnswer(new Answer<CloseableHttpClient>() {
+            @Override
+            public CloseableHttpClient answer(InvocationOnMock invocation) throws Throwable {
+                Thread.sleep(20);
+                return clientMock;
+            }
+        });
+        final HttpClientCache cache = new HttpClientCache(10);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<CloseableHttpClient>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executorService.submit(new Callable<CloseableHttpClient>() {
+                    @Override
+                    public CloseableHttpClient call() {
+                        return cache.get("key", httpClientBuilderMock);
+                    }
+                }));
+            }
+            for (Future<CloseableHttpClient> future : futures) {
+                assertSame(clientMock, future.get());
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(httpClientBuilderMock, times(1)).build();
+    }
+
+    @Test
+    public void buildClientKeyDoesNotContainPasswords() {
+        String key = HttpClientCache.buildClientKey("true:strict:null:null", "TLSv1.2", null, "secret", "changeit", "true");
+        assertFalse(key.contains("secret"));
+        assertFalse(key.contains("changeit"));
+        assertFalse(key.equals(HttpClientCache.buildClientKey("true:strict:null:null", "TLSv1.2", null, "secret", "changeit", "false")));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.httpclient.build.conn;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.net.ssl.SSLContext;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SSLContextCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void buildSSLContextKeyForRemoteKeystore() {
+        assertNull(SSLContextCache.buildSSLContextKey(false, "http://host/keystore.jks", "pass", null, null));
+    }
+
+    @Test
+    public void buildSSLContextKeyChangesWithKeystoreFile() throws Exception {
+        File keystore = folder.newFile("keystore.jks");
+        FileUtils.writeStringToFile(keystore, "first", StandardCharsets.UTF_8);
+        String firstKey = SSLContextCache.buildSSLContextKey(false, "file:" + keystore.getPath(), "pass", null, null);
+
+        FileUtils.writeStringToFile(keystore, "second version", StandardCharsets.UTF_8);
+        String secondKey = SSLContextCache.buildSSLContextKey(false, "file:" + keystore.getPath(), "pass", null, null);
+
+        assertNotNull(firstKey);
+        assertNotEquals(firstKey, secondKey);
+        assertFalse(firstKey.contains("pass"));
+    }
+
+    @Test
+    public void getReturnsCachedContext() throws Exception {
+        SSLContextCache cache = new SSLContextCache(2);
+        SSLContext sslContext = SSLContext.getInstance("TLS");
+        cache.put("key", sslContext);
+        assertSame(sslContext, cache.get("key"));
+        assertNull(cache.get(null));
+    }
+
+    @Test
+    public void putEvictsLeastRecentlyUsed() throws Exception {
+        SSLContextCache cache = new SSLContextCache(1);
+        cache.put("key1", SSLContext.getInstance("TLS"));
+        cache.put("key2", SSLContext.getInstance("TLS"));
+        cache.put(null, SSLContext.getInstance("TLS"));
+        assertEquals(1, cache.size());
+        assertNull(cache.get("key1"));
+    }
+}
@@ -17,6 +17,9 @@
 
 package io.cloudslang.content.httpclient.consume;
 
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.http.Consts;
 import org.apache.http.Header;
@@ -32,11 +35,14 @@ import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.io.*;
 import java.net.URL;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
 import static org.mockito.Matchers.*;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
@@ -123,6 +129,64 @@ public class HttpResponseConsumerTest {
         assertNull(result.get(RETURN_RESULT));
     }
 
+    @Test
+    public void consumeBinaryWithDestinationFile() throws Exception {
+        byte[] content = new byte[]{0, (byte) 0xFF, (byte) 0xC3, 0x28, 10};
+        setHttpResponseEntity(CONTENT_TYPE, content);
+        File file = File.createTempFile("binaryResponse", ".bin");
+
+        try {
+            httpResponseConsumer
+                    .setHttpResponse(httpResponseMock)
+                    .setDestinationFile(file.getAbsolutePath())
+                    .setBinaryResponse("true")
+                    .setComputeChecksum("true")
+                    .consume(result);
+
+            assertTrue(Arrays.equals(content, FileUtils.readFileToByteArray(file)));
+        } finally {
+            file.delete();
+        }
+        assertNull(result.get(RETURN_RESULT));
+        assertEquals("5", result.get("totalBytes"));
+        assertNotNull(result.get("bytesPerSecond"));
+        assertEquals(DigestUtils.sha256Hex(content), result.get("responseChecksum"));
+    }
+
+    @Test
+    public void consumeBinaryInMemory() throws Exception {
+        byte[] content = new byte[]{0, (byte) 0xFF, (byte) 0xC3};
+        setHttpResponseEntity(CONTENT_TYPE, content);
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setBinaryResponse("true")
+                .setMaxResponseSize("3")
+                .consume(result);
+
+        assertTrue(Arrays.equals(content, Base64.decodeBase64(result.get(RETURN_RESULT))));
+        assertEquals("3", result.get("totalBytes"));
+        assertNull(result.get("responseChecksum"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void consumeBinaryInMemoryOverMaxResponseSize() throws Exception {
+        setHttpResponseEntity(CONTENT_TYPE, "document".getBytes(Consts.UTF_8));
+
+        httpResponseConsumer
+                .setHttpResponse(httpResponseMock)
+                .setBinaryResponse("true")
+                .setMaxResponseSize("3")
+                .consume(result);
+    }
+
+    private void setHttpResponseEntity(String contentType, byte[] content) {
+        BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(new ByteArrayInputStream(content));
+        entity.setContentType(new HeaderEntity("Content-Type", contentType));
+        when(httpResponseMock.getEntity()).thenReturn(entity);
+    }
+
     private void setHttpResponseEntity(String contentType) {
         BasicHttpEntity entity = new BasicHttpEntity();
         entity.setContent(inputStreamMock);
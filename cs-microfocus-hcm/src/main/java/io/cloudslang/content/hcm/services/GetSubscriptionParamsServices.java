@@ -19,7 +19,14 @@ package io.cloudslang.content.hcm.services;
 import io.cloudslang.content.hcm.utils.CustomInput;
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
 import io.cloudslang.content.httpclient.services.HttpClientService;
+import io.cloudslang.content.xml.entities.inputs.CommonInputs;
 import io.cloudslang.content.xml.services.XpathQueryService;
+import io.cloudslang.content.xml.utils.XmlUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.xpath.XPathConstants;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,9 +37,11 @@ import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN
 import static io.cloudslang.content.httpclient.services.HttpClientService.STATUS_CODE;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static io.cloudslang.content.xml.utils.Constants.NO_MATCH_FOUND;
 import static java.lang.Integer.parseInt;
 import static java.net.HttpURLConnection.HTTP_OK;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.apache.commons.lang3.StringUtils.join;
 
 public class GetSubscriptionParamsServices {
@@ -69,24 +78,49 @@ public class GetSubscriptionParamsServices {
     }
 
     public static void listValue(List<String> finalList, String[] arrayProp, int nr, CustomInput customInput, Map<String, String> httpResponse, String param) {
+        //the response is parsed once for all the parameters, not once for each of them
+        Document document = null;
+        NamespaceContext namespaceContext = null;
+        try {
+            final CommonInputs commonInputs = customInput.getCommonInputs(httpResponse.get(RETURN_RESULT), XML_DOCUMENT_SOURCE, EMPTY, SECURE_PROCESSING);
+            document = XmlUtils.getDocument(commonInputs);
+            namespaceContext = XmlUtils.getNamespaceContext(commonInputs, document);
+        } catch (Exception ignored) {
+        }
+
         for (int i = 0; i < arrayProp.length; i++)
             if (arrayProp[i].contains(param)) {
 
                 String xPathQueryChild = QUERY + arrayProp[i] + QUERY_PART;
-                Map<String, String> queryChild = new XpathQueryService().execute(customInput.getCommonInputs(httpResponse.get(RETURN_RESULT), XML_DOCUMENT_SOURCE, xPathQueryChild, SECURE_PROCESSING),
-                        customInput.getCustomInputs(QUERY_TYPE, DELIMITER));
-
-                queryChild.put(SELECTED_VALUE, queryChild.get(SELECTED_VALUE).replaceAll(WHITESPACE, EMPTY));
+                String value = selectValue(document, namespaceContext, xPathQueryChild).replaceAll(WHITESPACE, EMPTY);
 
                 arrayProp[i] = arrayProp[i].replaceAll(param, EMPTY);
 
                 if (i < nr && nr > 1)
-                    finalList.add(arrayProp[i] + EQUALS + queryChild.get(SELECTED_VALUE) + AND);
+                    finalList.add(arrayProp[i] + EQUALS + value + AND);
                 else
-                    finalList.add(arrayProp[i] + EQUALS + queryChild.get(SELECTED_VALUE));
+                    finalList.add(arrayProp[i] + EQUALS + value);
 
             }
 
     }
 
+    //same selection as the nodelist query of XpathQueryService, an empty value if the response or the query is not valid
+    private static String selectValue(Document document, NamespaceContext namespaceContext, String xPathQuery) {
+        if (document == null) {
+            return EMPTY;
+        }
+        try {
+            final NodeList nodeList = (NodeList) XmlUtils.createXPathExpression(namespaceContext, xPathQuery).evaluate(document, XPathConstants.NODESET);
+            final List<String> values = new ArrayList<>();
+            for (int i = 0; i < nodeList.getLength(); i++)
+                values.add(XmlUtils.nodeToString(nodeList.item(i)));
+
+            final String selection = join(values, DELIMITER);
+            return isBlank(selection) ? NO_MATCH_FOUND : selection;
+        } catch (Exception e) {
+            return EMPTY;
+        }
+    }
+
 }
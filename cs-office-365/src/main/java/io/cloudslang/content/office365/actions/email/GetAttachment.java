@@ -98,13 +98,16 @@ public class GetAttachment {
                                        @Param(value = KEEP_ALIVE, description = KEEP_ALIVE_DESC) String keepAlive,
                                        @Param(value = CONNECTIONS_MAX_PER_ROUTE, description = CONN_MAX_ROUTE_DESC) String connectionsMaxPerRoute,
                                        @Param(value = CONNECTIONS_MAX_TOTAL, description = CONN_MAX_TOTAL_DESC) String connectionsMaxTotal,
-                                       @Param(value = RESPONSE_CHARACTER_SET, description = RESPONSC_CHARACTER_SET_DESC) String responseCharacterSet) {
+                                       @Param(value = RESPONSE_CHARACTER_SET, description = RESPONSC_CHARACTER_SET_DESC) String responseCharacterSet,
+
+                                       @Param(value = STREAM_CONTENT, description = STREAM_CONTENT_DESC) String streamContent) {
 
         userPrincipalName = defaultIfEmpty(userPrincipalName, EMPTY);
         userId = defaultIfEmpty(userId, EMPTY);
         messageId = defaultIfEmpty(messageId, EMPTY);
         attachmentId = defaultIfEmpty(attachmentId, EMPTY);
         filePath = defaultIfEmpty(filePath, EMPTY);
+        streamContent = defaultIfEmpty(streamContent, BOOLEAN_FALSE);
         proxyHost = defaultIfEmpty(proxyHost, EMPTY);
         proxyPort = defaultIfEmpty(proxyPort, DEFAULT_PROXY_PORT);
         proxyUsername = defaultIfEmpty(proxyUsername, EMPTY);
@@ -120,7 +123,7 @@ public class GetAttachment {
         connectionsMaxTotal = defaultIfEmpty(connectionsMaxTotal, CONNECTIONS_MAX_TOTAL_CONST);
         responseCharacterSet = defaultIfEmpty(responseCharacterSet, UTF8);
 
-        final List<String> exceptionMessages = verifyGetAttachmentInputs(messageId, userPrincipalName, attachmentId, userId, proxyPort,
+        final List<String> exceptionMessages = verifyGetAttachmentInputs(messageId, userPrincipalName, attachmentId, userId, streamContent, proxyPort,
                 trustAllRoots, connectTimeout, socketTimeout, keepAlive,
                 connectionsMaxPerRoute, connectionsMaxTotal);
 
@@ -133,6 +136,7 @@ public class GetAttachment {
                     .messageId(messageId)
                     .attachmentId(attachmentId)
                     .filePath(filePath)
+                    .streamContent(Boolean.parseBoolean(streamContent))
                     .commonInputs(Office365CommonInputs.builder()
                             .authToken(authToken)
                             .proxyHost(proxyHost)
@@ -155,7 +159,9 @@ public class GetAttachment {
                     .build());
             final String returnMessage = result.get(RETURN_RESULT);
             final Map<String, String> results = getOperationResults(result, returnMessage, returnMessage, returnMessage);
-            addAditionalOutputs(results, result, returnMessage, filePath);
+            //when the content is streamed it is already in the file and the response holds only the metadata
+            final boolean contentStreamed = Boolean.parseBoolean(streamContent) && !filePath.isEmpty();
+            addAditionalOutputs(results, result, returnMessage, contentStreamed ? EMPTY : filePath);
 
             return results;
         } catch (Exception exception) {
@@ -21,8 +21,10 @@ import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import com.jayway.jsonpath.JsonPath;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.office365.entities.GraphPageResults;
 import io.cloudslang.content.office365.entities.ListMessagesInputs;
 import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import io.cloudslang.content.office365.entities.PagingInputs;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.util.List;
@@ -35,6 +37,7 @@ import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.ResponseNames.FAILURE;
 import static io.cloudslang.content.constants.ResponseNames.SUCCESS;
 import static io.cloudslang.content.httpclient.entities.HttpClientInputs.*;
+import static io.cloudslang.content.office365.services.EmailServiceImpl.listAllMessages;
 import static io.cloudslang.content.office365.services.EmailServiceImpl.listMessages;
 import static io.cloudslang.content.office365.utils.Constants.*;
 import static io.cloudslang.content.office365.utils.Descriptions.Common.*;
@@ -45,14 +48,20 @@ import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.FA
 import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.RETURN_RESULT_DESC;
 import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.*;
 import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.SUCCESS_DESC;
+import static io.cloudslang.content.office365.utils.Descriptions.Paging.*;
 import static io.cloudslang.content.office365.utils.HttpUtils.getOperationResults;
+import static io.cloudslang.content.office365.utils.HttpUtils.getPagingResults;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_HOST;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_PASSWORD;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_PORT;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_USERNAME;
 import static io.cloudslang.content.office365.utils.Inputs.EmailInputs.*;
+import static io.cloudslang.content.office365.utils.Inputs.Paging.*;
 import static io.cloudslang.content.office365.utils.InputsValidation.verifyCommonInputs;
+import static io.cloudslang.content.office365.utils.InputsValidation.verifyPagingInputs;
 import static io.cloudslang.content.office365.utils.Outputs.CommonOutputs.DOCUMENT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.ITEM_COUNT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.PAGE_COUNT;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static org.apache.commons.lang3.StringUtils.*;
 
@@ -65,6 +74,8 @@ public class ListMessages {
                     @Output(value = EXCEPTION, description = EXCEPTION_DESC),
                     @Output(value = DOCUMENT, description = DOCUMENT_DESC),
                     @Output(value = STATUS_CODE, description = STATUS_CODE_DESC),
+                    @Output(value = ITEM_COUNT, description = ITEM_COUNT_DESC),
+                    @Output(value = PAGE_COUNT, description = PAGE_COUNT_DESC),
                     @Output(value = MESSAGE_ID_LIST, description = MESSAGE_ID_LIST_DESC)
             },
             responses = {
@@ -94,7 +105,12 @@ public class ListMessages {
                                        @Param(value = KEEP_ALIVE, description = KEEP_ALIVE_DESC) String keepAlive,
                                        @Param(value = CONNECTIONS_MAX_PER_ROUTE, description = CONN_MAX_ROUTE_DESC) String connectionsMaxPerRoute,
                                        @Param(value = CONNECTIONS_MAX_TOTAL, description = CONN_MAX_TOTAL_DESC) String connectionsMaxTotal,
-                                       @Param(value = RESPONSE_CHARACTER_SET, description = RESPONSC_CHARACTER_SET_DESC) String responseCharacterSet) {
+                                       @Param(value = RESPONSE_CHARACTER_SET, description = RESPONSC_CHARACTER_SET_DESC) String responseCharacterSet,
+
+                                       @Param(value = PAGE_ALL, description = PAGE_ALL_DESC) String pageAll,
+                                       @Param(value = MAX_RESULTS, description = MAX_RESULTS_DESC) String maxResults,
+                                       @Param(value = OUTPUT_FILE_PATH, description = OUTPUT_FILE_PATH_DESC) String outputFilePath,
+                                       @Param(value = PREFETCH, description = PREFETCH_DESC) String prefetch) {
 
         userPrincipalName = defaultIfEmpty(userPrincipalName, EMPTY);
         userId = defaultIfEmpty(userId, EMPTY);
@@ -116,17 +132,22 @@ public class ListMessages {
         topQuery = defaultIfEmpty(topQuery, TOP_QUERY_CONST);
         selectQuery = defaultIfEmpty(selectQuery, EMPTY);
         oDataQuery = defaultIfEmpty(oDataQuery, EMPTY);
+        pageAll = defaultIfEmpty(pageAll, BOOLEAN_FALSE);
+        outputFilePath = defaultIfEmpty(outputFilePath, EMPTY);
+        maxResults = defaultIfEmpty(maxResults, isEmpty(outputFilePath) ? DEFAULT_MAX_RESULTS : ZERO);
+        prefetch = defaultIfEmpty(prefetch, BOOLEAN_FALSE);
 
         final List<String> exceptionMessages = verifyCommonInputs(userPrincipalName, userId, proxyPort, trustAllRoots,
                 connectTimeout, socketTimeout, keepAlive,
                 connectionsMaxPerRoute, connectionsMaxTotal);
 
+        exceptionMessages.addAll(verifyPagingInputs(pageAll, maxResults, outputFilePath, prefetch));
         if (!exceptionMessages.isEmpty()) {
             return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
         }
 
         try {
-            final Map<String, String> result = listMessages(ListMessagesInputs.builder()
+            final ListMessagesInputs listMessagesInputs = ListMessagesInputs.builder()
                     .folderId(folderId)
                     .topQuery(topQuery)
                     .selectQuery(selectQuery)
@@ -150,7 +171,20 @@ public class ListMessages {
                             .trustKeystore(trustKeystore)
                             .trustPassword(trustPassword)
                             .build())
-                    .build());
+                    .build();
+
+            if (Boolean.parseBoolean(pageAll)) {
+                final GraphPageResults pageResults = listAllMessages(listMessagesInputs, PagingInputs.builder()
+                        .maxResults(Integer.parseInt(maxResults))
+                        .outputFilePath(outputFilePath)
+                        .prefetch(Boolean.parseBoolean(prefetch))
+                        .build());
+                final Map<String, String> results = getPagingResults(pageResults, outputFilePath);
+                results.put(MESSAGE_ID_LIST, join(pageResults.getIds().toArray(), DELIMITER));
+                return results;
+            }
+
+            final Map<String, String> result = listMessages(listMessagesInputs);
             final String returnMessage = result.get(RETURN_RESULT);
 
             final Map<String, String> results = getOperationResults(result, returnMessage, returnMessage, returnMessage);
@@ -22,6 +22,7 @@ import com.hp.oo.sdk.content.annotations.Response;
 import io.cloudslang.content.constants.ReturnCodes;
 import io.cloudslang.content.office365.entities.CreateUserInputs;
 import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import io.cloudslang.content.office365.entities.PagingInputs;
 import io.cloudslang.content.utils.StringUtilities;
 
 import java.util.List;
@@ -34,6 +35,7 @@ import static io.cloudslang.content.constants.OutputNames.*;
 import static io.cloudslang.content.constants.ResponseNames.FAILURE;
 import static io.cloudslang.content.constants.ResponseNames.SUCCESS;
 import static io.cloudslang.content.httpclient.entities.HttpClientInputs.*;
+import static io.cloudslang.content.office365.services.UserServiceImpl.listAllUsers;
 import static io.cloudslang.content.office365.services.UserServiceImpl.listUsers;
 import static io.cloudslang.content.office365.utils.Constants.*;
 import static io.cloudslang.content.office365.utils.Descriptions.Common.*;
@@ -42,18 +44,25 @@ import static io.cloudslang.content.office365.utils.Descriptions.GetEmail.*;
 import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.FAILURE_DESC;
 import static io.cloudslang.content.office365.utils.Descriptions.ListMessages.SUCCESS_DESC;
 import static io.cloudslang.content.office365.utils.Descriptions.ListUser.*;
+import static io.cloudslang.content.office365.utils.Descriptions.Paging.*;
 import static io.cloudslang.content.office365.utils.HttpUtils.getOperationResults;
+import static io.cloudslang.content.office365.utils.HttpUtils.getPagingResults;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_HOST;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_PASSWORD;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_PORT;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_USERNAME;
 import static io.cloudslang.content.office365.utils.Inputs.EmailInputs.AUTH_TOKEN;
 import static io.cloudslang.content.office365.utils.Inputs.EmailInputs.O_DATA_QUERY;
+import static io.cloudslang.content.office365.utils.Inputs.Paging.*;
 import static io.cloudslang.content.office365.utils.InputsValidation.verifyCommonUserInputs;
+import static io.cloudslang.content.office365.utils.InputsValidation.verifyPagingInputs;
 import static io.cloudslang.content.office365.utils.Outputs.CommonOutputs.DOCUMENT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.ITEM_COUNT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.PAGE_COUNT;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 public class ListUsers {
 
@@ -63,7 +72,9 @@ public class ListUsers {
                     @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
                     @Output(value = DOCUMENT, description = LIST_USERS_DOCUMENT_DESC),
                     @Output(value = EXCEPTION, description = LIST_USERS_EXCEPTION_DESC),
-                    @Output(value = STATUS_CODE, description = STATUS_CODE_DESC)
+                    @Output(value = STATUS_CODE, description = STATUS_CODE_DESC),
+                    @Output(value = ITEM_COUNT, description = ITEM_COUNT_DESC),
+                    @Output(value = PAGE_COUNT, description = PAGE_COUNT_DESC)
             },
             responses = {
                     @Response(text = SUCCESS, field = RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = COMPARE_EQUAL, responseType = RESOLVED, description = SUCCESS_DESC),
@@ -87,9 +98,18 @@ public class ListUsers {
                                        @Param(value = KEEP_ALIVE, description = KEEP_ALIVE_DESC) String keepAlive,
                                        @Param(value = CONNECTIONS_MAX_PER_ROUTE, description = CONN_MAX_ROUTE_DESC) String connectionsMaxPerRoute,
                                        @Param(value = CONNECTIONS_MAX_TOTAL, description = CONN_MAX_TOTAL_DESC) String connectionsMaxTotal,
-                                       @Param(value = RESPONSE_CHARACTER_SET, description = CONN_MAX_TOTAL_DESC) String responseCharacterSet) {
+                                       @Param(value = RESPONSE_CHARACTER_SET, description = CONN_MAX_TOTAL_DESC) String responseCharacterSet,
+
+                                       @Param(value = PAGE_ALL, description = PAGE_ALL_DESC) String pageAll,
+                                       @Param(value = MAX_RESULTS, description = MAX_RESULTS_DESC) String maxResults,
+                                       @Param(value = OUTPUT_FILE_PATH, description = OUTPUT_FILE_PATH_DESC) String outputFilePath,
+                                       @Param(value = PREFETCH, description = PREFETCH_DESC) String prefetch) {
 
         oDataQuery = defaultIfEmpty(oDataQuery, EMPTY);
+        pageAll = defaultIfEmpty(pageAll, BOOLEAN_FALSE);
+        outputFilePath = defaultIfEmpty(outputFilePath, EMPTY);
+        maxResults = defaultIfEmpty(maxResults, isEmpty(outputFilePath) ? DEFAULT_MAX_RESULTS : ZERO);
+        prefetch = defaultIfEmpty(prefetch, BOOLEAN_FALSE);
         proxyHost = defaultIfEmpty(proxyHost, EMPTY);
         proxyPort = defaultIfEmpty(proxyPort, DEFAULT_PROXY_PORT);
         proxyUsername = defaultIfEmpty(proxyUsername, EMPTY);
@@ -106,12 +126,13 @@ public class ListUsers {
         responseCharacterSet = defaultIfEmpty(responseCharacterSet, UTF8);
 
         final List<String> exceptionMessages = verifyCommonUserInputs(proxyPort, trustAllRoots, connectTimeout, socketTimeout, keepAlive, connectionsMaxPerRoute, connectionsMaxTotal);
+        exceptionMessages.addAll(verifyPagingInputs(pageAll, maxResults, outputFilePath, prefetch));
         if (!exceptionMessages.isEmpty()) {
             return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
         }
 
         try {
-            final Map<String, String> result = listUsers(CreateUserInputs.builder()
+            final CreateUserInputs listUsersInputs = CreateUserInputs.builder()
                     .oDataQuery(oDataQuery)
                     .commonInputs(Office365CommonInputs.builder()
                             .authToken(authToken)
@@ -129,7 +150,17 @@ public class ListUsers {
                             .trustKeystore(trustKeystore)
                             .trustPassword(trustPassword)
                             .build())
-                    .build());
+                    .build();
+
+            if (Boolean.parseBoolean(pageAll)) {
+                return getPagingResults(listAllUsers(listUsersInputs, PagingInputs.builder()
+                        .maxResults(Integer.parseInt(maxResults))
+                        .outputFilePath(outputFilePath)
+                        .prefetch(Boolean.parseBoolean(prefetch))
+                        .build()), outputFilePath);
+            }
+
+            final Map<String, String> result = listUsers(listUsersInputs);
             final String returnMessage = result.get(RETURN_RESULT);
             return getOperationResults(result, returnMessage, returnMessage, returnMessage);
         } catch (Exception exception) {
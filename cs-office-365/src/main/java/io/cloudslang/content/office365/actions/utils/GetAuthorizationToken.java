@@ -68,7 +68,8 @@ public class GetAuthorizationToken {
      *                       Default: '8080'
      * @param proxyUsername  User name used when connecting to the proxy
      * @param proxyPassword  The proxy server password associated with the proxyUsername input value
-     * @return The authorization token for Office 365
+     * @return The authorization token for Office 365. The same token is returned for the same credentials until
+     * 5 minutes before it expires.
      */
     @Action(name = "Get the authorization token for Office 365",
             outputs = {
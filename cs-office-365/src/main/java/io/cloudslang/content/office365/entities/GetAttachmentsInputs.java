@@ -24,14 +24,17 @@ public class GetAttachmentsInputs {
     private final String messageId;
     private final String attachmentId;
     private final String filePath;
+    private final boolean streamContent;
 
     private final Office365CommonInputs commonInputs;
 
-    @java.beans.ConstructorProperties({"messageId", "attachmentId", "filePath", "commonInputs"})
-    public GetAttachmentsInputs(String messageId, String attachmentId, String filePath, Office365CommonInputs commonInputs) {
+    @java.beans.ConstructorProperties({"messageId", "attachmentId", "filePath", "streamContent", "commonInputs"})
+    public GetAttachmentsInputs(String messageId, String attachmentId, String filePath, boolean streamContent,
+                                Office365CommonInputs commonInputs) {
         this.messageId = messageId;
         this.attachmentId = attachmentId;
         this.filePath = filePath;
+        this.streamContent = streamContent;
         this.commonInputs = commonInputs;
     }
 
@@ -55,6 +58,10 @@ public class GetAttachmentsInputs {
         return this.filePath;
     }
 
+    public boolean isStreamContent() {
+        return this.streamContent;
+    }
+
     @NotNull
     public Office365CommonInputs getCommonInputs() {
         return this.commonInputs;
@@ -64,6 +71,7 @@ public class GetAttachmentsInputs {
         private String messageId = EMPTY;
         private String attachmentId = EMPTY;
         private String filePath = EMPTY;
+        private boolean streamContent;
         private Office365CommonInputs commonInputs;
 
         GetAttachmentsInputsBuilder() {
@@ -85,6 +93,12 @@ public class GetAttachmentsInputs {
             return this;
         }
 
+        @NotNull
+        public GetAttachmentsInputs.GetAttachmentsInputsBuilder streamContent(final boolean streamContent) {
+            this.streamContent = streamContent;
+            return this;
+        }
+
         @NotNull
         public GetAttachmentsInputs.GetAttachmentsInputsBuilder commonInputs(@NotNull final Office365CommonInputs commonInputs) {
             this.commonInputs = commonInputs;
@@ -92,7 +106,7 @@ public class GetAttachmentsInputs {
         }
 
         public GetAttachmentsInputs build() {
-            return new GetAttachmentsInputs(messageId, attachmentId, filePath, commonInputs);
+            return new GetAttachmentsInputs(messageId, attachmentId, filePath, streamContent, commonInputs);
         }
     }
 
@@ -0,0 +1,59 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * One operation of a Microsoft Graph JSON batch. The url is relative to the Graph version, e.g. /users/{id}.
+ */
+public class GraphBatchRequest {
+    private final String key;
+    private final String method;
+    private final String url;
+    private final String body;
+
+    public GraphBatchRequest(@NotNull final String key,
+                             @NotNull final String method,
+                             @NotNull final String url,
+                             @Nullable final String body) {
+        this.key = key;
+        this.method = method;
+        this.url = url;
+        this.body = body;
+    }
+
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+
+    @NotNull
+    public String getMethod() {
+        return method;
+    }
+
+    @NotNull
+    public String getUrl() {
+        return url;
+    }
+
+    @Nullable
+    public String getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The response of one operation of a Microsoft Graph JSON batch, identified by the key of its request.
+ */
+public class GraphBatchResult {
+    private final String key;
+    private final int status;
+    private final String body;
+
+    public GraphBatchResult(@NotNull final String key, final int status, @Nullable final String body) {
+        this.key = key;
+        this.status = status;
+        this.body = body;
+    }
+
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    @Nullable
+    public String getBody() {
+        return body;
+    }
+
+    public boolean isSuccessful() {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.entities;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The items read from all the pages of a Graph collection. The items are either kept as a JSON array or written to a
+ * JSON Lines file, in which case {@link #getItems()} is null.
+ */
+public class GraphPageResults {
+    private final String items;
+    private final List<String> ids;
+    private final int itemCount;
+    private final int pageCount;
+    private final boolean truncated;
+
+    public GraphPageResults(@Nullable final String items, @NotNull final List<String> ids, final int itemCount,
+                            final int pageCount, final boolean truncated) {
+        this.items = items;
+        this.ids = ids;
+        this.itemCount = itemCount;
+        this.pageCount = pageCount;
+        this.truncated = truncated;
+    }
+
+    @Nullable
+    public String getItems() {
+        return items;
+    }
+
+    @NotNull
+    public List<String> getIds() {
+        return ids;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Returns true if more items were available when the maximum number of results was reached.
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
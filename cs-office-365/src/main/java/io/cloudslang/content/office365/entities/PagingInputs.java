@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.entities;
+
+import org.jetbrains.annotations.NotNull;
+
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+
+public class PagingInputs {
+    private final int maxResults;
+    private final String outputFilePath;
+    private final boolean prefetch;
+
+    @java.beans.ConstructorProperties({"maxResults", "outputFilePath", "prefetch"})
+    public PagingInputs(int maxResults, String outputFilePath, boolean prefetch) {
+        this.maxResults = maxResults;
+        this.outputFilePath = outputFilePath;
+        this.prefetch = prefetch;
+    }
+
+    @NotNull
+    public static PagingInputsBuilder builder() {
+        return new PagingInputsBuilder();
+    }
+
+    /**
+     * The maximum number of items to retrieve, 0 for all the items.
+     */
+    public int getMaxResults() {
+        return maxResults;
+    }
+
+    @NotNull
+    public String getOutputFilePath() {
+        return outputFilePath;
+    }
+
+    public boolean isPrefetch() {
+        return prefetch;
+    }
+
+    public static class PagingInputsBuilder {
+        private int maxResults = 0;
+        private String outputFilePath = EMPTY;
+        private boolean prefetch = false;
+
+        PagingInputsBuilder() {
+        }
+
+        @NotNull
+        public PagingInputs.PagingInputsBuilder maxResults(final int maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        @NotNull
+        public PagingInputs.PagingInputsBuilder outputFilePath(@NotNull final String outputFilePath) {
+            this.outputFilePath = outputFilePath;
+            return this;
+        }
+
+        @NotNull
+        public PagingInputs.PagingInputsBuilder prefetch(final boolean prefetch) {
+            this.prefetch = prefetch;
+            return this;
+        }
+
+        public PagingInputs build() {
+            return new PagingInputs(maxResults, outputFilePath, prefetch);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.services.HttpClientService;
+import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import static io.cloudslang.content.httpclient.services.HttpClientService.EXCEPTION;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_RESULT;
+import static io.cloudslang.content.office365.services.HttpCommons.setCommonHttpInputs;
+import static io.cloudslang.content.office365.utils.Constants.*;
+import static io.cloudslang.content.office365.utils.HttpUtils.getAuthHeaders;
+
+/**
+ * Downloads the content of a file attachment through the /$value endpoint of the attachment. The content is copied
+ * from the response to the file as it is received, instead of being read as base64 from the contentBytes property
+ * of the attachment and decoded in memory.
+ */
+public class AttachmentContentServiceImpl {
+
+    /**
+     * Requests the metadata and the raw content of an attachment. Both requests return the outputs of
+     * {@link HttpClientService}, the response entity of the content request is written to the destination file.
+     */
+    interface ContentTransport {
+        Map<String, String> getMetadata(@NotNull final String url) throws Exception;
+
+        Map<String, String> download(@NotNull final String url, @NotNull final File destination) throws Exception;
+    }
+
+    /**
+     * Returns the outputs of the metadata request, the returnResult contains only the name, the content type and the
+     * size of the attachment. The content is written to a file with the name of the attachment, under the filePath.
+     */
+    @NotNull
+    public static Map<String, String> downloadContent(@NotNull final String attachmentUrl,
+                                                      @NotNull final String filePath,
+                                                      @NotNull final Office365CommonInputs commonInputs) throws Exception {
+        return downloadContent(attachmentUrl, filePath, new HttpContentTransport(commonInputs));
+    }
+
+    @NotNull
+    static Map<String, String> downloadContent(@NotNull final String attachmentUrl,
+                                               @NotNull final String filePath,
+                                               @NotNull final ContentTransport transport) throws Exception {
+        final Map<String, String> result = transport.getMetadata(attachmentUrl);
+        if (!ZERO.equals(result.get(RETURN_CODE))) {
+            return result;
+        }
+        final int statusCode = Integer.parseInt(result.get(STATUS_CODE));
+        if (statusCode < 200 || statusCode >= 300) {
+            return result;
+        }
+
+        final JsonObject metadata = new JsonParser().parse(result.get(RETURN_RESULT)).getAsJsonObject();
+        if (!metadata.has(NAME) || metadata.get(NAME).isJsonNull()) {
+            throw new IOException(String.format(EXCEPTION_ATTACHMENT_NAME, filePath));
+        }
+        final File file = new File(filePath, metadata.get(NAME).getAsString());
+
+        //a partial file, or the error returned instead of the content, is not left behind if the download fails
+        boolean downloaded = false;
+        try {
+            final Map<String, String> downloadResult = transport.download(attachmentUrl + RAW_VALUE_PATH, file);
+            if (!ZERO.equals(downloadResult.get(RETURN_CODE))) {
+                throw new IOException(downloadResult.get(EXCEPTION));
+            }
+            final int downloadStatusCode = Integer.parseInt(downloadResult.get(STATUS_CODE));
+            if (downloadStatusCode < 200 || downloadStatusCode >= 300) {
+                final String error = file.exists() ? new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8) : "";
+                throw new IOException(String.format(EXCEPTION_ATTACHMENT_DOWNLOAD, downloadStatusCode, error));
+            }
+            downloaded = true;
+        } finally {
+            if (!downloaded) {
+                file.delete();
+            }
+        }
+        return result;
+    }
+
+    static class HttpContentTransport implements ContentTransport {
+        private final Office365CommonInputs commonInputs;
+
+        HttpContentTransport(@NotNull final Office365CommonInputs commonInputs) {
+            this.commonInputs = commonInputs;
+        }
+
+        @Override
+        public Map<String, String> getMetadata(@NotNull final String url) {
+            final HttpClientInputs httpClientInputs = getHttpClientInputs(url);
+            httpClientInputs.setQueryParams(SELECT_PATH + ATTACHMENT_METADATA_FIELDS);
+
+            return new HttpClientService().execute(httpClientInputs);
+        }
+
+        //HttpClientService copies the entity to the destination file through the response character set,
+        //ISO-8859-1 maps every byte to one character and back so the content is written unchanged
+        @Override
+        public Map<String, String> download(@NotNull final String url, @NotNull final File destination) {
+            final HttpClientInputs httpClientInputs = getHttpClientInputs(url);
+            httpClientInputs.setResponseCharacterSet(StandardCharsets.ISO_8859_1.name());
+            httpClientInputs.setDestinationFile(destination.getAbsolutePath());
+
+            return new HttpClientService().execute(httpClientInputs);
+        }
+
+        @NotNull
+        private HttpClientInputs getHttpClientInputs(@NotNull final String url) {
+            final HttpClientInputs httpClientInputs = new HttpClientInputs();
+            httpClientInputs.setUrl(url);
+
+            setCommonHttpInputs(httpClientInputs, commonInputs);
+
+            httpClientInputs.setAuthType(ANONYMOUS);
+            httpClientInputs.setMethod(GET);
+            httpClientInputs.setKeystore(DEFAULT_JAVA_KEYSTORE);
+            httpClientInputs.setKeystorePassword(CHANGEIT);
+            httpClientInputs.setResponseCharacterSet(commonInputs.getResponseCharacterSet());
+            httpClientInputs.setHeaders(getAuthHeaders(commonInputs.getAuthToken()));
+            return httpClientInputs;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.microsoft.aad.adal4j.AuthenticationResult;
+import io.cloudslang.content.office365.entities.AuthorizationTokenInputs;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.apache.commons.codec.digest.DigestUtils.sha256Hex;
+
+/**
+ * Keeps the tokens acquired by this process, so the actions that run one after the other with the same credentials
+ * do not each go to the authority for a new token. A token is used until {@link #REFRESH_AHEAD_MILLIS} before it
+ * expires, then a new one is acquired.
+ */
+public final class AuthorizationTokenCache {
+    public static final long REFRESH_AHEAD_MILLIS = 5 * 60 * 1000;
+    private static final String KEY_SEPARATOR = "\u0000";
+    private static final ConcurrentMap<String, CachedToken> TOKENS = new ConcurrentHashMap<>();
+
+    private AuthorizationTokenCache() {
+    }
+
+    @NotNull
+    public static AuthenticationResult getToken(@NotNull final AuthorizationTokenInputs inputs,
+                                                @NotNull final Callable<AuthenticationResult> tokenSupplier) throws Exception {
+        final String key = getKey(inputs);
+        CachedToken cachedToken = TOKENS.get(key);
+        if (cachedToken == null) {
+            final CachedToken newCachedToken = new CachedToken();
+            cachedToken = TOKENS.putIfAbsent(key, newCachedToken);
+            if (cachedToken == null) {
+                cachedToken = newCachedToken;
+            }
+        }
+
+        AuthenticationResult result = cachedToken.getValidToken();
+        if (result != null) {
+            return result;
+        }
+        //only one request per key goes to the authority, the others wait for its token
+        synchronized (cachedToken) {
+            result = cachedToken.getValidToken();
+            if (result == null) {
+                result = tokenSupplier.call();
+                cachedToken.token = result;
+                removeExpiredTokens();
+            }
+            return result;
+        }
+    }
+
+    public static void clear() {
+        TOKENS.clear();
+    }
+
+    /**
+     * The secrets are part of the key, as digests, so a token is only given to the callers that could acquire it.
+     */
+    @NotNull
+    private static String getKey(@NotNull final AuthorizationTokenInputs inputs) {
+        return inputs.getLoginType().toLowerCase() + KEY_SEPARATOR + inputs.getAuthority() + KEY_SEPARATOR +
+                inputs.getClientId() + KEY_SEPARATOR + inputs.getResource() + KEY_SEPARATOR + inputs.getUsername() +
+                KEY_SEPARATOR + sha256Hex(inputs.getClientSecret() + KEY_SEPARATOR + inputs.getPassword());
+    }
+
+    private static void removeExpiredTokens() {
+        final long now = System.currentTimeMillis();
+        final Iterator<Map.Entry<String, CachedToken>> iterator = TOKENS.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final AuthenticationResult token = iterator.next().getValue().token;
+            if (token != null && token.getExpiresOnDate().getTime() <= now) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static class CachedToken {
+        private volatile AuthenticationResult token;
+
+        private AuthenticationResult getValidToken() {
+            final AuthenticationResult currentToken = token;
+            if (currentToken != null && currentToken.getExpiresOnDate() != null &&
+                    currentToken.getExpiresOnDate().getTime() - REFRESH_AHEAD_MILLIS > System.currentTimeMillis()) {
+                return currentToken;
+            }
+            return null;
+        }
+    }
+}
@@ -21,42 +21,66 @@ import com.microsoft.aad.adal4j.ClientCredential;
 import io.cloudslang.content.office365.entities.AuthorizationTokenInputs;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.cloudslang.content.office365.utils.Constants.API;
 import static io.cloudslang.content.office365.utils.HttpUtils.getProxy;
 
 public class AuthorizationTokenImpl {
+    //the authentication contexts of all the token requests run on the same pool, idle threads are released after a minute
+    private static final ExecutorService TOKEN_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
 
+        @Override
+        public Thread newThread(@NotNull final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "office365-token-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * Returns the token kept by {@link AuthorizationTokenCache} for the same credentials, or acquires a new one.
+     */
     @NotNull
     public static AuthenticationResult getToken(@NotNull final AuthorizationTokenInputs inputs) throws Exception {
-        final ExecutorService service = Executors.newSingleThreadExecutor();
-        final AuthenticationContext context = new AuthenticationContext(inputs.getAuthority(), false, service);
+        return AuthorizationTokenCache.getToken(inputs, new Callable<AuthenticationResult>() {
+            @Override
+            public AuthenticationResult call() throws Exception {
+                return acquireToken(inputs);
+            }
+        });
+    }
+
+    @NotNull
+    public static AuthenticationResult acquireToken(@NotNull final AuthorizationTokenInputs inputs) throws Exception {
+        final AuthenticationContext context = new AuthenticationContext(inputs.getAuthority(), false, TOKEN_EXECUTOR);
         context.setProxy(getProxy(inputs.getProxyHost(), inputs.getProxyPort(), inputs.getProxyUsername(), inputs.getProxyPassword()));
 
         //Verifying if loginType is API to instantiate ClientCredential object
         if (inputs.getLoginType().equalsIgnoreCase(API)) {
             final ClientCredential credential = new ClientCredential(inputs.getClientId(), inputs.getClientSecret());
-            return acquireToken(context, inputs, credential, service);
+            return acquireToken(context, inputs, credential);
         }
 
         //Otherwise, the loginType is Native since the verification was already made in the @Action
-        return acquireToken(context, inputs, service);
+        return acquireToken(context, inputs);
     }
 
     @NotNull
-    private static AuthenticationResult acquireToken(@NotNull final AuthenticationContext context, @NotNull final AuthorizationTokenInputs inputs, @NotNull ClientCredential credential, @NotNull ExecutorService service) throws Exception {
+    private static AuthenticationResult acquireToken(@NotNull final AuthenticationContext context, @NotNull final AuthorizationTokenInputs inputs, @NotNull ClientCredential credential) throws Exception {
         final Future<AuthenticationResult> future = context.acquireToken(inputs.getResource(), credential, null);
-        service.shutdown();
         return future.get();
     }
 
     @NotNull
-    private static AuthenticationResult acquireToken(@NotNull final AuthenticationContext context, @NotNull final AuthorizationTokenInputs inputs, @NotNull ExecutorService service) throws Exception {
+    private static AuthenticationResult acquireToken(@NotNull final AuthenticationContext context, @NotNull final AuthorizationTokenInputs inputs) throws Exception {
         final Future<AuthenticationResult> future = context.acquireToken(inputs.getResource(), inputs.getClientId(), inputs.getUsername(), inputs.getPassword(), null);
-        service.shutdown();
         return future.get();
     }
-}
\ No newline at end of file
+}
@@ -115,6 +115,19 @@ public class EmailServiceImpl {
         return new HttpClientService().execute(httpClientInputs);
     }
 
+    /**
+     * Returns the messages from all the pages, following the @odata.nextLink of every page.
+     */
+    @NotNull
+    public static GraphPageResults listAllMessages(@NotNull final ListMessagesInputs listMessagesInputs,
+                                                   @NotNull final PagingInputs pagingInputs) throws Exception {
+        final Office365CommonInputs commonInputs = listMessagesInputs.getCommonInputs();
+        return GraphPagingServiceImpl.listAll(commonInputs,
+                listMessagesUrl(commonInputs.getUserPrincipalName(), commonInputs.getUserId(), listMessagesInputs.getFolderId()),
+                getQueryParams(listMessagesInputs.getTopQuery(), listMessagesInputs.getSelectQuery(), listMessagesInputs.getoDataQuery()),
+                pagingInputs);
+    }
+
     @NotNull
     private static String getMessageUrl(@NotNull final String userPrincipalName,
                                         @NotNull final String userId,
@@ -290,10 +303,14 @@ public class EmailServiceImpl {
     public static Map<String, String> getAttachments(@NotNull final GetAttachmentsInputs getAttachmentsInputs) throws Exception {
         final HttpClientInputs httpClientInputs = new HttpClientInputs();
         final Office365CommonInputs commonInputs = getAttachmentsInputs.getCommonInputs();
-        httpClientInputs.setUrl(getAttachmentsUrl(commonInputs.getUserPrincipalName(),
+        final String attachmentUrl = getAttachmentsUrl(commonInputs.getUserPrincipalName(),
                 commonInputs.getUserId(),
                 getAttachmentsInputs.getMessageId(),
-                getAttachmentsInputs.getAttachmentId()));
+                getAttachmentsInputs.getAttachmentId());
+        if (getAttachmentsInputs.isStreamContent() && !isEmpty(getAttachmentsInputs.getoFilePath())) {
+            return AttachmentContentServiceImpl.downloadContent(attachmentUrl, getAttachmentsInputs.getoFilePath(), commonInputs);
+        }
+        httpClientInputs.setUrl(attachmentUrl);
 
         HttpCommons.setCommonHttpInputs(httpClientInputs, commonInputs);
 
@@ -0,0 +1,410 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.services.HttpClientService;
+import io.cloudslang.content.office365.entities.CreateUserInputs;
+import io.cloudslang.content.office365.entities.GraphBatchRequest;
+import io.cloudslang.content.office365.entities.GraphBatchResult;
+import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import io.cloudslang.content.office365.utils.PopulateMoveMessageBody;
+import io.cloudslang.content.office365.utils.PopulateUserBody;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.cloudslang.content.httpclient.services.HttpClientService.EXCEPTION;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RESPONSE_HEADERS;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_RESULT;
+import static io.cloudslang.content.office365.services.HttpCommons.setCommonHttpInputs;
+import static io.cloudslang.content.office365.utils.Constants.*;
+import static io.cloudslang.content.office365.utils.HttpUtils.*;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Sends the email and user operations through the Microsoft Graph JSON batching endpoint. The operations are packed
+ * by {@link #MAX_BATCH_SIZE} in a $batch request and several batches run at the same time. The batches and the
+ * operations throttled by Graph are sent again after the Retry-After delay, which all the batches of the process wait for.
+ */
+public class GraphBatchServiceImpl {
+    public static final int MAX_BATCH_SIZE = 20;
+    static final int MAX_ATTEMPTS = 4;
+    static final long DEFAULT_RETRY_AFTER_MILLIS = 1000;
+    private static final GraphThrottle THROTTLE = new GraphThrottle();
+
+    /**
+     * Sends the body of one $batch request and returns the outputs of {@link HttpClientService}.
+     */
+    interface BatchTransport {
+        Map<String, String> send(@NotNull final String batchBody) throws Exception;
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> getMessages(@NotNull final Office365CommonInputs commonInputs,
+                                                     @NotNull final List<String> messageIds,
+                                                     @NotNull final String folderId,
+                                                     @NotNull final String selectQuery,
+                                                     @NotNull final String oDataQuery,
+                                                     final int concurrency) throws Exception {
+        final String queryParams = getQueryParams(selectQuery, oDataQuery);
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (final String messageId : messageIds) {
+            final String url = getMessageBatchPath(commonInputs, messageId, folderId);
+            requests.add(new GraphBatchRequest(messageId, GET, isEmpty(queryParams) ? url : url + QUERY + queryParams, null));
+        }
+        return execute(commonInputs, requests, concurrency);
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> moveMessages(@NotNull final Office365CommonInputs commonInputs,
+                                                      @NotNull final List<String> messageIds,
+                                                      @NotNull final String destinationId,
+                                                      final int concurrency) throws Exception {
+        final String body = PopulateMoveMessageBody.populateMoveMessageBody(destinationId);
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (final String messageId : messageIds) {
+            requests.add(new GraphBatchRequest(messageId, POST, toBatchPath(moveMessagePath(commonInputs.getUserPrincipalName(),
+                    commonInputs.getUserId(), messageId)), body));
+        }
+        return execute(commonInputs, requests, concurrency);
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> deleteMessages(@NotNull final Office365CommonInputs commonInputs,
+                                                        @NotNull final List<String> messageIds,
+                                                        @NotNull final String folderId,
+                                                        final int concurrency) throws Exception {
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (final String messageId : messageIds) {
+            requests.add(new GraphBatchRequest(messageId, DELETE, getMessageBatchPath(commonInputs, messageId, folderId), null));
+        }
+        return execute(commonInputs, requests, concurrency);
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> getUsers(@NotNull final Office365CommonInputs commonInputs,
+                                                  @NotNull final List<String> users,
+                                                  @NotNull String oDataQuery,
+                                                  final int concurrency) throws Exception {
+        if (oDataQuery.startsWith(QUERY)) {
+            oDataQuery = oDataQuery.substring(1);
+        }
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (final String user : users) {
+            final String url = USERS_PATH + PATH_SEPARATOR + user;
+            requests.add(new GraphBatchRequest(user, GET, isEmpty(oDataQuery) ? url : url + QUERY + oDataQuery, null));
+        }
+        return execute(commonInputs, requests, concurrency);
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> createUsers(@NotNull final Office365CommonInputs commonInputs,
+                                                     @NotNull final List<CreateUserInputs> users,
+                                                     final int concurrency) throws Exception {
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (final CreateUserInputs user : users) {
+            requests.add(new GraphBatchRequest(user.getUserPrincipalName(), POST, USERS_PATH,
+                    PopulateUserBody.populateUserBody(user)));
+        }
+        return execute(commonInputs, requests, concurrency);
+    }
+
+    @NotNull
+    public static List<GraphBatchResult> execute(@NotNull final Office365CommonInputs commonInputs,
+                                                 @NotNull final List<GraphBatchRequest> requests,
+                                                 final int concurrency) throws Exception {
+        return execute(requests, concurrency, THROTTLE, new BatchTransport() {
+            @Override
+            public Map<String, String> send(@NotNull final String batchBody) {
+                final HttpClientInputs httpClientInputs = new HttpClientInputs();
+                httpClientInputs.setUrl(BATCH_REQUEST_URL);
+
+                setCommonHttpInputs(httpClientInputs, commonInputs);
+
+                httpClientInputs.setAuthType(ANONYMOUS);
+                httpClientInputs.setMethod(POST);
+                httpClientInputs.setKeystore(DEFAULT_JAVA_KEYSTORE);
+                httpClientInputs.setKeystorePassword(CHANGEIT);
+                httpClientInputs.setContentType(APPLICATION_JSON);
+                httpClientInputs.setBody(batchBody);
+                httpClientInputs.setResponseCharacterSet(commonInputs.getResponseCharacterSet());
+                httpClientInputs.setHeaders(getAuthHeaders(commonInputs.getAuthToken()));
+
+                return new HttpClientService().execute(httpClientInputs);
+            }
+        });
+    }
+
+    @NotNull
+    static List<GraphBatchResult> execute(@NotNull final List<GraphBatchRequest> requests,
+                                          final int concurrency,
+                                          @NotNull final GraphThrottle throttle,
+                                          @NotNull final BatchTransport transport) throws InterruptedException {
+        final GraphBatchResult[] results = new GraphBatchResult[requests.size()];
+        final int batches = (requests.size() + MAX_BATCH_SIZE - 1) / MAX_BATCH_SIZE;
+        if (batches == 0) {
+            return new ArrayList<>();
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, batches)));
+        try {
+            final List<Future<Void>> futures = new ArrayList<>(batches);
+            for (int start = 0; start < requests.size(); start += MAX_BATCH_SIZE) {
+                final int from = start;
+                final int to = Math.min(start + MAX_BATCH_SIZE, requests.size());
+                futures.add(executorService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        executeBatch(requests, from, to, results, throttle, transport);
+                        return null;
+                    }
+                }));
+            }
+
+            for (int i = 0; i < futures.size(); i++) {
+                String failure = null;
+                try {
+                    futures.get(i).get();
+                } catch (ExecutionException e) {
+                    final Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    failure = String.valueOf(cause.getMessage());
+                }
+                final int to = Math.min((i + 1) * MAX_BATCH_SIZE, requests.size());
+                for (int index = i * MAX_BATCH_SIZE; index < to; index++) {
+                    if (results[index] == null) {
+                        results[index] = new GraphBatchResult(requests.get(index).getKey(), 0,
+                                failure == null ? EXCEPTION_NO_BATCH_RESPONSE : failure);
+                    }
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void executeBatch(@NotNull final List<GraphBatchRequest> requests,
+                                     final int from,
+                                     final int to,
+                                     @NotNull final GraphBatchResult[] results,
+                                     @NotNull final GraphThrottle throttle,
+                                     @NotNull final BatchTransport transport) throws Exception {
+        List<Integer> pending = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            pending.add(index);
+        }
+
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            final boolean lastAttempt = attempt == MAX_ATTEMPTS;
+            throttle.await();
+            final Map<String, String> response = transport.send(buildBatchBody(requests, pending));
+            if (!ZERO.equals(response.get(RETURN_CODE))) {
+                throw new RuntimeException(response.get(EXCEPTION));
+            }
+
+            final int statusCode = Integer.parseInt(response.get(STATUS_CODE));
+            if (statusCode != 200) {
+                if (isThrottled(statusCode) && !lastAttempt) {
+                    throttle.backOff(getRetryAfter(getResponseHeader(response.get(RESPONSE_HEADERS), RETRY_AFTER), attempt));
+                    continue;
+                }
+                for (final Integer index : pending) {
+                    results[index] = new GraphBatchResult(requests.get(index).getKey(), statusCode, response.get(RETURN_RESULT));
+                }
+                return;
+            }
+
+            final List<Integer> throttled = new ArrayList<>();
+            long retryAfter = 0;
+            final JsonArray responses = new JsonParser().parse(response.get(RETURN_RESULT)).getAsJsonObject().getAsJsonArray(BATCH_RESPONSES);
+            for (final JsonElement element : responses) {
+                final JsonObject itemResponse = element.getAsJsonObject();
+                final int index = Integer.parseInt(itemResponse.get(ID).getAsString());
+                final int status = itemResponse.get(BATCH_STATUS).getAsInt();
+                if (isThrottled(status) && !lastAttempt) {
+                    throttled.add(index);
+                    retryAfter = Math.max(retryAfter, getRetryAfter(getItemHeader(itemResponse, RETRY_AFTER), attempt));
+                } else {
+                    final JsonElement body = itemResponse.get(BATCH_BODY);
+                    results[index] = new GraphBatchResult(requests.get(index).getKey(), status,
+                            body == null || body.isJsonNull() ? null : body.toString());
+                }
+            }
+            if (!throttled.isEmpty()) {
+                throttle.backOff(retryAfter);
+            }
+            pending = throttled;
+        }
+    }
+
+    @NotNull
+    static String buildBatchBody(@NotNull final List<GraphBatchRequest> requests, @NotNull final List<Integer> indexes) {
+        final JsonParser parser = new JsonParser();
+        final JsonArray batchRequests = new JsonArray();
+        for (final Integer index : indexes) {
+            final GraphBatchRequest request = requests.get(index);
+            final JsonObject batchRequest = new JsonObject();
+            batchRequest.addProperty(ID, String.valueOf(index));
+            batchRequest.addProperty(BATCH_METHOD, request.getMethod());
+            batchRequest.addProperty(BATCH_URL, request.getUrl());
+            if (request.getBody() != null) {
+                final JsonObject headers = new JsonObject();
+                headers.addProperty(CONTENT_TYPE_HEADER, APPLICATION_JSON);
+                batchRequest.add(BATCH_HEADERS, headers);
+                batchRequest.add(BATCH_BODY, parser.parse(request.getBody()));
+            }
+            batchRequests.add(batchRequest);
+        }
+        final JsonObject batchBody = new JsonObject();
+        batchBody.add(BATCH_REQUESTS, batchRequests);
+        return batchBody.toString();
+    }
+
+    /**
+     * Returns the results as a JSON array in the order of the requests, each item with the id, status and body of an operation.
+     */
+    @NotNull
+    public static String toJson(@NotNull final List<GraphBatchResult> results) {
+        final JsonParser parser = new JsonParser();
+        final JsonArray items = new JsonArray();
+        for (final GraphBatchResult result : results) {
+            final JsonObject item = new JsonObject();
+            item.addProperty(ID, result.getKey());
+            item.addProperty(BATCH_STATUS, result.getStatus());
+            if (result.getBody() != null) {
+                JsonElement body;
+                try {
+                    body = parser.parse(result.getBody());
+                } catch (RuntimeException e) {
+                    body = null;
+                }
+                if (body != null && (body.isJsonObject() || body.isJsonArray())) {
+                    item.add(BATCH_BODY, body);
+                } else {
+                    item.addProperty(BATCH_BODY, result.getBody());
+                }
+            }
+            items.add(item);
+        }
+        return items.toString();
+    }
+
+    @NotNull
+    public static Map<String, String> getOperationResults(@NotNull final List<GraphBatchResult> results) {
+        int failed = 0;
+        for (final GraphBatchResult result : results) {
+            if (!result.isSuccessful()) {
+                failed++;
+            }
+        }
+        final String returnResult = toJson(results);
+        if (failed == 0) {
+            return getSuccessResultsMap(returnResult);
+        }
+        final Map<String, String> failureResults = getFailureResultsMap(String.format(EXCEPTION_FAILED_BATCH_OPERATIONS, failed, results.size()));
+        failureResults.put(RETURN_RESULT, returnResult);
+        return failureResults;
+    }
+
+    /**
+     * Splits a comma-separated list of ids, ignoring the blank entries.
+     */
+    @NotNull
+    public static List<String> toIdList(@NotNull final String idList) {
+        final List<String> ids = new ArrayList<>();
+        for (final String id : idList.split(DELIMITER)) {
+            if (!id.trim().isEmpty()) {
+                ids.add(id.trim());
+            }
+        }
+        return ids;
+    }
+
+    static long getRetryAfter(@Nullable final String retryAfter, final int attempt) {
+        if (!isEmpty(retryAfter)) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignored) {
+                //the http-date form is not used by Graph, the default back-off is used instead
+            }
+        }
+        return DEFAULT_RETRY_AFTER_MILLIS << (attempt - 1);
+    }
+
+    @Nullable
+    static String getResponseHeader(@Nullable final String responseHeaders, @NotNull final String name) {
+        if (isEmpty(responseHeaders)) {
+            return null;
+        }
+        for (final String header : responseHeaders.split("\n")) {
+            final int separator = header.indexOf(':');
+            if (separator > 0 && header.substring(0, separator).trim().equalsIgnoreCase(name)) {
+                return header.substring(separator + 1).trim();
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    private static String getItemHeader(@NotNull final JsonObject itemResponse, @NotNull final String name) {
+        if (!itemResponse.has(BATCH_HEADERS) || !itemResponse.get(BATCH_HEADERS).isJsonObject()) {
+            return null;
+        }
+        for (final Map.Entry<String, JsonElement> header : itemResponse.getAsJsonObject(BATCH_HEADERS).entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue().getAsString();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isThrottled(final int statusCode) {
+        return statusCode == 429 || statusCode == 503;
+    }
+
+    @NotNull
+    private static String getMessageBatchPath(@NotNull final Office365CommonInputs commonInputs,
+                                              @NotNull final String messageId,
+                                              @NotNull final String folderId) {
+        if (isEmpty(folderId)) {
+            return toBatchPath(getMessagePath(commonInputs.getUserPrincipalName(), commonInputs.getUserId(), messageId));
+        }
+        return toBatchPath(getMessagePath(commonInputs.getUserPrincipalName(), commonInputs.getUserId(), messageId, folderId));
+    }
+
+    //the urls of the batch operations are relative to the version of the api
+    @NotNull
+    private static String toBatchPath(@NotNull final String path) {
+        return path.startsWith(GRAPH_VERSION_PATH) ? path.substring(GRAPH_VERSION_PATH.length()) : path;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.hp.oo.sdk.content.plugin.GlobalSessionObject;
+import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.httpclient.services.HttpClientService;
+import io.cloudslang.content.office365.entities.GraphPageResults;
+import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import io.cloudslang.content.office365.entities.PagingInputs;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import static io.cloudslang.content.httpclient.services.HttpClientService.EXCEPTION;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_CODE;
+import static io.cloudslang.content.httpclient.services.HttpClientService.RETURN_RESULT;
+import static io.cloudslang.content.office365.services.HttpCommons.setCommonHttpInputs;
+import static io.cloudslang.content.office365.utils.Constants.*;
+import static io.cloudslang.content.office365.utils.HttpUtils.getAuthHeaders;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+/**
+ * Reads all the pages of a Graph collection by following the @odata.nextLink of every page. The pages share the
+ * connection pool and the token, the next page can be requested while the items of the current one are processed.
+ */
+public class GraphPagingServiceImpl {
+
+    /**
+     * Requests one page and returns the outputs of {@link HttpClientService}. The query parameters are null for the
+     * next links, which already contain them.
+     */
+    interface PageTransport {
+        Map<String, String> get(@NotNull final String url, @Nullable final String queryParams) throws Exception;
+    }
+
+    @NotNull
+    public static GraphPageResults listAll(@NotNull final Office365CommonInputs commonInputs,
+                                           @NotNull final String url,
+                                           @NotNull final String queryParams,
+                                           @NotNull final PagingInputs pagingInputs) throws Exception {
+        final GlobalSessionObject connectionPool = new GlobalSessionObject();
+        try {
+            return listAll(url, queryParams, pagingInputs, new PageTransport() {
+                @Override
+                public Map<String, String> get(@NotNull final String pageUrl, @Nullable final String pageQueryParams) {
+                    final HttpClientInputs httpClientInputs = new HttpClientInputs();
+                    httpClientInputs.setUrl(pageUrl);
+
+                    setCommonHttpInputs(httpClientInputs, commonInputs);
+
+                    httpClientInputs.setAuthType(ANONYMOUS);
+                    httpClientInputs.setMethod(GET);
+                    httpClientInputs.setKeystore(DEFAULT_JAVA_KEYSTORE);
+                    httpClientInputs.setKeystorePassword(CHANGEIT);
+                    httpClientInputs.setResponseCharacterSet(commonInputs.getResponseCharacterSet());
+                    httpClientInputs.setHeaders(getAuthHeaders(commonInputs.getAuthToken()));
+                    httpClientInputs.setConnectionPoolSessionObject(connectionPool);
+                    if (!isEmpty(pageQueryParams)) {
+                        httpClientInputs.setQueryParams(pageQueryParams);
+                    }
+
+                    return new HttpClientService().execute(httpClientInputs);
+                }
+            });
+        } finally {
+            shutdownConnectionManagers(connectionPool);
+        }
+    }
+
+    //the pool is only used by the pages of this listing
+    private static void shutdownConnectionManagers(@NotNull final GlobalSessionObject connectionPool) {
+        final Object connectionManagers = connectionPool.get();
+        if (connectionManagers instanceof Map) {
+            for (final Object connManager : ((Map<?, ?>) connectionManagers).values()) {
+                ((PoolingHttpClientConnectionManager) connManager).shutdown();
+            }
+        }
+    }
+
+    @NotNull
+    static GraphPageResults listAll(@NotNull final String url,
+                                    @NotNull final String queryParams,
+                                    @NotNull final PagingInputs pagingInputs,
+                                    @NotNull final PageTransport transport) throws Exception {
+        final Set<String> selectedFields = getSelectedFields(queryParams);
+        final int maxResults = pagingInputs.getMaxResults();
+        final List<String> ids = new ArrayList<>();
+        final JsonArray items = isEmpty(pagingInputs.getOutputFilePath()) ? new JsonArray() : null;
+        int itemCount = 0;
+        int pageCount = 0;
+        boolean truncated = false;
+
+        final ExecutorService executorService = pagingInputs.isPrefetch() ? Executors.newSingleThreadExecutor() : null;
+        try (final Writer writer = items == null ? new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(pagingInputs.getOutputFilePath()), StandardCharsets.UTF_8)) : null) {
+            Future<Map<String, String>> nextPage = requestPage(executorService, transport, url, queryParams);
+            while (nextPage != null) {
+                final JsonObject page = getPage(nextPage);
+                pageCount++;
+                final JsonArray values = page.has(VALUE) ? page.getAsJsonArray(VALUE) : new JsonArray();
+                final String nextLink = page.has(ODATA_NEXT_LINK) ? page.get(ODATA_NEXT_LINK).getAsString() : null;
+
+                final boolean limitReached = maxResults > 0 && itemCount + values.size() >= maxResults;
+                truncated = limitReached && (nextLink != null || itemCount + values.size() > maxResults);
+                nextPage = nextLink == null || limitReached ? null : requestPage(executorService, transport, nextLink, null);
+
+                for (final JsonElement value : values) {
+                    if (maxResults > 0 && itemCount == maxResults) {
+                        break;
+                    }
+                    final JsonObject item = selectFields(value.getAsJsonObject(), selectedFields);
+                    if (item.has(ID)) {
+                        ids.add(item.get(ID).getAsString());
+                    }
+                    if (writer != null) {
+                        writer.write(item.toString());
+                        writer.write(NEW_LINE);
+                    } else {
+                        items.add(item);
+                    }
+                    itemCount++;
+                }
+            }
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+        return new GraphPageResults(items == null ? null : items.toString(), ids, itemCount, pageCount, truncated);
+    }
+
+    //without prefetch the page is requested right away, on the calling thread
+    @NotNull
+    private static Future<Map<String, String>> requestPage(@Nullable final ExecutorService executorService,
+                                                           @NotNull final PageTransport transport,
+                                                           @NotNull final String url,
+                                                           @Nullable final String queryParams) throws Exception {
+        final Callable<Map<String, String>> request = new Callable<Map<String, String>>() {
+            @Override
+            public Map<String, String> call() throws Exception {
+                return transport.get(url, queryParams);
+            }
+        };
+        if (executorService != null) {
+            return executorService.submit(request);
+        }
+        final FutureTask<Map<String, String>> page = new FutureTask<>(request);
+        page.run();
+        return page;
+    }
+
+    @NotNull
+    private static JsonObject getPage(@NotNull final Future<Map<String, String>> nextPage) throws Exception {
+        final Map<String, String> response;
+        try {
+            response = nextPage.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+        if (!ZERO.equals(response.get(RETURN_CODE))) {
+            throw new IOException(response.get(EXCEPTION));
+        }
+        final int statusCode = Integer.parseInt(response.get(STATUS_CODE));
+        if (statusCode < 200 || statusCode >= 300) {
+            throw new IOException(String.format(EXCEPTION_PAGE_REQUEST, statusCode, response.get(RETURN_RESULT)));
+        }
+        return new JsonParser().parse(response.get(RETURN_RESULT)).getAsJsonObject();
+    }
+
+    /**
+     * Returns the fields of the $select query parameter, or an empty set if all the fields are kept.
+     */
+    @NotNull
+    static Set<String> getSelectedFields(@Nullable final String queryParams) {
+        final Set<String> fields = new HashSet<>();
+        if (isEmpty(queryParams)) {
+            return fields;
+        }
+        for (final String queryParam : queryParams.split(AND)) {
+            if (queryParam.startsWith(SELECT_PATH)) {
+                for (final String field : queryParam.substring(SELECT_PATH.length()).split(COMMA)) {
+                    if (!field.trim().isEmpty()) {
+                        fields.add(field.trim());
+                    }
+                }
+            }
+        }
+        return fields;
+    }
+
+    //the id is always kept and the annotations like @odata.etag are dropped when only some fields are selected
+    @NotNull
+    static JsonObject selectFields(@NotNull final JsonObject item, @NotNull final Set<String> selectedFields) {
+        if (selectedFields.isEmpty()) {
+            return item;
+        }
+        final JsonObject selected = new JsonObject();
+        for (final Map.Entry<String, JsonElement> field : item.entrySet()) {
+            if (ID.equals(field.getKey()) || selectedFields.contains(field.getKey())) {
+                selected.add(field.getKey(), field.getValue());
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+/**
+ * Back-off shared by the Graph batch requests. When Graph answers with 429 or 503 the delay from its Retry-After
+ * header is recorded here and every request that goes through the throttle waits for it before being sent.
+ */
+public class GraphThrottle {
+    private long blockedUntil;
+
+    public synchronized void backOff(final long delayMillis) {
+        blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + delayMillis);
+    }
+
+    public void await() throws InterruptedException {
+        long delay;
+        while ((delay = getRemainingDelay()) > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    synchronized long getRemainingDelay() {
+        return blockedUntil - System.currentTimeMillis();
+    }
+}
@@ -21,7 +21,9 @@ import io.cloudslang.content.httpclient.services.HttpClientService;
 import io.cloudslang.content.office365.entities.CreateUserInputs;
 import io.cloudslang.content.office365.entities.DeleteUserInputs;
 import io.cloudslang.content.office365.entities.GetUserInputs;
+import io.cloudslang.content.office365.entities.GraphPageResults;
 import io.cloudslang.content.office365.entities.Office365CommonInputs;
+import io.cloudslang.content.office365.entities.PagingInputs;
 import io.cloudslang.content.office365.utils.PopulateUpdateUserBody;
 import io.cloudslang.content.office365.utils.PopulateUserBody;
 import org.apache.commons.lang3.StringUtils;
@@ -81,6 +83,19 @@ public class UserServiceImpl {
         return new HttpClientService().execute(httpClientInputs);
     }
 
+    /**
+     * Returns the users from all the pages, following the @odata.nextLink of every page.
+     */
+    @NotNull
+    public static GraphPageResults listAllUsers(@NotNull final CreateUserInputs createUserInputs,
+                                                @NotNull final PagingInputs pagingInputs) throws Exception {
+        String oDataQuery = createUserInputs.getoDataQuery();
+        if (oDataQuery.startsWith(QUERY)) {
+            oDataQuery = oDataQuery.substring(1);
+        }
+        return GraphPagingServiceImpl.listAll(createUserInputs.getCommonInputs(), MANAGE_USER_REQUEST_URL, oDataQuery, pagingInputs);
+    }
+
     @NotNull
     public static Map<String, String> getUser(@NotNull final GetUserInputs getUserInputs) throws Exception {
         final HttpClientInputs httpClientInputs = new HttpClientInputs();
@@ -98,4 +98,32 @@ public final class Constants {
     public static final String SEND_MAIL_DEFAULT_INFERENCE_CLASSIFICATION = "focused";
     public static final String ERROR = "error";
     public static final String MESSAGE = "message";
-}
\ No newline at end of file
+    public static final String BATCH_REQUEST_URL = "https://graph.microsoft.com/v1.0/$batch";
+    public static final String GRAPH_VERSION_PATH = "/v1.0";
+    public static final String USERS_PATH = "/users";
+    public static final String BATCH_REQUESTS = "requests";
+    public static final String BATCH_RESPONSES = "responses";
+    public static final String BATCH_METHOD = "method";
+    public static final String BATCH_URL = "url";
+    public static final String BATCH_HEADERS = "headers";
+    public static final String BATCH_BODY = "body";
+    public static final String BATCH_STATUS = "status";
+    public static final String CONTENT_TYPE_HEADER = "Content-Type";
+    public static final String RETRY_AFTER = "Retry-After";
+    public static final String DEFAULT_BATCH_CONCURRENCY = "4";
+    public static final String GET_OPERATION = "get";
+    public static final String MOVE_OPERATION = "move";
+    public static final String DELETE_OPERATION = "delete";
+    public static final String EXCEPTION_NO_BATCH_RESPONSE = "No response was received for this operation.";
+    public static final String EXCEPTION_INVALID_OPERATION = "The %s for %s input must be one of the following: %s.";
+    public static final String EXCEPTION_INVALID_CONCURRENCY = "The %s for %s input must be a number greater than 0.";
+    public static final String EXCEPTION_FAILED_BATCH_OPERATIONS = "%d of the %d operations failed.";
+    public static final String ODATA_NEXT_LINK = "@odata.nextLink";
+    public static final String DEFAULT_MAX_RESULTS = "1000";
+    public static final String EXCEPTION_PAGE_REQUEST = "The request for a page failed with the status code %d: %s";
+    public static final String ITEMS_WRITTEN_TO_FILE = "%d items were written to %s.";
+    public static final String RAW_VALUE_PATH = "/$value";
+    public static final String ATTACHMENT_METADATA_FIELDS = "name,contentType,size";
+    public static final String EXCEPTION_ATTACHMENT_DOWNLOAD = "The download of the attachment content failed with the status code %d: %s";
+    public static final String EXCEPTION_ATTACHMENT_NAME = "The attachment has no name, its content can't be written under %s.";
+}
@@ -233,6 +233,11 @@ public class Descriptions {
     public static class GetAttachments {
         public static final String ATTACHMENT_ID_DESC = "The ID of the attachment to be retrieved.";
         public static final String FILE_PATH_DESC = "The file path under which the attachment will be downloaded. The attachment will not be downloaded if a path is not provided.";
+        public static final String STREAM_CONTENT_DESC = "If true and a filePath is provided, the raw content of the attachment " +
+                "is written directly to the file, without being returned in the contentBytes output. Only the metadata " +
+                "of the attachment is returned, which keeps large attachments out of memory.\n" +
+                "Valid values: true, false\n" +
+                "Default value: false";
 
         public static final String CONTENT_NAME_DESC = "The name of the attachment.";
         public static final String CONTENT_TYPE_DESC = "The content type of the attachment.";
@@ -242,4 +247,40 @@ public class Descriptions {
         public static final String SUCCESS_DESC = "Attachment was retrieved successfully.";
         public static final String FAILURE_DESC = "There was an error while trying to retrieve the attachment.";
     }
-}
\ No newline at end of file
+
+    public static class BatchOperations {
+        public static final String BATCH_MESSAGE_ID_LIST_DESC = "A comma-separated list with the IDs of the messages to perform the operation on.";
+        public static final String OPERATION_DESC = "The operation to perform on every message.\n" +
+                "Valid values: get, move, delete.";
+        public static final String BATCH_FOLDER_ID_DESC = "The ID of the folder which contains the messages. Used by the get and delete operations.";
+        public static final String BATCH_DESTINATION_ID_DESC = "The destination folder ID, or a well-known folder name. Required by the move operation.";
+        public static final String USER_LIST_DESC = "A comma-separated list with the user principal names or the IDs of the users to retrieve.";
+        public static final String CONCURRENCY_DESC = "The number of batch requests sent at the same time. Every batch request " +
+                "contains up to 20 operations.\n" +
+                "Default value: 4";
+        public static final String BATCH_RETURN_RESULT_DESC = "A JSON array with one object per operation, in the order of the input list. " +
+                "Each object contains the 'id' from the input list, the HTTP 'status' and the 'body' of the response of the operation. " +
+                "The operations throttled by Office 365 are sent again after the delay from the Retry-After header.";
+        public static final String BATCH_EXCEPTION_DESC = "An error message in case one or more operations failed.";
+        public static final String SUCCESS_DESC = "All the operations were successful.";
+        public static final String FAILURE_DESC = "One or more operations failed.";
+    }
+
+    public static class Paging {
+        public static final String PAGE_ALL_DESC = "If true, the items of all the pages are retrieved by following the " +
+                "'@odata.nextLink' of every page. If false, only the first page is retrieved.\n" +
+                "Valid values: true, false\n" +
+                "Default value: false";
+        public static final String MAX_RESULTS_DESC = "The maximum number of items retrieved when pageAll is true. " +
+                "0 retrieves all the items.\n" +
+                "Default value: 1000 if outputFilePath is empty, 0 otherwise";
+        public static final String OUTPUT_FILE_PATH_DESC = "The path of the file where the items are written when pageAll is true, " +
+                "one JSON object per line. If empty, the items are returned as a JSON array in the returnResult output.";
+        public static final String PREFETCH_DESC = "If true, the next page is requested while the items of the current page " +
+                "are processed.\n" +
+                "Valid values: true, false\n" +
+                "Default value: false";
+        public static final String ITEM_COUNT_DESC = "The number of items retrieved when pageAll is true.";
+        public static final String PAGE_COUNT_DESC = "The number of pages requested when pageAll is true.";
+    }
+}
@@ -16,6 +16,7 @@
 package io.cloudslang.content.office365.utils;
 
 import io.cloudslang.content.httpclient.entities.HttpClientInputs;
+import io.cloudslang.content.office365.entities.GraphPageResults;
 import io.cloudslang.content.utils.StringUtilities;
 import org.apache.http.client.utils.URIBuilder;
 import org.jetbrains.annotations.NotNull;
@@ -28,6 +29,8 @@ import java.util.Map;
 
 import static io.cloudslang.content.office365.utils.Constants.*;
 import static io.cloudslang.content.office365.utils.Outputs.CommonOutputs.DOCUMENT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.ITEM_COUNT;
+import static io.cloudslang.content.office365.utils.Outputs.PagingOutputs.PAGE_COUNT;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
 import static java.net.Proxy.Type.HTTP;
@@ -282,4 +285,20 @@ public class HttpUtils {
         results.put(STATUS_CODE, statusCode);
         return results;
     }
+
+    @NotNull
+    public static Map<String, String> getPagingResults(@NotNull final GraphPageResults pageResults,
+                                                       @NotNull final String outputFilePath) {
+        final Map<String, String> results;
+        if (pageResults.getItems() != null) {
+            results = getSuccessResultsMap(pageResults.getItems());
+            results.put(DOCUMENT, pageResults.getItems());
+        } else {
+            results = getSuccessResultsMap(String.format(ITEMS_WRITTEN_TO_FILE, pageResults.getItemCount(), outputFilePath));
+        }
+        results.put(ITEM_COUNT, String.valueOf(pageResults.getItemCount()));
+        results.put(PAGE_COUNT, String.valueOf(pageResults.getPageCount()));
+        results.put(STATUS_CODE, String.valueOf(200));
+        return results;
+    }
 }
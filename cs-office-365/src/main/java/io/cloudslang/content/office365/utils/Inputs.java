@@ -56,6 +56,7 @@ public final class Inputs extends InputNames {
         public static final String O_DATA_QUERY = "oDataQuery";
         public static final String ATTACHMENT_ID = "attachmentId";
         public static final String FILE_PATH = "filePath";
+        public static final String STREAM_CONTENT = "streamContent";
         public static final String TOP_QUERY_INPUT = "topQuery";
         public static final String SELECT_QUERY = "selectQuery";
     }
@@ -108,5 +109,17 @@ public final class Inputs extends InputNames {
     public static class ListAttachments {
         public static final String ATTACHMENT_ID = "attachmentId";
     }
-}
 
+    public static class BatchInputs {
+        public static final String OPERATION = "operation";
+        public static final String USER_LIST = "userList";
+        public static final String CONCURRENCY = "concurrency";
+    }
+
+    public static class Paging {
+        public static final String PAGE_ALL = "pageAll";
+        public static final String MAX_RESULTS = "maxResults";
+        public static final String OUTPUT_FILE_PATH = "outputFilePath";
+        public static final String PREFETCH = "prefetch";
+    }
+}
@@ -30,11 +30,15 @@ import static io.cloudslang.content.office365.utils.Constants.*;
 import static io.cloudslang.content.office365.utils.Inputs.AuthorizationInputs.PASSWORD;
 import static io.cloudslang.content.office365.utils.Inputs.AuthorizationInputs.USERNAME;
 import static io.cloudslang.content.office365.utils.Inputs.AuthorizationInputs.*;
+import static io.cloudslang.content.office365.utils.Inputs.BatchInputs.CONCURRENCY;
+import static io.cloudslang.content.office365.utils.Inputs.BatchInputs.OPERATION;
+import static io.cloudslang.content.office365.utils.Inputs.BatchInputs.USER_LIST;
 import static io.cloudslang.content.office365.utils.Inputs.CommonInputs.PROXY_PORT;
 import static io.cloudslang.content.office365.utils.Inputs.CreateMessage.*;
 import static io.cloudslang.content.office365.utils.Inputs.CreateUser.*;
 import static io.cloudslang.content.office365.utils.Inputs.EmailInputs.*;
 import static io.cloudslang.content.office365.utils.Inputs.MoveMessage.DESTINATION_ID;
+import static io.cloudslang.content.office365.utils.Inputs.Paging.*;
 import static io.cloudslang.content.utils.BooleanUtilities.isValid;
 import static io.cloudslang.content.utils.OtherUtilities.isValidIpPort;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -105,6 +109,7 @@ public final class InputsValidation {
                                                          @Nullable final String userPrincipalName,
                                                          @Nullable final String attachmentId,
                                                          @Nullable final String userId,
+                                                         @Nullable final String streamContent,
                                                          @Nullable final String proxyPort,
                                                          @Nullable final String trust_all_roots,
                                                          @Nullable final String connectTimeout,
@@ -118,6 +123,7 @@ public final class InputsValidation {
 
         addVerifyNotNullOrEmpty(exceptionMessages, messageId, MESSAGE_ID);
         addVerifyNotNullOrEmpty(exceptionMessages, attachmentId, ATTACHMENT_ID);
+        addVerifyBoolean(exceptionMessages, streamContent, STREAM_CONTENT);
 
         return exceptionMessages;
     }
@@ -282,6 +288,82 @@ public final class InputsValidation {
         return exceptionMessages;
     }
 
+    @NotNull
+    public static List<String> verifyBatchMessageInputs(@Nullable final String userPrincipalName,
+                                                        @Nullable final String userId,
+                                                        @Nullable final String messageIdList,
+                                                        @Nullable final String operation,
+                                                        @Nullable final String destinationId,
+                                                        @Nullable final String concurrency,
+                                                        @Nullable final String proxyPort,
+                                                        @Nullable final String trust_all_roots,
+                                                        @Nullable final String connectTimeout,
+                                                        @Nullable final String socketTimeout,
+                                                        @Nullable final String keepAlive,
+                                                        @Nullable final String connectionsMaxPerRoute,
+                                                        @Nullable final String connectionsMaxTotal) {
+
+        final List<String> exceptionMessages = verifyCommonInputs(userPrincipalName, userId, proxyPort, trust_all_roots,
+                connectTimeout, socketTimeout, keepAlive, connectionsMaxPerRoute, connectionsMaxTotal);
+
+        addVerifyNotNullOrEmpty(exceptionMessages, messageIdList, MESSAGE_ID_LIST);
+        if (!(StringUtilities.equalsIgnoreCase(operation, GET_OPERATION) || StringUtilities.equalsIgnoreCase(operation, MOVE_OPERATION)
+                || StringUtilities.equalsIgnoreCase(operation, DELETE_OPERATION))) {
+            exceptionMessages.add(String.format(EXCEPTION_INVALID_OPERATION, operation, OPERATION,
+                    StringUtilities.join(new String[]{GET_OPERATION, MOVE_OPERATION, DELETE_OPERATION}, ", ")));
+        }
+        if (StringUtilities.equalsIgnoreCase(operation, MOVE_OPERATION)) {
+            addVerifyNotNullOrEmpty(exceptionMessages, destinationId, DESTINATION_ID);
+        }
+        addVerifyConcurrency(exceptionMessages, concurrency, CONCURRENCY);
+
+        return exceptionMessages;
+    }
+
+    @NotNull
+    public static List<String> verifyBatchUserInputs(@Nullable final String userList,
+                                                     @Nullable final String concurrency,
+                                                     @Nullable final String proxyPort,
+                                                     @Nullable final String trust_all_roots,
+                                                     @Nullable final String connectTimeout,
+                                                     @Nullable final String socketTimeout,
+                                                     @Nullable final String keepAlive,
+                                                     @Nullable final String connectionsMaxPerRoute,
+                                                     @Nullable final String connectionsMaxTotal) {
+
+        final List<String> exceptionMessages = verifyCommonUserInputs(proxyPort, trust_all_roots, connectTimeout,
+                socketTimeout, keepAlive, connectionsMaxPerRoute, connectionsMaxTotal);
+
+        addVerifyNotNullOrEmpty(exceptionMessages, userList, USER_LIST);
+        addVerifyConcurrency(exceptionMessages, concurrency, CONCURRENCY);
+
+        return exceptionMessages;
+    }
+
+    @NotNull
+    public static List<String> verifyPagingInputs(@Nullable final String pageAll,
+                                                  @Nullable final String maxResults,
+                                                  @Nullable final String outputFilePath,
+                                                  @Nullable final String prefetch) {
+
+        final List<String> exceptionMessages = new ArrayList<>();
+        addVerifyBoolean(exceptionMessages, pageAll, PAGE_ALL);
+        addVerifyBoolean(exceptionMessages, prefetch, PREFETCH);
+        if (isEmpty(maxResults)) {
+            exceptionMessages.add(String.format(EXCEPTION_NULL_EMPTY, MAX_RESULTS));
+        } else if (!NumberUtilities.isValidInt(maxResults, 0, Integer.MAX_VALUE, true, true)) {
+            exceptionMessages.add(String.format(EXCEPTION_INVALID_NUMBER, maxResults, MAX_RESULTS));
+        }
+        if (!isEmpty(outputFilePath)) {
+            final File parent = new File(outputFilePath).getAbsoluteFile().getParentFile();
+            if (parent == null || !parent.isDirectory() || new File(outputFilePath).isDirectory()) {
+                exceptionMessages.add(String.format(EXCEPTION_INVALID_FILE, outputFilePath, OUTPUT_FILE_PATH));
+            }
+        }
+
+        return exceptionMessages;
+    }
+
     @NotNull
     private static List<String> addVerifyUserInputs(@NotNull List<String> exceptions, @Nullable final String userPrincipalName,
                                                     @Nullable final String userId) {
@@ -349,6 +431,16 @@ public final class InputsValidation {
         return exceptions;
     }
 
+    @NotNull
+    private static List<String> addVerifyConcurrency(@NotNull List<String> exceptions, @Nullable final String input, @NotNull final String inputName) {
+        if (isEmpty(input)) {
+            exceptions.add(String.format(EXCEPTION_NULL_EMPTY, inputName));
+        } else if (!NumberUtilities.isValidInt(input, 1, Integer.MAX_VALUE, true, true)) {
+            exceptions.add(String.format(EXCEPTION_INVALID_CONCURRENCY, input, inputName));
+        }
+        return exceptions;
+    }
+
     private static boolean isValidFile(@NotNull final String filePath) {
         return new File(filePath).exists();
     }
@@ -34,5 +34,9 @@ public final class Outputs extends OutputNames {
         public static final String CONTENT_BYTES = "contentBytes";
         public static final String CONTENT_SIZE = "contentSize";
     }
-}
 
+    public static class PagingOutputs {
+        public static final String ITEM_COUNT = "itemCount";
+        public static final String PAGE_COUNT = "pageCount";
+    }
+}
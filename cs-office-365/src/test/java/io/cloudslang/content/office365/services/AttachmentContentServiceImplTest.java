@@ -0,0 +1,142 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AttachmentContentServiceImplTest {
+    private static final String URL = "https://graph.microsoft.com/v1.0/users/user/messages/message/attachments/attachment";
+    private static final String METADATA = "{\"name\":\"report.bin\",\"contentType\":\"application/octet-stream\",\"size\":70000}";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void downloadContentWritesTheRawBytesAndReturnsTheMetadata() throws Exception {
+        final byte[] content = new byte[70000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        final FakeTransport transport = new FakeTransport(getResult("0", "200", METADATA), content);
+
+        final Map<String, String> result = AttachmentContentServiceImpl.downloadContent(URL,
+                folder.getRoot().getAbsolutePath(), transport);
+
+        assertEquals(METADATA, result.get("returnResult"));
+        assertArrayEquals(content, Files.readAllBytes(new File(folder.getRoot(), "report.bin").toPath()));
+        assertEquals("[" + URL + ", " + URL + "/$value]", transport.requests.toString());
+    }
+
+    @Test
+    public void downloadContentReturnsTheFailedMetadataRequest() throws Exception {
+        final FakeTransport transport = new FakeTransport(getResult("0", "404", "{\"error\":{\"message\":\"Not found\"}}"), new byte[0]);
+
+        final Map<String, String> result = AttachmentContentServiceImpl.downloadContent(URL,
+                folder.getRoot().getAbsolutePath(), transport);
+
+        assertEquals("404", result.get("statusCode"));
+        assertEquals(1, transport.requests.size());
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test
+    public void downloadContentDeletesTheErrorResponse() throws Exception {
+        final FakeTransport transport = new FakeTransport(getResult("0", "200", METADATA), null);
+        transport.downloadResult = getResult("0", "503", "");
+
+        try {
+            AttachmentContentServiceImpl.downloadContent(URL, folder.getRoot().getAbsolutePath(), transport);
+            fail("The download should have failed.");
+        } catch (IOException e) {
+            assertTrue(e.getMessage().contains("503"));
+            assertTrue(e.getMessage().contains("Service unavailable"));
+        }
+        assertFalse(new File(folder.getRoot(), "report.bin").exists());
+    }
+
+    @Test
+    public void downloadContentDeletesThePartialFile() throws Exception {
+        final FakeTransport transport = new FakeTransport(getResult("0", "200", METADATA), null);
+        transport.downloadResult = getResult("-1", "", "");
+        transport.downloadResult.put("exception", "Connection reset");
+
+        try {
+            AttachmentContentServiceImpl.downloadContent(URL, folder.getRoot().getAbsolutePath(), transport);
+            fail("The download should have failed.");
+        } catch (IOException e) {
+            assertEquals("Connection reset", e.getMessage());
+        }
+        assertFalse(new File(folder.getRoot(), "report.bin").exists());
+    }
+
+    @NotNull
+    private static Map<String, String> getResult(@NotNull final String returnCode, @NotNull final String statusCode,
+                                                 @NotNull final String returnResult) {
+        final Map<String, String> result = new HashMap<>();
+        result.put("returnCode", returnCode);
+        result.put("statusCode", statusCode);
+        result.put("returnResult", returnResult);
+        return result;
+    }
+
+    //a null content writes an error instead of the content, the download result tells how the request ended
+    private static class FakeTransport implements AttachmentContentServiceImpl.ContentTransport {
+        private final List<String> requests = new ArrayList<>();
+        private final Map<String, String> metadata;
+        private final byte[] content;
+        private Map<String, String> downloadResult = getResult("0", "200", "");
+
+        private FakeTransport(@NotNull final Map<String, String> metadata, final byte[] content) {
+            this.metadata = metadata;
+            this.content = content;
+        }
+
+        @Override
+        public Map<String, String> getMetadata(@NotNull final String url) {
+            requests.add(url);
+            return metadata;
+        }
+
+        @Override
+        public Map<String, String> download(@NotNull final String url, @NotNull final File destination) throws IOException {
+            requests.add(url);
+            try (final OutputStream outputStream = new FileOutputStream(destination)) {
+                outputStream.write(content == null ? "{\"error\":{\"message\":\"Service unavailable\"}}".getBytes(StandardCharsets.UTF_8) : content);
+            }
+            return downloadResult;
+        }
+    }
+}
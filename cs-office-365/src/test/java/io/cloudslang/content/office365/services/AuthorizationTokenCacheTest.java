@@ -0,0 +1,94 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.microsoft.aad.adal4j.AuthenticationResult;
+import io.cloudslang.content.office365.entities.AuthorizationTokenInputs;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class AuthorizationTokenCacheTest {
+    private static final AuthorizationTokenInputs INPUTS = AuthorizationTokenInputs.builder()
+            .loginType("API")
+            .clientId("client")
+            .clientSecret("secret")
+            .authority("https://login.windows.net/tenant/oauth2/token")
+            .resource("https://graph.microsoft.com")
+            .build();
+
+    @After
+    public void tearDown() {
+        AuthorizationTokenCache.clear();
+    }
+
+    @Test
+    public void getTokenReusesValidToken() throws Exception {
+        final TokenSupplier tokenSupplier = new TokenSupplier(3600);
+
+        final AuthenticationResult first = AuthorizationTokenCache.getToken(INPUTS, tokenSupplier);
+        final AuthenticationResult second = AuthorizationTokenCache.getToken(INPUTS, tokenSupplier);
+
+        assertSame(first, second);
+        assertEquals(1, tokenSupplier.calls.get());
+    }
+
+    @Test
+    public void getTokenRefreshesTokenAboutToExpire() throws Exception {
+        final TokenSupplier tokenSupplier = new TokenSupplier(AuthorizationTokenCache.REFRESH_AHEAD_MILLIS / 1000 - 1);
+
+        AuthorizationTokenCache.getToken(INPUTS, tokenSupplier);
+        AuthorizationTokenCache.getToken(INPUTS, tokenSupplier);
+
+        assertEquals(2, tokenSupplier.calls.get());
+    }
+
+    @Test
+    public void getTokenDoesNotShareTokensBetweenSecrets() throws Exception {
+        final TokenSupplier tokenSupplier = new TokenSupplier(3600);
+        final AuthorizationTokenInputs otherSecret = AuthorizationTokenInputs.builder()
+                .loginType("API")
+                .clientId("client")
+                .clientSecret("wrong secret")
+                .authority("https://login.windows.net/tenant/oauth2/token")
+                .resource("https://graph.microsoft.com")
+                .build();
+
+        AuthorizationTokenCache.getToken(INPUTS, tokenSupplier);
+        AuthorizationTokenCache.getToken(otherSecret, tokenSupplier);
+
+        assertEquals(2, tokenSupplier.calls.get());
+    }
+
+    private static class TokenSupplier implements Callable<AuthenticationResult> {
+        private final long expiresIn;
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private TokenSupplier(final long expiresIn) {
+            this.expiresIn = expiresIn;
+        }
+
+        @Override
+        public AuthenticationResult call() {
+            return new AuthenticationResult("Bearer", "token" + calls.incrementAndGet(), null, expiresIn, null, null, false);
+        }
+    }
+}
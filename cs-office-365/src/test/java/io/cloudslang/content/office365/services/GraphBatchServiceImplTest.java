@@ -0,0 +1,194 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.cloudslang.content.office365.entities.GraphBatchRequest;
+import io.cloudslang.content.office365.entities.GraphBatchResult;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GraphBatchServiceImplTest {
+
+    @Test
+    public void executePacksTheRequestsInBatchesAndKeepsTheirOrder() throws Exception {
+        final List<GraphBatchRequest> requests = getRequests(45);
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+
+        final List<GraphBatchResult> results = GraphBatchServiceImpl.execute(requests, 3, new GraphThrottle(),
+                new GraphBatchServiceImpl.BatchTransport() {
+                    @Override
+                    public Map<String, String> send(@NotNull final String batchBody) {
+                        final JsonArray batchRequests = parse(batchBody).getAsJsonArray("requests");
+                        batchSizes.add(batchRequests.size());
+                        final JsonArray responses = new JsonArray();
+                        for (final JsonElement batchRequest : batchRequests) {
+                            final String url = batchRequest.getAsJsonObject().get("url").getAsString();
+                            responses.add(getItemResponse(batchRequest, 200, url.substring(url.lastIndexOf('/') + 1)));
+                        }
+                        return getResponse(200, "", responses);
+                    }
+                });
+
+        assertEquals(45, results.size());
+        for (int i = 0; i < 45; i++) {
+            assertEquals("message" + i, results.get(i).getKey());
+            assertEquals(200, results.get(i).getStatus());
+            assertEquals("\"message" + i + "\"", results.get(i).getBody());
+        }
+        Collections.sort(batchSizes);
+        assertEquals("[5, 20, 20]", batchSizes.toString());
+    }
+
+    @Test
+    public void executeRetriesOnlyTheThrottledOperations() throws Exception {
+        final List<GraphBatchRequest> requests = getRequests(4);
+        final Set<String> throttled = new HashSet<>();
+        final AtomicInteger calls = new AtomicInteger();
+
+        final List<GraphBatchResult> results = GraphBatchServiceImpl.execute(requests, 1, new GraphThrottle(),
+                new GraphBatchServiceImpl.BatchTransport() {
+                    @Override
+                    public Map<String, String> send(@NotNull final String batchBody) {
+                        final int call = calls.incrementAndGet();
+                        final JsonArray batchRequests = parse(batchBody).getAsJsonArray("requests");
+                        assertEquals(call == 1 ? 4 : 1, batchRequests.size());
+                        final JsonArray responses = new JsonArray();
+                        for (final JsonElement batchRequest : batchRequests) {
+                            final String id = batchRequest.getAsJsonObject().get("id").getAsString();
+                            final boolean throttle = "2".equals(id) && throttled.add(id);
+                            final JsonObject response = getItemResponse(batchRequest, throttle ? 429 : 204, null);
+                            if (throttle) {
+                                final JsonObject headers = new JsonObject();
+                                headers.addProperty("Retry-After", "0");
+                                response.add("headers", headers);
+                            }
+                            responses.add(response);
+                        }
+                        return getResponse(200, "", responses);
+                    }
+                });
+
+        assertEquals(2, calls.get());
+        for (final GraphBatchResult result : results) {
+            assertEquals(204, result.getStatus());
+            assertTrue(result.isSuccessful());
+        }
+    }
+
+    @Test
+    public void executeRetriesThrottledBatchesAndReportsFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final List<GraphBatchResult> results = GraphBatchServiceImpl.execute(getRequests(2), 1, new GraphThrottle(),
+                new GraphBatchServiceImpl.BatchTransport() {
+                    @Override
+                    public Map<String, String> send(@NotNull final String batchBody) {
+                        if (calls.incrementAndGet() == 1) {
+                            return getResponse(429, "Retry-After: 0\r\n", null);
+                        }
+                        final JsonArray responses = new JsonArray();
+                        final JsonArray batchRequests = parse(batchBody).getAsJsonArray("requests");
+                        responses.add(getItemResponse(batchRequests.get(0), 200, "ok"));
+                        responses.add(getItemResponse(batchRequests.get(1), 404, "missing"));
+                        return getResponse(200, "", responses);
+                    }
+                });
+
+        assertEquals(2, calls.get());
+        assertTrue(results.get(0).isSuccessful());
+        assertFalse(results.get(1).isSuccessful());
+
+        final Map<String, String> operationResults = GraphBatchServiceImpl.getOperationResults(results);
+        assertEquals("-1", operationResults.get("returnCode"));
+        assertEquals("1 of the 2 operations failed.", operationResults.get("exception"));
+        assertEquals("[{\"id\":\"message0\",\"status\":200,\"body\":\"\\\"ok\\\"\"},{\"id\":\"message1\",\"status\":404,\"body\":\"\\\"missing\\\"\"}]",
+                operationResults.get("returnResult"));
+    }
+
+    @Test
+    public void buildBatchBodyAddsTheBodyAndContentType() {
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        requests.add(new GraphBatchRequest("a", "GET", "/users/a", null));
+        requests.add(new GraphBatchRequest("b", "POST", "/users/b/messages/1/move", "{\"destinationId\":\"inbox\"}"));
+
+        final String body = GraphBatchServiceImpl.buildBatchBody(requests, Arrays.asList(0, 1));
+
+        assertEquals("{\"requests\":[{\"id\":\"0\",\"method\":\"GET\",\"url\":\"/users/a\"},"
+                + "{\"id\":\"1\",\"method\":\"POST\",\"url\":\"/users/b/messages/1/move\",\"headers\":{\"Content-Type\":\"application/json\"},"
+                + "\"body\":{\"destinationId\":\"inbox\"}}]}", body);
+    }
+
+    @Test
+    public void getRetryAfter() {
+        assertEquals(7000, GraphBatchServiceImpl.getRetryAfter("7", 1));
+        assertEquals(1000, GraphBatchServiceImpl.getRetryAfter(null, 1));
+        assertEquals(4000, GraphBatchServiceImpl.getRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT", 3));
+        assertEquals("7", GraphBatchServiceImpl.getResponseHeader("Content-Type: application/json\r\nretry-after: 7\r\n", "Retry-After"));
+    }
+
+    private static List<GraphBatchRequest> getRequests(final int count) {
+        final List<GraphBatchRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            requests.add(new GraphBatchRequest("message" + i, "GET", "/users/user/messages/message" + i, null));
+        }
+        return requests;
+    }
+
+    private static JsonObject parse(final String json) {
+        return new JsonParser().parse(json).getAsJsonObject();
+    }
+
+    private static JsonObject getItemResponse(final JsonElement batchRequest, final int status, final String body) {
+        final JsonObject response = new JsonObject();
+        response.add("id", batchRequest.getAsJsonObject().get("id"));
+        response.addProperty("status", status);
+        if (body != null) {
+            response.addProperty("body", body);
+        }
+        return response;
+    }
+
+    private static Map<String, String> getResponse(final int statusCode, final String headers, final JsonArray responses) {
+        final Map<String, String> response = new HashMap<>();
+        response.put("returnCode", "0");
+        response.put("statusCode", String.valueOf(statusCode));
+        response.put("responseHeaders", headers);
+        if (responses != null) {
+            final JsonObject batchResponse = new JsonObject();
+            batchResponse.add("responses", responses);
+            response.put("returnResult", batchResponse.toString());
+        }
+        return response;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.office365.services;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.cloudslang.content.office365.entities.GraphPageResults;
+import io.cloudslang.content.office365.entities.PagingInputs;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class GraphPagingServiceImplTest {
+    private static final String URL = "https://graph.microsoft.com/v1.0/users";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void listAllFollowsTheNextLinksAndKeepsTheSelectedFields() throws Exception {
+        final PagesTransport transport = new PagesTransport(3, 2);
+
+        final GraphPageResults results = GraphPagingServiceImpl.listAll(URL, "$top=2&$select=displayName",
+                PagingInputs.builder().build(), transport);
+
+        assertEquals(6, results.getItemCount());
+        assertEquals(3, results.getPageCount());
+        assertFalse(results.isTruncated());
+        assertEquals("[user0, user1, user2, user3, user4, user5]", results.getIds().toString());
+        assertEquals("[{\"id\":\"user0\",\"displayName\":\"User 0\"},{\"id\":\"user1\",\"displayName\":\"User 1\"},"
+                        + "{\"id\":\"user2\",\"displayName\":\"User 2\"},{\"id\":\"user3\",\"displayName\":\"User 3\"},"
+                        + "{\"id\":\"user4\",\"displayName\":\"User 4\"},{\"id\":\"user5\",\"displayName\":\"User 5\"}]",
+                results.getItems());
+        assertEquals("[" + URL + "?$top=2&$select=displayName, " + URL + "?page=1, " + URL + "?page=2]", transport.requests.toString());
+    }
+
+    @Test
+    public void listAllStopsAtTheMaximumNumberOfResults() throws Exception {
+        final PagesTransport transport = new PagesTransport(5, 2);
+
+        final GraphPageResults results = GraphPagingServiceImpl.listAll(URL, "",
+                PagingInputs.builder().maxResults(3).build(), transport);
+
+        assertEquals(3, results.getItemCount());
+        assertEquals(2, results.getPageCount());
+        assertTrue(results.isTruncated());
+        assertEquals(2, transport.requests.size());
+    }
+
+    @Test
+    public void listAllWritesJsonLinesWithPrefetch() throws Exception {
+        final File output = new File(folder.getRoot(), "users.jsonl");
+
+        final GraphPageResults results = GraphPagingServiceImpl.listAll(URL, "", PagingInputs.builder()
+                .outputFilePath(output.getAbsolutePath())
+                .prefetch(true)
+                .build(), new PagesTransport(4, 3));
+
+        assertNull(results.getItems());
+        assertEquals(12, results.getItemCount());
+        final List<String> lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+        assertEquals(12, lines.size());
+        assertEquals("{\"@odata.etag\":\"W/11\",\"id\":\"user11\",\"displayName\":\"User 11\",\"mail\":\"user11@contoso.com\"}", lines.get(11));
+    }
+
+    @Test(expected = IOException.class)
+    public void listAllFailsOnErrorStatus() throws Exception {
+        GraphPagingServiceImpl.listAll(URL, "", PagingInputs.builder().build(), new GraphPagingServiceImpl.PageTransport() {
+            @Override
+            public Map<String, String> get(@NotNull final String url, @Nullable final String queryParams) {
+                final Map<String, String> response = new HashMap<>();
+                response.put("returnCode", "0");
+                response.put("statusCode", "401");
+                response.put("returnResult", "{\"error\":{\"code\":\"InvalidAuthenticationToken\"}}");
+                return response;
+            }
+        });
+    }
+
+    private static class PagesTransport implements GraphPagingServiceImpl.PageTransport {
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+        private final int pages;
+        private final int pageSize;
+
+        PagesTransport(final int pages, final int pageSize) {
+            this.pages = pages;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public Map<String, String> get(@NotNull final String url, @Nullable final String queryParams) {
+            requests.add(queryParams == null ? url : url + "?" + queryParams);
+            final int page = url.contains("?page=") ? Integer.parseInt(url.substring(url.indexOf("?page=") + 6)) : 0;
+
+            final JsonArray values = new JsonArray();
+            for (int i = page * pageSize; i < (page + 1) * pageSize; i++) {
+                final JsonObject user = new JsonObject();
+                user.addProperty("@odata.etag", "W/" + i);
+                user.addProperty("id", "user" + i);
+                user.addProperty("displayName", "User " + i);
+                user.addProperty("mail", "user" + i + "@contoso.com");
+                values.add(user);
+            }
+            final JsonObject body = new JsonObject();
+            body.add("value", values);
+            if (page + 1 < pages) {
+                body.addProperty("@odata.nextLink", URL + "?page=" + (page + 1));
+            }
+
+            final Map<String, String> response = new HashMap<>();
+            response.put("returnCode", "0");
+            response.put("statusCode", "200");
+            response.put("returnResult", body.toString());
+            return response;
+        }
+    }
+}
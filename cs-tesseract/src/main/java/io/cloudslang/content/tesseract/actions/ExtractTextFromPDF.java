@@ -80,6 +80,10 @@ public class ExtractTextFromPDF {
      *                   Optional
      * @param pageIndex  A comma separated list of page numbers from where the text should be retrieved.
      *                   Optional
+     * @param threadCount The number of pages that are processed by the OCR engine at the same time. The pages are
+     *                   rendered while the previous ones are processed.
+     *                   Default value: 1
+     *                   Optional
      * @return a map containing the output of the operation. Keys present in the map are:
      * returnResult - This will contain the extracted text.
      * exception - In case of success response, this result is empty. In case of failure response,
@@ -111,7 +115,8 @@ public class ExtractTextFromPDF {
             @Param(value = DESKEW, description = DESKEW_DESC) String deskew,
             @Param(value = FROM_PAGE, description = FROM_PAGE_DESC) String fromPage,
             @Param(value = TO_PAGE, description = TO_PAGE_DESC) String toPage,
-            @Param(value = PAGE_INDEX, description = PAGE_INDEX_DESC) String pageIndex) {
+            @Param(value = PAGE_INDEX, description = PAGE_INDEX_DESC) String pageIndex,
+            @Param(value = THREAD_COUNT, description = THREAD_COUNT_DESC) String threadCount) {
 
         dataPath = defaultIfEmpty(dataPath, EMPTY);
         language = defaultIfEmpty(language, ENG);
@@ -121,8 +126,9 @@ public class ExtractTextFromPDF {
         fromPage = defaultIfEmpty(fromPage, EMPTY);
         toPage = defaultIfEmpty(toPage, EMPTY);
         pageIndex = defaultIfEmpty(pageIndex, EMPTY);
+        threadCount = defaultIfEmpty(threadCount, THREAD_COUNT_SET);
 
-        final List<String> exceptionMessages = verifyExtractTextFromPDF(filePath, dataPath, textBlocks, deskew, fromPage, toPage, pageIndex, dpi);
+        final List<String> exceptionMessages = verifyExtractTextFromPDF(filePath, dataPath, textBlocks, deskew, fromPage, toPage, pageIndex, dpi, threadCount);
         if (!exceptionMessages.isEmpty()) {
             return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
         }
@@ -130,7 +136,7 @@ public class ExtractTextFromPDF {
         try {
 
 
-            final String resultText = imageConvert(filePath, dataPath, language, dpi, textBlocks, deskew, fromPage, toPage, pageIndex);
+            final String resultText = imageConvert(filePath, dataPath, language, dpi, textBlocks, deskew, fromPage, toPage, pageIndex, threadCount);
             final Map<String, String> result = getSuccessResultsMap(resultText);
             if (Boolean.parseBoolean(textBlocks)) {
                 result.put(TEXT_JSON, resultText);
@@ -0,0 +1,186 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.tesseract.services;
+
+import org.bytedeco.javacpp.tesseract.TessBaseAPI;
+
+import java.util.Iterator;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.cloudslang.content.tesseract.utils.Constants.ENGINE_IDLE_TIMEOUT_MILLIS;
+import static io.cloudslang.content.tesseract.utils.Constants.TESSERACT_INITIALIZE_ERROR;
+import static org.bytedeco.javacpp.tesseract.TessBaseAPIInit3;
+
+/**
+ * Keeps initialized Tesseract engines between OCR calls, so the traineddata of a language is loaded once instead of
+ * once per image. The engines are grouped by data path and language, each group has at most one engine per processor
+ * and the engines that were not used for ENGINE_IDLE_TIMEOUT_MILLIS are closed.
+ */
+public class OcrEnginePool {
+
+    private static final OcrEnginePool INSTANCE = new OcrEnginePool(Runtime.getRuntime().availableProcessors(), ENGINE_IDLE_TIMEOUT_MILLIS);
+
+    private final ConcurrentMap<String, EngineGroup> groups = new ConcurrentHashMap<>();
+    private final int maxEnginesPerGroup;
+    private final long idleTimeoutMillis;
+    private final ScheduledExecutorService evictor;
+
+    OcrEnginePool(final int maxEnginesPerGroup, final long idleTimeoutMillis) {
+        this.maxEnginesPerGroup = Math.max(1, maxEnginesPerGroup);
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.evictor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                final Thread thread = new Thread(runnable, "tesseract-engine-evictor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final long evictionInterval = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                closeIdleEngines();
+            }
+        }, evictionInterval, evictionInterval, TimeUnit.MILLISECONDS);
+    }
+
+    public static OcrEnginePool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns an idle engine initialized for the data path and language, initializes a new one when all are busy and
+     * the group is not full, or waits for one to be released.
+     */
+    public Engine acquire(final String dataPath, final String language) throws Exception {
+        final String key = dataPath + '\u0000' + language;
+        EngineGroup group = groups.get(key);
+        if (group == null) {
+            final EngineGroup newGroup = new EngineGroup();
+            group = groups.putIfAbsent(key, newGroup);
+            if (group == null) {
+                group = newGroup;
+            }
+        }
+
+        while (true) {
+            Engine engine = group.idle.pollFirst();
+            if (engine != null) {
+                return engine;
+            }
+            if (group.size.incrementAndGet() <= maxEnginesPerGroup) {
+                return createEngine(group, dataPath, language);
+            }
+            group.size.decrementAndGet();
+            //poll with a timeout, an idle engine may be closed instead of being handed over
+            engine = group.idle.pollFirst(1, TimeUnit.SECONDS);
+            if (engine != null) {
+                return engine;
+            }
+        }
+    }
+
+    /**
+     * Resets the engine and gives it back to the pool. An engine whose state is unknown after an error is closed.
+     */
+    public void release(final Engine engine, final boolean reusable) {
+        if (!reusable) {
+            close(engine);
+            return;
+        }
+        final TessBaseAPI api = engine.api;
+        api.Clear();
+        api.ClearAdaptiveClassifier();
+        api.SetPageSegMode(engine.pageSegMode);
+        engine.lastUsed = System.currentTimeMillis();
+        //the most recently used engines are reused first, so the others can reach the idle timeout
+        engine.group.idle.offerFirst(engine);
+    }
+
+    void closeIdleEngines() {
+        final long now = System.currentTimeMillis();
+        for (EngineGroup group : groups.values()) {
+            final Iterator<Engine> iterator = group.idle.descendingIterator();
+            while (iterator.hasNext()) {
+                final Engine engine = iterator.next();
+                if (now - engine.lastUsed > idleTimeoutMillis && group.idle.remove(engine)) {
+                    close(engine);
+                }
+            }
+        }
+    }
+
+    private Engine createEngine(final EngineGroup group, final String dataPath, final String language) throws Exception {
+        try {
+            return new Engine(group, initializeApi(dataPath, language));
+        } catch (Exception | Error e) {
+            group.size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    TessBaseAPI initializeApi(final String dataPath, final String language) throws Exception {
+        final TessBaseAPI api = new TessBaseAPI();
+        try {
+            if (TessBaseAPIInit3(api, dataPath, language) != 0) {
+                throw new Exception(TESSERACT_INITIALIZE_ERROR);
+            }
+        } catch (Exception | Error e) {
+            api.End();
+            api.deallocate();
+            throw e;
+        }
+        return api;
+    }
+
+    private static void close(final Engine engine) {
+        engine.group.size.decrementAndGet();
+        engine.api.End();
+        engine.api.deallocate();
+    }
+
+    public static class Engine {
+        private final EngineGroup group;
+        private final TessBaseAPI api;
+        private final int pageSegMode;
+        private volatile long lastUsed;
+
+        private Engine(final EngineGroup group, final TessBaseAPI api) {
+            this.group = group;
+            this.api = api;
+            this.pageSegMode = api.GetPageSegMode();
+            this.lastUsed = System.currentTimeMillis();
+        }
+
+        public TessBaseAPI getApi() {
+            return api;
+        }
+    }
+
+    private static class EngineGroup {
+        private final BlockingDeque<Engine> idle = new LinkedBlockingDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -27,7 +27,9 @@ import org.bytedeco.javacpp.lept;
 import javax.imageio.ImageIO;
 import javax.imageio.ImageReader;
 import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -43,14 +45,12 @@ public class OcrService {
     public static String extractTextFromImage(String filePath, String dataPath, String language, String textBlocks, String deskew) throws Exception {
         String tempImagePath = null;
         String result;
-        final TessBaseAPI api = new TessBaseAPI();
+        //Get an initialized Tesseract OCR engine
+        final OcrEnginePool.Engine engine = OcrEnginePool.getInstance().acquire(dataPath, language);
+        final TessBaseAPI api = engine.getApi();
+        boolean reusable = true;
 
         try {
-            //Initialize Tesseract OCR
-            if (TessBaseAPIInit3(api, dataPath, language) != 0) {
-                throw new Exception(TESSERACT_INITIALIZE_ERROR);
-            }
-
             final lept.PIX image;
             if (parseBoolean(deskew)) {
                 tempImagePath = deskewImage(filePath);
@@ -62,21 +62,80 @@ public class OcrService {
             TessBaseAPISetImage2(api, image);
             pixDestroy(image);
 
-            if (parseBoolean(textBlocks)) {
-                result = extractBlocks(api);
-            } else {
-                result = extractAllText(api);
-            }
+            result = extractText(api, textBlocks);
 
             return result;
+        } catch (Error e) {
+            //the state of the native engine is unknown, do not reuse it
+            reusable = false;
+            throw e;
         } finally {
+            OcrEnginePool.getInstance().release(engine, reusable);
             if (tempImagePath != null) {
                 FileUtils.forceDelete(new File(tempImagePath));
             }
-            api.End();
         }
     }
 
+    /**
+     * Extracts the text from an image that is already in memory, e.g. a rendered PDF page. The pixels are given to the
+     * engine directly, without writing and reading back an image file.
+     */
+    public static String extractTextFromImage(BufferedImage image, String dataPath, String language, String textBlocks, String deskew) throws Exception {
+        if (parseBoolean(deskew)) {
+            image = deskewImage(image);
+        }
+        final BufferedImage grayImage = toGrayImage(image);
+        final byte[] pixels = ((DataBufferByte) grayImage.getRaster().getDataBuffer()).getData();
+
+        final OcrEnginePool.Engine engine = OcrEnginePool.getInstance().acquire(dataPath, language);
+        final TessBaseAPI api = engine.getApi();
+        boolean reusable = true;
+        try {
+            TessBaseAPISetImage(api, pixels, grayImage.getWidth(), grayImage.getHeight(), 1, grayImage.getWidth());
+            return extractText(api, textBlocks);
+        } catch (Error e) {
+            //the state of the native engine is unknown, do not reuse it
+            reusable = false;
+            throw e;
+        } finally {
+            OcrEnginePool.getInstance().release(engine, reusable);
+        }
+    }
+
+    private static String extractText(TessBaseAPI api, String textBlocks) throws Exception {
+        if (parseBoolean(textBlocks)) {
+            return extractBlocks(api);
+        }
+        return extractAllText(api);
+    }
+
+    /**
+     * @return the image as 8 bit gray pixels with no padding at the end of the lines.
+     */
+    private static BufferedImage toGrayImage(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_BYTE_GRAY && image.getRaster().getDataBuffer() instanceof DataBufferByte
+                && ((DataBufferByte) image.getRaster().getDataBuffer()).getData().length == image.getWidth() * image.getHeight()) {
+            return image;
+        }
+        final BufferedImage grayImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_BYTE_GRAY);
+        final Graphics2D graphics = grayImage.createGraphics();
+        try {
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return grayImage;
+    }
+
+    private static BufferedImage deskewImage(BufferedImage image) {
+        final double imageSkewAngle = new ImageDeskew(image).getSkewAngle(); // determine skew angle
+        if ((imageSkewAngle > MINIMUM_DESKEW_THRESHOLD || imageSkewAngle < -(MINIMUM_DESKEW_THRESHOLD))) {
+            return ImageHelper.rotateImage(image, -imageSkewAngle); // deskew image
+        }
+        return image;
+    }
+
     private static String extractAllText(TessBaseAPI api) throws Exception {
         final BytePointer outText;
         final String result;
@@ -122,13 +181,7 @@ public class OcrService {
 
     private static String deskewImage(String filePath) throws IOException {
         File imageFile = new File(filePath);
-        BufferedImage bi = ImageIO.read(imageFile);
-        ImageDeskew id = new ImageDeskew(bi);
-
-        double imageSkewAngle = id.getSkewAngle(); // determine skew angle
-        if ((imageSkewAngle > MINIMUM_DESKEW_THRESHOLD || imageSkewAngle < -(MINIMUM_DESKEW_THRESHOLD))) {
-            bi = ImageHelper.rotateImage(bi, -imageSkewAngle); // deskew image
-        }
+        BufferedImage bi = deskewImage(ImageIO.read(imageFile));
 
         ImageInputStream iis = ImageIO.createImageInputStream(imageFile);
         Iterator<ImageReader> iter = ImageIO.getImageReaders(iis);
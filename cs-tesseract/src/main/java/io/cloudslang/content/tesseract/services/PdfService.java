@@ -17,121 +17,137 @@ package io.cloudslang.content.tesseract.services;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
-import org.apache.commons.io.FileUtils;
-import org.apache.commons.lang3.RandomStringUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import static io.cloudslang.content.tesseract.utils.Constants.*;
-import static java.util.Objects.requireNonNull;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 public class PdfService {
 
-    public static String imageConvert(String sourcePath, String dataPath, String lang, String dpi, String textBlocks, String deskew, String fromPage, String toPage, String pageIndex)
-            throws Exception {
-        StringBuilder result = new StringBuilder();
-        List<File> fileList = null;
-        String destination = sourcePath.substring(0, sourcePath.lastIndexOf(File.separator)) + File.separator;
+    /**
+     * Extracts the text of one rendered page.
+     */
+    interface PageOcr {
+        String extractText(BufferedImage image) throws Exception;
+    }
+
+    /**
+     * Renders the selected pages and extracts their text. The pages are rendered one after the other (a PDF document
+     * can't be rendered concurrently) while up to threadCount rendered pages are OCRed in parallel. The rendered pages
+     * stay in memory and at most two pages per thread are waiting for OCR at any time. The text of the pages is
+     * returned in page order.
+     */
+    public static String imageConvert(String sourcePath, final String dataPath, final String lang, String dpi, final String textBlocks,
+                                      final String deskew, String fromPage, String toPage, String pageIndex, String threadCount) throws Exception {
+        return imageConvert(sourcePath, dpi, textBlocks, fromPage, toPage, pageIndex, threadCount, new PageOcr() {
+            @Override
+            public String extractText(BufferedImage image) throws Exception {
+                return OcrService.extractTextFromImage(image, dataPath, lang, textBlocks, deskew);
+            }
+        });
+    }
+
+    static String imageConvert(String sourcePath, String dpi, String textBlocks, String fromPage, String toPage,
+                               String pageIndex, String threadCount, final PageOcr pageOcr) throws Exception {
+        if (sourcePath.equals(EMPTY)) {
+            return EMPTY;
+        }
+        final File pdf = new File(sourcePath);
+        if (!pdf.exists()) {
+            throw new Exception(FILE_NOT_EXISTS);
+        }
+        final int threads = Integer.parseInt(threadCount);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        final PDDocument doc = PDDocument.load(pdf);
         try {
-            if (!sourcePath.equals(EMPTY)) {
+            final List<Integer> pages = getPages(fromPage, toPage, pageIndex, doc.getNumberOfPages());
+            final PDFRenderer renderer = new PDFRenderer(doc);
+            final Semaphore renderedPages = new Semaphore(2 * threads);
+            final List<Future<String>> futures = new ArrayList<>(pages.size());
+            for (int page : pages) {
+                renderedPages.acquire();
+                final BufferedImage image;
+                try {
+                    image = renderer.renderImageWithDPI(page, Integer.parseInt(dpi), ImageType.GRAY);
+                } catch (Exception | Error e) {
+                    renderedPages.release();
+                    throw e;
+                }
+                futures.add(executorService.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        try {
+                            return pageOcr.extractText(image);
+                        } finally {
+                            renderedPages.release();
+                        }
+                    }
+                }));
+            }
+
+            if (Boolean.parseBoolean(textBlocks)) {
                 JsonObject outputObject = new JsonObject();
                 JsonArray outputArray = new JsonArray();
-                File pdf = new File(sourcePath);
-                fileList = requireNonNull(convertPdfToImage(pdf, destination, dpi, fromPage, toPage,
-                        pageIndex));
-                if (Boolean.parseBoolean(textBlocks)) {
-                    for (File image : fileList) {
-                        outputArray.add(OcrService.extractTextFromImage(image.getAbsolutePath(), dataPath, lang, textBlocks,
-                                deskew));
-                        FileUtils.forceDelete(image);
-                    }
-                    outputObject.add(PAGE, outputArray);
-                    result.append(outputObject.toString());
-                } else {
-                    for (File image : fileList) {
-                        result.append(OcrService.extractTextFromImage(image.getAbsolutePath(), dataPath, lang, textBlocks,
-                                deskew));
-                        FileUtils.forceDelete(image);
-                    }
+                for (Future<String> future : futures) {
+                    outputArray.add(getResult(future));
                 }
+                outputObject.add(PAGE, outputArray);
+                return outputObject.toString();
+            }
+            final StringBuilder result = new StringBuilder();
+            for (Future<String> future : futures) {
+                result.append(getResult(future));
             }
             return result.toString();
         } finally {
-            if (fileList != null) {
-                for (File image : fileList) {
-                    if (image.exists())
-                        FileUtils.forceDelete(image);
-                }
-            }
+            executorService.shutdownNow();
+            doc.close();
         }
     }
 
-
-    private static List<File> convertPdfToImage(File file, String destination, String dpi, String fromPage,
-                                                String toPage, String pageIndex) throws Exception {
-        if (file.exists()) {
-            PDDocument doc = PDDocument.load(file);
-            PDFRenderer renderer = new PDFRenderer(doc);
-            List<File> fileList = new ArrayList<>();
-
-            String fileName = file.getName().replace(PDF_EXTENSION, EMPTY);
-
-            if (StringUtils.equals(fromPage, EMPTY) && StringUtils.equals(toPage, EMPTY) && StringUtils.equals(pageIndex, EMPTY))
-                fileList = PdfService.iteration(destination, Integer.parseInt(dpi), renderer, fileList, fileName, 0,
-                        doc.getNumberOfPages(), pageIndex);
-            if (StringUtils.equals(fromPage, EMPTY) && !StringUtils.equals(toPage, EMPTY) && StringUtils.equals(pageIndex, EMPTY))
-                fileList = PdfService.iteration(destination, Integer.parseInt(dpi), renderer, fileList, fileName, 0, Integer.parseInt(toPage),
-                        pageIndex);
-            if (!StringUtils.equals(fromPage, EMPTY) && !StringUtils.equals(toPage, EMPTY) && StringUtils.equals(pageIndex, EMPTY)) {
-                int fromPageImp = Integer.parseInt(fromPage);
-                fileList = PdfService.iteration(destination, Integer.parseInt(dpi), renderer, fileList, fileName, --fromPageImp, Integer.parseInt(toPage),
-                        pageIndex);
+    /**
+     * @return the 0 based indexes of the selected pages, all the pages when no page is selected.
+     */
+    private static List<Integer> getPages(String fromPage, String toPage, String pageIndex, int numberOfPages) {
+        final List<Integer> pages = new ArrayList<>();
+        if (!StringUtils.equals(pageIndex, EMPTY)) {
+            for (String page : pageIndex.split(COMMA)) {
+                if (!page.trim().isEmpty()) {
+                    pages.add(Integer.parseInt(page.trim()) - 1);
+                }
             }
-            if (!StringUtils.equals(pageIndex, EMPTY))
-                fileList = iteration(destination, Integer.parseInt(dpi), renderer, fileList, fileName, 0, 0, pageIndex);
-
-            doc.close();
-            return fileList;
+            return pages;
+        }
+        final int first = StringUtils.equals(fromPage, EMPTY) ? 0 : Integer.parseInt(fromPage) - 1;
+        final int last = StringUtils.equals(toPage, EMPTY) ? numberOfPages : Integer.parseInt(toPage);
+        for (int i = first; i < last; i++) {
+            pages.add(i);
         }
-        throw new Exception(FILE_NOT_EXISTS);
+        return pages;
     }
 
-    private static List<File> iteration(String destination, Integer dpi, PDFRenderer renderer, List<File> fileList,
-                                        String fileName, Integer fromPage, Integer toPage, String pageIndex)
-            throws IOException {
-        if (!pageIndex.equals(EMPTY)) {
-            final String[] arrSplit = pageIndex.split(COMMA);
-            for (String anArrSplit : arrSplit) {
-                int val = Integer.parseInt(anArrSplit);
-                fileCreation(destination, dpi, renderer, fileList, fileName, --val);
-            }
-        } else {
-            for (int i = fromPage; i < toPage; i++) {
-                // default image files path: original file path
-                // if necessary, file.getParent() + "/" => another path
-                fileCreation(destination, dpi, renderer, fileList, fileName, i);
+    private static String getResult(Future<String> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
             }
+            throw e;
         }
-        return fileList;
-    }
-
-    private static void fileCreation(String destination, Integer dpi, PDFRenderer renderer, List<File> fileList,
-                                     String fileName, Integer i) throws IOException {
-        File fileTemp = new File(destination + fileName + UNDERSCORE +
-                RandomStringUtils.randomAlphanumeric(15).toUpperCase() + PNG_EXTENSION); // jpg or png
-        BufferedImage image = renderer.renderImageWithDPI(i, dpi);
-        // if necessary, change 200 into another integer.
-        ImageIO.write(image, PNG, fileTemp); // JPEG or PNG
-        fileList.add(fileTemp);
     }
 }
-
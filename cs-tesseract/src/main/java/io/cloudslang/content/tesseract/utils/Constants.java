@@ -26,10 +26,12 @@ public final class Constants {
     public static final String TESSDATA = "tessdata";
     public static final String TESSDATA_ZIP = "tessdata.zip";
     public static final String DPI_SET = "300";
+    public static final String THREAD_COUNT_SET = "1";
     public static final String UTF_8 = "UTF-8";
     public static final String TEXT_BLOCK = "text_block_";
     public static final String PAGE = "pages";
     public static final double MINIMUM_DESKEW_THRESHOLD = 0.05d;
+    public static final long ENGINE_IDLE_TIMEOUT_MILLIS = 5 * 60 * 1000L;
     public static final String PNG = "PNG";
     public static final String PNG_EXTENSION = ".png";
     public static final String PDF_EXTENSION = ".pdf";
@@ -51,6 +51,9 @@ public class Descriptions {
         public static final String FROM_PAGE_DESC = "The starting page from where the text should be retrieved";
         public static final String TO_PAGE_DESC = "The last page from where the text should be retrieved";
         public static final String PAGE_INDEX_DESC = "A list of indexes from where the text should be retrieved";
+        public static final String THREAD_COUNT_DESC = "The number of pages that are processed by the OCR engine at the " +
+                "same time. The pages are rendered while the previous ones are processed.\n" +
+                "Default value: 1";
     }
 
     public static class OutputsDescription {
@@ -25,4 +25,5 @@ public class Inputs {
     public static final String FROM_PAGE = "fromPage";
     public static final String TO_PAGE = "toPage";
     public static final String PAGE_INDEX = "pageIndex";
+    public static final String THREAD_COUNT = "threadCount";
 }
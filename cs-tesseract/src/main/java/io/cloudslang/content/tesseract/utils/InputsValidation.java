@@ -50,9 +50,11 @@ public class InputsValidation {
                                                         @Nullable final String fromPage,
                                                         @Nullable final String toPage,
                                                         @Nullable final String pageIndex,
-                                                        @Nullable final String dpi) {
+                                                        @Nullable final String dpi,
+                                                        @Nullable final String threadCount) {
 
         final List<String> exceptionMessages = verifyCommonInputs(filePath, dataPath, textBlocks, deskew);
+        addVerifyNumber(exceptionMessages, threadCount, THREAD_COUNT);
 
         if (!StringUtils.equals(pageIndex, EMPTY)) {
             String regex = "[0-9, /,]+";
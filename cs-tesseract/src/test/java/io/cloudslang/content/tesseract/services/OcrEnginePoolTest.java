@@ -0,0 +1,122 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.tesseract.services;
+
+import org.bytedeco.javacpp.tesseract.TessBaseAPI;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class OcrEnginePoolTest {
+
+    @Test
+    public void acquireReusesTheEngineOfTheSameDataPathAndLanguage() throws Exception {
+        final FakeEnginePool pool = new FakeEnginePool(2);
+
+        final OcrEnginePool.Engine english = pool.acquire("/tessdata", "eng");
+        pool.release(english, true);
+        final OcrEnginePool.Engine englishAgain = pool.acquire("/tessdata", "eng");
+        pool.release(englishAgain, true);
+        final OcrEnginePool.Engine french = pool.acquire("/tessdata", "fra");
+        pool.release(french, true);
+        final OcrEnginePool.Engine otherDataPath = pool.acquire("/other/tessdata", "eng");
+        pool.release(otherDataPath, true);
+
+        assertSame(english, englishAgain);
+        assertNotSame(english, french);
+        assertNotSame(english, otherDataPath);
+        assertEquals(3, pool.initializedEngines.size());
+        assertTrue(pool.initializedEngines.contains("/tessdata:fra"));
+        assertTrue(pool.initializedEngines.contains("/other/tessdata:eng"));
+    }
+
+    @Test
+    public void releaseClosesTheEngineThatIsNotReusable() throws Exception {
+        final FakeEnginePool pool = new FakeEnginePool(2);
+
+        final OcrEnginePool.Engine engine = pool.acquire("/tessdata", "eng");
+        pool.release(engine, false);
+
+        assertNotSame(engine, pool.acquire("/tessdata", "eng"));
+        assertEquals(2, pool.initializedEngines.size());
+    }
+
+    @Test(timeout = 30000)
+    public void acquireNeverHandsTheSameEngineToTwoThreads() throws Exception {
+        final FakeEnginePool pool = new FakeEnginePool(2);
+        final Set<OcrEnginePool.Engine> busyEngines = Collections.newSetFromMap(new ConcurrentHashMap<OcrEnginePool.Engine, Boolean>());
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final String language = i % 2 == 0 ? "eng" : "fra";
+                futures.add(executorService.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int j = 0; j < 100; j++) {
+                            final OcrEnginePool.Engine engine = pool.acquire("/tessdata", language);
+                            assertTrue(busyEngines.add(engine));
+                            Thread.yield();
+                            assertTrue(busyEngines.remove(engine));
+                            pool.release(engine, true);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        //at most two engines per language
+        assertTrue(pool.initializedEngines.size() <= 4);
+    }
+
+    private static class FakeEnginePool extends OcrEnginePool {
+        private final List<String> initializedEngines = Collections.synchronizedList(new ArrayList<String>());
+
+        private FakeEnginePool(final int maxEnginesPerGroup) {
+            super(maxEnginesPerGroup, 60000);
+        }
+
+        @Override
+        TessBaseAPI initializeApi(final String dataPath, final String language) {
+            initializedEngines.add(dataPath + ':' + language);
+            return mock(TessBaseAPI.class);
+        }
+    }
+}
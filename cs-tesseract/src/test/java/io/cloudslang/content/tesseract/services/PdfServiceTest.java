@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2019 Micro Focus, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.cloudslang.content.tesseract.services;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+
+public class PdfServiceTest {
+    private static final int PAGE_COUNT = 6;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String pdfPath;
+
+    //the width of every page tells its number, the first pages take the longest to OCR
+    @Before
+    public void setUp() throws Exception {
+        final File pdf = folder.newFile("pages.pdf");
+        try (PDDocument document = new PDDocument()) {
+            for (int page = 1; page <= PAGE_COUNT; page++) {
+                document.addPage(new PDPage(new PDRectangle(100 + page * 10, 100)));
+            }
+            document.save(pdf);
+        }
+        pdfPath = pdf.getAbsolutePath();
+    }
+
+    @Test
+    public void imageConvertReturnsThePagesInOrder() throws Exception {
+        final String result = PdfService.imageConvert(pdfPath, "72", "false", "", "", "", "4", new SlowFirstPagesOcr());
+
+        assertEquals("p1;p2;p3;p4;p5;p6;", result);
+    }
+
+    @Test
+    public void imageConvertReturnsTheTextBlocksInOrder() throws Exception {
+        final String result = PdfService.imageConvert(pdfPath, "72", "true", "", "", "", "3", new SlowFirstPagesOcr());
+
+        assertEquals("{\"pages\":[\"p1;\",\"p2;\",\"p3;\",\"p4;\",\"p5;\",\"p6;\"]}", result);
+    }
+
+    @Test
+    public void imageConvertFromPageToPage() throws Exception {
+        final String result = PdfService.imageConvert(pdfPath, "72", "false", "2", "4", "", "3", new SlowFirstPagesOcr());
+
+        assertEquals("p2;p3;p4;", result);
+    }
+
+    @Test
+    public void imageConvertFromPageToTheLastPage() throws Exception {
+        final String result = PdfService.imageConvert(pdfPath, "72", "false", "4", "", "", "2", new SlowFirstPagesOcr());
+
+        assertEquals("p4;p5;p6;", result);
+    }
+
+    @Test
+    public void imageConvertPageIndexKeepsTheOrderOfTheIndexes() throws Exception {
+        final String result = PdfService.imageConvert(pdfPath, "72", "false", "", "", "5,1, 3", "3", new SlowFirstPagesOcr());
+
+        assertEquals("p5;p1;p3;", result);
+    }
+
+    private static class SlowFirstPagesOcr implements PdfService.PageOcr {
+        @Override
+        public String extractText(BufferedImage image) throws Exception {
+            final int page = (image.getWidth() - 100) / 10;
+            Thread.sleep((PAGE_COUNT - page) * 30);
+            return "p" + page + ";";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.utils.StringUtilities;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType.COMPARE_EQUAL;
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType.ERROR;
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.ResponseType.RESOLVED;
+import static io.cloudslang.content.constants.OutputNames.EXCEPTION;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ResponseNames.FAILURE;
+import static io.cloudslang.content.constants.ResponseNames.SUCCESS;
+import static io.cloudslang.content.utilities.services.base64coder.Base64StreamCoderImpl.decodeFileToFile;
+import static io.cloudslang.content.utilities.services.base64coder.Base64StreamCoderImpl.encodeFileToFile;
+import static io.cloudslang.content.utilities.util.Constants.DECODE_OPERATION;
+import static io.cloudslang.content.utilities.util.Constants.ENCODE_OPERATION;
+import static io.cloudslang.content.utilities.util.Constants.FILE_RETURN_MESSAGE;
+import static io.cloudslang.content.utilities.util.Constants.NEW_LINE;
+import static io.cloudslang.content.utilities.util.Constants.RETURN_PATH;
+import static io.cloudslang.content.utilities.util.Descriptions.Base64FileToFileDescriptions.*;
+import static io.cloudslang.content.utilities.util.Inputs.Base64CoderInputs.DESTINATION_FILE_PATH;
+import static io.cloudslang.content.utilities.util.Inputs.Base64CoderInputs.OPERATION;
+import static io.cloudslang.content.utilities.util.Inputs.Base64CoderInputs.SOURCE_FILE_PATH;
+import static io.cloudslang.content.utilities.util.InputsValidation.verifyBase64FileToFileInputs;
+import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+
+public class Base64FileToFile {
+    @Action(name = BASE64_FILE_TO_FILE,
+            description = BASE64_FILE_TO_FILE_DESC,
+            outputs = {
+                    @Output(value = RETURN_RESULT, description = RETURN_RESULT_DESC),
+                    @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
+                    @Output(value = EXCEPTION, description = EXCEPTION_DESC),
+                    @Output(value = RETURN_PATH, description = RETURN_PATH_DESC)
+            },
+            responses = {
+                    @Response(text = SUCCESS, field = RETURN_CODE, value = ReturnCodes.SUCCESS, matchType = COMPARE_EQUAL, responseType = RESOLVED, description = SUCCESS_DESC),
+                    @Response(text = FAILURE, field = RETURN_CODE, value = ReturnCodes.FAILURE, matchType = COMPARE_EQUAL, responseType = ERROR, description = FAILURE_DESC)
+            })
+    public Map<String, String> execute(@Param(value = SOURCE_FILE_PATH, description = SOURCE_FILE_PATH_DESC, required = true) String sourceFilePath,
+                                       @Param(value = DESTINATION_FILE_PATH, description = DESTINATION_FILE_PATH_DESC, required = true) String destinationFilePath,
+                                       @Param(value = OPERATION, description = OPERATION_DESC) String operation) {
+        operation = defaultIfEmpty(operation, ENCODE_OPERATION);
+
+        final List<String> exceptionMessages = verifyBase64FileToFileInputs(sourceFilePath, destinationFilePath, operation);
+        if (!exceptionMessages.isEmpty()) {
+            return getFailureResultsMap(StringUtilities.join(exceptionMessages, NEW_LINE));
+        }
+
+        try {
+            if (equalsIgnoreCase(operation, DECODE_OPERATION)) {
+                decodeFileToFile(Paths.get(sourceFilePath), Paths.get(destinationFilePath));
+            } else {
+                encodeFileToFile(Paths.get(sourceFilePath), Paths.get(destinationFilePath));
+            }
+            final Map<String, String> result = getSuccessResultsMap(FILE_RETURN_MESSAGE + destinationFilePath);
+            result.put(RETURN_PATH, destinationFilePath);
+            return result;
+        } catch (Exception exception) {
+            return getFailureResultsMap(exception);
+        }
+    }
+}
@@ -23,6 +23,7 @@ import com.hp.oo.sdk.content.annotations.Output;
 import com.hp.oo.sdk.content.annotations.Param;
 import com.hp.oo.sdk.content.annotations.Response;
 import io.cloudslang.content.constants.ReturnCodes;
+import io.cloudslang.content.utilities.entities.PdfTextOccurrences;
 import io.cloudslang.content.utilities.services.PdfParseService;
 import io.cloudslang.content.utils.BooleanUtilities;
 
@@ -43,11 +44,16 @@ import static io.cloudslang.content.utilities.entities.constants.Descriptions.Re
 import static io.cloudslang.content.utilities.entities.constants.Descriptions.ResultsDescription.SUCCESS_DESC;
 import static io.cloudslang.content.utilities.entities.constants.Inputs.*;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
+import static io.cloudslang.content.utils.NumberUtilities.isValidInt;
+import static io.cloudslang.content.utils.NumberUtilities.toInteger;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
+import static io.cloudslang.content.utils.StringUtilities.join;
 import static java.lang.String.format;
+import static java.lang.String.valueOf;
 import static org.apache.commons.lang3.BooleanUtils.toBoolean;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 /**
  * Created by marisca on 7/11/2017.
@@ -63,8 +69,15 @@ public class FindTextInPdf {
      *                   Default Value: "false"
      * @param pathToFile The full path to the PDF file.
      * @param password   The password for the PDF file.
+     * @param maxOccurrences The search stops after this number of occurrences was found. 0 searches the whole file.
+     *                   When maxOccurrences or threadCount is set the file is searched page by page, so a text that
+     *                   continues from one page to the next is not found. Otherwise the whole text of the file is searched.
+     *                   Default Value: "0"
+     * @param threadCount The number of threads that read the pages of the PDF file at the same time.
+     *                   Default Value: "1"
      * @return - a map containing the output of the operation. Keys present in the map are:
      * returnResult - The number of occurrences of the text in the PDF file.
+     * pageNumbers - The comma separated numbers of the pages where the text was found, only when the file is searched page by page.
      * returnCode - the return code of the operation. 0 if the operation goes to success, -1 if the operation goes to failure.
      * exception - the exception message if the operation fails.
      */
@@ -74,6 +87,7 @@ public class FindTextInPdf {
             outputs = {
                     @Output(value = RETURN_CODE, description = RETURN_CODE_DESC),
                     @Output(value = RETURN_RESULT, description = FIND_TEXT_IN_PDF_RETURN_RESULT_DESC),
+                    @Output(value = PAGE_NUMBERS, description = PAGE_NUMBERS_DESC),
                     @Output(value = EXCEPTION, description = EXCEPTION_DESC),
             },
             responses = {
@@ -84,18 +98,37 @@ public class FindTextInPdf {
             @Param(value = TEXT, required = true, description = INITIAL_VALUE_DESC) String text,
             @Param(value = IGNORE_CASE, description = IGNORE_CASE_DESC) String ignoreCase,
             @Param(value = PATH_TO_FILE, required = true, description = DEFAULT_VALUE_DESC) String pathToFile,
-            @Param(value = PASSWORD, description = PASSWORD_DESC, encrypted = true) String password) {
+            @Param(value = PASSWORD, description = PASSWORD_DESC, encrypted = true) String password,
+            @Param(value = MAX_OCCURRENCES, description = MAX_OCCURRENCES_DESC) String maxOccurrences,
+            @Param(value = THREAD_COUNT, description = THREAD_COUNT_DESC) String threadCount) {
 
         try {
             final Path path = Paths.get(pathToFile);
             final String pdfPassword = defaultIfEmpty(password, EMPTY);
-            final String pdfContent = PdfParseService.getPdfContent(path, pdfPassword).trim().replace(System.lineSeparator(), EMPTY);
             final boolean validIgnoreCase = BooleanUtilities.isValid(ignoreCase);
             if (!validIgnoreCase) {
                 throw new RuntimeException(format("Invalid boolean value for ignoreCase parameter: %s", ignoreCase));
             }
+            if (isEmpty(maxOccurrences) && isEmpty(threadCount)) {
+                final String pdfContent = PdfParseService.getPdfContent(path, pdfPassword).trim().replace(System.lineSeparator(), EMPTY);
+                final Map<String, String> result = getSuccessResultsMap(PdfParseService.getOccurrences(pdfContent, text, toBoolean(ignoreCase)));
+                result.put(PAGE_NUMBERS, EMPTY);
+                return result;
+            }
+            maxOccurrences = defaultIfEmpty(maxOccurrences, "0");
+            if (!isValidInt(maxOccurrences, 0, Integer.MAX_VALUE, true, true)) {
+                throw new RuntimeException(format("Invalid value for maxOccurrences parameter: %s", maxOccurrences));
+            }
+            threadCount = defaultIfEmpty(threadCount, "1");
+            if (!isValidInt(threadCount, 1, Integer.MAX_VALUE, true, true)) {
+                throw new RuntimeException(format("Invalid value for threadCount parameter: %s", threadCount));
+            }
 
-            return getSuccessResultsMap(PdfParseService.getOccurrences(pdfContent, text, toBoolean(ignoreCase)));
+            final PdfTextOccurrences occurrences = PdfParseService.findText(path, pdfPassword, text, toBoolean(ignoreCase),
+                    toInteger(maxOccurrences), toInteger(threadCount));
+            final Map<String, String> result = getSuccessResultsMap(valueOf(occurrences.getOccurrences()));
+            result.put(PAGE_NUMBERS, join(occurrences.getPageNumbers(), ","));
+            return result;
         } catch (Exception e) {
             return getFailureResultsMap(e);
         }
@@ -88,11 +88,14 @@ import static io.cloudslang.content.utilities.entities.constants.OsDetectorConst
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.OS_FAMILY;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.OS_NAME;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.OS_VERSION;
+import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.PARALLEL_DETECTION;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.POWERSHELL_OPERATION_TIMEOUT;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.RESTRICTIVE_NMAP_VALIDATOR;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.SSH_CONNECT_TIMEOUT;
 import static io.cloudslang.content.utilities.entities.constants.OsDetectorConstants.SSH_TIMEOUT;
 import static io.cloudslang.content.utils.Constants.InputNames.PROTOCOL;
+import static io.cloudslang.content.utils.BooleanUtilities.isValid;
+import static io.cloudslang.content.utils.BooleanUtilities.toBoolean;
 import static io.cloudslang.content.utils.Constants.InputNames.WINRM_LOCALE;
 import static io.cloudslang.content.utils.OutputUtilities.getFailureResultsMap;
 import static io.cloudslang.content.utils.OutputUtilities.getSuccessResultsMap;
@@ -100,6 +103,7 @@ import static java.lang.String.format;
 import static java.lang.String.valueOf;
 import static org.apache.commons.lang3.StringUtils.contains;
 import static org.apache.commons.lang3.StringUtils.defaultIfEmpty;
+import static org.apache.commons.lang3.StringUtils.isNotEmpty;
 
 public class OsDetector {
     /**
@@ -211,6 +215,11 @@ public class OsDetector {
      *                                      Default value: restrictive
      * @param nmapTimeout                   Time in milliseconds to wait for the Nmap command to finish execution (For Nmap detection).
      *                                      Default value: 30000
+     * @param parallelDetection             Whether to run the local, SSH, PowerShell and Nmap detections at the same time.
+     *                                      The result is the one of the first detection in this order that finds the
+     *                                      operating system, the detections still running are canceled.
+     *                                      Valid values: true, false
+     *                                      Default value: false
      * @return                              A map containing the output of the operation. Keys present in the map are:
      * <br><b>returnResult</b>              The primary output, containing a success message or the exception message in case of failure.
      * <br><b>returnCode</b>                The return code of the operation. 0 if the operation goes to success, -1 if the operation goes to failure.
@@ -276,7 +285,8 @@ public class OsDetector {
                                        @Param(NMAP_PATH) String nmapPath,
                                        @Param(NMAP_ARGUMENTS) String nmapArguments,
                                        @Param(NMAP_VALIDATOR) String nmapValidator,
-                                       @Param(NMAP_TIMEOUT) String nmapTimeout) {
+                                       @Param(NMAP_TIMEOUT) String nmapTimeout,
+                                       @Param(PARALLEL_DETECTION) String parallelDetection) {
 
         try {
             OsDetectorInputs osDetectorInputs = new OsDetectorInputs.Builder()
@@ -323,8 +333,11 @@ public class OsDetector {
                     new LocalOsDetectorService(osDetectorHelperService), osDetectorHelperService);
 
             osDetectorHelperService.validateNmapInputs(osDetectorInputs, nmapOsDetectorService);
+            if (isNotEmpty(parallelDetection) && !isValid(parallelDetection)) {
+                throw new IllegalArgumentException(format("The '%s' input must be 'true' or 'false'.", PARALLEL_DETECTION));
+            }
 
-            OperatingSystemDetails os = service.detectOs(osDetectorInputs);
+            OperatingSystemDetails os = toBoolean(parallelDetection, false) ? service.detectOsConcurrently(osDetectorInputs) : service.detectOs(osDetectorInputs);
             Map<String, String> returnResult;
             if (osDetectorHelperService.foundOperatingSystem(os)) {
                 returnResult = getSuccessResultsMap("Successfully detected the operating system.");
@@ -0,0 +1,42 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.entities;
+
+import java.util.List;
+
+import static java.util.Collections.unmodifiableList;
+
+public class PdfTextOccurrences {
+    private final int occurrences;
+    private final List<Integer> pageNumbers;
+
+    public PdfTextOccurrences(final int occurrences, final List<Integer> pageNumbers) {
+        this.occurrences = occurrences;
+        this.pageNumbers = unmodifiableList(pageNumbers);
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * @return the numbers, starting from 1, of the pages where the text was found, in ascending order
+     */
+    public List<Integer> getPageNumbers() {
+        return pageNumbers;
+    }
+}
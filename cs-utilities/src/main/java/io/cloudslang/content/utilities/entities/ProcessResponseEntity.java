@@ -17,17 +17,32 @@
 
 package io.cloudslang.content.utilities.entities;
 
+import java.io.File;
+
 public class ProcessResponseEntity {
     private final String stdout;
     private final String stderr;
     private final int exitCode;
     private final boolean timeout;
+    private final ProcessStreamOutput stdoutOutput;
+    private final ProcessStreamOutput stderrOutput;
 
     public ProcessResponseEntity(final String stdout, final String stderr, final int exitCode, boolean timeout) {
         this.exitCode = exitCode;
         this.stdout = stdout;
         this.stderr = stderr;
         this.timeout = timeout;
+        this.stdoutOutput = null;
+        this.stderrOutput = null;
+    }
+
+    public ProcessResponseEntity(final ProcessStreamOutput stdoutOutput, final ProcessStreamOutput stderrOutput, final int exitCode) {
+        this.exitCode = exitCode;
+        this.stdout = stdoutOutput.getContent();
+        this.stderr = stderrOutput.getContent();
+        this.timeout = false;
+        this.stdoutOutput = stdoutOutput;
+        this.stderrOutput = stderrOutput;
     }
 
     public String getStdout() {
@@ -45,4 +60,20 @@ public class ProcessResponseEntity {
     public int getExitCode() {
         return exitCode;
     }
+
+    public boolean isStdoutTruncated() {
+        return stdoutOutput != null && stdoutOutput.isTruncated();
+    }
+
+    public boolean isStderrTruncated() {
+        return stderrOutput != null && stderrOutput.isTruncated();
+    }
+
+    public File getStdoutFile() {
+        return stdoutOutput == null ? null : stdoutOutput.getSpillFile();
+    }
+
+    public File getStderrFile() {
+        return stderrOutput == null ? null : stderrOutput.getSpillFile();
+    }
 }
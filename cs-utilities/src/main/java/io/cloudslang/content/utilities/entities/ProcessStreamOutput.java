@@ -0,0 +1,59 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+
+package io.cloudslang.content.utilities.entities;
+
+import java.io.File;
+
+public class ProcessStreamOutput {
+    private final String content;
+    private final long size;
+    private final boolean truncated;
+    private final File spillFile;
+
+    public ProcessStreamOutput(final String content, final long size, final boolean truncated, final File spillFile) {
+        this.content = content;
+        this.size = size;
+        this.truncated = truncated;
+        this.spillFile = spillFile;
+    }
+
+    /**
+     * @return the output kept in memory, only the beginning of the output when it is truncated
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * @return the size in bytes of the whole output
+     */
+    public long getSize() {
+        return size;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return the file holding the whole output, or null if the output was not written to a file
+     */
+    public File getSpillFile() {
+        return spillFile;
+    }
+}
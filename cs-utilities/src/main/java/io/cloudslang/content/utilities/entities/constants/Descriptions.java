@@ -33,12 +33,18 @@ public class Descriptions {
         public static final String DEFAULT_VALUE_DESC = "The default value used to replace the initial string.";
         public static final String TRIM_DESC = "A variable used to check if the initial string is blank or empty.";
         public static final String PASSWORD_DESC = "Password used to decrypt the PDF file.";
+        public static final String MAX_OCCURRENCES_DESC = "The search stops after this number of occurrences of the text was found. " +
+                "0 searches the whole PDF file. When maxOccurrences or threadCount is set the PDF file is searched page by page, " +
+                "so a text that continues from one page to the next is not found. Default value: 0.";
+        public static final String THREAD_COUNT_DESC = "The number of threads that read the pages of the PDF file at the same time. Default value: 1.";
     }
 
     public static class OutputsDescription {
         public static final String RETURN_CODE_DESC = "The returnCode of the operation: 0 for success, -1 for failure.";
         public static final String RETURN_RESULT_DESC = "This will contain the replaced string with the default value.";
         public static final String FIND_TEXT_IN_PDF_RETURN_RESULT_DESC = "The number of occurrences of the text in the PDF file.";
+        public static final String PAGE_NUMBERS_DESC = "A comma separated list with the numbers of the pages where the text was found. " +
+                "It is only set when maxOccurrences or threadCount is set.";
         public static final String EXCEPTION_DESC = "In case of success response, this result is empty. In case of failure response, this result contains the java stack trace of the runtime exception.";
     }
 
@@ -29,4 +29,7 @@ public class Inputs {
     public static final String IGNORE_CASE = "ignoreCase";
     public static final String PATH_TO_FILE = "pathToFile";
     public static final String PASSWORD = "password";
+    public static final String MAX_OCCURRENCES = "maxOccurrences";
+    public static final String THREAD_COUNT = "threadCount";
+    public static final String PAGE_NUMBERS = "pageNumbers";
 }
@@ -29,6 +29,7 @@ public class OsDetectorConstants {
     public static final String NMAP_ARGUMENTS = "nmapArguments";
     public static final String NMAP_VALIDATOR = "nmapValidator";
     public static final String NMAP_TIMEOUT = "nmapTimeout";
+    public static final String PARALLEL_DETECTION = "parallelDetection";
 
     public static final String DEFAULT_NMAP_PATH = "nmap";
     public static final String DEFAULT_NMAP_ARGUMENTS = "-sS -sU -O -Pn --top-ports 20";
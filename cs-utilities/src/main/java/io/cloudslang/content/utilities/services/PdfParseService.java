@@ -18,13 +18,28 @@
 
 package io.cloudslang.content.utilities.services;
 
+import io.cloudslang.content.utilities.entities.PdfTextOccurrences;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static java.lang.String.valueOf;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.UNICODE_CASE;
+import static java.util.regex.Pattern.quote;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.apache.commons.lang3.StringUtils.countMatches;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
 
@@ -32,6 +47,7 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
  * Created by marisca on 7/11/2017.
  */
 public class PdfParseService {
+    private static final int PAGES_PER_RANGE = 8;
 
     public static String getPdfContent(final Path path, final String password) throws IOException {
         try (final PDDocument document = getPdfDocument(path, password)) {
@@ -50,4 +66,116 @@ public class PdfParseService {
             return valueOf(countMatches(pdfContent.toLowerCase(), text.toLowerCase()));
         return valueOf(countMatches(pdfContent, text));
     }
+
+    /**
+     * Searches the text page by page instead of extracting the whole document at once. The pages are split in ranges
+     * of consecutive pages that are searched by {@code threadCount} threads, each one with its own copy of the
+     * document. A text that continues from one page to the next is not found.
+     *
+     * @param maxOccurrences the search stops once this many occurrences were found, 0 searches the whole document
+     * @return the occurrences found in the first pages of the document, at most maxOccurrences of them, none for an
+     * empty text
+     */
+    public static PdfTextOccurrences findText(final Path path, final String password, final String text, final boolean ignoreCase,
+                                              final int maxOccurrences, final int threadCount) throws IOException, InterruptedException {
+        final Pattern pattern = Pattern.compile(quote(text), ignoreCase ? CASE_INSENSITIVE | UNICODE_CASE : 0);
+        try (final PDDocument document = getPdfDocument(path, password)) {
+            if (isEmpty(text)) {
+                return new PdfTextOccurrences(0, new ArrayList<Integer>());
+            }
+            final PageSearch pageSearch = new PageSearch(path, password, pattern, document.getNumberOfPages(), maxOccurrences);
+            final int rangeCount = (pageSearch.pageOccurrences.length + PAGES_PER_RANGE - 1) / PAGES_PER_RANGE;
+            final int otherThreads = Math.max(0, Math.min(threadCount, rangeCount) - 1);
+            if (otherThreads == 0) {
+                pageSearch.search(document);
+                return pageSearch.getResult();
+            }
+
+            final ExecutorService executorService = Executors.newFixedThreadPool(otherThreads);
+            try {
+                final List<Future<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < otherThreads; i++) {
+                    futures.add(executorService.submit(pageSearch));
+                }
+                pageSearch.search(document);
+                for (final Future<Void> future : futures) {
+                    future.get();
+                }
+                return pageSearch.getResult();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new RuntimeException(e.getCause());
+            } finally {
+                executorService.shutdownNow();
+            }
+        }
+    }
+
+    private static class PageSearch implements Callable<Void> {
+        private final Path path;
+        private final String password;
+        private final Pattern pattern;
+        private final int[] pageOccurrences;
+        private final int maxOccurrences;
+        private final AtomicInteger nextRange = new AtomicInteger();
+        private final AtomicInteger occurrences = new AtomicInteger();
+
+        PageSearch(final Path path, final String password, final Pattern pattern, final int pageCount, final int maxOccurrences) {
+            this.path = path;
+            this.password = password;
+            this.pattern = pattern;
+            this.pageOccurrences = new int[pageCount];
+            this.maxOccurrences = maxOccurrences;
+        }
+
+        @Override
+        public Void call() throws IOException {
+            try (final PDDocument document = getPdfDocument(path, password)) {
+                search(document);
+            }
+            return null;
+        }
+
+        /**
+         * The ranges are handed out in order and a range is always searched entirely, so the pages searched when the
+         * search stops are always the first pages of the document.
+         */
+        void search(final PDDocument document) throws IOException {
+            final PDFTextStripper stripper = new PDFTextStripper();
+            int range;
+            while (!limitReached() && (range = nextRange.getAndIncrement()) * PAGES_PER_RANGE < pageOccurrences.length) {
+                final int lastPage = Math.min(pageOccurrences.length, (range + 1) * PAGES_PER_RANGE);
+                for (int page = range * PAGES_PER_RANGE + 1; page <= lastPage; page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    final String pageContent = stripper.getText(document).trim().replace(System.lineSeparator(), EMPTY);
+                    int count = 0;
+                    final Matcher matcher = pattern.matcher(pageContent);
+                    while (matcher.find()) {
+                        count++;
+                    }
+                    pageOccurrences[page - 1] = count;
+                    occurrences.addAndGet(count);
+                }
+            }
+        }
+
+        private boolean limitReached() {
+            return maxOccurrences > 0 && occurrences.get() >= maxOccurrences;
+        }
+
+        PdfTextOccurrences getResult() {
+            final List<Integer> pageNumbers = new ArrayList<>();
+            int total = 0;
+            for (int page = 1; page <= pageOccurrences.length && (maxOccurrences <= 0 || total < maxOccurrences); page++) {
+                if (pageOccurrences[page - 1] > 0) {
+                    total += pageOccurrences[page - 1];
+                    pageNumbers.add(page);
+                }
+            }
+            return new PdfTextOccurrences(maxOccurrences > 0 ? Math.min(total, maxOccurrences) : total, pageNumbers);
+        }
+    }
 }
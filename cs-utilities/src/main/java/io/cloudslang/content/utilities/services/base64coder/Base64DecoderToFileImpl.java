@@ -17,20 +17,28 @@
 package io.cloudslang.content.utilities.services.base64coder;
 
 import io.cloudslang.content.utilities.entities.Base64DecoderToFileInputs;
-import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Base64InputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.ReaderInputStream;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.StringReader;
+
+import static io.cloudslang.content.utilities.services.base64coder.Base64StreamCoderImpl.BUFFER_SIZE;
+import static java.nio.charset.StandardCharsets.US_ASCII;
 
 public class Base64DecoderToFileImpl {
 
     @NotNull
     public static String writeBytesToFile(Base64DecoderToFileInputs base64DecoderToFileInputs) throws IOException {
-        byte[] data = Base64.decodeBase64(base64DecoderToFileInputs.getContentBytes());
-        try (OutputStream stream = new FileOutputStream(base64DecoderToFileInputs.getFilePath())) {
-            stream.write(data);
+        //the content is decoded while it is written, the decoded bytes are never held in memory at once
+        try (InputStream decoder = new Base64InputStream(new ReaderInputStream(new StringReader(base64DecoderToFileInputs.getContentBytes()), US_ASCII));
+             OutputStream stream = new FileOutputStream(base64DecoderToFileInputs.getFilePath())) {
+            IOUtils.copyLarge(decoder, stream, new byte[BUFFER_SIZE]);
         }
         return base64DecoderToFileInputs.getFilePath();
     }
@@ -20,9 +20,12 @@ import io.cloudslang.content.utilities.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
+import java.io.InputStream;
+import java.io.StringWriter;
 import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Base64;
+
+import static io.cloudslang.content.utilities.services.base64coder.Base64StreamCoderImpl.BUFFER_SIZE;
+import static io.cloudslang.content.utilities.services.base64coder.Base64StreamCoderImpl.encodeInChunks;
 
 public class Base64EncoderToStringImpl {
     /**
@@ -38,7 +41,11 @@ public class Base64EncoderToStringImpl {
         File file = new File(base64EncoderInputs.getFilePath());
         if (file.exists()) {
             if (file.isFile()) {
-                stringValueBase64Encoded = Base64.getEncoder().encodeToString(Files.readAllBytes(Paths.get(base64EncoderInputs.getFilePath())));
+                final StringWriter encoded = new StringWriter();
+                try (InputStream inputStream = Files.newInputStream(file.toPath())) {
+                    encodeInChunks(inputStream, BUFFER_SIZE, encoded::write);
+                }
+                stringValueBase64Encoded = encoded.toString();
             } else {
                 throw new Exception(Constants.ENCODE_IS_NO_FILE_EXCEPTION);
             }
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.services.base64coder;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.output.CountingOutputStream;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Consumer;
+
+/**
+ * Base64 encoding and decoding that go through fixed size buffers, so the memory used does not depend on the size
+ * of the content.
+ */
+public class Base64StreamCoderImpl {
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Encodes the content of the stream and writes it to the destination file.
+     *
+     * @return the number of characters written to the destination file
+     */
+    public static long encodeToFile(@NotNull final InputStream source, @NotNull final Path destination) throws IOException {
+        try (CountingOutputStream counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(destination), BUFFER_SIZE))) {
+            //closing the wrapping stream writes the padding of the last group
+            try (OutputStream encoder = Base64.getEncoder().wrap(counter)) {
+                IOUtils.copyLarge(source, encoder, new byte[BUFFER_SIZE]);
+            }
+            return counter.getByteCount();
+        }
+    }
+
+    public static long encodeFileToFile(@NotNull final Path source, @NotNull final Path destination) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            return encodeToFile(inputStream, destination);
+        }
+    }
+
+    /**
+     * Decodes the base64 content of the stream and writes it to the destination file. Line separators and any other
+     * characters outside the base64 alphabet are ignored.
+     *
+     * @return the number of bytes written to the destination file
+     */
+    public static long decodeToFile(@NotNull final InputStream source, @NotNull final Path destination) throws IOException {
+        try (InputStream decoder = Base64.getMimeDecoder().wrap(source);
+             OutputStream outputStream = Files.newOutputStream(destination)) {
+            return IOUtils.copyLarge(decoder, outputStream, new byte[BUFFER_SIZE]);
+        }
+    }
+
+    public static long decodeFileToFile(@NotNull final Path source, @NotNull final Path destination) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            return decodeToFile(inputStream, destination);
+        }
+    }
+
+    /**
+     * Encodes the content of the stream and hands it to the consumer in chunks of at most {@code chunkSize}
+     * characters. The chunks can be concatenated, every chunk except the last one encodes a multiple of 3 bytes.
+     *
+     * @param chunkSize the maximum length of a chunk, rounded down to a multiple of 4 characters
+     */
+    public static void encodeInChunks(@NotNull final InputStream source, final int chunkSize, @NotNull final Consumer<String> consumer) throws IOException {
+        if (chunkSize < 4) {
+            throw new IllegalArgumentException("The chunk size must be at least 4 characters.");
+        }
+        final Base64.Encoder encoder = Base64.getEncoder();
+        final byte[] buffer = new byte[chunkSize / 4 * 3];
+        int read;
+        while ((read = IOUtils.read(source, buffer)) > 0) {
+            consumer.accept(encoder.encodeToString(read == buffer.length ? buffer : Arrays.copyOf(buffer, read)));
+        }
+    }
+}
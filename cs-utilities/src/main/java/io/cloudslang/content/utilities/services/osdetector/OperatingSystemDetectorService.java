@@ -20,7 +20,32 @@ package io.cloudslang.content.utilities.services.osdetector;
 import io.cloudslang.content.utilities.entities.OperatingSystemDetails;
 import io.cloudslang.content.utilities.entities.OsDetectorInputs;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Collections.singletonList;
+
 public class OperatingSystemDetectorService implements OperatingSystemDetector {
+    //the probes of all the detections run on the same pool, idle threads are released after a minute
+    private static final ExecutorService PROBE_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "os-detector-probe-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+    private static final String[] PROBE_NAMES = {"SSH", "PowerShell", "Nmap"};
+
     private final SshOsDetectorService sshOsDetectorService;
     private final PowerShellOsDetectorService powershellOsDetectorService;
     private final NmapOsDetectorService nmapOsDetectorService;
@@ -59,4 +84,91 @@ public class OperatingSystemDetectorService implements OperatingSystemDetector {
         return nmapOsSystemDetails;
     }
 
+    /**
+     * Runs the SSH, PowerShell and Nmap detections at the same time instead of one after the other, when the local
+     * detection does not find the operating system. The result is the same as the one of
+     * {@link #detectOs(OsDetectorInputs)}: the first detection in that order that finds the operating system wins and
+     * the detections after it are canceled, so the whole detection takes as long as the slowest detection it had to
+     * wait for instead of the sum of all of them.
+     */
+    public OperatingSystemDetails detectOsConcurrently(final OsDetectorInputs osDetectorInputs) {
+        //the local detection is cheap, no remote probe is started for a local host
+        OperatingSystemDetails localOsSystemDetails = localOsDetectorService.detectOs(osDetectorInputs);
+        if (osDetectorHelperService.foundOperatingSystem(localOsSystemDetails)) {
+            return localOsSystemDetails;
+        }
+
+        List<Future<OperatingSystemDetails>> probes = new ArrayList<>();
+        for (final OperatingSystemDetector detector : new OperatingSystemDetector[]{sshOsDetectorService,
+                powershellOsDetectorService, nmapOsDetectorService}) {
+            probes.add(PROBE_EXECUTOR.submit(() -> detector.detectOs(osDetectorInputs)));
+        }
+
+        try {
+            List<OperatingSystemDetails> inconclusive = new ArrayList<>();
+            inconclusive.add(localOsSystemDetails);
+            for (int i = 0; i < probes.size(); i++) {
+                OperatingSystemDetails probeDetails = getProbeResult(probes.get(i), PROBE_NAMES[i]);
+                boolean last = i == probes.size() - 1;
+                if (last || osDetectorHelperService.foundOperatingSystem(probeDetails)) {
+                    //same order as the sequential detection, the outputs of the earlier detections come last
+                    for (int j = inconclusive.size() - 1; j >= 0; j--) {
+                        probeDetails.collectOsCommandOutputs(inconclusive.get(j));
+                    }
+                    return probeDetails;
+                }
+                inconclusive.add(probeDetails);
+            }
+            throw new IllegalStateException("No operating system detector was run.");
+        } finally {
+            for (Future<OperatingSystemDetails> probe : probes) {
+                probe.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Detects the operating system of several hosts, at most {@code concurrency} hosts at a time.
+     *
+     * @return the details of each host, in the order of the inputs
+     */
+    public List<OperatingSystemDetails> detectOs(List<OsDetectorInputs> osDetectorInputsList, int concurrency, final boolean concurrentProbes) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("The concurrency must be greater than 0.");
+        }
+        List<OperatingSystemDetails> results = new ArrayList<>();
+        if (osDetectorInputsList.isEmpty()) {
+            return results;
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(concurrency, osDetectorInputsList.size()));
+        try {
+            List<Future<OperatingSystemDetails>> futures = new ArrayList<>();
+            for (final OsDetectorInputs osDetectorInputs : osDetectorInputsList) {
+                futures.add(executorService.submit(() -> concurrentProbes ? detectOsConcurrently(osDetectorInputs) : detectOs(osDetectorInputs)));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(getProbeResult(futures.get(i), osDetectorInputsList.get(i).getHost()));
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private OperatingSystemDetails getProbeResult(Future<OperatingSystemDetails> future, String type) {
+        OperatingSystemDetails failedDetails = new OperatingSystemDetails();
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            failedDetails.addCommandOutput(type, singletonList("The detection failed: " + cause.getMessage()));
+        } catch (CancellationException e) {
+            failedDetails.addCommandOutput(type, singletonList("The detection was canceled."));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failedDetails.addCommandOutput(type, singletonList("The detection was canceled."));
+        }
+        return failedDetails;
+    }
 }
@@ -31,6 +31,11 @@ public final class Constants {
     public static final String EXCEPTION_EMPTY_PATH = "The setFilePath input is required";
     public static final String EXCEPTION_MESSAGE = "Error converting the bytes to file";
     public static final String EXCEPTION_VALID_PATH = "The setFilePath is not valid";
+    public static final String ENCODE_OPERATION = "encode";
+    public static final String DECODE_OPERATION = "decode";
+    public static final String EXCEPTION_SOURCE_FILE = "The sourceFilePath input must point to an existing file";
+    public static final String EXCEPTION_DESTINATION_PATH = "The destinationFilePath input is required and its directory must exist";
+    public static final String EXCEPTION_OPERATION = "The operation input must be encode or decode";
 
     public static final String DEFAULT_PASSWORD_LENGTH = "10";
     public static final String ONE = "1";
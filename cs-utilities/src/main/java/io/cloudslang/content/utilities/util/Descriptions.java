@@ -35,7 +35,8 @@ public class Descriptions {
 
     public static class EncodeFileToStringOutput {
         public static final String BASE64_ENCODER_FROM_FILE = "Base64 Encoder from File.";
-        public static final String BASE64_ENCODER_FROM_FILE_DESC = "This operation encodes a file to base64.";
+        public static final String BASE64_ENCODER_FROM_FILE_DESC = "This operation encodes a file to base64. " +
+                "The encoded value is returned as a string, so it is held in memory. Use the Base64 File to File operation to encode large files.";
         public static final String FILE_PATH_DESC = "The absolute path with file name and extension that will be read.";
 
         public static final String EXCEPTION_DESC = "An error message in case there was an error while encoding the value read from file.";
@@ -48,6 +49,23 @@ public class Descriptions {
 
     }
 
+    public static class Base64FileToFileDescriptions {
+        public static final String BASE64_FILE_TO_FILE = "Base64 File to File";
+        public static final String BASE64_FILE_TO_FILE_DESC = "This operation encodes a file to base64 or decodes a base64 file, " +
+                "writing the result to another file. The content is processed in fixed size blocks, so files of any size can be used.";
+        public static final String SOURCE_FILE_PATH_DESC = "The absolute path of the file that will be read.";
+        public static final String DESTINATION_FILE_PATH_DESC = "The absolute path of the file that will be written. An existing file is overwritten.";
+        public static final String OPERATION_DESC = "Whether to encode the source file to base64 or to decode a base64 source file. " +
+                "Line separators are ignored when decoding. Valid values: encode, decode. Default: encode.";
+
+        public static final String SUCCESS_DESC = "The file was processed successfully.";
+        public static final String FAILURE_DESC = "There was an error while trying to process the file.";
+        public static final String EXCEPTION_DESC = "An error message in case there was an error while processing the file.";
+        public static final String RETURN_CODE_DESC = "0 if success, -1 otherwise.";
+        public static final String RETURN_RESULT_DESC = "A success message or the error message in case of failure.";
+        public static final String RETURN_PATH_DESC = "The path of the written file.";
+    }
+
     public static class RandomPasswordGeneratorDescriptions{
         public static final String RANDOM_PASSWORD_GENERATOR = "Random Password Generator";
         public static final String SUCCESS_DESC = "The password was generated successfully.";
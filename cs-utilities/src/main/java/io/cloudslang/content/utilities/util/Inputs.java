@@ -23,6 +23,9 @@ public final class Inputs extends InputNames {
     public static class Base64CoderInputs {
         public static final String FILE_PATH = "filePath";
         public static final String CONTENT_BYTES = "contentBytes";
+        public static final String SOURCE_FILE_PATH = "sourceFilePath";
+        public static final String DESTINATION_FILE_PATH = "destinationFilePath";
+        public static final String OPERATION = "operation";
     }
 
     public static class RandomPasswordGeneratorInputsNames {
@@ -69,6 +69,24 @@ public final class InputsValidation {
         return exceptionMessages;
     }
 
+    @NotNull
+    public static List<String> verifyBase64FileToFileInputs(@Nullable final String sourceFilePath,
+                                                            @Nullable final String destinationFilePath,
+                                                            @Nullable final String operation) {
+        final List<String> exceptionMessages = new ArrayList<>();
+
+        if (StringUtils.isEmpty(sourceFilePath) || !new File(sourceFilePath).isFile()) {
+            exceptionMessages.add(Constants.EXCEPTION_SOURCE_FILE);
+        }
+        if (StringUtils.isEmpty(destinationFilePath) || !isValidPath(destinationFilePath)) {
+            exceptionMessages.add(Constants.EXCEPTION_DESTINATION_PATH);
+        }
+        if (!StringUtils.equalsIgnoreCase(operation, Constants.ENCODE_OPERATION) && !StringUtils.equalsIgnoreCase(operation, Constants.DECODE_OPERATION)) {
+            exceptionMessages.add(Constants.EXCEPTION_OPERATION);
+        }
+        return exceptionMessages;
+    }
+
     /**
      * This method verifies if the path is valid and if the specified file exists
      *
@@ -19,8 +19,11 @@ package io.cloudslang.content.utilities.util;
 
 import com.google.common.collect.ImmutableList;
 import io.cloudslang.content.utilities.entities.ProcessResponseEntity;
+import io.cloudslang.content.utilities.entities.ProcessStreamOutput;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.text.StrTokenizer;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,8 +31,11 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static io.cloudslang.content.utilities.util.ProcessStreamConsumer.UNLIMITED;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.commons.io.IOUtils.closeQuietly;
 import static org.apache.commons.lang3.StringUtils.isEmpty;
@@ -39,6 +45,18 @@ import static org.apache.commons.lang3.SystemUtils.IS_OS_WINDOWS_98;
 import static org.apache.commons.lang3.SystemUtils.IS_OS_WINDOWS_ME;
 
 public class ProcessExecutor {
+    //the streams of all the processes are read by the same pool, idle threads are released after a minute
+    private static final ExecutorService STREAM_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "process-stream-consumer-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
     private final List<String> arguments;
 
     public ProcessExecutor() {
@@ -61,28 +79,73 @@ public class ProcessExecutor {
     }
 
     public ProcessResponseEntity execute(String commandLine, int timeout) throws IOException, ExecutionException, InterruptedException, TimeoutException {
-        Process process = new ProcessBuilder().command(processCommand(commandLine)).start();
+        return execute(commandLine, timeout, UNLIMITED, null);
+    }
 
-        ProcessStreamConsumer processStreamConsumer = new ProcessStreamConsumer(process);
-        ExecutorService executor = Executors.newFixedThreadPool(1);
-        Future<ProcessResponseEntity> futureResult = executor.submit(processStreamConsumer);
+    /**
+     * Runs the command and reads its standard output and standard error while it runs.
+     *
+     * @param commandLine    the command and its arguments separated by commas
+     * @param timeout        the time in milliseconds after which the process is destroyed
+     * @param maxOutputSize  the number of bytes of each stream kept in memory, a negative value keeps everything
+     * @param spillDirectory when not null, the streams larger than maxOutputSize are written entirely to files
+     *                       created in this directory, otherwise the bytes over the limit are discarded
+     */
+    public ProcessResponseEntity execute(String commandLine, int timeout, long maxOutputSize, File spillDirectory)
+            throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        long deadline = System.currentTimeMillis() + timeout;
+        Process process = new ProcessBuilder().command(processCommand(commandLine)).start();
+        closeQuietly(process.getOutputStream());
 
+        File stdoutFile = null;
+        File stderrFile = null;
+        Future<ProcessStreamOutput> stdout = null;
+        Future<ProcessStreamOutput> stderr = null;
         try {
-            return futureResult.get(timeout, MILLISECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            stopProcess(process, futureResult);
+            stdoutFile = spillFile(spillDirectory, maxOutputSize, "stdout");
+            stdout = STREAM_EXECUTOR.submit(new ProcessStreamConsumer(process.getInputStream(), maxOutputSize, stdoutFile));
+            stderrFile = spillFile(spillDirectory, maxOutputSize, "stderr");
+            stderr = STREAM_EXECUTOR.submit(new ProcessStreamConsumer(process.getErrorStream(), maxOutputSize, stderrFile));
+
+            if (!process.waitFor(timeout, MILLISECONDS)) {
+                throw new TimeoutException();
+            }
+            //the streams end when the process exits, unless a child process still holds them open
+            ProcessStreamOutput stdoutOutput = stdout.get(remaining(deadline), MILLISECONDS);
+            ProcessStreamOutput stderrOutput = stderr.get(remaining(deadline), MILLISECONDS);
+            return new ProcessResponseEntity(stdoutOutput, stderrOutput, process.exitValue());
+        } catch (IOException | InterruptedException | ExecutionException | TimeoutException e) {
+            stopProcess(process, stdout, stderr);
+            //the output is not returned, a consumer still running removes its file itself when it is cancelled
+            FileUtils.deleteQuietly(stdoutFile);
+            FileUtils.deleteQuietly(stderrFile);
             throw e;
-        } finally {
-            executor.shutdownNow();
         }
     }
 
-    private void stopProcess(Process process, Future<ProcessResponseEntity> futureResult) {
-        futureResult.cancel(true);
+    private static File spillFile(File spillDirectory, long maxOutputSize, String stream) throws IOException {
+        if (spillDirectory == null || maxOutputSize < 0) {
+            return null;
+        }
+        //the consumer removes the file again if the output stays under the limit
+        return File.createTempFile(stream + "-", ".log", spillDirectory);
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(1, deadline - System.currentTimeMillis());
+    }
+
+    private void stopProcess(Process process, Future<ProcessStreamOutput> stdout, Future<ProcessStreamOutput> stderr) {
         process.destroy();
 
         closeQuietly(process.getInputStream());
         closeQuietly(process.getErrorStream());
+        if (stdout != null) {
+            stdout.cancel(true);
+        }
+        if (stderr != null) {
+            stderr.cancel(true);
+        }
     }
 
 }
@@ -17,45 +17,76 @@
 
 package io.cloudslang.content.utilities.util;
 
-import io.cloudslang.content.utilities.entities.ProcessResponseEntity;
-import org.apache.commons.io.IOUtils;
+import io.cloudslang.content.utilities.entities.ProcessStreamOutput;
+import org.apache.commons.io.FileUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.concurrent.Callable;
 
-import static java.lang.Thread.currentThread;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.commons.io.IOUtils.closeQuietly;
 
+/**
+ * Reads one of the streams of a process while the process is still running, so the process never blocks on a full
+ * pipe. At most {@code maxOutputSize} bytes are kept in memory. When the output goes over that limit it is written
+ * entirely to {@code spillFile}, or the bytes over the limit are discarded when there is no file, but the stream is
+ * always read until its end. The spill file is removed when the consumer is cancelled, as its output is not used.
+ */
+public class ProcessStreamConsumer implements Callable<ProcessStreamOutput> {
+    public static final long UNLIMITED = -1;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream inputStream;
+    private final long maxOutputSize;
+    private final File spillFile;
 
-public class ProcessStreamConsumer implements Callable<ProcessResponseEntity> {
-    private static final int ERROR_CODE = -1;
-    private final Process process;
+    public ProcessStreamConsumer(InputStream inputStream) {
+        this(inputStream, UNLIMITED, null);
+    }
 
-    public ProcessStreamConsumer(Process process) {
-        this.process = process;
+    public ProcessStreamConsumer(InputStream inputStream, long maxOutputSize, File spillFile) {
+        this.inputStream = inputStream;
+        this.maxOutputSize = maxOutputSize;
+        this.spillFile = spillFile;
     }
 
     @Override
-    public ProcessResponseEntity call() throws Exception {
-        String stdOut = "";
-        String stdErr = "";
-        int exitCode = ERROR_CODE;
-        boolean timedOut = false;
+    public ProcessStreamOutput call() throws IOException {
+        ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        OutputStream spill = null;
+        long size = 0;
         try {
-            exitCode = process.waitFor();
-
-            stdOut = IOUtils.toString(process.getInputStream(), UTF_8);
-            stdErr = IOUtils.toString(process.getErrorStream(), UTF_8);
-        } catch (InterruptedException ignored) {
-            timedOut = true;
-            currentThread().interrupt();
-        } catch (IOException ignored) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                int inMemory = read;
+                if (maxOutputSize >= 0) {
+                    inMemory = (int) Math.max(0, Math.min(read, maxOutputSize - size));
+                }
+                memory.write(buffer, 0, inMemory);
+                if (inMemory < read && spillFile != null) {
+                    if (spill == null) {
+                        spill = new FileOutputStream(spillFile);
+                        memory.writeTo(spill);
+                    }
+                    spill.write(buffer, inMemory, read - inMemory);
+                }
+                size += read;
+            }
         } finally {
-            closeQuietly(process.getInputStream());
-            closeQuietly(process.getErrorStream());
+            closeQuietly(inputStream);
+            closeQuietly(spill);
+            if (spillFile != null && (spill == null || Thread.currentThread().isInterrupted())) {
+                FileUtils.deleteQuietly(spillFile);
+            }
         }
 
-        return new ProcessResponseEntity(stdOut, stdErr, exitCode, timedOut);
+        boolean truncated = maxOutputSize >= 0 && size > maxOutputSize;
+        return new ProcessStreamOutput(new String(memory.toByteArray(), UTF_8), size, truncated, spill == null ? null : spillFile);
     }
-}
\ No newline at end of file
+}
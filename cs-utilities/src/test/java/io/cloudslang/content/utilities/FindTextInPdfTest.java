@@ -44,7 +44,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("This", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("This", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -54,7 +54,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("This", "true", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("This", "true", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("3", result.get(RETURN_RESULT));
     }
@@ -64,7 +64,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("Most PDF readers have the ability to link", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("Most PDF readers have the ability to link", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -74,7 +74,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("This content will not be found", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("This content will not be found", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("0", result.get(RETURN_RESULT));
     }
@@ -84,7 +84,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("This", "false", file.toString() + ".wrong", "");
+        final Map<String, String> result = findTextInPdf.execute("This", "false", file.toString() + ".wrong", "", "", "");
         assertEquals(FAILURE, result.get(RETURN_CODE));
     }
 
@@ -93,7 +93,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("Vertical text, such as this, should still be recognized", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("Vertical text, such as this, should still be recognized", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -103,7 +103,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("Even if the text isn't in the main body of the page, such as a footnote", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("Even if the text isn't in the main body of the page, such as a footnote", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -113,7 +113,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-2.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("CloudSlang logo", "false", file.toString(), "");
+        final Map<String, String> result = findTextInPdf.execute("CloudSlang logo", "false", file.toString(), "", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -123,7 +123,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-3.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("sample", "false", file.toString(), "a1s2d3f4g5h");
+        final Map<String, String> result = findTextInPdf.execute("sample", "false", file.toString(), "a1s2d3f4g5h", "", "");
         assertEquals(SUCCESS, result.get(RETURN_CODE));
         assertEquals("1", result.get(RETURN_RESULT));
     }
@@ -133,7 +133,7 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-3.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("sample", "false", file.toString(), "invalid-pass");
+        final Map<String, String> result = findTextInPdf.execute("sample", "false", file.toString(), "invalid-pass", "", "");
         assertEquals(FAILURE, result.get(RETURN_CODE));
         assertEquals("Cannot decrypt PDF, the password is incorrect", result.get(RETURN_RESULT));
     }
@@ -143,8 +143,50 @@ public class FindTextInPdfTest {
         final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-3.pdf");
         assertNotNull(resource);
         final File file = new File(resource.toURI());
-        final Map<String, String> result = findTextInPdf.execute("sample", "invalid", file.toString(), "a1s2d3f4g5h");
+        final Map<String, String> result = findTextInPdf.execute("sample", "invalid", file.toString(), "a1s2d3f4g5h", "", "");
         assertEquals(FAILURE, result.get(RETURN_CODE));
         assertEquals("Invalid boolean value for ignoreCase parameter: invalid", result.get(RETURN_RESULT));
     }
+
+    @Test
+    public void samplePdfPageNumbers() throws URISyntaxException {
+        final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
+        assertNotNull(resource);
+        final File file = new File(resource.toURI());
+        final Map<String, String> result = findTextInPdf.execute("This", "true", file.toString(), "", "", "4");
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("3", result.get(RETURN_RESULT));
+        assertEquals("1", result.get("pageNumbers"));
+    }
+
+    @Test
+    public void samplePdfMaxOccurrences() throws URISyntaxException {
+        final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
+        assertNotNull(resource);
+        final File file = new File(resource.toURI());
+        final Map<String, String> result = findTextInPdf.execute("This", "true", file.toString(), "", "2", "");
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("2", result.get(RETURN_RESULT));
+    }
+
+    @Test
+    public void samplePdfEmptyTextByPage() throws URISyntaxException {
+        final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
+        assertNotNull(resource);
+        final File file = new File(resource.toURI());
+        final Map<String, String> result = findTextInPdf.execute("", "false", file.toString(), "", "", "2");
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals("0", result.get(RETURN_RESULT));
+        assertEquals("", result.get("pageNumbers"));
+    }
+
+    @Test
+    public void samplePdfFailureTestInvalidThreadCount() throws URISyntaxException {
+        final URL resource = FindTextInPdf.class.getClassLoader().getResource("pdf/sample-pdf-1.pdf");
+        assertNotNull(resource);
+        final File file = new File(resource.toURI());
+        final Map<String, String> result = findTextInPdf.execute("This", "true", file.toString(), "", "", "0");
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertEquals("Invalid value for threadCount parameter: 0", result.get(RETURN_RESULT));
+    }
 }
@@ -77,7 +77,7 @@ public class OsDetectorTest {
     public void testDefaultValues() throws Exception {
         doReturn(new OperatingSystemDetails()).when(operatingSystemDetectorService).detectOs(any(OsDetectorInputs.class));
         osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "");
 
         verify(operatingSystemDetectorService).detectOs(getInputsWithDefault());
     }
@@ -85,7 +85,7 @@ public class OsDetectorTest {
     @Test
     public void testWithInvalidHost() throws Exception {
         Map<String, String> actualResult = osDetector.execute("!@#$%^&*()__+{>", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
 
         performFailureChecks(actualResult, "The 'host' input must be an must be localhost or an internet domain name or an internet address.");
     }
@@ -93,7 +93,7 @@ public class OsDetectorTest {
     @Test
     public void testWithInvalidProxyPort() throws Exception {
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "mynmap", "", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "mynmap", "", "", "", "");
 
         performFailureChecks(actualResult, "The 'nmapPath' input must be an absolute path or the string 'nmap'.");
     }
@@ -101,7 +101,7 @@ public class OsDetectorTest {
     @Test
     public void testWithInvalidNmapArguments() throws Exception {
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "!@#*^@$(#!^)", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "!@#*^@$(#!^)", "", "", "");
 
         performFailureChecks(actualResult, "The 'nmapArguments' input contains illegal characters. To perform a weaker validation set the value 'permissive' for the input 'nmapValidator'.");
     }
@@ -109,7 +109,7 @@ public class OsDetectorTest {
     @Test
     public void testWithInvalidNmapValidatorLevel() throws Exception {
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "invalid", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "invalid", "", "");
 
         performFailureChecks(actualResult, "The value provided for 'nmapValidator' in invalid. Valid values are: restrictive, permissive.");
     }
@@ -117,7 +117,7 @@ public class OsDetectorTest {
     @Test
     public void testWithInvalidNmapValidatorLevel1() throws Exception {
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "!@&^FE*!H)!JA(", "permissive", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "!@&^FE*!H)!JA(", "permissive", "", "");
 
         performFailureChecks(actualResult, "The 'nmapArguments' input contains the following illegal characters: *&()!.");
     }
@@ -131,7 +131,7 @@ public class OsDetectorTest {
         doReturn(returnedOsDetails).when(operatingSystemDetectorService).detectOs(any(OsDetectorInputs.class));
 
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
 
         assertEquals("-1", actualResult.get("returnCode"));
         assertEquals("Unable to detect the operating system.", actualResult.get("returnResult"));
@@ -157,7 +157,7 @@ public class OsDetectorTest {
         doReturn(true).when(osDetectorHelperService).foundOperatingSystem(any(OperatingSystemDetails.class));
 
         Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
-                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "");
 
         assertEquals("0", actualResult.get("returnCode"));
         assertEquals("Successfully detected the operating system.", actualResult.get("returnResult"));
@@ -170,6 +170,23 @@ public class OsDetectorTest {
         assertNull(actualResult.get("exception"));
     }
 
+    @Test
+    public void testParallelDetection() throws Exception {
+        doReturn(new OperatingSystemDetails()).when(operatingSystemDetectorService).detectOsConcurrently(any(OsDetectorInputs.class));
+        osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "", "", "", "true");
+
+        verify(operatingSystemDetectorService).detectOsConcurrently(getInputsWithDefault());
+    }
+
+    @Test
+    public void testWithInvalidParallelDetection() throws Exception {
+        Map<String, String> actualResult = osDetector.execute(HOST, "", "", "", "", "", "", "", "", "", "", "", "",
+                "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "", "maybe");
+
+        performFailureChecks(actualResult, "The 'parallelDetection' input must be 'true' or 'false'.");
+    }
+
     private void performFailureChecks(Map<String, String> actualResult, String expectedMessage) {
         assertEquals("-1", actualResult.get("returnCode"));
         assertEquals(expectedMessage, actualResult.get("returnResult"));
@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.services;
+
+import io.cloudslang.content.utilities.entities.PdfTextOccurrences;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class PdfParseServiceTest {
+    private static final int PAGES = 40;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File pdf;
+
+    @Before
+    public void setUp() throws Exception {
+        pdf = folder.newFile("pages.pdf");
+        try (PDDocument document = new PDDocument()) {
+            for (int i = 1; i <= PAGES; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(PDType1Font.HELVETICA, 12);
+                    content.newLineAtOffset(50, 700);
+                    content.showText(i % 10 == 3 ? "Page " + i + " has the needle and the NEEDLE" : "Page " + i);
+                    content.endText();
+                }
+            }
+            document.save(pdf);
+        }
+    }
+
+    @Test
+    public void findTextOnAllPages() throws Exception {
+        PdfTextOccurrences occurrences = PdfParseService.findText(pdf.toPath(), "", "needle", true, 0, 3);
+
+        assertEquals(8, occurrences.getOccurrences());
+        assertEquals(Arrays.asList(3, 13, 23, 33), occurrences.getPageNumbers());
+    }
+
+    @Test
+    public void findTextCaseSensitive() throws Exception {
+        PdfTextOccurrences occurrences = PdfParseService.findText(pdf.toPath(), "", "needle", false, 0, 1);
+
+        assertEquals(4, occurrences.getOccurrences());
+        assertEquals(Arrays.asList(3, 13, 23, 33), occurrences.getPageNumbers());
+    }
+
+    @Test
+    public void findTextStopsAfterMaxOccurrences() throws Exception {
+        PdfTextOccurrences occurrences = PdfParseService.findText(pdf.toPath(), "", "needle", true, 3, 4);
+
+        assertEquals(3, occurrences.getOccurrences());
+        assertEquals(Arrays.asList(3, 13), occurrences.getPageNumbers());
+    }
+
+    @Test
+    public void findTextEmptyText() throws Exception {
+        PdfTextOccurrences occurrences = PdfParseService.findText(pdf.toPath(), "", "", true, 0, 2);
+
+        assertEquals(0, occurrences.getOccurrences());
+        assertEquals(Collections.emptyList(), occurrences.getPageNumbers());
+    }
+}
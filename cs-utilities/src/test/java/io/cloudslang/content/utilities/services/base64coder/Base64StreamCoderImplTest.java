@@ -0,0 +1,95 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.services.base64coder;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class Base64StreamCoderImplTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void encodeAndDecodeFileToFile() throws Exception {
+        byte[] content = randomBytes(3 * Base64StreamCoderImpl.BUFFER_SIZE + 1);
+        File source = folder.newFile();
+        File encoded = folder.newFile();
+        File decoded = folder.newFile();
+        Files.write(source.toPath(), content);
+
+        long encodedLength = Base64StreamCoderImpl.encodeFileToFile(source.toPath(), encoded.toPath());
+        long decodedLength = Base64StreamCoderImpl.decodeFileToFile(encoded.toPath(), decoded.toPath());
+
+        assertEquals(Base64.getEncoder().encodeToString(content), new String(Files.readAllBytes(encoded.toPath()), US_ASCII));
+        assertEquals(encoded.length(), encodedLength);
+        assertEquals(content.length, decodedLength);
+        assertArrayEquals(content, Files.readAllBytes(decoded.toPath()));
+    }
+
+    @Test
+    public void decodeIgnoresLineSeparators() throws Exception {
+        byte[] content = randomBytes(1000);
+        File decoded = folder.newFile();
+        byte[] mime = Base64.getMimeEncoder().encode(content);
+
+        Base64StreamCoderImpl.decodeToFile(new ByteArrayInputStream(mime), decoded.toPath());
+
+        assertArrayEquals(content, Files.readAllBytes(decoded.toPath()));
+    }
+
+    @Test
+    public void encodeInChunks() throws Exception {
+        byte[] content = randomBytes(1000);
+        List<String> chunks = new ArrayList<>();
+
+        Base64StreamCoderImpl.encodeInChunks(new ByteArrayInputStream(content), 130, chunks::add);
+
+        StringBuilder encoded = new StringBuilder();
+        for (String chunk : chunks) {
+            assertTrue(chunk.length() <= 128);
+            encoded.append(chunk);
+        }
+        assertEquals(11, chunks.size());
+        assertEquals(Base64.getEncoder().encodeToString(content), encoded.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void encodeInChunksTooSmall() throws Exception {
+        Base64StreamCoderImpl.encodeInChunks(new ByteArrayInputStream(new byte[1]), 3, chunk -> {
+        });
+    }
+}
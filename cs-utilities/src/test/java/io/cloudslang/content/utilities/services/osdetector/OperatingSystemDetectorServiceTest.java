@@ -23,11 +23,23 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Created by Tirla Florin-Alin on 08/12/2017.
@@ -71,4 +83,88 @@ public class OperatingSystemDetectorServiceTest {
         assertEquals("", actualOsDetails.getFamily());
         assertEquals("", actualOsDetails.getArchitecture());
     }
-}
\ No newline at end of file
+
+    @Test(timeout = 5000)
+    public void testDetectOsConcurrentlyCancelsLowerPriorityDetectors() {
+        doCallRealMethod().when(osDetectorHelperService).foundOperatingSystem(any(OperatingSystemDetails.class));
+        doReturn(detailsWithOutput("Local", "not local")).when(localOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        OperatingSystemDetails sshDetails = detailsWithOutput("SSH", "Linux");
+        sshDetails.setFamily("Linux");
+        doReturn(sshDetails).when(sshOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        doAnswer(new SleepingAnswer()).when(powershellOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        doAnswer(new SleepingAnswer()).when(nmapOsDetectorService).detectOs(any(OsDetectorInputs.class));
+
+        OperatingSystemDetails actualOsDetails = operatingSystemDetectorService.detectOsConcurrently(new OsDetectorInputs.Builder().build());
+
+        assertEquals("Linux", actualOsDetails.getFamily());
+        assertEquals(asList("SSH", "Local"), new ArrayList<>(actualOsDetails.getCommandsOutput().keySet()));
+    }
+
+    @Test
+    public void testDetectOsConcurrentlyForLocalHostRunsNoRemoteDetector() {
+        doCallRealMethod().when(osDetectorHelperService).foundOperatingSystem(any(OperatingSystemDetails.class));
+        OperatingSystemDetails localDetails = detailsWithOutput("Local", "localhost is a local address.");
+        localDetails.setFamily("Linux");
+        doReturn(localDetails).when(localOsDetectorService).detectOs(any(OsDetectorInputs.class));
+
+        OperatingSystemDetails actualOsDetails = operatingSystemDetectorService.detectOsConcurrently(
+                new OsDetectorInputs.Builder().withHost("localhost").build());
+
+        assertEquals("Linux", actualOsDetails.getFamily());
+        verify(sshOsDetectorService, never()).detectOs(any(OsDetectorInputs.class));
+        verify(powershellOsDetectorService, never()).detectOs(any(OsDetectorInputs.class));
+        verify(nmapOsDetectorService, never()).detectOs(any(OsDetectorInputs.class));
+    }
+
+    @Test
+    public void testDetectOsConcurrentlyWithAllDetectorsFailed() {
+        doCallRealMethod().when(osDetectorHelperService).foundOperatingSystem(any(OperatingSystemDetails.class));
+        doReturn(detailsWithOutput("Local", "not local")).when(localOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        doThrow(new RuntimeException("connection refused")).when(sshOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        doReturn(detailsWithOutput("PowerShell", "timeout")).when(powershellOsDetectorService).detectOs(any(OsDetectorInputs.class));
+        doReturn(detailsWithOutput("Nmap", "no match")).when(nmapOsDetectorService).detectOs(any(OsDetectorInputs.class));
+
+        OperatingSystemDetails actualOsDetails = operatingSystemDetectorService.detectOsConcurrently(new OsDetectorInputs.Builder().build());
+
+        assertEquals("", actualOsDetails.getFamily());
+        assertEquals(asList("Nmap", "PowerShell", "SSH", "Local"), new ArrayList<>(actualOsDetails.getCommandsOutput().keySet()));
+        assertEquals(singletonList("The detection failed: connection refused"), actualOsDetails.getCommandsOutput().get("SSH"));
+    }
+
+    @Test
+    public void testDetectOsForSeveralHosts() {
+        doCallRealMethod().when(osDetectorHelperService).foundOperatingSystem(any(OperatingSystemDetails.class));
+        doAnswer(new Answer<OperatingSystemDetails>() {
+            @Override
+            public OperatingSystemDetails answer(InvocationOnMock invocation) {
+                OperatingSystemDetails details = new OperatingSystemDetails();
+                details.setName(((OsDetectorInputs) invocation.getArguments()[0]).getHost());
+                return details;
+            }
+        }).when(localOsDetectorService).detectOs(any(OsDetectorInputs.class));
+
+        List<OperatingSystemDetails> actualOsDetails = operatingSystemDetectorService.detectOs(asList(
+                new OsDetectorInputs.Builder().withHost("host1").build(),
+                new OsDetectorInputs.Builder().withHost("host2").build(),
+                new OsDetectorInputs.Builder().withHost("host3").build()), 2, false);
+
+        assertEquals(3, actualOsDetails.size());
+        assertEquals("host1", actualOsDetails.get(0).getName());
+        assertEquals("host2", actualOsDetails.get(1).getName());
+        assertEquals("host3", actualOsDetails.get(2).getName());
+    }
+
+    private static OperatingSystemDetails detailsWithOutput(String type, String output) {
+        OperatingSystemDetails details = new OperatingSystemDetails();
+        details.addCommandOutput(type, singletonList(output));
+        return details;
+    }
+
+    private static class SleepingAnswer implements Answer<OperatingSystemDetails> {
+        @Override
+        public OperatingSystemDetails answer(InvocationOnMock invocation) throws InterruptedException {
+            Thread.sleep(60000);
+            return new OperatingSystemDetails();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.utilities.util;
+
+import io.cloudslang.content.utilities.entities.ProcessResponseEntity;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.concurrent.TimeoutException;
+
+import static org.apache.commons.lang3.SystemUtils.IS_OS_WINDOWS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+public class ProcessExecutorTest {
+    //more than the buffer of a pipe, on both streams
+    private static final String LARGE_OUTPUT = "sh,-c,yes a | head -c 300000; yes b | head -c 300000 >&2";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        assumeFalse(IS_OS_WINDOWS);
+    }
+
+    @Test
+    public void executeReadsLargeOutput() throws Exception {
+        ProcessResponseEntity response = new ProcessExecutor().execute(LARGE_OUTPUT, 10000);
+
+        assertEquals(0, response.getExitCode());
+        assertEquals(300000, response.getStdout().length());
+        assertEquals(300000, response.getStderr().length());
+        assertFalse(response.isStdoutTruncated());
+    }
+
+    @Test
+    public void executeTruncatesOutput() throws Exception {
+        ProcessResponseEntity response = new ProcessExecutor().execute(LARGE_OUTPUT, 10000, 100, null);
+
+        assertEquals(0, response.getExitCode());
+        assertEquals(100, response.getStdout().length());
+        assertTrue(response.isStdoutTruncated());
+        assertTrue(response.isStderrTruncated());
+        assertNull(response.getStdoutFile());
+    }
+
+    @Test
+    public void executeSpillsOutputToFile() throws Exception {
+        ProcessResponseEntity response = new ProcessExecutor().execute(LARGE_OUTPUT, 10000, 100, folder.getRoot());
+
+        assertEquals(100, response.getStdout().length());
+        assertEquals(300000, response.getStdoutFile().length());
+        assertTrue(FileUtils.readFileToString(response.getStderrFile(), "UTF-8").startsWith("b\nb\n"));
+    }
+
+    @Test
+    public void executeRemovesUnusedSpillFiles() throws Exception {
+        ProcessResponseEntity response = new ProcessExecutor().execute("sh,-c,echo small", 10000, 100, folder.getRoot());
+
+        assertEquals("small\n", response.getStdout());
+        assertNull(response.getStdoutFile());
+        assertEquals(0, folder.getRoot().list().length);
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void executeTimesOut() throws Exception {
+        new ProcessExecutor().execute("sh,-c,sleep 10", 200);
+    }
+
+    @Test
+    public void executeTimesOutRemovesSpillFiles() throws Exception {
+        try {
+            new ProcessExecutor().execute("sh,-c,yes a | head -c 300000; exec sleep 10", 1000, 100, folder.getRoot());
+            fail();
+        } catch (TimeoutException e) {
+            assertEquals(0, folder.getRoot().list().length);
+        }
+    }
+}
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -32,6 +46,9 @@ public class ApplyXslTransformation {
      *                        an XML document and can create output based on runtime parameters.
      * @param xslTemplate     The location of the XSL stylesheet to use. Can be a local file path,
      *                        an HTTP URL or the actual template as constant.
+     *                        The compiled stylesheets given as file or constant are cached. A stylesheet file is compiled
+     *                        again when it changes, but the changes of the files it includes or imports (xsl:include,
+     *                        xsl:import) are only seen after the stylesheet file itself changes or the worker restarts.
      * @param outputFile      The local file to write the output of the transformation. If an output file is not specified
      *                        the output of the transformation will be returned as returnResult.
      * @param parsingFeatures The list of XML parsing features separated by new line (CRLF).
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -52,6 +66,9 @@ public class Validate {
      *                             Valid values: xmlString, xmlPath, xmlUrl
      *                             Default value: xmlString
      * @param xsdDocument          optional - XSD to test given XML against
+     *                             The compiled schemas are cached. A schema file is compiled again when it changes, but the
+     *                             changes of the schemas it includes or imports (xs:include, xs:import) are only seen
+     *                             after the schema file itself changes or the worker restarts.
      * @param xsdDocumentSource    The source type of the xsd document.
      *                             Valid values: xsdString, xsdPath
      *                             Default value: xsdString
@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.actions;
+
+import com.hp.oo.sdk.content.annotations.Action;
+import com.hp.oo.sdk.content.annotations.Output;
+import com.hp.oo.sdk.content.annotations.Param;
+import com.hp.oo.sdk.content.annotations.Response;
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.xml.entities.inputs.CommonInputs;
+import io.cloudslang.content.xml.entities.inputs.CustomInputs;
+import io.cloudslang.content.xml.services.XpathMultiQueryService;
+import io.cloudslang.content.xml.utils.Constants;
+
+import java.util.Map;
+
+import static com.hp.oo.sdk.content.plugin.ActionMetadata.MatchType.COMPARE_EQUAL;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.ERROR_MESSAGE;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUES;
+
+public class XpathMultiQuery {
+    /**
+     * Selects several values from an XML document, which is parsed only once, using XPATH queries.
+     *
+     * @param xmlDocument       XML string or path to xml file
+     * @param xmlDocumentSource The source type of the xml document.
+     *                          Valid values: xmlString, xmlPath
+     *                          Default value: xmlString
+     * @param xPathQueries      JSON object with the names of the selected values as keys and the XPATH queries as values
+     *                          Example: {"id": "/root/element/@id", "name": "/root/element/name"}
+     * @param queryType         type of selection result from query attribute value
+     * @param delimiter         optional - string to use as delimiter in case query_type is nodelist
+     * @param secureProcessing  optional - whether to use secure processing
+     * @return map of results containing success or failure text, a result message, and a JSON object with the values
+     * selected by each query
+     */
+    @Action(name = "XpathMultiQuery",
+            outputs = {
+                    @Output(RETURN_CODE),
+                    @Output(RETURN_RESULT),
+                    @Output(SELECTED_VALUES),
+                    @Output(ERROR_MESSAGE)},
+            responses = {
+                    @Response(text = ResponseNames.SUCCESS, field = RETURN_CODE, value = SUCCESS, matchType = COMPARE_EQUAL),
+                    @Response(text = ResponseNames.FAILURE, field = RETURN_CODE, value = FAILURE, matchType = COMPARE_EQUAL, isDefault = true, isOnFail = true)})
+    public Map<String, String> execute(
+            @Param(value = Constants.Inputs.XML_DOCUMENT, required = true) String xmlDocument,
+            @Param(Constants.Inputs.XML_DOCUMENT_SOURCE) String xmlDocumentSource,
+            @Param(value = Constants.Inputs.XPATH_QUERIES, required = true) String xPathQueries,
+            @Param(value = Constants.Inputs.QUERY_TYPE, required = true) String queryType,
+            @Param(Constants.Inputs.DELIMITER) String delimiter,
+            @Param(Constants.Inputs.SECURE_PROCESSING) String secureProcessing) {
+
+        final CommonInputs commonInputs = new CommonInputs.CommonInputsBuilder()
+                .withXmlDocument(xmlDocument)
+                .withXmlDocumentSource(xmlDocumentSource)
+                .withSecureProcessing(secureProcessing)
+                .build();
+
+        final CustomInputs customInputs = new CustomInputs.CustomInputsBuilder()
+                .withQueryType(queryType)
+                .withDelimiter(delimiter)
+                .build();
+
+        return new XpathMultiQueryService().execute(commonInputs, customInputs, xPathQueries);
+    }
+}
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -37,6 +51,11 @@ public class XpathQuery {
      * @param queryType         type of selection result from query attribute value
      * @param delimiter         optional - string to use as delimiter in case query_type is nodelist
      * @param secureProcessing  optional - whether to use secure processing
+     * @param streaming         optional - whether to evaluate the query while the document is read, without building it
+     *                          in memory. Only absolute paths of child and descendant steps, attribute predicates,
+     *                          @attribute, text() and count() can be streamed.
+     *                          Valid values: true, false
+     *                          Default value: true for supported queries on xml files of at least 64 MB, false otherwise
      * @return map of results containing success or failure text, a result message, and the value selected
      */
     @Action(name = "XpathQuery",
@@ -54,7 +73,8 @@ public class XpathQuery {
             @Param(value = Constants.Inputs.XPATH_QUERY, required = true) String xPathQuery,
             @Param(value = Constants.Inputs.QUERY_TYPE, required = true) String queryType,
             @Param(Constants.Inputs.DELIMITER) String delimiter,
-            @Param(Constants.Inputs.SECURE_PROCESSING) String secureProcessing) {
+            @Param(Constants.Inputs.SECURE_PROCESSING) String secureProcessing,
+            @Param(Constants.Inputs.STREAMING) String streaming) {
 
         final CommonInputs commonInputs = new CommonInputs.CommonInputsBuilder()
                 .withXmlDocument(xmlDocument)
@@ -66,8 +86,14 @@ public class XpathQuery {
         final CustomInputs customInputs = new CustomInputs.CustomInputsBuilder()
                 .withQueryType(queryType)
                 .withDelimiter(delimiter)
+                .withStreaming(streaming)
                 .build();
 
         return new XpathQueryService().execute(commonInputs, customInputs);
     }
+
+    public Map<String, String> execute(String xmlDocument, String xmlDocumentSource, String xPathQuery, String queryType,
+                                       String delimiter, String secureProcessing) {
+        return execute(xmlDocument, xmlDocumentSource, xPathQuery, queryType, delimiter, secureProcessing, null);
+    }
 }
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.entities.inputs;
@@ -17,6 +31,7 @@ public class CustomInputs {
     private String xsdDocumentSource;
     private String queryType;
     private String delimiter;
+    private String streaming;
 
     public CustomInputs(CustomInputsBuilder builder) {
         this.attributeName = builder.attributeName;
@@ -26,6 +41,7 @@ public class CustomInputs {
         this.xsdDocumentSource = builder.xsdDocumentSource;
         this.queryType = builder.queryType;
         this.delimiter = builder.delimiter;
+        this.streaming = builder.streaming;
     }
 
     public String getAttributeName() {
@@ -56,6 +72,10 @@ public class CustomInputs {
         return delimiter;
     }
 
+    public String getStreaming() {
+        return streaming;
+    }
+
     public static class CustomInputsBuilder {
         private String attributeName;
         private String value;
@@ -64,6 +84,7 @@ public class CustomInputs {
         private String xsdDocumentSource;
         private String queryType;
         private String delimiter;
+        private String streaming;
 
         public CustomInputs build() {
             return new CustomInputs(this);
@@ -103,6 +124,11 @@ public class CustomInputs {
             return this;
         }
 
+        public CustomInputsBuilder withStreaming(String inputValue) {
+            streaming = inputValue;
+            return this;
+        }
+
         public CustomInputsBuilder withXsdDocumentSource(String xsdDocumentSource) {
             this.xsdDocumentSource = InputUtils.validateXsdDocumentSource(xsdDocumentSource);
             return this;
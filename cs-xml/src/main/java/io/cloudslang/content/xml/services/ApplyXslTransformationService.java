@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.services;
@@ -5,21 +19,23 @@ package io.cloudslang.content.xml.services;
 import io.cloudslang.content.utils.OutputUtilities;
 import io.cloudslang.content.utils.StringUtilities;
 import io.cloudslang.content.xml.entities.inputs.ApplyXslTransformationInputs;
+import io.cloudslang.content.xml.utils.CompiledCache;
 import io.cloudslang.content.xml.utils.Constants;
 import io.cloudslang.content.xml.utils.XmlUtils;
 
-import javax.xml.transform.Result;
 import javax.xml.transform.Source;
 import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URL;
@@ -31,28 +47,38 @@ import java.util.Map;
  */
 
 public class ApplyXslTransformationService {
+    private static final int TEMPLATES_CACHE_SIZE = 32;
+    //the compiled templates are thread safe, the same stylesheets are reused by most of the executions
+    private static final CompiledCache<Templates> TEMPLATES_CACHE = new CompiledCache<>(TEMPLATES_CACHE_SIZE);
+    private static final ThreadLocal<TransformerFactory> TRANSFORMER_FACTORY = ThreadLocal.withInitial(TransformerFactory::newInstance);
+
     public final Map<String, String> execute(final ApplyXslTransformationInputs applyXslTransformationInputs)
             throws Exception {
         final Templates template = getTemplate(applyXslTransformationInputs);
         final Transformer xmlTransformer = template.newTransformer();
 
         final Source source = getSourceStream(applyXslTransformationInputs);
-        final Result result = getResultStream(applyXslTransformationInputs);
-
-        xmlTransformer.transform(source, result);
-        if (StringUtilities.isEmpty(applyXslTransformationInputs.getOutputFile())) {
-            return OutputUtilities.getSuccessResultsMap(((StreamResult) result).getWriter().toString());
+        final String outputFile = applyXslTransformationInputs.getOutputFile();
+        try {
+            if (StringUtilities.isEmpty(outputFile)) {
+                final StringWriter stringWriter = new StringWriter();
+                xmlTransformer.transform(source, new StreamResult(stringWriter));
+                return OutputUtilities.getSuccessResultsMap(stringWriter.toString());
+            }
+            //the result is written as it is produced, without keeping it in memory
+            try (OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(outputFile))) {
+                xmlTransformer.transform(source, new StreamResult(outputStream));
+            }
+            return OutputUtilities.getSuccessResultsMap("Result was written in the output file: " + outputFile);
+        } finally {
+            closeSource(source);
         }
-        return OutputUtilities.getSuccessResultsMap("Result was written in the output file: " + applyXslTransformationInputs.getOutputFile());
     }
 
-    private Result getResultStream(ApplyXslTransformationInputs applyXslTransformationInputs) throws FileNotFoundException {
-        String outputFile = applyXslTransformationInputs.getOutputFile();
-        if (StringUtilities.isEmpty(outputFile)) {
-            StringWriter stringWriter = new StringWriter();
-            return new StreamResult(stringWriter);
+    private static void closeSource(Source source) throws IOException {
+        if (source instanceof StreamSource && ((StreamSource) source).getInputStream() != null) {
+            ((StreamSource) source).getInputStream().close();
         }
-        return new StreamResult(new FileOutputStream(outputFile));
     }
 
     private Source getSourceStream(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
@@ -89,7 +115,15 @@ public class ApplyXslTransformationService {
     }
 
     private Templates getTemplate(ApplyXslTransformationInputs applyXslTransformationInputs) throws Exception {
-        final TransformerFactory factory = TransformerFactory.newInstance();
-        return factory.newTemplates(readSource(applyXslTransformationInputs.getXslTemplate(), applyXslTransformationInputs.getParsingFeatures()));
+        final String xslTemplate = applyXslTransformationInputs.getXslTemplate();
+        final String features = applyXslTransformationInputs.getParsingFeatures();
+        return TEMPLATES_CACHE.get(CompiledCache.getKey(xslTemplate, features), () -> {
+            final Source templateSource = readSource(xslTemplate, features);
+            try {
+                return TRANSFORMER_FACTORY.get().newTemplates(templateSource);
+            } finally {
+                closeSource(templateSource);
+            }
+        });
     }
 }
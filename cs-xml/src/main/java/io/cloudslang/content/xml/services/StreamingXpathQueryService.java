@@ -0,0 +1,358 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.services;
+
+import io.cloudslang.content.constants.ResponseNames;
+import io.cloudslang.content.xml.entities.inputs.CommonInputs;
+import io.cloudslang.content.xml.entities.inputs.CustomInputs;
+import io.cloudslang.content.xml.utils.Constants;
+import io.cloudslang.content.xml.utils.ResultUtils;
+import io.cloudslang.content.xml.utils.StreamingXpath;
+import io.cloudslang.content.xml.utils.XmlUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.File;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.xml.utils.Constants.NO_MATCH_FOUND;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUE;
+import static io.cloudslang.content.xml.utils.Constants.SuccessMessages.SELECT_SUCCESS;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Evaluates an XPath query while the document is read with an {@link XMLStreamReader}, so the memory used doesn't
+ * depend on the size of the document. The value and node queries stop reading at the first match.
+ * Only the subset of XPath described by {@link StreamingXpath} is supported.
+ */
+public class StreamingXpathQueryService {
+    //the xml files starting from this size are streamed when the streaming input is not set
+    public static final long STREAMING_FILE_SIZE = 64L * 1024 * 1024;
+
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY = ThreadLocal.withInitial(StreamingXpathQueryService::newInputFactory);
+    private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    public Map<String, String> execute(CommonInputs commonInputs, CustomInputs customInputs) {
+        Map<String, String> result = new HashMap<>();
+
+        try {
+            StreamingXpath xpath = StreamingXpath.parse(commonInputs.getXPathQuery());
+            String selection;
+            if (Constants.XML_PATH.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
+                try (InputStream inputStream = XmlUtils.getStream(EMPTY, commonInputs.getXmlDocument())) {
+                    selection = xPathQuery(INPUT_FACTORY.get().createXMLStreamReader(inputStream), xpath,
+                            customInputs.getQueryType(), customInputs.getDelimiter());
+                }
+            } else {
+                selection = xPathQuery(INPUT_FACTORY.get().createXMLStreamReader(new StringReader(commonInputs.getXmlDocument())),
+                        xpath, customInputs.getQueryType(), customInputs.getDelimiter());
+            }
+
+            if (isBlank(selection)) {
+                ResultUtils.populateValueResult(result, ResponseNames.SUCCESS, SELECT_SUCCESS, NO_MATCH_FOUND, SUCCESS);
+            } else {
+                ResultUtils.populateValueResult(result, ResponseNames.SUCCESS, SELECT_SUCCESS, selection, SUCCESS);
+            }
+        } catch (Exception e) {
+            ResultUtils.populateFailureResult(result, ExceptionUtils.getStackTrace(e));
+            result.put(SELECTED_VALUE, EMPTY);
+        }
+        return result;
+    }
+
+    /**
+     * The query is streamed when the streaming input is true. When the input is not set, only the xml files of at least
+     * {@link #STREAMING_FILE_SIZE} bytes are streamed, if the query is supported.
+     *
+     * @return true if the query should be evaluated by streaming the document
+     * @throws Exception if the streaming input is not a boolean
+     */
+    public static boolean isStreaming(CommonInputs commonInputs, CustomInputs customInputs) throws Exception {
+        String streaming = customInputs.getStreaming();
+        if (isBlank(streaming)) {
+            return Constants.XML_PATH.equalsIgnoreCase(commonInputs.getXmlDocumentSource())
+                    && new File(commonInputs.getXmlDocument()).length() >= STREAMING_FILE_SIZE
+                    && StreamingXpath.isSupported(commonInputs.getXPathQuery());
+        }
+        if (Boolean.TRUE.toString().equalsIgnoreCase(streaming.trim())) {
+            return true;
+        }
+        if (Boolean.FALSE.toString().equalsIgnoreCase(streaming.trim())) {
+            return false;
+        }
+        throw new Exception(Constants.ErrorMessages.PARSING_ERROR + Constants.Inputs.STREAMING);
+    }
+
+    static String xPathQuery(XMLStreamReader reader, StreamingXpath xpath, String queryType, String delimiter) throws Exception {
+        if (!Constants.QueryTypes.NODE_LIST.equals(queryType) && !Constants.QueryTypes.NODE.equals(queryType)
+                && !Constants.QueryTypes.VALUE.equals(queryType)) {
+            throw new Exception("Invalid query type");
+        }
+        if (xpath.isCount() && !Constants.QueryTypes.VALUE.equals(queryType)) {
+            throw new Exception(Constants.ErrorMessages.STREAMING_COUNT_QUERY_TYPE);
+        }
+        try {
+            List<String> selections = select(reader, xpath, queryType);
+            if (xpath.isCount()) {
+                return selections.get(0);
+            }
+            return String.join(delimiter == null ? EMPTY : delimiter, selections);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Every open element keeps the steps of the path which its children can match: a child step moves to the next step
+     * when the element matches it, a descendant step also stays pending for the deeper elements.
+     * The element is selected when all the steps are matched or, for the descendant attributes and texts, when its
+     * parent is selected.
+     */
+    private static List<String> select(XMLStreamReader reader, StreamingXpath xpath, String queryType) throws XMLStreamException {
+        List<StreamingXpath.Step> steps = xpath.getSteps();
+        boolean single = !xpath.isCount() && !Constants.QueryTypes.NODE_LIST.equals(queryType);
+        boolean value = Constants.QueryTypes.VALUE.equals(queryType);
+
+        Deque<BitSet> states = new ArrayDeque<>();
+        BitSet rootState = new BitSet();
+        rootState.set(0);
+        states.push(rootState);
+        //with //@id or //text() the document itself is selected, so all its elements are
+        Deque<Boolean> selectedElements = new ArrayDeque<>();
+        selectedElements.push(steps.isEmpty());
+        List<Capture> captures = new ArrayList<>();
+        List<String> selections = new ArrayList<>();
+        long count = 0;
+
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamReader.START_ELEMENT:
+                    BitSet state = states.peek();
+                    BitSet next = new BitSet();
+                    for (int i = state.nextSetBit(0); i >= 0 && i < steps.size(); i = state.nextSetBit(i + 1)) {
+                        StreamingXpath.Step step = steps.get(i);
+                        if (step.matches(reader)) {
+                            next.set(i + 1);
+                        }
+                        if (step.isDescendant()) {
+                            next.set(i);
+                        }
+                    }
+                    boolean selected = next.get(steps.size()) || (xpath.isDescendantTarget() && selectedElements.peek());
+                    states.push(next);
+                    selectedElements.push(selected);
+                    for (Capture capture : captures) {
+                        capture.startElement(reader);
+                    }
+                    if (!selected) {
+                        break;
+                    }
+
+                    if (xpath.getTarget() == StreamingXpath.Target.ATTRIBUTE) {
+                        String attributeValue = StreamingXpath.getAttributeValue(reader, xpath.getAttributeName());
+                        if (attributeValue != null) {
+                            count++;
+                            if (!xpath.isCount()) {
+                                selections.add(value ? attributeValue : xpath.getAttributeName() + "=\"" + attributeValue + "\"");
+                                if (single) {
+                                    return selections;
+                                }
+                            }
+                        }
+                    } else if (xpath.getTarget() == StreamingXpath.Target.ELEMENT) {
+                        count++;
+                        //a value or node query only keeps the first element, not the ones nested in it
+                        if (!xpath.isCount() && !(single && !selections.isEmpty())) {
+                            selections.add(EMPTY);
+                            captures.add(new Capture(selections.size() - 1, states.size(), value, reader));
+                        }
+                    }
+                    break;
+                case XMLStreamReader.CHARACTERS:
+                case XMLStreamReader.CDATA:
+                case XMLStreamReader.SPACE:
+                    for (Capture capture : captures) {
+                        capture.characters(reader.getText());
+                    }
+                    if (xpath.getTarget() == StreamingXpath.Target.TEXT && states.size() > 1 && selectedElements.peek()) {
+                        count++;
+                        if (!xpath.isCount()) {
+                            selections.add(value ? reader.getText() : escapeText(reader.getText().trim()));
+                            if (single) {
+                                return selections;
+                            }
+                        }
+                    }
+                    break;
+                case XMLStreamReader.END_ELEMENT:
+                    for (Iterator<Capture> iterator = captures.iterator(); iterator.hasNext(); ) {
+                        Capture capture = iterator.next();
+                        capture.endElement();
+                        if (capture.depth == states.size()) {
+                            selections.set(capture.index, capture.toString());
+                            iterator.remove();
+                            if (single) {
+                                return selections;
+                            }
+                        }
+                    }
+                    states.pop();
+                    selectedElements.pop();
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (xpath.isCount()) {
+            selections.clear();
+            selections.add(String.valueOf(count));
+        }
+        return selections;
+    }
+
+    private static String escapeText(String text) throws XMLStreamException {
+        StringWriter stringWriter = new StringWriter();
+        XMLStreamWriter writer = OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+        writer.writeCharacters(text);
+        writer.close();
+        return stringWriter.toString();
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * The text or the markup of a selected element, collected until its end tag is read.
+     */
+    private static class Capture {
+        private final int index;
+        private final int depth;
+        private final StringBuilder text;
+        private final StringWriter stringWriter;
+        private final XMLStreamWriter writer;
+
+        private Capture(int index, int depth, boolean value, XMLStreamReader reader) throws XMLStreamException {
+            this.index = index;
+            this.depth = depth;
+            if (value) {
+                text = new StringBuilder();
+                stringWriter = null;
+                writer = null;
+            } else {
+                text = null;
+                stringWriter = new StringWriter();
+                writer = OUTPUT_FACTORY.createXMLStreamWriter(stringWriter);
+                writeStartElement(reader, true);
+            }
+        }
+
+        private void startElement(XMLStreamReader reader) throws XMLStreamException {
+            if (writer != null) {
+                writeStartElement(reader, false);
+            }
+        }
+
+        //the selected element also declares the namespaces of its prefixes, which were declared by its ancestors
+        private void writeStartElement(XMLStreamReader reader, boolean selected) throws XMLStreamException {
+            String prefix = reader.getPrefix() == null ? EMPTY : reader.getPrefix();
+            String namespace = reader.getNamespaceURI() == null ? EMPTY : reader.getNamespaceURI();
+            writer.writeStartElement(prefix, reader.getLocalName(), namespace);
+
+            Map<String, String> namespaces = new HashMap<>();
+            for (int i = 0; i < reader.getNamespaceCount(); i++) {
+                namespaces.put(reader.getNamespacePrefix(i) == null ? EMPTY : reader.getNamespacePrefix(i), reader.getNamespaceURI(i));
+            }
+            if (selected) {
+                if (!namespace.isEmpty()) {
+                    namespaces.putIfAbsent(prefix, namespace);
+                }
+                for (int i = 0; i < reader.getAttributeCount(); i++) {
+                    String attributePrefix = reader.getAttributePrefix(i);
+                    if (attributePrefix != null && !attributePrefix.isEmpty()) {
+                        namespaces.putIfAbsent(attributePrefix, reader.getAttributeNamespace(i));
+                    }
+                }
+            }
+            for (Map.Entry<String, String> entry : namespaces.entrySet()) {
+                if (entry.getKey().isEmpty()) {
+                    writer.writeDefaultNamespace(entry.getValue());
+                } else {
+                    writer.writeNamespace(entry.getKey(), entry.getValue());
+                }
+            }
+
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String attributePrefix = reader.getAttributePrefix(i);
+                if (attributePrefix == null || attributePrefix.isEmpty()) {
+                    writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                } else {
+                    writer.writeAttribute(attributePrefix, reader.getAttributeNamespace(i),
+                            reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                }
+            }
+        }
+
+        private void characters(String characters) throws XMLStreamException {
+            if (writer != null) {
+                writer.writeCharacters(characters);
+            } else {
+                text.append(characters);
+            }
+        }
+
+        private void endElement() throws XMLStreamException {
+            if (writer != null) {
+                writer.writeEndElement();
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (writer == null) {
+                return text.toString();
+            }
+            try {
+                writer.flush();
+            } catch (XMLStreamException e) {
+                throw new IllegalStateException(e);
+            }
+            return stringWriter.toString().trim();
+        }
+    }
+}
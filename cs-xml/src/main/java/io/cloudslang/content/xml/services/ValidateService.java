@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.services;
@@ -5,20 +19,22 @@ package io.cloudslang.content.xml.services;
 import io.cloudslang.content.constants.ResponseNames;
 import io.cloudslang.content.xml.entities.inputs.CommonInputs;
 import io.cloudslang.content.xml.entities.inputs.CustomInputs;
+import io.cloudslang.content.xml.utils.CompiledCache;
 import io.cloudslang.content.xml.utils.Constants;
 import io.cloudslang.content.xml.utils.ResultUtils;
 import io.cloudslang.content.xml.utils.XmlUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.Document;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
+import org.xml.sax.XMLReader;
 
 import javax.xml.XMLConstants;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.transform.sax.SAXSource;
 import javax.xml.validation.Schema;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import java.io.File;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
@@ -38,44 +54,50 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
  * Created by markowis on 03/03/2016.
  */
 public class ValidateService {
-    private static String getStringValueOfDocument(Document doc) throws TransformerException {
-        return XmlUtils.getStringWriter(doc).toString();
+    private static final int SCHEMA_CACHE_SIZE = 32;
+    //the compiled schemas are thread safe, the same few of them validate most of the documents
+    private static final CompiledCache<Schema> SCHEMA_CACHE = new CompiledCache<>(SCHEMA_CACHE_SIZE);
+    private static final ThreadLocal<SchemaFactory> SCHEMA_FACTORY = ThreadLocal.withInitial(() -> SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI));
+
+    private static Schema getSchema(CommonInputs commonInputs, CustomInputs customInputs) throws Exception {
+        final String xsdDocument = customInputs.getXsdDocument();
+        final boolean secure = commonInputs.getSecureProcessing();
+        final boolean xsdPath = Constants.XSD_PATH.equalsIgnoreCase(customInputs.getXsdDocumentSource());
+        final String options = Constants.Inputs.SECURE_PROCESSING + "=" + secure;
+        final String key = xsdPath ? CompiledCache.getKey(xsdDocument, options) : CompiledCache.getContentKey(xsdDocument, options);
+
+        return SCHEMA_CACHE.get(key, () -> {
+            //a schema file keeps its location, so its relative imports and includes can be resolved
+            final InputSource xsdSource = xsdPath ? new InputSource(new File(xsdDocument).toURI().toString())
+                    : new InputSource(new StringReader(xsdDocument));
+            return SCHEMA_FACTORY.get().newSchema(new SAXSource(XmlUtils.getXmlReader(secure), xsdSource));
+        });
     }
 
-    private static void validateAgainstXsd(String xmlDocument, String xsdDocument) throws Exception {
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
-        Schema schema = schemaFactory.newSchema(new StreamSource(new StringReader(xsdDocument)));
-        Validator validator = schema.newValidator();
-        validator.validate(new StreamSource(new StringReader(xmlDocument)));
+    //the xml files are read as a stream by the parser, they are not loaded in memory
+    private static InputSource getXmlSource(CommonInputs commonInputs) throws Exception {
+        if (Constants.XML_PATH.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
+            return new InputSource(new File(commonInputs.getXmlDocument()).toURI().toString());
+        } else if (Constants.XML_URL.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
+            return new InputSource(new StringReader(XmlUtils.createXmlDocumentFromUrl(commonInputs)));
+        }
+        return new InputSource(new StringReader(commonInputs.getXmlDocument()));
     }
 
     public Map<String, String> execute(CommonInputs commonInputs, CustomInputs customInputs) {
         Map<String, String> result = new HashMap<>();
 
         try {
-            String xmlDocument;
-            String xsdDocument;
-            if (Constants.XML_PATH.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
-                Document doc = XmlUtils.createDocumentFromFile(commonInputs.getXmlDocument(), commonInputs.getSecureProcessing());
-                xmlDocument = getStringValueOfDocument(doc);
-            } else if (Constants.XML_URL.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
-                xmlDocument = XmlUtils.createXmlDocumentFromUrl(commonInputs);
-            } else {
-                xmlDocument = commonInputs.getXmlDocument();
-            }
+            final InputSource xmlSource = getXmlSource(commonInputs);
+            final XMLReader xmlReader = XmlUtils.getXmlReader(commonInputs.getSecureProcessing());
 
-            if (Constants.XSD_PATH.equalsIgnoreCase(customInputs.getXsdDocumentSource())) {
-                Document doc = XmlUtils.createDocumentFromFile(customInputs.getXsdDocument(), commonInputs.getSecureProcessing());
-                xsdDocument = getStringValueOfDocument(doc);
-            } else {
-                xsdDocument = customInputs.getXsdDocument();
-            }
-            XmlUtils.parseXmlStringSecurely(xmlDocument, commonInputs.getSecureProcessing());
-            result.put(RETURN_RESULT, PARSING_SUCCESS);
-
-            if (StringUtils.isNotBlank(xsdDocument)) {
-                validateAgainstXsd(xmlDocument, xsdDocument);
+            if (StringUtils.isNotBlank(customInputs.getXsdDocument())) {
+                final Validator validator = getSchema(commonInputs, customInputs).newValidator();
+                validator.validate(new SAXSource(xmlReader, xmlSource));
                 result.put(RETURN_RESULT, VALIDATION_SUCCESS);
+            } else {
+                xmlReader.parse(xmlSource);
+                result.put(RETURN_RESULT, PARSING_SUCCESS);
             }
 
             result.put(RESULT_TEXT, ResponseNames.SUCCESS);
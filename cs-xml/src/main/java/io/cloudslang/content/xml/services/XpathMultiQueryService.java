@@ -0,0 +1,128 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.services;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import io.cloudslang.content.xml.entities.SimpleNamespaceContext;
+import io.cloudslang.content.xml.entities.inputs.CommonInputs;
+import io.cloudslang.content.xml.entities.inputs.CustomInputs;
+import io.cloudslang.content.xml.utils.ResultUtils;
+import io.cloudslang.content.xml.utils.XmlUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.w3c.dom.Document;
+
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.cloudslang.content.xml.utils.Constants.ErrorMessages.INVALID_XPATH_QUERIES;
+import static io.cloudslang.content.xml.utils.Constants.NO_MATCH_FOUND;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUES;
+import static io.cloudslang.content.xml.utils.Constants.SuccessMessages.SELECT_SUCCESS;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Runs several XPath queries against a document which is parsed only once.
+ */
+public class XpathMultiQueryService {
+    private static final int EXPRESSIONS_CACHE_SIZE = 256;
+
+    //the compiled expressions are not thread safe, each thread keeps the ones it used most recently
+    private static final ThreadLocal<Map<SimpleImmutableEntry<Map<String, String>, String>, XPathExpression>> EXPRESSIONS =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<SimpleImmutableEntry<Map<String, String>, String>, XPathExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SimpleImmutableEntry<Map<String, String>, String>, XPathExpression> eldest) {
+                    return size() > EXPRESSIONS_CACHE_SIZE;
+                }
+            });
+
+    /**
+     * @param xPathQueries JSON object with the names of the selected values as keys and the XPath queries as values
+     * @return the results of the action, the selected values are a JSON object with the same keys as the queries
+     */
+    public Map<String, String> execute(CommonInputs commonInputs, CustomInputs customInputs, String xPathQueries) {
+        Map<String, String> result = new HashMap<>();
+
+        try {
+            Map<String, String> queries = parseQueries(xPathQueries);
+            Document doc = XmlUtils.getDocument(commonInputs);
+
+            Map<String, String> selectedValues = selectValues(doc, queries, customInputs.getQueryType(), customInputs.getDelimiter());
+
+            //the selected nodes are xml, they are not escaped for html
+            ResultUtils.populateValuesResult(result, SELECT_SUCCESS, new GsonBuilder().disableHtmlEscaping().create().toJson(selectedValues));
+        } catch (Exception e) {
+            ResultUtils.populateFailureResult(result, ExceptionUtils.getStackTrace(e));
+            result.put(SELECTED_VALUES, EMPTY);
+        }
+        return result;
+    }
+
+    /**
+     * Selects the values of all the queries from the document, the same way as {@link XpathQueryService}.
+     *
+     * @param doc          the parsed document
+     * @param xPathQueries the XPath queries by the names of the values they select
+     * @param queryType    the type of the selection: node, nodelist or value
+     * @param delimiter    the delimiter of the nodes when the query type is nodelist
+     * @return the selected values by name, in the order of the queries
+     * @throws Exception if a query is not valid
+     */
+    public static Map<String, String> selectValues(Document doc, Map<String, String> xPathQueries, String queryType,
+                                                   String delimiter) throws Exception {
+        Map<String, String> namespaces = XmlUtils.getNamespaces(doc);
+        Map<String, String> selectedValues = new LinkedHashMap<>();
+        for (Map.Entry<String, String> xPathQuery : xPathQueries.entrySet()) {
+            XPathExpression expr = getXPathExpression(namespaces, xPathQuery.getValue());
+            String selection = XpathQueryService.xPathQuery(doc, expr, queryType, delimiter);
+            selectedValues.put(xPathQuery.getKey(), isBlank(selection) ? NO_MATCH_FOUND : selection);
+        }
+        return selectedValues;
+    }
+
+    private static XPathExpression getXPathExpression(Map<String, String> namespaces, String xPathQuery) throws XPathExpressionException {
+        Map<SimpleImmutableEntry<Map<String, String>, String>, XPathExpression> expressions = EXPRESSIONS.get();
+        SimpleImmutableEntry<Map<String, String>, String> key = new SimpleImmutableEntry<>(namespaces, xPathQuery);
+        XPathExpression expr = expressions.get(key);
+        if (expr == null) {
+            expr = XmlUtils.createXPathExpression(new SimpleNamespaceContext(namespaces), xPathQuery);
+            expressions.put(key, expr);
+        }
+        return expr;
+    }
+
+    private static Map<String, String> parseQueries(String xPathQueries) {
+        Map<String, String> queries;
+        try {
+            queries = new Gson().fromJson(xPathQueries, new TypeToken<LinkedHashMap<String, String>>() {
+            }.getType());
+        } catch (JsonParseException e) {
+            throw new IllegalArgumentException(INVALID_XPATH_QUERIES, e);
+        }
+        if (queries == null || queries.isEmpty()) {
+            throw new IllegalArgumentException(INVALID_XPATH_QUERIES);
+        }
+        return queries;
+    }
+}
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.services;
@@ -35,6 +49,10 @@ public class XpathQueryService {
         Map<String, String> result = new HashMap<>();
 
         try {
+            if (StreamingXpathQueryService.isStreaming(commonInputs, customInputs)) {
+                return new StreamingXpathQueryService().execute(commonInputs, customInputs);
+            }
+
             Document doc = XmlUtils.getDocument(commonInputs);
             NamespaceContext context = XmlUtils.getNamespaceContext(commonInputs, doc);
 
@@ -54,7 +72,7 @@ public class XpathQueryService {
         return result;
     }
 
-    private static String xPathQuery(Document doc, XPathExpression expr, String queryType, String delimiter) throws Exception {
+    static String xPathQuery(Document doc, XPathExpression expr, String queryType, String delimiter) throws Exception {
         switch (queryType) {
             case Constants.QueryTypes.NODE_LIST:
                 return xPathNodeListQuery(doc, expr, delimiter);
@@ -0,0 +1,127 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of compiled documents, like XSL templates or XSD schemas, which drops the least recently used one
+ * when it is full. The cached objects must be thread safe, as they are shared by all the executions.
+ */
+public class CompiledCache<T> {
+    public interface Compiler<T> {
+        T compile() throws Exception;
+    }
+
+    private final Map<String, T> entries;
+
+    public CompiledCache(final int maxSize) {
+        this.entries = new LinkedHashMap<String, T>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, T> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param key      the key of the document, see {@link #getKey(String, String)}, or null if it can't be cached
+     * @param compiler compiles the document when it is not cached
+     * @return the cached or the newly compiled object
+     * @throws Exception if the document can't be compiled, in which case nothing is cached
+     */
+    public T get(String key, Compiler<T> compiler) throws Exception {
+        if (key == null) {
+            return compiler.compile();
+        }
+        synchronized (entries) {
+            T cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        //compiled outside the lock, if two threads compile the same document at once both results are equivalent
+        T compiled = compiler.compile();
+        synchronized (entries) {
+            entries.put(key, compiled);
+        }
+        return compiled;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * A file is identified by its path, size and last modification time, so it is compiled again after it changes.
+     * The files it includes or imports are not part of the key, their changes are not seen while it is cached.
+     * A document given as string is identified by the SHA-256 hash of its content. The documents read from an URL
+     * can change at any time, so they are not cached.
+     *
+     * @param document the document as string, path to a file or URL
+     * @param options  the inputs which change how the document is compiled
+     * @return the key of the document or null if it can't be cached
+     */
+    public static String getKey(String document, String options) {
+        if (document == null || document.startsWith(Constants.Inputs.HTTP_PREFIX_STRING)
+                || document.startsWith(Constants.Inputs.HTTPS_PREFIX_STRING)) {
+            return null;
+        }
+        final File file = new File(document);
+        if (!file.isFile()) {
+            return getContentKey(document, options);
+        }
+        final String key = "file:" + file.getAbsolutePath() + '|' + file.length() + '|' + file.lastModified();
+        return options == null ? key : key + '|' + options;
+    }
+
+    /**
+     * @param content the content of the document
+     * @param options the inputs which change how the document is compiled
+     * @return the key of the document, from the SHA-256 hash of its content
+     */
+    public static String getContentKey(String content, String options) {
+        final String key = "sha256:" + sha256(content);
+        return options == null ? key : key + '|' + options;
+    }
+
+    private static String sha256(String content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
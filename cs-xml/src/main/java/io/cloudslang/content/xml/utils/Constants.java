@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.utils;
@@ -30,6 +44,7 @@ public class Constants {
     public static final class Outputs extends OutputNames {
         public static final String RESULT_TEXT = "result";
         public static final String SELECTED_VALUE = "selectedValue";
+        public static final String SELECTED_VALUES = "selectedValues";
         public static final String RESULT_XML = "resultXML";
         public static final String ERROR_MESSAGE = "errorMessage";
         public static final String NAMESPACES_URIS = "namespacesUris";
@@ -63,6 +78,8 @@ public class Constants {
         public static final String XSD_DOCUMENT = "xsdDocument";
         public static final String XSD_DOCUMENT_SOURCE = "xsdDocumentSource";
         public static final String XPATH_QUERY = "xPathQuery";
+        public static final String XPATH_QUERIES = "xPathQueries";
+        public static final String STREAMING = "streaming";
         public static final String XPATH_ELEMENT_QUERY = "xPathElementQuery";
         public static final String QUERY_TYPE = "queryType";
         public static final String DELIMITER = "delimiter";
@@ -118,6 +135,9 @@ public class Constants {
         public static final String PARSING_ERROR = "Parsing error: ";
         public static final String TRANSFORMER_ERROR = "Transformer error: ";
         public static final String XPATH_PARSING_ERROR = "XPath parsing error: ";
+        public static final String STREAMING_NOT_SUPPORTED = "The XPath query can't be evaluated by streaming the document: ";
+        public static final String STREAMING_COUNT_QUERY_TYPE = "The count() function can only be streamed with the value query type.";
+        public static final String INVALID_XPATH_QUERIES = "The xPathQueries input must be a JSON object with the names of the values as keys and XPath queries as values.";
         public static final String NEED_ELEMENT_TYPE = "XPath must return element types.";
         public static final String ELEMENT_NOT_FOUND = "Element not found.";
         public static final String ADD_ATTRIBUTE_FAILURE = "Addition of attribute failed: ";
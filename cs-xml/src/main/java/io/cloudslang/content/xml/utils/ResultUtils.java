@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.utils;
@@ -14,6 +28,7 @@ import static io.cloudslang.content.xml.utils.Constants.Outputs.ERROR_MESSAGE;
 import static io.cloudslang.content.xml.utils.Constants.Outputs.RESULT_TEXT;
 import static io.cloudslang.content.xml.utils.Constants.Outputs.RESULT_XML;
 import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUE;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUES;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 
 /**
@@ -35,6 +50,10 @@ public class ResultUtils {
         populateResult(result, resultText, returnResult, selectedValue, SELECTED_VALUE, returnCode, EMPTY);
     }
 
+    public static void populateValuesResult(Map<String, String> result, String returnResult, String selectedValues) {
+        populateResult(result, ResponseNames.SUCCESS, returnResult, selectedValues, SELECTED_VALUES, SUCCESS, EMPTY);
+    }
+
     private static void populateResult(Map<String, String> result, String resultText,
                                        String returnResult, String resultXml, String resultKey, String returnCode, String errorMessage) {
         result.put(RESULT_TEXT, resultText);
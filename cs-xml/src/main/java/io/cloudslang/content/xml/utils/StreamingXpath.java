@@ -0,0 +1,322 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.utils;
+
+import javax.xml.stream.XMLStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The subset of XPath which can be evaluated while the document is read as a stream, without building it in memory:
+ * absolute paths of child (/) and descendant (//) steps, element names or *, attribute predicates like [@id] or
+ * [@id='value'], a last @attribute or text() step and the count() function.
+ * The names are compared by namespace, like in the parsed document: a name without prefix only matches the nodes
+ * without namespace and a prefix is resolved with the namespaces declared in the document where the node is read.
+ */
+public class StreamingXpath {
+    public enum Target {ELEMENT, ATTRIBUTE, TEXT}
+
+    private final List<Step> steps;
+    private final Target target;
+    private final String attributeName;
+    private final boolean descendantTarget;
+    private final boolean count;
+
+    private StreamingXpath(List<Step> steps, Target target, String attributeName, boolean descendantTarget, boolean count) {
+        this.steps = Collections.unmodifiableList(steps);
+        this.target = target;
+        this.attributeName = attributeName;
+        this.descendantTarget = descendantTarget;
+        this.count = count;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * @return true if the attributes or the texts are selected from the matched elements and all their descendants,
+     * like in //@id or /root//text()
+     */
+    public boolean isDescendantTarget() {
+        return descendantTarget;
+    }
+
+    public boolean isCount() {
+        return count;
+    }
+
+    /**
+     * @param xPathQuery the XPath query
+     * @return true if the query is part of the subset which can be streamed
+     */
+    public static boolean isSupported(String xPathQuery) {
+        try {
+            parse(xPathQuery);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @param xPathQuery the XPath query
+     * @return the parsed query
+     * @throws IllegalArgumentException if the query is not part of the subset which can be streamed
+     */
+    public static StreamingXpath parse(String xPathQuery) {
+        String query = xPathQuery == null ? "" : xPathQuery.trim();
+        boolean count = false;
+        if (query.startsWith("count(") && query.endsWith(")")) {
+            count = true;
+            query = query.substring("count(".length(), query.length() - 1).trim();
+        }
+        if (!query.startsWith("/")) {
+            throw unsupported(xPathQuery);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        Target target = Target.ELEMENT;
+        String attributeName = null;
+        boolean descendantTarget = false;
+        int position = 0;
+        while (position < query.length()) {
+            if (target != Target.ELEMENT) {
+                throw unsupported(xPathQuery);
+            }
+            boolean descendant = query.startsWith("//", position);
+            position += descendant ? 2 : 1;
+
+            int end = findStepEnd(query, position);
+            String step = query.substring(position, end).trim();
+            position = end;
+            if (step.equals("text()")) {
+                target = Target.TEXT;
+            } else if (step.startsWith("@") && isName(step.substring(1))) {
+                target = Target.ATTRIBUTE;
+                attributeName = step.substring(1);
+            } else {
+                steps.add(parseStep(step, descendant, xPathQuery));
+                continue;
+            }
+            descendantTarget = descendant;
+        }
+        if (steps.isEmpty() && !descendantTarget) {
+            throw unsupported(xPathQuery);
+        }
+        return new StreamingXpath(steps, target, attributeName, descendantTarget, count);
+    }
+
+    private static int findStepEnd(String query, int start) {
+        char quote = 0;
+        for (int i = start; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '/') {
+                return i;
+            }
+        }
+        return query.length();
+    }
+
+    private static Step parseStep(String step, boolean descendant, String xPathQuery) {
+        int predicatesStart = step.indexOf('[');
+        String name = (predicatesStart < 0 ? step : step.substring(0, predicatesStart)).trim();
+        if (!name.equals("*") && !isName(name)) {
+            throw unsupported(xPathQuery);
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        int position = predicatesStart < 0 ? step.length() : predicatesStart;
+        while (position < step.length()) {
+            int predicateEnd = findPredicateEnd(step, position + 1);
+            if (step.charAt(position) != '[' || predicateEnd < 0) {
+                throw unsupported(xPathQuery);
+            }
+            predicates.add(parsePredicate(step.substring(position + 1, predicateEnd).trim(), xPathQuery));
+            position = predicateEnd + 1;
+            while (position < step.length() && Character.isWhitespace(step.charAt(position))) {
+                position++;
+            }
+        }
+        return new Step(name, descendant, predicates);
+    }
+
+    //the closing bracket of the predicate, which is not inside a literal
+    private static int findPredicateEnd(String step, int start) {
+        char quote = 0;
+        for (int i = start; i < step.length(); i++) {
+            char c = step.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == ']') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    //only a single comparison is supported, anything after the literal, like "and" or "or", can't be streamed
+    private static Predicate parsePredicate(String predicate, String xPathQuery) {
+        if (!predicate.startsWith("@")) {
+            throw unsupported(xPathQuery);
+        }
+        int operator = predicate.indexOf('=');
+        if (operator < 0) {
+            String name = predicate.substring(1).trim();
+            if (!isName(name)) {
+                throw unsupported(xPathQuery);
+            }
+            return new Predicate(name, null, false);
+        }
+
+        boolean notEquals = operator > 0 && predicate.charAt(operator - 1) == '!';
+        String name = predicate.substring(1, notEquals ? operator - 1 : operator).trim();
+        String literal = predicate.substring(operator + 1).trim();
+        if (!isName(name) || literal.length() < 2 || (literal.charAt(0) != '\'' && literal.charAt(0) != '"')
+                || literal.indexOf(literal.charAt(0), 1) != literal.length() - 1) {
+            throw unsupported(xPathQuery);
+        }
+        return new Predicate(name, literal.substring(1, literal.length() - 1), notEquals);
+    }
+
+    private static boolean isName(String name) {
+        if (name.isEmpty() || name.startsWith(":") || name.endsWith(":") || name.indexOf(':') != name.lastIndexOf(':')) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = Character.isLetter(c) || c == '_' || c == ':'
+                    || (i > 0 && (Character.isDigit(c) || c == '-' || c == '.'));
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static IllegalArgumentException unsupported(String xPathQuery) {
+        return new IllegalArgumentException(Constants.ErrorMessages.STREAMING_NOT_SUPPORTED + xPathQuery);
+    }
+
+    /**
+     * A child or descendant step of the path.
+     */
+    public static class Step {
+        private final String name;
+        private final boolean descendant;
+        private final List<Predicate> predicates;
+
+        private Step(String name, boolean descendant, List<Predicate> predicates) {
+            this.name = name;
+            this.descendant = descendant;
+            this.predicates = predicates;
+        }
+
+        public boolean isDescendant() {
+            return descendant;
+        }
+
+        /**
+         * @param reader a reader positioned on a start element
+         * @return true if the element has the name of the step and all its predicates are true
+         */
+        public boolean matches(XMLStreamReader reader) {
+            if (!name.equals("*") && !matchesName(reader, name, reader.getNamespaceURI(), reader.getLocalName())) {
+                return false;
+            }
+            for (Predicate predicate : predicates) {
+                if (!predicate.matches(reader)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * An attribute predicate, which checks that the attribute exists or compares its value.
+     */
+    public static class Predicate {
+        private final String attributeName;
+        private final String value;
+        private final boolean notEquals;
+
+        private Predicate(String attributeName, String value, boolean notEquals) {
+            this.attributeName = attributeName;
+            this.value = value;
+            this.notEquals = notEquals;
+        }
+
+        private boolean matches(XMLStreamReader reader) {
+            String attributeValue = getAttributeValue(reader, attributeName);
+            if (attributeValue == null) {
+                return false;
+            }
+            return value == null || value.equals(attributeValue) != notEquals;
+        }
+    }
+
+    /**
+     * @param reader        a reader positioned on a start element
+     * @param attributeName the qualified name of the attribute
+     * @return the value of the attribute or null if the element doesn't have it
+     */
+    public static String getAttributeValue(XMLStreamReader reader, String attributeName) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (matchesName(reader, attributeName, reader.getAttributeNamespace(i), reader.getAttributeLocalName(i))) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * As in XPath 1.0, a name without prefix only matches the nodes without namespace, even when the document declares
+     * a default namespace. The prefix of a name is resolved with the namespaces declared at the current element.
+     */
+    private static boolean matchesName(XMLStreamReader reader, String name, String namespace, String localName) {
+        int delimiter = name.indexOf(Constants.Defaults.PREFIX_DELIMITER);
+        if (!name.substring(delimiter + 1).equals(localName)) {
+            return false;
+        }
+        String nodeNamespace = namespace == null ? "" : namespace;
+        if (delimiter < 0) {
+            return nodeNamespace.isEmpty();
+        }
+        String prefixNamespace = reader.getNamespaceContext().getNamespaceURI(name.substring(0, delimiter));
+        return prefixNamespace != null && !prefixNamespace.isEmpty() && prefixNamespace.equals(nodeNamespace);
+    }
+}
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.utils;
@@ -15,6 +29,7 @@ import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
@@ -22,6 +37,7 @@ import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
@@ -57,6 +73,14 @@ import static org.apache.commons.lang3.StringUtils.EMPTY;
 public class XmlUtils {
     private static final String OK_STATUS_CODE = "200";
 
+    //the factories are expensive to look up and configure, but they are not thread safe, so each thread keeps its own
+    private static final ThreadLocal<DocumentBuilderFactory> SECURE_BUILDER_FACTORY = ThreadLocal.withInitial(() -> newDocumentBuilderFactory(true));
+    private static final ThreadLocal<DocumentBuilderFactory> BUILDER_FACTORY = ThreadLocal.withInitial(() -> newDocumentBuilderFactory(false));
+    private static final ThreadLocal<SAXParserFactory> SECURE_PARSER_FACTORY = ThreadLocal.withInitial(() -> newSaxParserFactory(true));
+    private static final ThreadLocal<SAXParserFactory> PARSER_FACTORY = ThreadLocal.withInitial(() -> newSaxParserFactory(false));
+    private static final ThreadLocal<XPathFactory> XPATH_FACTORY = ThreadLocal.withInitial(XPathFactory::newInstance);
+    private static final ThreadLocal<TransformerFactory> TRANSFORMER_FACTORY = ThreadLocal.withInitial(TransformerFactory::newInstance);
+
     private XmlUtils() {
     }
 
@@ -105,22 +129,60 @@ public class XmlUtils {
     }
 
     public static DocumentBuilder getDocumentBuilder(boolean secure) throws ParserConfigurationException {
+        return (secure ? SECURE_BUILDER_FACTORY : BUILDER_FACTORY).get().newDocumentBuilder();
+    }
+
+    private static DocumentBuilderFactory newDocumentBuilderFactory(boolean secure) {
         String feature;
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
 
-        feature = "http://xml.org/sax/features/external-general-entities";
-        factory.setFeature(feature, false);
-        feature = "http://xml.org/sax/features/external-parameter-entities";
-        factory.setFeature(feature, false);
-        feature = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
-        factory.setFeature(feature, false);
-        feature = "http://apache.org/xml/features/disallow-doctype-decl";
-        factory.setFeature(feature, true);
+        try {
+            feature = "http://xml.org/sax/features/external-general-entities";
+            factory.setFeature(feature, false);
+            feature = "http://xml.org/sax/features/external-parameter-entities";
+            factory.setFeature(feature, false);
+            feature = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+            factory.setFeature(feature, false);
+            feature = "http://apache.org/xml/features/disallow-doctype-decl";
+            factory.setFeature(feature, true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, secure);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
         factory.setXIncludeAware(false);
         factory.setExpandEntityReferences(false);
         factory.setNamespaceAware(true);
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, secure);
-        return factory.newDocumentBuilder();
+        return factory;
+    }
+
+    /**
+     * Returns a SAX reader with the same features as {@link #getDocumentBuilder(boolean)}, to read a document as a stream
+     * without building it in memory.
+     *
+     * @param secure whether to use secure processing
+     * @return a new namespace aware reader
+     * @throws ParserConfigurationException if the reader can't be created
+     * @throws SAXException                 if the reader can't be created
+     */
+    public static XMLReader getXmlReader(boolean secure) throws ParserConfigurationException, SAXException {
+        return (secure ? SECURE_PARSER_FACTORY : PARSER_FACTORY).get().newSAXParser().getXMLReader();
+    }
+
+    private static SAXParserFactory newSaxParserFactory(boolean secure) {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+
+        try {
+            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, secure);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        factory.setXIncludeAware(false);
+        factory.setNamespaceAware(true);
+        return factory;
     }
 
     /**
@@ -222,7 +284,7 @@ public class XmlUtils {
      * @return XPath object
      */
     private static XPath createXpath() {
-        return XPathFactory.newInstance().newXPath();
+        return XPATH_FACTORY.get().newXPath();
     }
 
     /**
@@ -251,8 +313,7 @@ public class XmlUtils {
         DOMSource domSource = new DOMSource(doc);
         StringWriter writer = new StringWriter();
         StreamResult streamResult = new StreamResult(writer);
-        TransformerFactory tf = TransformerFactory.newInstance();
-        Transformer transformer = tf.newTransformer();
+        Transformer transformer = TRANSFORMER_FACTORY.get().newTransformer();
         transformer.transform(domSource, streamResult);
         return writer;
     }
@@ -264,7 +325,7 @@ public class XmlUtils {
     }
 
     public static XPathExpression createXPathExpression(NamespaceContext context, String xPathQuery) throws XPathExpressionException {
-        XPath xpath = XPathFactory.newInstance().newXPath();
+        XPath xpath = createXpath();
         xpath.setNamespaceContext(context);
         return xpath.compile(xPathQuery);
     }
@@ -278,7 +339,7 @@ public class XmlUtils {
     private static String transformElementNode(Node node) throws TransformerException {
         StringWriter stringWriter = new StringWriter();
 
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Transformer transformer = TRANSFORMER_FACTORY.get().newTransformer();
         transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, Constants.YES);
         transformer.setOutputProperty(OutputKeys.INDENT, Constants.YES);
         transformer.transform(new DOMSource(node), new StreamResult(stringWriter));
@@ -297,14 +358,42 @@ public class XmlUtils {
     }
 
     public static NamespaceContext getNamespaceContext(CommonInputs commonInputs, Document doc) throws Exception {
-        NamespaceContext context;
-        if (Constants.XML_PATH.equalsIgnoreCase(commonInputs.getXmlDocumentSource())) {
-            StringWriter writer = XmlUtils.getStringWriter(doc);
-            context = XmlUtils.getNamespaceContext(writer.toString(), "");
-        } else {
-            context = XmlUtils.getNamespaceContext(commonInputs.getXmlDocument(), "");
+        return getNamespaceContext(doc);
+    }
+
+    /**
+     * Returns the Namespaces context of an already parsed document, without reading the xml again.
+     * As when reading the xml, the prefix of each element is bound to its namespace and the last binding of a prefix wins.
+     *
+     * @param doc namespace aware document
+     * @return the Namespaces context of the document
+     */
+    public static NamespaceContext getNamespaceContext(Document doc) {
+        return new SimpleNamespaceContext(getNamespaces(doc));
+    }
+
+    /**
+     * Returns the prefixes of the elements of a document mapped to their namespaces.
+     *
+     * @param doc namespace aware document
+     * @return the namespaces of the document, by prefix
+     */
+    public static Map<String, String> getNamespaces(Document doc) {
+        Map<String, String> namespaces = new HashMap<>();
+        Node node = doc.getDocumentElement();
+        //the walk is iterative so that deeply nested documents do not overflow the stack
+        while (node != null) {
+            if (node.getNodeType() == Node.ELEMENT_NODE && StringUtils.isNotEmpty(node.getPrefix())) {
+                namespaces.put(node.getPrefix(), node.getNamespaceURI());
+            }
+            Node next = node.getFirstChild();
+            while (next == null && node != null) {
+                next = node.getNextSibling();
+                node = node.getParentNode();
+            }
+            node = next;
         }
-        return context;
+        return namespaces;
     }
 
     public static String createXmlDocumentFromUrl(CommonInputs commonInputs) throws ParserConfigurationException, SAXException, IOException {
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -6,7 +20,9 @@ import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.net.URI;
@@ -26,6 +42,9 @@ import static org.apache.commons.lang3.StringUtils.join;
  * Created by moldovas on 09/21/2016.
  */
 public class ApplyXslTransformationTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     private ApplyXslTransformation applyXslTransformation;
     private String xml;
     private String xsl;
@@ -180,4 +199,29 @@ public class ApplyXslTransformationTest {
         assertEquals(FAILURE, result.get(RETURN_CODE));
         assertEquals(result.get(RETURN_RESULT), "XML document structures must start and end within the same entity.");
     }
+
+    @Test
+    public void applyXslTransformationToOutputFile() throws Exception {
+        File outputFile = folder.newFile("result.html");
+
+        Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, xsl, outputFile.getAbsolutePath(), "");
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals(resultHtml, FileUtils.readFileToString(outputFile, "UTF-8"));
+    }
+
+    @Test
+    public void applyXslTransformationReusesTemplateUntilFileChanges() throws Exception {
+        File xslFile = folder.newFile("template.xsl");
+        FileUtils.writeStringToFile(xslFile, xsl, "UTF-8");
+
+        Map<String, String> result = applyXslTransformation.applyXslTransformation(xml, xslFile.getAbsolutePath(), "", "");
+        Map<String, String> cachedResult = applyXslTransformation.applyXslTransformation(xml, xslFile.getAbsolutePath(), "", "");
+        assertEquals(resultHtml, result.get(RETURN_RESULT));
+        assertEquals(resultHtml, cachedResult.get(RETURN_RESULT));
+
+        FileUtils.writeStringToFile(xslFile, xsl.replace("<TITLE>Map</TITLE>", "<TITLE>Changed map</TITLE>"), "UTF-8");
+        Map<String, String> changedResult = applyXslTransformation.applyXslTransformation(xml, xslFile.getAbsolutePath(), "", "");
+        assertEquals(resultHtml.replace("<TITLE>Map</TITLE>", "<TITLE>Changed map</TITLE>"), changedResult.get(RETURN_RESULT));
+    }
 }
@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -7,7 +21,9 @@ import io.cloudslang.content.xml.utils.Constants;
 import org.apache.commons.io.FileUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import java.io.File;
 import java.net.URI;
@@ -30,6 +46,8 @@ import static org.junit.Assert.assertEquals;
  * Created by markowis on 18/02/2016.
  */
 public class ValidateTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
 
     private Validate validate;
     String xml;
@@ -100,4 +118,42 @@ public class ValidateTest {
                 "cvc-complex-type.4: Attribute 'someid' must appear on element 'root'.",
                 result.get(ERROR_MESSAGE));
     }
+
+    @Test
+    public void testWithValidXMLAndXsdPaths() throws Exception {
+        String xmlPath = new File(getClass().getResource("/xml/valid.xml").toURI()).getAbsolutePath();
+        String xsdPath = new File(getClass().getResource("/xml/test.xsd").toURI()).getAbsolutePath();
+
+        Map<String, String> result = validate.execute(xmlPath, Constants.XML_PATH, xsdPath, Constants.XSD_PATH, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, FALSE);
+
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+        assertEquals(VALIDATION_SUCCESS, result.get(RETURN_RESULT));
+    }
+
+    @Test
+    public void testWithNonWellFormedXMLPath() throws Exception {
+        File xmlFile = folder.newFile("notWellFormed.xml");
+        FileUtils.writeStringToFile(xmlFile, "<root>toot</roo>", "UTF-8");
+
+        Map<String, String> result = validate.execute(xmlFile.getAbsolutePath(), Constants.XML_PATH, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, null, FALSE);
+
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertEquals(PARSING_ERROR + "The element type \"root\" must be terminated by the matching end-tag \"</root>\".",
+                result.get(ERROR_MESSAGE));
+    }
+
+    @Test
+    public void testWithChangedXsdPath() throws Exception {
+        String xmlPath = new File(getClass().getResource("/xml/valid.xml").toURI()).getAbsolutePath();
+        String xsd = FileUtils.readFileToString(new File(getClass().getResource("/xml/test.xsd").toURI()));
+        File xsdFile = folder.newFile("test.xsd");
+        FileUtils.writeStringToFile(xsdFile, xsd, "UTF-8");
+
+        Map<String, String> result = validate.execute(xmlPath, Constants.XML_PATH, xsdFile.getAbsolutePath(), Constants.XSD_PATH, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, FALSE);
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+
+        FileUtils.writeStringToFile(xsdFile, xsd.replace("name=\"someid\"", "name=\"otherid\""), "UTF-8");
+        result = validate.execute(xmlPath, Constants.XML_PATH, xsdFile.getAbsolutePath(), Constants.XSD_PATH, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, EMPTY, FALSE);
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.cloudslang.content.xml.actions;
+
+import io.cloudslang.content.constants.ResponseNames;
+import org.apache.commons.io.IOUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.Charset;
+import java.util.Map;
+
+import static io.cloudslang.content.constants.BooleanValues.FALSE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
+import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
+import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
+import static io.cloudslang.content.constants.ReturnCodes.SUCCESS;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.RESULT_TEXT;
+import static io.cloudslang.content.xml.utils.Constants.Outputs.SELECTED_VALUES;
+import static io.cloudslang.content.xml.utils.Constants.QueryTypes.NODE_LIST;
+import static io.cloudslang.content.xml.utils.Constants.QueryTypes.VALUE;
+import static io.cloudslang.content.xml.utils.Constants.SuccessMessages.SELECT_SUCCESS;
+import static org.apache.commons.io.IOUtils.readLines;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.apache.commons.lang3.StringUtils.join;
+import static org.junit.Assert.assertEquals;
+
+public class XpathMultiQueryTest {
+
+    private String xml;
+    private XpathMultiQuery select;
+
+    @Before
+    public void setUp() throws Exception {
+        select = new XpathMultiQuery();
+        xml = join(readLines(ClassLoader.getSystemResourceAsStream("xml/test.xml"), Charset.forName("UTF-8")), IOUtils.LINE_SEPARATOR);
+    }
+
+    @Test
+    public void testSelectValues() {
+        String xPathQueries = "{\"id\": \"/root/@someid\", \"first\": \"/root/element1\", \"missing\": \"/root/element4\"}";
+        String expectedResult = "{\"id\":\"5\",\"first\":\"First element\",\"missing\":\"No match found\"}";
+
+        Map<String, String> result = select.execute(xml, EMPTY, xPathQueries, VALUE, null, FALSE);
+
+        assertEquals(expectedResult, result.get(SELECTED_VALUES));
+        assertEquals(SELECT_SUCCESS, result.get(RETURN_RESULT));
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+    }
+
+    @Test
+    public void testSelectValuesTwiceWithTheSameQueries() {
+        String xPathQueries = "{\"attributes\": \"//subelement/@attr\"}";
+        String expectedResult = "{\"attributes\":\"attr=\\\"toDelete\\\";attr=\\\"toDelete\\\"\"}";
+
+        select.execute(xml, EMPTY, xPathQueries, NODE_LIST, ";", FALSE);
+        Map<String, String> result = select.execute(xml, EMPTY, xPathQueries, NODE_LIST, ";", FALSE);
+
+        assertEquals(expectedResult, result.get(SELECTED_VALUES));
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+    }
+
+    @Test
+    public void testSelectValuesWithInvalidQueries() {
+        Map<String, String> result = select.execute(xml, EMPTY, "[\"/root\"]", VALUE, null, FALSE);
+
+        assertEquals(ResponseNames.FAILURE, result.get(RESULT_TEXT));
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertEquals(EMPTY, result.get(SELECTED_VALUES));
+    }
+}
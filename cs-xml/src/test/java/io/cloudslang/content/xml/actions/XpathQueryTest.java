@@ -1,3 +1,17 @@
+/*
+ * (c) Copyright 2019 EntIT Software LLC, a Micro Focus company, L.P.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Apache License v2.0 which accompany this distribution.
+ *
+ * The Apache License is available at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
 
 
 package io.cloudslang.content.xml.actions;
@@ -18,6 +32,7 @@ import java.nio.charset.Charset;
 import java.util.Map;
 
 import static io.cloudslang.content.constants.BooleanValues.FALSE;
+import static io.cloudslang.content.constants.BooleanValues.TRUE;
 import static io.cloudslang.content.constants.OutputNames.RETURN_CODE;
 import static io.cloudslang.content.constants.OutputNames.RETURN_RESULT;
 import static io.cloudslang.content.constants.ReturnCodes.FAILURE;
@@ -137,6 +152,18 @@ public class XpathQueryTest {
         assertEquals(SELECT_SUCCESS, result.get(RETURN_RESULT));
     }
 
+    @Test
+    public void testFindWithNameSpaceWithXmlPath() throws Exception {
+        String path = getClass().getResource("/xml/namespaceTest.xml").toURI().getPath();
+        String xPathQuery = "//foo:element1";
+        String expectedResult = "First element";
+
+        Map<String, String> result = select.execute(path, XML_PATH, xPathQuery, VALUE, null, FALSE);
+
+        assertEquals(expectedResult, result.get(SELECTED_VALUE));
+        assertEquals(SELECT_SUCCESS, result.get(RETURN_RESULT));
+    }
+
     @Test
     public void testSelectElementWithXmlPath() throws IOException, URISyntaxException {
         String path = getClass().getResource("/xml/test.xml").toURI().getPath();
@@ -160,4 +187,98 @@ public class XpathQueryTest {
         assertEquals(ResponseNames.FAILURE, result.get(RESULT_TEXT));
         assertEquals(FAILURE, result.get(RETURN_CODE));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testStreamingSelectValueWithPredicate() {
+        assertStreamingSelection(xml, EMPTY, "/root/*[@attr='ibute']", VALUE, "First element");
+    }
+
+    @Test
+    public void testStreamingSelectAttribute() {
+        assertStreamingSelection(xml, EMPTY, "/root/element1/@attr", NODE, "attr=\"ibute\"");
+        assertStreamingSelection(xml, EMPTY, "/root/@someid", VALUE, "5");
+        assertStreamingSelection(xml, EMPTY, "//@attr", NODE_LIST, "|", "attr=\"ibute\"|attr=\"toDelete\"|attr=\"toDelete\"");
+    }
+
+    @Test
+    public void testStreamingSelectDescendantNodeList() {
+        String expectedResult = "<subelement attr=\"toDelete\">Sub2</subelement>,<subelement attr=\"toDelete\">Sub3</subelement>";
+        assertStreamingSelection(xml, EMPTY, "//subelement[@attr!='other']", NODE_LIST, ",", expectedResult);
+    }
+
+    @Test
+    public void testStreamingSelectText() {
+        assertStreamingSelection(xml, EMPTY, "/root/element3/subelement/text()", VALUE, "Sub3");
+        assertStreamingSelection(xml, EMPTY, "/root/element1//text()", VALUE, "First element");
+        assertStreamingSelection(xml, EMPTY, "count(//text())", VALUE, "11");
+    }
+
+    @Test
+    public void testStreamingCount() {
+        assertStreamingSelection(xml, EMPTY, "count(//subelement)", VALUE, "2");
+        assertStreamingSelection(xml, EMPTY, "count(/root/element9)", VALUE, "0");
+    }
+
+    @Test
+    public void testStreamingNoMatch() {
+        assertStreamingSelection(xml, EMPTY, "/root/element3/@missing", VALUE, Constants.NO_MATCH_FOUND);
+    }
+
+    @Test
+    public void testStreamingFindWithNameSpaceWithXmlPath() throws Exception {
+        String path = getClass().getResource("/xml/namespaceTest.xml").toURI().getPath();
+        String expectedResult = "<foo:element1 xmlns:foo=\"http://www.foo.org/\">First element</foo:element1>";
+        assertStreamingSelection(path, XML_PATH, "//foo:element1", NODE, expectedResult);
+    }
+
+    @Test
+    public void testStreamingStopsAtFirstMatch() {
+        String truncatedXml = "<root><element1>First element</element1><element2>";
+
+        Map<String, String> result = select.execute(truncatedXml, EMPTY, "/root/element1", VALUE, null, FALSE, TRUE);
+
+        assertEquals("First element", result.get(SELECTED_VALUE));
+        assertEquals(SUCCESS, result.get(RETURN_CODE));
+    }
+
+    @Test
+    public void testStreamingDefaultNamespace() {
+        String namespaceXml = "<root xmlns='urn:n'><e>one</e></root>";
+        assertStreamingSelection(namespaceXml, EMPTY, "/root/e", VALUE, Constants.NO_MATCH_FOUND);
+        assertStreamingSelection(namespaceXml, EMPTY, "/*/*", VALUE, "one");
+    }
+
+    @Test
+    public void testStreamingUnsupportedBooleanPredicate() {
+        String predicateXml = "<root><e a='x' b='y'>one</e><e a='x' b='z'>two</e></root>";
+
+        Map<String, String> result = select.execute(predicateXml, EMPTY, "/root/e[@a='x' and @b='z']", VALUE, null, FALSE, TRUE);
+        Map<String, String> domResult = select.execute(predicateXml, EMPTY, "/root/e[@a='x' and @b='z']", VALUE, null, FALSE, FALSE);
+
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+        assertEquals("two", domResult.get(SELECTED_VALUE));
+    }
+
+    @Test
+    public void testStreamingUnsupportedQuery() {
+        Map<String, String> result = select.execute(xml, EMPTY, "/root/element3[1]/subelement", VALUE, null, FALSE, TRUE);
+
+        assertEquals(ResponseNames.FAILURE, result.get(RESULT_TEXT));
+        assertEquals(FAILURE, result.get(RETURN_CODE));
+    }
+
+    private void assertStreamingSelection(String xmlDocument, String xmlDocumentSource, String xPathQuery, String queryType, String expectedResult) {
+        assertStreamingSelection(xmlDocument, xmlDocumentSource, xPathQuery, queryType, null, expectedResult);
+    }
+
+    //the streamed selection must be the same as the one from the parsed document
+    private void assertStreamingSelection(String xmlDocument, String xmlDocumentSource, String xPathQuery, String queryType,
+                                          String delimiter, String expectedResult) {
+        Map<String, String> result = select.execute(xmlDocument, xmlDocumentSource, xPathQuery, queryType, delimiter, FALSE, TRUE);
+        Map<String, String> domResult = select.execute(xmlDocument, xmlDocumentSource, xPathQuery, queryType, delimiter, FALSE, FALSE);
+
+        assertEquals(expectedResult, result.get(SELECTED_VALUE));
+        assertEquals(domResult.get(SELECTED_VALUE), result.get(SELECTED_VALUE));
+        assertEquals(SELECT_SUCCESS, result.get(RETURN_RESULT));
+    }
+}